@@ -0,0 +1,102 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of a command executed by the process-spawning executor and by the pool of launchers.
+ * The benchmark JVM is started with a large pre-touched heap, since the cost of starting a process
+ * from the application grows with the memory of the application process.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=CmdExecutorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@Threads(4)
+public class CmdExecutorBenchmark {
+
+    private static final int READER_POOL_SIZE = 16;
+
+    @Param({"simple", "helper"})
+    private String executorType;
+
+    /**
+     * The command arguments separated by spaces: a command without output and a command with a sizeable output.
+     */
+    @Param({"true", "seq 1 1000"})
+    private String command;
+
+    private ThreadPoolExecutor readerExecutor;
+    private ScheduledThreadPoolExecutor timeoutScheduler;
+    private CmdExecutor cmdExecutor;
+    private String[] arguments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final CmdExecutorProperties properties = new CmdExecutorProperties();
+        readerExecutor = new ThreadPoolExecutor(READER_POOL_SIZE, READER_POOL_SIZE, 1, TimeUnit.MINUTES,
+                new SynchronousQueue<>());
+        timeoutScheduler = new ScheduledThreadPoolExecutor(1);
+        final SimpleCmdExecutor simpleCmdExecutor =
+                new SimpleCmdExecutor(readerExecutor, timeoutScheduler, properties);
+        cmdExecutor = "helper".equals(executorType)
+                ? new HelperCmdExecutor(simpleCmdExecutor, timeoutScheduler, properties)
+                : simpleCmdExecutor;
+        arguments = command.split(" ");
+    }
+
+    @Benchmark
+    public CommandResult execute() {
+        return cmdExecutor.execute(arguments);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (cmdExecutor instanceof HelperCmdExecutor) {
+            ((HelperCmdExecutor) cmdExecutor).close();
+        }
+        timeoutScheduler.shutdownNow();
+        readerExecutor.shutdownNow();
+    }
+}
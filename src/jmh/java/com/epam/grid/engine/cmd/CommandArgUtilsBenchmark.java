@@ -0,0 +1,73 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the splitting of a compiled command into arguments for commands of a growing number of arguments,
+ * every third of them is quoted and contains escaped quotes.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=CommandArgUtilsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandArgUtilsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int arguments;
+
+    private String command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<String> tokens = IntStream.range(0, arguments)
+                .mapToObj(i -> i % 3 == 0 ? "argument \"" + i + "\" with spaces" : "--argument-" + i)
+                .collect(Collectors.toList());
+        command = "qsub\n    -N job\n    " + tokens.stream()
+                .map(token -> token.contains(" ") ? "\"" + token.replace("\"", "\\\"") + "\"" : token)
+                .collect(Collectors.joining("\n    "));
+    }
+
+    @Benchmark
+    public String[] splitCommandIntoArgs() {
+        return CommandArgUtils.splitCommandIntoArgs(command);
+    }
+}
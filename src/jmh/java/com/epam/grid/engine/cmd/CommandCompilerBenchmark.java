@@ -0,0 +1,115 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.CommandTemplateConfiguration;
+import com.epam.grid.engine.entity.CommandType;
+import com.epam.grid.engine.entity.job.JobOptions;
+import com.epam.grid.engine.entity.job.ParallelExecutionOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the compilation of the job submission commands from the templates bundled with the application,
+ * the context is filled in the same way as by the job providers.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=CommandCompilerBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandCompilerBenchmark {
+
+    private static final String TEMPLATE_PATH = "templates/";
+
+    @Param({"qsub", "sbatch"})
+    private String command;
+
+    /**
+     * The number of the job arguments and of the environment variables.
+     */
+    @Param({"1", "10", "100"})
+    private int arguments;
+
+    private GridEngineCommandCompiler commandCompiler;
+    private CommandType commandType;
+    private Context context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final CommandTemplateConfiguration configuration = new CommandTemplateConfiguration();
+        final CommandTemplateProperties properties = new CommandTemplateProperties();
+        properties.setPath(TEMPLATE_PATH);
+        final SpringTemplateEngine templateEngine = configuration.templateEngine(properties);
+        commandCompiler = new GridEngineCommandCompilerImpl(templateEngine,
+                configuration.commandTemplateRegistry(templateEngine, properties));
+        commandType = "qsub".equals(command) ? CommandType.SGE : CommandType.SLURM;
+        final List<String> jobArguments = IntStream.range(0, arguments)
+                .mapToObj(i -> "argument \"" + i + "\"")
+                .collect(Collectors.toList());
+        final Map<String, String> envVariables = IntStream.range(0, arguments)
+                .boxed()
+                .collect(Collectors.toMap(i -> "VARIABLE_" + i, i -> "value " + i, (first, second) -> first));
+        final JobOptions options = JobOptions.builder()
+                .command("/data/test.sh")
+                .name("job")
+                .workingDir("/data")
+                .priority(1L)
+                .queues(Collections.singletonList("main"))
+                .envVariables(envVariables)
+                .arguments(jobArguments)
+                .parallelExecutionOptions("sbatch".equals(command)
+                        ? ParallelExecutionOptions.builder().numTasks(2).nodes(1).cpusPerTask(1).build()
+                        : null)
+                .build();
+        context = new Context();
+        context.setVariable("options", options);
+        context.setVariable("logDir", "/data/logs");
+        context.setVariable("arguments", jobArguments);
+        context.setVariable("envVariables", CommandArgUtils.envVariablesMapToString(envVariables));
+    }
+
+    @Benchmark
+    public String[] compileCommand() {
+        return commandCompiler.compileCommand(commandType, command, context);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.provider.utils;
+
+import com.epam.grid.engine.entity.host.sge.SgeHostListing;
+import com.epam.grid.engine.entity.job.sge.SgeQueueListing;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the unmarshalling of the {@code qstat -xml} and {@code qhost -xml} output of a growing cluster,
+ * a quarter of the jobs is running. The {@code WithNewContext} benchmarks create a binding context on every call
+ * as {@link JaxbUtils} did before the contexts were cached, they are the baseline of the cached unmarshalling.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=JaxbUtilsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class JaxbUtilsBenchmark {
+
+    /**
+     * The number of jobs in the qstat output and the number of hosts in the qhost output.
+     */
+    @Param({"100", "10000", "100000"})
+    private int entities;
+
+    private String qstatOutput;
+    private byte[] qstatBytes;
+    private String qhostOutput;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final StringBuilder qstat = new StringBuilder("<?xml version='1.0'?>\n<job_info  xmlns:xsd="
+                + "\"http://arc.liv.ac.uk/repos/darcs/sge/source/dist/util/resources/schemas/qstat/qstat.xsd\">\n"
+                + "  <queue_info>\n");
+        for (int i = 0; i < entities / 4; i++) {
+            appendJob(qstat, i, true);
+        }
+        qstat.append("  </queue_info>\n  <job_info>\n");
+        for (int i = entities / 4; i < entities; i++) {
+            appendJob(qstat, i, false);
+        }
+        qstat.append("  </job_info>\n</job_info>\n");
+        qstatOutput = qstat.toString();
+        qstatBytes = qstatOutput.getBytes(StandardCharsets.UTF_8);
+
+        final StringBuilder qhost = new StringBuilder("<?xml version='1.0'?>\n<qhost xmlns:xsd="
+                + "\"http://arc.liv.ac.uk/repos/darcs/sge/source/dist/util/resources/schemas/qhost/qhost.xsd\">\n");
+        for (int i = 0; i < entities; i++) {
+            qhost.append(" <host name='node").append(i).append("'>\n")
+                    .append("   <hostvalue name='arch_string'>lx-amd64</hostvalue>\n")
+                    .append("   <hostvalue name='num_proc'>16</hostvalue>\n")
+                    .append("   <hostvalue name='m_socket'>2</hostvalue>\n")
+                    .append("   <hostvalue name='m_core'>8</hostvalue>\n")
+                    .append("   <hostvalue name='m_thread'>16</hostvalue>\n")
+                    .append("   <hostvalue name='load_avg'>0.75</hostvalue>\n")
+                    .append("   <hostvalue name='mem_total'>62.8G</hostvalue>\n")
+                    .append("   <hostvalue name='mem_used'>12.1G</hostvalue>\n")
+                    .append("   <hostvalue name='swap_total'>2.0G</hostvalue>\n")
+                    .append("   <hostvalue name='swap_used'>0.0</hostvalue>\n")
+                    .append(" </host>\n");
+        }
+        qhostOutput = qhost.append("</qhost>\n").toString();
+    }
+
+    @Benchmark
+    public SgeQueueListing unmarshallQstat() {
+        return JaxbUtils.unmarshall(new StringReader(qstatOutput), SgeQueueListing.class);
+    }
+
+    @Benchmark
+    public SgeQueueListing unmarshallQstatFromStream() {
+        return JaxbUtils.unmarshall(new ByteArrayInputStream(qstatBytes), SgeQueueListing.class);
+    }
+
+    @Benchmark
+    public SgeQueueListing unmarshallQstatWithNewContext() throws JAXBException {
+        return (SgeQueueListing) JAXBContext.newInstance(SgeQueueListing.class).createUnmarshaller()
+                .unmarshal(new StringReader(qstatOutput));
+    }
+
+    @Benchmark
+    public SgeHostListing unmarshallQhost() {
+        return JaxbUtils.unmarshall(new StringReader(qhostOutput), SgeHostListing.class);
+    }
+
+    @Benchmark
+    public SgeHostListing unmarshallQhostWithNewContext() throws JAXBException {
+        return (SgeHostListing) JAXBContext.newInstance(SgeHostListing.class).createUnmarshaller()
+                .unmarshal(new StringReader(qhostOutput));
+    }
+
+    private static void appendJob(final StringBuilder qstat, final int index, final boolean running) {
+        qstat.append("    <job_list state=\"").append(running ? "running" : "pending").append("\">\n")
+                .append("      <JB_job_number>").append(index + 1).append("</JB_job_number>\n")
+                .append("      <JAT_prio>0.55500</JAT_prio>\n")
+                .append("      <JB_name>job").append(index).append("</JB_name>\n")
+                .append("      <JB_owner>user").append(index % 10).append("</JB_owner>\n")
+                .append("      <state>").append(running ? "r" : "qw").append("</state>\n")
+                .append(running
+                        ? "      <JAT_start_time>2022-05-01T10:00:00</JAT_start_time>\n"
+                        : "      <JB_submission_time>2022-05-01T09:00:00</JB_submission_time>\n")
+                .append("      <queue_name>").append(running ? "main@node" + index % 100 : "")
+                .append("</queue_name>\n")
+                .append("      <slots>1</slots>\n")
+                .append("    </job_list>\n");
+    }
+}
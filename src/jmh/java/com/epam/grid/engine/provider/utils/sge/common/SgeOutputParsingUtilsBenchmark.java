@@ -0,0 +1,120 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.provider.utils.sge.common;
+
+import com.epam.grid.engine.entity.EntitiesRawOutput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the parsing of the {@code qconf -sq} output of a growing number of queue descriptions:
+ * the split into the entities and the conversion of every entity into a map.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=SgeOutputParsingUtilsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SgeOutputParsingUtilsBenchmark {
+
+    private static final String ENTITY_TYPE = "qname";
+    private static final List<String> QUEUE_DESCRIPTION = List.of(
+            "hostlist              @allhosts",
+            "seq_no                0",
+            "load_thresholds       np_load_avg=1.75",
+            "suspend_thresholds    NONE",
+            "nsuspend              1",
+            "suspend_interval      00:05:00",
+            "priority              0",
+            "min_cpu_interval      00:05:00",
+            "processors            UNDEFINED",
+            "qtype                 BATCH INTERACTIVE",
+            "ckpt_list             NONE",
+            "pe_list               make smp mpi",
+            "rerun                 FALSE",
+            "slots                 1",
+            "tmpdir                /tmp",
+            "shell                 /bin/sh",
+            "prolog                NONE",
+            "epilog                NONE",
+            "shell_start_mode      posix_compliant",
+            "starter_method        NONE",
+            "suspend_method        NONE",
+            "resume_method         NONE",
+            "terminate_method      NONE",
+            "notify                00:00:60",
+            "owner_list            NONE",
+            "user_lists            NONE",
+            "xuser_lists           NONE",
+            "subordinate_list      NONE",
+            "complex_values        NONE",
+            "projects              NONE",
+            "xprojects             NONE",
+            "calendar              NONE",
+            "initial_state         default",
+            "s_rt                  INFINITY",
+            "h_rt                  INFINITY");
+
+    @Param({"10", "1000", "100000"})
+    private int entities;
+
+    private List<String> stdOut;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stdOut = new ArrayList<>(entities * (QUEUE_DESCRIPTION.size() + 1));
+        for (int i = 0; i < entities; i++) {
+            stdOut.add(ENTITY_TYPE + "                 queue" + i + ".q");
+            stdOut.addAll(QUEUE_DESCRIPTION);
+        }
+    }
+
+    @Benchmark
+    public List<EntitiesRawOutput> splitOutputToEntities() {
+        return SgeOutputParsingUtils.splitOutputToEntities(stdOut, ENTITY_TYPE);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> parseEntitiesToMap() {
+        return SgeOutputParsingUtils.splitOutputToEntities(stdOut, ENTITY_TYPE).stream()
+                .map(EntitiesRawOutput::getRawEntitiesList)
+                .map(SgeOutputParsingUtils::parseEntitiesToMap)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.provider.utils.sge.usage;
+
+import com.epam.grid.engine.entity.usage.UsageReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsers of the {@code qacct} output: the summary reports that consist of a single line
+ * and the report of the jobs selected by {@code -j} for a growing number of accounting records.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=SgeAccountingDataParserBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SgeAccountingDataParserBenchmark {
+
+    private static final String DELIMITER = "==============================================================";
+    private static final List<String> SUMMARY_OUTPUT = List.of(
+            "Total System Usage",
+            "    WALLCLOCK         UTIME         STIME           CPU             MEMORY                 IO"
+                    + "                IOW",
+            "================================================================================================"
+                    + "================",
+            "       261034       196.317        86.608       301.297              2.028              0.070"
+                    + "              0.000");
+    private static final List<String> FILTERED_OUTPUT = List.of(
+            "OWNER       HOST           CLUSTER     QUEUE      WALLCLOCK         UTIME         STIME"
+                    + "           CPU             MEMORY                 IO                IOW",
+            "================================================================================================"
+                    + "============================================================",
+            "sgeuser     node00001      cluster     main.q          5435      2435.309       167.561"
+                    + "      2602.870             12.138              0.998              0.000");
+
+    private final SgeAccountingDataParser summaryParser = new SgeSummaryAccountingDataParser();
+    private final SgeAccountingDataParser filteredParser = new SgeSummaryFilteredAccountingDataParser();
+    private final SgeAccountingDataParser jobParser = new SgeJobAccountingDataParser();
+
+    @State(Scope.Benchmark)
+    public static class JobRecords {
+
+        @Param({"10", "1000", "100000"})
+        private int records;
+
+        private List<String> stdOut;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            stdOut = new ArrayList<>(records * 45);
+            for (int i = 1; i <= records; i++) {
+                stdOut.add(DELIMITER);
+                stdOut.add("qname        main.q");
+                stdOut.add("hostname     node" + i % 100);
+                stdOut.add("group        users");
+                stdOut.add("owner        user" + i % 10);
+                stdOut.add("project      NONE");
+                stdOut.add("department   defaultdepartment");
+                stdOut.add("jobname      job" + i);
+                stdOut.add("jobnumber    " + i);
+                stdOut.add("taskid       undefined");
+                stdOut.add("account      sge");
+                stdOut.add("priority     0");
+                stdOut.add("qsub_time    Sun May  1 09:59:58 2022");
+                stdOut.add("start_time   Sun May  1 10:00:00 2022");
+                stdOut.add("end_time     Sun May  1 10:05:00 2022");
+                stdOut.add("granted_pe   " + (i % 10 == 0 ? "smp" : "NONE"));
+                stdOut.add("slots        1");
+                stdOut.add("failed       0");
+                stdOut.add("exit_status  0");
+                stdOut.add("ru_wallclock 300s");
+                stdOut.add("ru_utime     250.123s");
+                stdOut.add("ru_stime     12.456s");
+                stdOut.add("ru_maxrss    52.120KB");
+                stdOut.add("ru_ixrss     0.000B");
+                stdOut.add("ru_ismrss    0.000B");
+                stdOut.add("ru_idrss     0.000B");
+                stdOut.add("ru_isrss     0.000B");
+                stdOut.add("ru_minflt    12345");
+                stdOut.add("ru_majflt    0");
+                stdOut.add("ru_nswap     0");
+                stdOut.add("ru_inblock   0");
+                stdOut.add("ru_oublock   8");
+                stdOut.add("ru_msgsnd    0");
+                stdOut.add("ru_msgrcv    0");
+                stdOut.add("ru_nsignals  0");
+                stdOut.add("ru_nvcsw     120");
+                stdOut.add("ru_nivcsw    15");
+                stdOut.add("cpu          262.579s");
+                stdOut.add("mem          1.234GBs");
+                stdOut.add("io           0.012GB");
+                stdOut.add("iow          0.000s");
+                stdOut.add("maxvmem      245.312M");
+                stdOut.add("arid         undefined");
+                stdOut.add("ar_sub_time  undefined");
+                stdOut.add("category     -U users");
+            }
+        }
+    }
+
+    @Benchmark
+    public UsageReport parseSummary() {
+        return summaryParser.parseAccountingDataFromStdOut(SUMMARY_OUTPUT);
+    }
+
+    @Benchmark
+    public UsageReport parseFilteredSummary() {
+        return filteredParser.parseAccountingDataFromStdOut(FILTERED_OUTPUT);
+    }
+
+    @Benchmark
+    public UsageReport parseJobs(final JobRecords jobRecords) {
+        return jobParser.parseAccountingDataFromStdOut(jobRecords.stdOut);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.provider.utils.slurm.job;
+
+import com.epam.grid.engine.entity.job.slurm.SlurmJob;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the parsing of the {@code squeue -o %all} output lines of a growing number of jobs,
+ * a quarter of the jobs is running.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=SacctCommandParserBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SacctCommandParserBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int jobs;
+
+    private List<String> jobLines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jobLines = IntStream.range(0, jobs)
+                .mapToObj(i -> i < jobs / 4 ? runningJob(i + 1) : pendingJob(i + 1))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<List<String>> parseSlurmJob() {
+        return jobLines.stream()
+                .map(SacctCommandParser::parseSlurmJob)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<SlurmJob> parseSlurmJobs() {
+        return SacctCommandParser.parseSlurmJobs(jobLines.stream())
+                .collect(Collectors.toList());
+    }
+
+    static String runningJob(final int id) {
+        return "(null)|N/A|1|0|2022-05-06T10:00:00|(null)|users|OK|" + id + "|job" + id + "|(null)|5-00:00:00|500M|"
+                + "|/data/test.sh|0.99998474121093|normal|None||R|user" + id % 10 + "|(null)|(null)||0|*:*:*|" + id
+                + "|worker1|1|1||" + id + "|0|*|*|*|N/A|4-23:00:00|1:00:00|worker1|0|normal|4294901759|worker1"
+                + "|2022-05-01T10:00:00|RUNNING|1000|2022-05-01T09:59:58|(null)|N/A|(null)|/data";
+    }
+
+    static String pendingJob(final int id) {
+        return "(null)|N/A|1|0|N/A|(null)|users|OK|" + id + "|job" + id + "|(null)|5-00:00:00|500M|"
+                + "|/data/test.sh|0.99998474121093|normal|Resources||PD|user" + id % 10 + "|(null)|(null)||0|*:*:*|"
+                + id + "|n/a|1|1||" + id + "|0|*|*|*|N/A|5-00:00:00|0:00||0|normal|4294901759|(Resources)"
+                + "|N/A|PENDING|1000|2022-05-01T09:59:58|(null)|N/A|(null)|/data";
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.slurm.job;
+
+import com.epam.grid.engine.entity.job.JobField;
+import com.epam.grid.engine.entity.job.slurm.SlurmJob;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the decoding of a 100k-line {@code squeue} listing by {@link SqueueRowDecoder} against the split
+ * and map of all columns by {@link SacctCommandParser}. The {@code %all} lines are the ones of
+ * {@link SacctCommandParserBenchmark}, the explicit format lines hold the same jobs in the 8 columns of all
+ * job fields. The gc profiler reports the allocation rate per operation next to the throughput.
+ *
+ * <p>Run it by {@code ./gradlew jmh -PjmhIncludes=SqueueRowDecoderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqueueRowDecoderBenchmark {
+
+    @Param({"100000"})
+    private int jobs;
+
+    private List<String> allColumnLines;
+    private List<String> explicitFormatLines;
+    private SqueueOutputFormat explicitFormat;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        allColumnLines = IntStream.range(0, jobs)
+                .mapToObj(i -> i < jobs / 4
+                        ? SacctCommandParserBenchmark.runningJob(i + 1)
+                        : SacctCommandParserBenchmark.pendingJob(i + 1))
+                .collect(Collectors.toList());
+        explicitFormat = SqueueOutputFormat.of(Arrays.asList(JobField.values()));
+        explicitFormatLines = IntStream.range(0, jobs)
+                .mapToObj(i -> String.join("|", String.valueOf(i + 1), "job" + (i + 1), "0.99998474121093",
+                        i < jobs / 4 ? "R" : "PD", "user" + (i + 1) % 10, "normal",
+                        i < jobs / 4 ? "RUNNING" : "PENDING", "2022-05-01T09:59:58"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<SlurmJob> splitAllColumns() {
+        return SacctCommandParser.parseSlurmJobs(allColumnLines.stream())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<SlurmJob> decodeAllColumns() {
+        return allColumnLines.stream()
+                .map(SqueueRowDecoder.ALL_COLUMNS::decode)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<SlurmJob> decodeExplicitFormat() {
+        return explicitFormatLines.stream()
+                .map(explicitFormat::parseJob)
+                .collect(Collectors.toList());
+    }
+}
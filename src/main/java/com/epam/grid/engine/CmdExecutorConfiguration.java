@@ -0,0 +1,170 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine;
+
+import com.epam.grid.engine.cmd.BulkheadCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutorProperties;
+import com.epam.grid.engine.cmd.CoalescingCmdExecutor;
+import com.epam.grid.engine.cmd.HelperCmdExecutor;
+import com.epam.grid.engine.cmd.RecordingCmdExecutor;
+import com.epam.grid.engine.cmd.ReplayCmdExecutor;
+import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class performs the configuration of the command execution mechanism.
+ */
+@Configuration
+@EnableConfigurationProperties(CmdExecutorProperties.class)
+public class CmdExecutorConfiguration {
+
+    public static final String OUTPUT_READER_EXECUTOR = "outputReaderExecutor";
+    public static final String COMMAND_TIMEOUT_SCHEDULER = "commandTimeoutScheduler";
+
+    private static final String OUTPUT_READER_THREAD_PREFIX = "cmd-output-reader-";
+    private static final String COMMAND_TIMEOUT_THREAD_PREFIX = "cmd-timeout-watchdog-";
+    private static final String OUTPUT_READER_METRICS_NAME = "command.output.reader";
+
+    /**
+     * Creates the command executor used by the providers. It wraps the process-spawning executor
+     * with the optional layers configured by the {@code command.executor} properties.
+     *
+     * @param simpleCmdExecutor The executor that spawns the command processes.
+     * @param helperCmdExecutor The executor that runs the commands by launcher processes, if it's enabled.
+     * @param properties        The command execution settings.
+     * @param meterRegistry     The registry of the command execution metrics.
+     * @param objectMapper      The mapper of the recorded command executions.
+     * @return The command executor.
+     */
+    @Bean
+    @Primary
+    public CmdExecutor cmdExecutor(final SimpleCmdExecutor simpleCmdExecutor,
+                                   final ObjectProvider<HelperCmdExecutor> helperCmdExecutor,
+                                   final CmdExecutorProperties properties,
+                                   final MeterRegistry meterRegistry,
+                                   final ObjectMapper objectMapper) {
+        CmdExecutor executor = helperCmdExecutor.getIfAvailable(() -> simpleCmdExecutor);
+        final CmdExecutorProperties.Fixtures fixtures = properties.getFixtures();
+        if (fixtures.getMode() == CmdExecutorProperties.FixturesMode.RECORD) {
+            executor = new RecordingCmdExecutor(executor, fixtures, objectMapper);
+        } else if (fixtures.getMode() == CmdExecutorProperties.FixturesMode.REPLAY) {
+            executor = new ReplayCmdExecutor(fixtures, objectMapper);
+        }
+        if (properties.getBulkhead().isEnabled()) {
+            executor = new BulkheadCmdExecutor(executor, properties.getBulkhead(), meterRegistry);
+        }
+        if (properties.getCoalescing().isEnabled()) {
+            executor = new CoalescingCmdExecutor(executor, meterRegistry);
+        }
+        return executor;
+    }
+
+    /**
+     * Creates the executor that runs the commands by a pool of long-lived launcher processes,
+     * it is enabled by the {@code command.executor.type=helper} property.
+     *
+     * @param simpleCmdExecutor The executor of the commands that can't be passed to a launcher.
+     * @param timeoutScheduler  The scheduler that kills timed out commands.
+     * @param properties        The command execution settings.
+     * @return The launcher-based command executor.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "command.executor.type", havingValue = "helper")
+    public HelperCmdExecutor helperCmdExecutor(final SimpleCmdExecutor simpleCmdExecutor,
+                                               @Qualifier(COMMAND_TIMEOUT_SCHEDULER)
+                                               final ScheduledExecutorService timeoutScheduler,
+                                               final CmdExecutorProperties properties) {
+        return new HelperCmdExecutor(simpleCmdExecutor, timeoutScheduler, properties);
+    }
+
+    /**
+     * Creates the application-wide pool that drains output streams of the executed commands.
+     * The pool and its queue are bounded, idle threads are released after the configured keep-alive time.
+     *
+     * @param properties The command execution settings.
+     * @return The output reader pool.
+     */
+    @Bean(name = OUTPUT_READER_EXECUTOR, destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor outputReaderExecutor(final CmdExecutorProperties properties) {
+        final CmdExecutorProperties.Reader reader = properties.getReader();
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(OUTPUT_READER_THREAD_PREFIX);
+        threadFactory.setDaemon(true);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(reader.getPoolSize(), reader.getPoolSize(),
+                reader.getKeepAliveSeconds(), TimeUnit.SECONDS, createQueue(reader.getQueueCapacity()),
+                threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates the scheduler that kills the commands which don't complete within their timeouts.
+     * A single thread is enough since a scheduled task only sends signals to the process tree.
+     *
+     * @return The command timeout scheduler.
+     */
+    @Bean(name = COMMAND_TIMEOUT_SCHEDULER, destroyMethod = "shutdownNow")
+    public ScheduledExecutorService commandTimeoutScheduler() {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(COMMAND_TIMEOUT_THREAD_PREFIX);
+        threadFactory.setDaemon(true);
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Publishes the queue depth, the number of active readers and other statistics of the output reader pool.
+     *
+     * @param outputReaderExecutor The output reader pool.
+     * @return The binder of the pool metrics.
+     */
+    @Bean
+    public MeterBinder outputReaderExecutorMetrics(
+            @Qualifier(OUTPUT_READER_EXECUTOR) final ThreadPoolExecutor outputReaderExecutor) {
+        return registry -> new ExecutorServiceMetrics(outputReaderExecutor, OUTPUT_READER_METRICS_NAME,
+                Tags.empty()).bindTo(registry);
+    }
+
+    private static BlockingQueue<Runnable> createQueue(final int capacity) {
+        return capacity > 0
+                ? new ArrayBlockingQueue<>(capacity)
+                : new SynchronousQueue<>();
+    }
+}
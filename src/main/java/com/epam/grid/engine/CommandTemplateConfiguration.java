@@ -16,10 +16,13 @@
  *
  *
  */
-
 package com.epam.grid.engine;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.epam.grid.engine.cmd.CommandTemplateProperties;
+import com.epam.grid.engine.cmd.CommandTemplateRegistry;
+import com.epam.grid.engine.cmd.CommandTemplateWatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.spring5.SpringTemplateEngine;
@@ -28,34 +31,81 @@ import org.thymeleaf.templateresolver.AbstractConfigurableTemplateResolver;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 import org.thymeleaf.templateresolver.FileTemplateResolver;
 
-import java.io.File;
+import java.nio.file.Paths;
+import java.time.Duration;
 
 /**
  * This class performs the configuration of thymeleaf templates.
  */
 @Configuration
+@EnableConfigurationProperties(CommandTemplateProperties.class)
 public class CommandTemplateConfiguration {
 
     /**
      * This method insists the thymeleaf template engine.
      *
-     * @param commandPath The path to the template folder.
+     * @param properties The template settings.
      * @return Configured template engine.
      */
     @Bean
-    public SpringTemplateEngine templateEngine(@Value("${command.template.path}") final String commandPath) {
+    public SpringTemplateEngine templateEngine(final CommandTemplateProperties properties) {
         final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
-        templateEngine.setTemplateResolver(getResolverByCommandPath(commandPath));
+        templateEngine.setTemplateResolver(getResolver(properties));
         return templateEngine;
     }
 
-    private AbstractConfigurableTemplateResolver getResolverByCommandPath(final String commandPath) {
-        final File file = new File(commandPath);
-        final AbstractConfigurableTemplateResolver resolver = file.exists() && file.isDirectory()
+    /**
+     * Creates the holder of the parsed command templates. All command templates are parsed at once
+     * if it's enabled by the {@code command.template.preload} property, so a broken template fails the startup.
+     *
+     * @param templateEngine The template engine that resolves the templates.
+     * @param properties     The template settings.
+     * @return The holder of the parsed command templates.
+     */
+    @Bean
+    public CommandTemplateRegistry commandTemplateRegistry(final SpringTemplateEngine templateEngine,
+                                                           final CommandTemplateProperties properties) {
+        final CommandTemplateRegistry registry = new CommandTemplateRegistry(templateEngine, properties);
+        if (properties.isPreload()) {
+            registry.load();
+        }
+        return registry;
+    }
+
+    /**
+     * Creates the watcher that reloads the templates when the template folder is changed,
+     * it is enabled by the {@code command.template.reload.enabled=true} property.
+     *
+     * @param registry   The holder of the parsed command templates.
+     * @param properties The template settings.
+     * @return The started template watcher.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "command.template.reload.enabled", havingValue = "true")
+    public CommandTemplateWatcher commandTemplateWatcher(final CommandTemplateRegistry registry,
+                                                         final CommandTemplateProperties properties) {
+        if (!properties.isFileBased()) {
+            throw new IllegalStateException("Templates can be reloaded only from a folder of the file system, "
+                    + properties.getPath() + " is not a folder");
+        }
+        final CommandTemplateWatcher watcher = new CommandTemplateWatcher(registry,
+                Paths.get(properties.getPath()), properties.getReload().getDelay());
+        watcher.start();
+        return watcher;
+    }
+
+    private AbstractConfigurableTemplateResolver getResolver(final CommandTemplateProperties properties) {
+        final AbstractConfigurableTemplateResolver resolver = properties.isFileBased()
                 ? new FileTemplateResolver()
                 : new ClassLoaderTemplateResolver();
-        resolver.setPrefix(commandPath);
+        resolver.setPrefix(properties.getPath());
         resolver.setTemplateMode(TemplateMode.TEXT);
+        final CommandTemplateProperties.Cache cache = properties.getCache();
+        resolver.setCacheable(cache.isEnabled());
+        final Duration ttl = cache.getTtl();
+        if (ttl != null && !ttl.isNegative() && !ttl.isZero()) {
+            resolver.setCacheTTLMs(ttl.toMillis());
+        }
         return resolver;
     }
 }
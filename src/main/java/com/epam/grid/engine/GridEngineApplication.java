@@ -21,10 +21,23 @@ package com.epam.grid.engine;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Clock;
 
 @SpringBootApplication
 public class GridEngineApplication {
     public static void main(final String[] args) {
         SpringApplication.run(GridEngineApplication.class, args);
     }
+
+    /**
+     * Creates the clock of the services that depend on the current time.
+     *
+     * @return The system clock in the default time zone.
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
 }
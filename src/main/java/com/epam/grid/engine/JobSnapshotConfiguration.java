@@ -0,0 +1,77 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine;
+
+import com.epam.grid.engine.provider.job.JobProvider;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotEngine;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class performs the configuration of the job snapshot.
+ */
+@Configuration
+@EnableConfigurationProperties(JobSnapshotProperties.class)
+public class JobSnapshotConfiguration {
+
+    public static final String JOB_EVENTS_SENDER = "jobEventsSender";
+
+    private static final String JOB_EVENTS_SENDER_THREAD_PREFIX = "job-events-sender-";
+
+    /**
+     * Creates the engine that refreshes the snapshot of all jobs in the background,
+     * it is enabled by the {@code job.snapshot.enabled=true} property.
+     *
+     * @param jobProvider The provider of the grid engine jobs.
+     * @param properties  The snapshot settings.
+     * @param clock       The clock the snapshot age is measured by.
+     * @return The started snapshot engine.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "job.snapshot.enabled", havingValue = "true")
+    public JobSnapshotEngine jobSnapshotEngine(final JobProvider jobProvider,
+                                               final JobSnapshotProperties properties,
+                                               final Clock clock) {
+        final JobSnapshotEngine engine = new JobSnapshotEngine(jobProvider, properties, clock);
+        engine.start();
+        return engine;
+    }
+
+    /**
+     * Creates the pool that sends the job events to the subscribers, so the snapshot poller
+     * never waits for the clients.
+     *
+     * @param properties The snapshot settings.
+     * @return The job event sender pool.
+     */
+    @Bean(name = JOB_EVENTS_SENDER, destroyMethod = "shutdownNow")
+    public ExecutorService jobEventsSender(final JobSnapshotProperties properties) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(JOB_EVENTS_SENDER_THREAD_PREFIX);
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(properties.getEventsSenders(), threadFactory);
+    }
+}
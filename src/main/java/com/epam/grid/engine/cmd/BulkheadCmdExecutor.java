@@ -0,0 +1,193 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.CommandRejectedException;
+import com.epam.grid.engine.exception.GridEngineException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.epam.grid.engine.utils.TextConstants.SPACE;
+
+/**
+ * This executor limits the number of concurrently executed commands of each {@link CommandClass},
+ * so a burst of requests of one kind can neither overload the grid engine nor starve the other kinds.
+ * A command waits for execution in a bounded queue, it is rejected if the queue is full
+ * or the command isn't admitted within the configured time.
+ */
+public class BulkheadCmdExecutor implements CmdExecutor {
+
+    static final String ACTIVE_METRIC = "command.bulkhead.active";
+    static final String WAITING_METRIC = "command.bulkhead.waiting";
+    static final String REJECTED_METRIC = "command.bulkhead.rejected";
+    private static final String CLASS_TAG = "class";
+    private static final String QUEUE_IS_FULL = "Too many %s commands are waiting for execution, "
+            + "the command is rejected: %s";
+    private static final String WAIT_TIMED_OUT = "The %s command wasn't admitted for execution within %d ms "
+            + "and is rejected: %s";
+    private static final String NO_PERMIT_AVAILABLE = "Too many %s commands are being executed, "
+            + "the asynchronous command is rejected: %s";
+
+    private final CmdExecutor delegate;
+    private final MeterRegistry meterRegistry;
+    private final long retryAfterSeconds;
+    private final Map<CommandClass, Compartment> compartments = new EnumMap<>(CommandClass.class);
+
+    public BulkheadCmdExecutor(final CmdExecutor delegate, final CmdExecutorProperties.Bulkhead settings,
+                               final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = Math.max(1, settings.getRetryAfter().toSeconds());
+        for (final CommandClass commandClass : CommandClass.values()) {
+            final Compartment compartment = new Compartment(settings.resolveLimit(commandClass));
+            compartments.put(commandClass, compartment);
+            Gauge.builder(ACTIVE_METRIC, compartment, Compartment::getActive)
+                    .tag(CLASS_TAG, commandClass.name())
+                    .register(meterRegistry);
+            Gauge.builder(WAITING_METRIC, compartment, Compartment::getWaiting)
+                    .tag(CLASS_TAG, commandClass.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public CommandResult execute(final String... arguments) {
+        return admit(() -> delegate.execute(arguments), arguments);
+    }
+
+    @Override
+    public CommandResult executeWithTimeout(final Duration timeout, final String... arguments) {
+        return admit(() -> delegate.executeWithTimeout(timeout, arguments), arguments);
+    }
+
+    @Override
+    public CommandResult executeWithInput(final String input, final String... arguments) {
+        return admit(() -> delegate.executeWithInput(input, arguments), arguments);
+    }
+
+    @Override
+    public <T> ParsedCommandResult<T> executeStreaming(final CommandOutputParser<T> parser,
+                                                       final String... arguments) {
+        return admit(() -> delegate.executeStreaming(parser, arguments), arguments);
+    }
+
+    /**
+     * Admits the command and starts it, the permit is held until the command completes. The calling thread
+     * is never blocked, so the command doesn't wait in the queue of its class: the returned future
+     * is completed with {@link CommandRejectedException} at once if no permit is available.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(final String... arguments) {
+        final CommandClass commandClass = CommandClass.of(arguments);
+        final Compartment compartment = compartments.get(commandClass);
+        if (!compartment.tryAcquire()) {
+            return CompletableFuture.failedFuture(reject(commandClass,
+                    String.format(NO_PERMIT_AVAILABLE, commandClass, String.join(SPACE, arguments))));
+        }
+        try {
+            return delegate.executeAsync(arguments)
+                    .whenComplete((result, error) -> compartment.release());
+        } catch (final RuntimeException e) {
+            compartment.release();
+            throw e;
+        }
+    }
+
+    private <T> T admit(final Supplier<T> execution, final String... arguments) {
+        final CommandClass commandClass = CommandClass.of(arguments);
+        final Compartment compartment = compartments.get(commandClass);
+        compartment.acquire(commandClass, arguments);
+        try {
+            return execution.get();
+        } finally {
+            compartment.release();
+        }
+    }
+
+    private CommandRejectedException reject(final CommandClass commandClass, final String message) {
+        meterRegistry.counter(REJECTED_METRIC, CLASS_TAG, commandClass.name()).increment();
+        return new CommandRejectedException(message, retryAfterSeconds);
+    }
+
+    /**
+     * Holds the permits and the wait queue of a single command class.
+     */
+    private final class Compartment {
+        private final CmdExecutorProperties.Limit limit;
+        private final Semaphore permits;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        Compartment(final CmdExecutorProperties.Limit limit) {
+            this.limit = limit;
+            this.permits = new Semaphore(limit.getMaxConcurrent(), true);
+        }
+
+        void acquire(final CommandClass commandClass, final String... arguments) {
+            if (permits.tryAcquire()) {
+                return;
+            }
+            if (waiting.incrementAndGet() > limit.getMaxQueue()) {
+                waiting.decrementAndGet();
+                throw reject(commandClass, String.format(QUEUE_IS_FULL, commandClass, String.join(SPACE, arguments)));
+            }
+            try {
+                if (!permits.tryAcquire(limit.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw reject(commandClass, String.format(WAIT_TIMED_OUT, commandClass,
+                            limit.getMaxWait().toMillis(), String.join(SPACE, arguments)));
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GridEngineException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "The command was interrupted while waiting for execution: "
+                                + String.join(SPACE, arguments), e);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        boolean tryAcquire() {
+            return permits.tryAcquire();
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        int getActive() {
+            return limit.getMaxConcurrent() - permits.availablePermits();
+        }
+
+        int getWaiting() {
+            return waiting.get();
+        }
+    }
+}
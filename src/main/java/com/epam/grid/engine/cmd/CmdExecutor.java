@@ -20,7 +20,93 @@
 package com.epam.grid.engine.cmd;
 
 import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.GridEngineException;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static com.epam.grid.engine.utils.TextConstants.NEW_LINE_DELIMITER;
+import static com.epam.grid.engine.utils.TextConstants.SPACE;
 
 public interface CmdExecutor {
+
+    /**
+     * Executes the command, its execution time is limited by the timeout configured for the command name.
+     *
+     * @param arguments The command's structure.
+     * @return The result of the command execution.
+     * @see CmdExecutorProperties#resolveTimeout(String)
+     */
     CommandResult execute(final String... arguments);
+
+    /**
+     * Executes the command, the whole process tree of the command is killed if it doesn't complete in time.
+     *
+     * @param timeout   The maximum execution time, zero means that the execution time is unlimited.
+     * @param arguments The command's structure.
+     * @return The result of the command execution.
+     * @throws com.epam.grid.engine.exception.CommandTimeoutException if the command doesn't complete in time.
+     */
+    CommandResult executeWithTimeout(final Duration timeout, final String... arguments);
+
+    /**
+     * Executes the command and writes the input to its standard input, which is closed afterwards.
+     * It allows passing the content the command reads from {@code /dev/stdin} without a file on disk.
+     *
+     * @param input     The content of the standard input.
+     * @param arguments The command's structure.
+     * @return The result of the command execution.
+     */
+    CommandResult executeWithInput(final String input, final String... arguments);
+
+    /**
+     * Executes the command and passes its standard output to the parser. Implementations that are able to
+     * stream the output call the parser while the command is running, so the output is never held in memory
+     * as a whole; this default implementation parses the collected output once the command completes.
+     *
+     * <p> The exit code must be checked before the parsed output is used, the parser isn't called
+     * or its failure is ignored if the command fails.
+     *
+     * @param parser    The parser of the standard output.
+     * @param arguments The command's structure.
+     * @param <T>       The type of the parsed output.
+     * @return The result of the command execution with the parsed output.
+     */
+    default <T> ParsedCommandResult<T> executeStreaming(final CommandOutputParser<T> parser,
+                                                        final String... arguments) {
+        final CommandResult result = execute(arguments);
+        if (result.getExitCode() != 0) {
+            return new ParsedCommandResult<>(null, result.getExitCode(), result.getStdOut(), result.getStdErr());
+        }
+        try (BufferedReader output = new BufferedReader(
+                new StringReader(String.join(NEW_LINE_DELIMITER, result.getStdOut())))) {
+            return new ParsedCommandResult<>(parser.parse(output), result.getExitCode(), result.getStdOut(),
+                    result.getStdErr());
+        } catch (final IOException e) {
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while reading output of the command: " + String.join(SPACE, arguments), e);
+        }
+    }
+
+    /**
+     * Starts the command and returns without waiting for its completion. Implementations that are able to
+     * await the process exit without a blocked thread release the calling thread at once; this default
+     * implementation executes the command in the calling thread and returns a completed future.
+     *
+     * @param arguments The command's structure.
+     * @return The future result of the command execution, it fails with the exception
+     *         that {@link #execute(String...)} would throw.
+     */
+    default CompletableFuture<CommandResult> executeAsync(final String... arguments) {
+        try {
+            return CompletableFuture.completedFuture(execute(arguments));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
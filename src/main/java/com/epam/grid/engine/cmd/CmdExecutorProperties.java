@@ -0,0 +1,282 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class holds the settings of the command execution mechanism,
+ * they are defined by the properties with the {@code command.executor} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "command.executor")
+public class CmdExecutorProperties {
+
+    private static final String DEFAULT_KEY = "default";
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * The executor that starts the command processes.
+     */
+    private ExecutorType type = ExecutorType.SIMPLE;
+
+    /**
+     * Command timeouts by the template command name, e.g. {@code qstat}, {@code qacct} or {@code sbatch}.
+     * The {@code default} key defines the timeout of commands that are not listed,
+     * a zero or negative value disables the timeout.
+     */
+    private final Map<String, Duration> timeouts = new HashMap<>();
+
+    /**
+     * Settings of holding the output of the executed commands.
+     */
+    private final Output output = new Output();
+
+    /**
+     * Settings of the pool that drains output streams of the executed commands.
+     */
+    private final Reader reader = new Reader();
+
+    /**
+     * Settings of the pool of command launchers used by the {@code helper} executor.
+     */
+    private final Helper helper = new Helper();
+
+    /**
+     * Settings of sharing the executions of identical read-only commands.
+     */
+    private final Coalescing coalescing = new Coalescing();
+
+    /**
+     * Settings of limiting the number of concurrently executed commands by their class.
+     */
+    private final Bulkhead bulkhead = new Bulkhead();
+
+    /**
+     * Settings of recording the executed commands and replaying the recordings instead of executing commands.
+     */
+    private final Fixtures fixtures = new Fixtures();
+
+    /**
+     * Returns the maximum execution time of the command.
+     *
+     * @param commandName The name of the executed command.
+     * @return The command timeout, zero if the command execution time is unlimited.
+     */
+    public Duration resolveTimeout(final String commandName) {
+        final Duration timeout = timeouts.getOrDefault(commandName,
+                timeouts.getOrDefault(DEFAULT_KEY, DEFAULT_TIMEOUT));
+        return timeout.isNegative() ? Duration.ZERO : timeout;
+    }
+
+    @Data
+    public static class Output {
+        private static final DataSize DEFAULT_MEMORY_LIMIT = DataSize.ofMegabytes(16);
+        private static final DataSize DEFAULT_HARD_LIMIT = DataSize.ofGigabytes(1);
+
+        /**
+         * The size of the output lines kept in memory by the command name, larger output is moved
+         * to a temporary file. The {@code default} key defines the limit of commands that are not listed,
+         * a zero or negative value keeps the whole output in memory.
+         */
+        private final Map<String, DataSize> memoryLimits = new HashMap<>();
+        /**
+         * The maximum size of the output by the command name, the command is killed if its output is larger.
+         * The {@code default} key defines the limit of commands that are not listed,
+         * a zero or negative value disables the limit.
+         */
+        private final Map<String, DataSize> hardLimits = new HashMap<>();
+        /**
+         * The folder of the temporary files with large output, the system temporary folder is used
+         * if it isn't specified or doesn't exist.
+         */
+        private String spillFolder;
+
+        /**
+         * Returns the size of the command output kept in memory.
+         *
+         * @param commandName The name of the executed command.
+         * @return The memory limit, zero if the whole output is kept in memory.
+         */
+        public DataSize resolveMemoryLimit(final String commandName) {
+            return resolve(memoryLimits, commandName, DEFAULT_MEMORY_LIMIT);
+        }
+
+        /**
+         * Returns the maximum size of the command output.
+         *
+         * @param commandName The name of the executed command.
+         * @return The hard limit, zero if the output size is unlimited.
+         */
+        public DataSize resolveHardLimit(final String commandName) {
+            return resolve(hardLimits, commandName, DEFAULT_HARD_LIMIT);
+        }
+
+        /**
+         * Returns the folder of the temporary files with large output.
+         *
+         * @return The configured folder if it exists, the system temporary folder otherwise.
+         */
+        public Path resolveSpillFolder() {
+            if (StringUtils.hasText(spillFolder)) {
+                final Path folder = Paths.get(spillFolder);
+                if (Files.isDirectory(folder) && Files.isWritable(folder)) {
+                    return folder;
+                }
+            }
+            return Paths.get(System.getProperty("java.io.tmpdir"));
+        }
+
+        private static DataSize resolve(final Map<String, DataSize> limits, final String commandName,
+                                        final DataSize defaultLimit) {
+            final DataSize limit = limits.getOrDefault(commandName, limits.getOrDefault(DEFAULT_KEY, defaultLimit));
+            return limit.isNegative() ? DataSize.ofBytes(0) : limit;
+        }
+    }
+
+    @Data
+    public static class Reader {
+        /**
+         * The maximum number of threads reading command output at the same time.
+         */
+        private int poolSize = 16;
+        /**
+         * The maximum number of reading tasks waiting for a free thread,
+         * a command is rejected when this limit is exceeded.
+         */
+        private int queueCapacity = 256;
+        /**
+         * The number of seconds an idle reader thread is kept alive.
+         */
+        private long keepAliveSeconds = 60;
+    }
+
+    public enum ExecutorType {
+        /**
+         * Every command is started by the application process.
+         */
+        SIMPLE,
+        /**
+         * Commands are started by a pool of long-lived launcher processes, this executor is experimental.
+         */
+        HELPER
+    }
+
+    @Data
+    public static class Helper {
+        /**
+         * The maximum number of launcher processes, it limits the number of commands executed at the same time.
+         */
+        private int poolSize = 8;
+    }
+
+    @Data
+    public static class Coalescing {
+        /**
+         * Whether concurrent callers of an identical read-only command share a single execution.
+         */
+        private boolean enabled = true;
+    }
+
+    @Data
+    public static class Bulkhead {
+        /**
+         * Whether the number of concurrently executed commands is limited.
+         */
+        private boolean enabled = true;
+        /**
+         * The delay the client is advised to wait before retrying a rejected request.
+         */
+        private Duration retryAfter = Duration.ofSeconds(5);
+        /**
+         * The limits by the command class, the default limits are applied to the classes that are not listed.
+         */
+        private final Map<CommandClass, Limit> limits = new EnumMap<>(CommandClass.class);
+
+        /**
+         * Returns the limits of the command class.
+         *
+         * @param commandClass The command class.
+         * @return The limits of the command class.
+         */
+        public Limit resolveLimit(final CommandClass commandClass) {
+            return limits.getOrDefault(commandClass, new Limit());
+        }
+    }
+
+    @Data
+    public static class Limit {
+        /**
+         * The maximum number of commands of the class executed at the same time.
+         */
+        private int maxConcurrent = 16;
+        /**
+         * The maximum number of commands of the class waiting for execution,
+         * a command is rejected at once when this limit is exceeded.
+         */
+        private int maxQueue = 64;
+        /**
+         * The maximum time a command waits for execution before it is rejected.
+         */
+        private Duration maxWait = Duration.ofSeconds(10);
+    }
+
+    public enum FixturesMode {
+        /**
+         * Commands are executed and nothing is recorded.
+         */
+        OFF,
+        /**
+         * Commands are executed and every completed execution is stored to the fixture folder.
+         */
+        RECORD,
+        /**
+         * Commands are never executed, the executions stored to the fixture folder are served instead.
+         */
+        REPLAY
+    }
+
+    @Data
+    public static class Fixtures {
+        /**
+         * Whether the executions are recorded or replayed.
+         */
+        private FixturesMode mode = FixturesMode.OFF;
+        /**
+         * The folder of the recorded executions.
+         */
+        private String folder = "fixtures";
+        /**
+         * Whether a replayed execution takes as long as the recorded one.
+         */
+        private boolean replayLatency;
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.GridEngineException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.epam.grid.engine.utils.TextConstants.SPACE;
+
+/**
+ * This executor shares a single execution of a read-only command among all callers that request
+ * an identical command while it is running, so a burst of identical queries spawns one process only.
+ * The streamed executions of a read-only command are shared as well: the command is executed once and
+ * its collected output is replayed to the parser of every caller. The commands that change the grid engine
+ * state are always executed for every caller.
+ *
+ * <p>The output of a shared execution is released when the last of its callers closes the result.</p>
+ *
+ * @see CommandClass#isReadOnly()
+ */
+public class CoalescingCmdExecutor implements CmdExecutor {
+
+    static final String EXECUTED_METRIC = "command.coalescing.executed";
+    static final String SAVED_METRIC = "command.coalescing.saved";
+    private static final String COMMAND_TAG = "command";
+
+    private final CmdExecutor delegate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The running read-only commands by their structure.
+     */
+    private final ConcurrentMap<List<String>, SharedExecution> inFlight = new ConcurrentHashMap<>();
+
+    public CoalescingCmdExecutor(final CmdExecutor delegate, final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CommandResult execute(final String... arguments) {
+        if (!CommandClass.of(arguments).isReadOnly()) {
+            return delegate.execute(arguments);
+        }
+        return coalesce(arguments).share();
+    }
+
+    /**
+     * Executes the command with the explicit timeout, such executions are never shared.
+     */
+    @Override
+    public CommandResult executeWithTimeout(final Duration timeout, final String... arguments) {
+        return delegate.executeWithTimeout(timeout, arguments);
+    }
+
+    /**
+     * Executes the command with the input, such executions are never shared.
+     */
+    @Override
+    public CommandResult executeWithInput(final String input, final String... arguments) {
+        return delegate.executeWithInput(input, arguments);
+    }
+
+    /**
+     * Executes the read-only command once for all concurrent callers and replays its collected output
+     * to the parser of every caller. Other commands are streamed to the parser by the delegate.
+     */
+    @Override
+    public <T> ParsedCommandResult<T> executeStreaming(final CommandOutputParser<T> parser,
+                                                       final String... arguments) {
+        if (!CommandClass.of(arguments).isReadOnly()) {
+            return delegate.executeStreaming(parser, arguments);
+        }
+        final Lease lease = coalesce(arguments);
+        final CommandResult result = lease.share();
+        if (result.getExitCode() != 0) {
+            return new ParsedCommandResult<>(null, result.getExitCode(), result.getStdOut(), result.getStdErr());
+        }
+        try (BufferedReader output = new BufferedReader(new LinesReader(lease.getResult().getStdOut()))) {
+            return new ParsedCommandResult<>(parser.parse(output), result.getExitCode(), result.getStdOut(),
+                    result.getStdErr());
+        } catch (final IOException e) {
+            result.close();
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while reading output of the command: " + String.join(SPACE, arguments), e);
+        } catch (final RuntimeException e) {
+            result.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the command or joins the running execution of an identical read-only command.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(final String... arguments) {
+        if (!CommandClass.of(arguments).isReadOnly()) {
+            return delegate.executeAsync(arguments);
+        }
+        final List<String> command = List.of(arguments);
+        final String commandName = CommandArgUtils.getCommandName(arguments);
+        final SharedExecution execution = new SharedExecution();
+        final SharedExecution runningExecution = join(command, execution);
+        if (runningExecution != null) {
+            meterRegistry.counter(SAVED_METRIC, COMMAND_TAG, commandName).increment();
+            return runningExecution.getResult().thenApply(result -> new Lease(runningExecution, result).share());
+        }
+        meterRegistry.counter(EXECUTED_METRIC, COMMAND_TAG, commandName).increment();
+        try {
+            delegate.executeAsync(arguments).whenComplete((result, error) -> {
+                inFlight.remove(command, execution);
+                if (error == null) {
+                    execution.getResult().complete(result);
+                } else {
+                    execution.getResult().completeExceptionally(unwrap(error));
+                }
+            });
+        } catch (final RuntimeException e) {
+            inFlight.remove(command, execution);
+            execution.getResult().completeExceptionally(e);
+        }
+        return execution.getResult().thenApply(result -> new Lease(execution, result).share());
+    }
+
+    private Lease coalesce(final String... arguments) {
+        final List<String> command = List.of(arguments);
+        final String commandName = CommandArgUtils.getCommandName(arguments);
+        final SharedExecution execution = new SharedExecution();
+        final SharedExecution runningExecution = join(command, execution);
+        if (runningExecution != null) {
+            meterRegistry.counter(SAVED_METRIC, COMMAND_TAG, commandName).increment();
+            return new Lease(runningExecution, await(runningExecution.getResult()));
+        }
+        meterRegistry.counter(EXECUTED_METRIC, COMMAND_TAG, commandName).increment();
+        final CommandResult result;
+        try {
+            result = delegate.execute(arguments);
+        } catch (final RuntimeException e) {
+            inFlight.remove(command, execution);
+            execution.getResult().completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(command, execution);
+        execution.getResult().complete(result);
+        return new Lease(execution, result);
+    }
+
+    /**
+     * Joins the running execution of the command, or registers the new execution if none is running.
+     * An execution is unregistered before it completes, so an execution whose output was already released
+     * by all of its callers is never joined.
+     *
+     * @return The joined execution, or null if the new execution was registered.
+     */
+    private SharedExecution join(final List<String> command, final SharedExecution execution) {
+        while (true) {
+            final SharedExecution runningExecution = inFlight.putIfAbsent(command, execution);
+            if (runningExecution == null || runningExecution.acquire()) {
+                return runningExecution;
+            }
+        }
+    }
+
+    private static CommandResult await(final CompletableFuture<CommandResult> execution) {
+        try {
+            return execution.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Something went wrong while executing the command", e.getCause());
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * A single execution of a command shared by the callers, its output is closed once every caller
+     * released it.
+     */
+    private static final class SharedExecution {
+
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+
+        CompletableFuture<CommandResult> getResult() {
+            return result;
+        }
+
+        /**
+         * Registers one more caller, it fails if the output was already released.
+         */
+        boolean acquire() {
+            int count = callers.get();
+            while (count > 0) {
+                if (callers.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+                count = callers.get();
+            }
+            return false;
+        }
+
+        void release() {
+            if (callers.decrementAndGet() == 0) {
+                result.thenAccept(CommandResult::close);
+            }
+        }
+    }
+
+    /**
+     * The share of a single caller in the execution, it is released at most once.
+     */
+    private static final class Lease {
+
+        private final SharedExecution execution;
+        private final CommandResult result;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Lease(final SharedExecution execution, final CommandResult result) {
+            this.execution = execution;
+            this.result = result;
+        }
+
+        CommandResult getResult() {
+            return result;
+        }
+
+        /**
+         * Every caller gets its own result object, the output lines are shared and can't be modified,
+         * closing the result releases the share of the caller.
+         */
+        CommandResult share() {
+            return new CommandResult(shared(result.getStdOut()), result.getExitCode(), shared(result.getStdErr()));
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                execution.release();
+            }
+        }
+
+        private List<String> shared(final List<String> lines) {
+            return lines == null ? null : new SharedLines(lines, this);
+        }
+    }
+
+    /**
+     * The read-only view of the shared output lines.
+     */
+    private static final class SharedLines extends AbstractList<String> implements Closeable {
+
+        private final List<String> lines;
+        private final Lease lease;
+
+        SharedLines(final List<String> lines, final Lease lease) {
+            this.lines = lines;
+            this.lease = lease;
+        }
+
+        @Override
+        public String get(final int index) {
+            return lines.get(index);
+        }
+
+        @Override
+        public int size() {
+            return lines.size();
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return Collections.unmodifiableList(lines).iterator();
+        }
+
+        @Override
+        public void close() {
+            lease.release();
+        }
+    }
+}
@@ -22,10 +22,11 @@ package com.epam.grid.engine.cmd;
 import com.epam.grid.engine.utils.TextConstants;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.springframework.util.StringUtils;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -133,10 +134,9 @@ public class CommandArgUtils {
      * @return the string of the created structure.
      */
     public static String envVariablesMapToString(final Map<String, String> variables) {
-        final String envVariables = MapUtils.emptyIfNull(variables).entrySet().stream()
+        return MapUtils.emptyIfNull(variables).entrySet().stream()
                 .map(CommandArgUtils::envVarToString)
                 .collect(Collectors.joining(TextConstants.COMMA));
-        return toEscapeQuotes(envVariables);
     }
 
     private static String envVarToString(final Map.Entry<String, String> entry) {
@@ -148,42 +148,17 @@ public class CommandArgUtils {
     }
 
     /**
-     * Converts the token for use in the template as a "convertedToken" to avoid splitting
-     * during further parsing. Adds another backslash before each quote.
+     * Returns the name of the executable of the command, e.g. {@code qstat} for {@code /opt/sge/bin/qstat -xml}.
      *
-     * @param token the token to handle.
-     * @return the converted token.
+     * @param arguments The command's structure.
+     * @return The executable name or an empty string if the command is empty.
      */
-    public static String toEscapeQuotes(final String token) {
-        final StringBuilder result = new StringBuilder();
-        int backslashes = 0;
-
-        for (final char ch : token.toCharArray()) {
-            if (ch == BACKSLASH) {
-                backslashes++;
-                continue;
-            }
-            if (ch == QUOTE) {
-                backslashes++;
-            }
-            IntStream.range(0, backslashes).forEach((index) -> result.append(BACKSLASH));
-            backslashes = 0;
-            result.append(ch);
+    public static String getCommandName(final String... arguments) {
+        if (arguments == null || arguments.length == 0 || !StringUtils.hasText(arguments[0])) {
+            return TextConstants.EMPTY_STRING;
         }
-        return result.toString();
-    }
-
-    /**
-     * Converts each of tokens for use in the template as a "convertedToken" to avoid splitting
-     * during further parsing.
-     *
-     * @param tokens the list of tokens to handle.
-     * @return the converted token list.
-     */
-    public static List<String> toEscapeQuotes(final List<String> tokens) {
-        return ListUtils.emptyIfNull(tokens).stream()
-                .map(CommandArgUtils::toEscapeQuotes)
-                .collect(Collectors.toList());
+        final Path executable = Paths.get(arguments[0]).getFileName();
+        return executable == null ? arguments[0] : executable.toString();
     }
 
     /**
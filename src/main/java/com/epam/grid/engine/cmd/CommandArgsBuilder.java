@@ -0,0 +1,130 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class collects the arguments of a command emitted by a {@link CommandTemplate}. The text of the template
+ * is split into arguments by the whitespace characters, a quoted part of the template is a single argument,
+ * see {@link CommandArgUtils#splitCommandIntoArgs(String)}. A value of a template expression is added as is
+ * inside the quotes and is split only by the whitespace characters outside of them, so the values don't have
+ * to be escaped.
+ */
+final class CommandArgsBuilder {
+
+    private static final char QUOTE = '"';
+    private static final char BACKSLASH = '\\';
+
+    private final List<String> arguments = new ArrayList<>();
+    private final StringBuilder argument = new StringBuilder();
+    private boolean quoted;
+
+    /**
+     * Adds the text of the template that contains no whitespace characters and no quotes.
+     *
+     * @param text The text of the template.
+     */
+    void appendText(final String text) {
+        argument.append(text);
+    }
+
+    /**
+     * Adds the whitespace characters of the template that separate the arguments outside of the quotes.
+     *
+     * @param whitespace The whitespace characters of the template.
+     */
+    void appendWhitespace(final String whitespace) {
+        if (quoted) {
+            argument.append(whitespace);
+        } else {
+            completeArgument();
+        }
+    }
+
+    /**
+     * Adds the quote of the template. Outside of the quotes it starts the quoted argument unless it is
+     * in the middle of an argument. Inside the quotes an unescaped quote completes the argument, and an escaped one
+     * is added with one backslash less.
+     *
+     * @param backslashes The number of the backslashes that precede the quote.
+     */
+    void appendQuote(final int backslashes) {
+        if (quoted && backslashes == 0) {
+            quoted = false;
+            completeArgument();
+            return;
+        }
+        appendBackslashes(quoted ? backslashes - 1 : backslashes);
+        if (!quoted && argument.length() == 0) {
+            quoted = true;
+        } else {
+            argument.append(QUOTE);
+        }
+    }
+
+    /**
+     * Adds the value of a template expression.
+     *
+     * @param value The value of the expression.
+     */
+    void appendValue(final String value) {
+        if (quoted) {
+            argument.append(value);
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (CommandTemplate.isWhitespace(value.charAt(i))) {
+                argument.append(value, start, i);
+                completeArgument();
+                start = i + 1;
+            }
+        }
+        argument.append(value, start, value.length());
+    }
+
+    /**
+     * Completes the last argument and returns all collected arguments, the empty ones are skipped.
+     *
+     * @return The command's structure that is ready for execution.
+     */
+    String[] build() {
+        completeArgument();
+        return arguments.toArray(new String[0]);
+    }
+
+    private void appendBackslashes(final int backslashes) {
+        for (int i = 0; i < backslashes; i++) {
+            argument.append(BACKSLASH);
+        }
+    }
+
+    private void completeArgument() {
+        if (argument.length() > 0) {
+            final String completed = argument.toString().trim();
+            if (!completed.isEmpty()) {
+                arguments.add(completed);
+            }
+            argument.setLength(0);
+        }
+    }
+}
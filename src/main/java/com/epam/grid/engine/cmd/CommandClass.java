@@ -0,0 +1,127 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * This enum describes the classes of the executed commands by their impact on the grid engine.
+ * The class of a command is determined by its structure, the commands that aren't known
+ * are treated as configuration changes.
+ */
+public enum CommandClass {
+
+    /**
+     * Read-only queries of the grid engine state, e.g. {@code qstat}, {@code qhost} or {@code sinfo}.
+     */
+    QUERY(true),
+
+    /**
+     * Read-only queries of the accounting data, e.g. {@code qacct} or {@code sacct}.
+     */
+    ACCOUNTING(true),
+
+    /**
+     * Job submissions, e.g. {@code qsub} or {@code sbatch}.
+     */
+    SUBMISSION(false),
+
+    /**
+     * Job deletions, e.g. {@code qdel} or {@code scancel}.
+     */
+    DELETION(false),
+
+    /**
+     * Changes of the grid engine configuration, e.g. {@code qconf -Aq} or {@code scontrol create}.
+     */
+    CONFIGURATION(false);
+
+    private static final Set<String> QUERY_COMMANDS = Set.of("qstat", "qhost", "qping", "squeue", "sinfo",
+            "cat", "head", "tail", "wc");
+    private static final Set<String> ACCOUNTING_COMMANDS = Set.of("qacct", "sacct");
+    private static final Set<String> SUBMISSION_COMMANDS = Set.of("qsub", "sbatch");
+    private static final Set<String> DELETION_COMMANDS = Set.of("qdel", "scancel");
+    private static final String QCONF_COMMAND = "qconf";
+    private static final String QCONF_SHOW_OPTION_PREFIX = "-s";
+    private static final String SCONTROL_COMMAND = "scontrol";
+    private static final String SCONTROL_SHOW_COMMAND = "show";
+    private static final String OPTION_PREFIX = "-";
+
+    private final boolean readOnly;
+
+    CommandClass(final boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Tells whether the commands of this class don't change the grid engine state.
+     *
+     * @return true if the commands of this class are read-only.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Determines the class of the command.
+     *
+     * @param arguments The command's structure.
+     * @return The class of the command.
+     */
+    public static CommandClass of(final String... arguments) {
+        final String commandName = CommandArgUtils.getCommandName(arguments);
+        if (QUERY_COMMANDS.contains(commandName)) {
+            return QUERY;
+        }
+        if (ACCOUNTING_COMMANDS.contains(commandName)) {
+            return ACCOUNTING;
+        }
+        if (SUBMISSION_COMMANDS.contains(commandName)) {
+            return SUBMISSION;
+        }
+        if (DELETION_COMMANDS.contains(commandName)) {
+            return DELETION;
+        }
+        if (QCONF_COMMAND.equals(commandName)) {
+            return isQconfQuery(arguments) ? QUERY : CONFIGURATION;
+        }
+        if (SCONTROL_COMMAND.equals(commandName)) {
+            return isScontrolQuery(arguments) ? QUERY : CONFIGURATION;
+        }
+        return CONFIGURATION;
+    }
+
+    private static boolean isQconfQuery(final String... arguments) {
+        return Arrays.stream(arguments)
+                .skip(1)
+                .filter(argument -> argument.startsWith(OPTION_PREFIX))
+                .allMatch(option -> option.startsWith(QCONF_SHOW_OPTION_PREFIX));
+    }
+
+    private static boolean isScontrolQuery(final String... arguments) {
+        return Arrays.stream(arguments)
+                .skip(1)
+                .filter(argument -> !argument.startsWith(OPTION_PREFIX))
+                .findFirst()
+                .map(SCONTROL_SHOW_COMMAND::equals)
+                .orElse(false);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandRecording;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import static com.epam.grid.engine.utils.TextConstants.SPACE;
+
+/**
+ * The folder of the recorded command executions. Every distinct command is stored to its own JSON file
+ * named after the command name and the digest of the arguments, a later execution replaces the earlier one.
+ */
+final class CommandFixtures {
+
+    private static final String FILE_EXTENSION = ".json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final char ARGUMENT_SEPARATOR = '\0';
+
+    private final Path folder;
+    private final ObjectMapper objectMapper;
+
+    CommandFixtures(final Path folder, final ObjectMapper objectMapper) {
+        this.folder = folder;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stores the execution, the file is replaced atomically so a concurrent reader never sees a partial one.
+     *
+     * @param recording The command execution.
+     */
+    void write(final CommandRecording recording) {
+        final String[] arguments = recording.getArguments().toArray(new String[0]);
+        final Path file = resolve(arguments);
+        try {
+            Files.createDirectories(folder);
+            final Path tempFile = Files.createTempFile(folder, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+            try {
+                objectMapper.writeValue(tempFile.toFile(), recording);
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (final IOException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to record the execution of the command: " + String.join(SPACE, arguments), e);
+        }
+    }
+
+    /**
+     * Loads the recorded execution of the command.
+     *
+     * @param arguments The command's structure.
+     * @return The recorded execution, empty if the command wasn't recorded.
+     */
+    Optional<CommandRecording> read(final String... arguments) {
+        final Path file = resolve(arguments);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), CommandRecording.class));
+        } catch (final IOException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to read the recorded execution of the command: " + String.join(SPACE, arguments), e);
+        }
+    }
+
+    Path resolve(final String... arguments) {
+        final String digest = DigestUtils.md5DigestAsHex(String.join(String.valueOf(ARGUMENT_SEPARATOR), arguments)
+                .getBytes(StandardCharsets.UTF_8));
+        return folder.resolve(CommandArgUtils.getCommandName(arguments) + "-" + digest + FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Parses the standard output of a command while the command is still writing it.
+ *
+ * @param <T> The type of the parsing result.
+ * @see CmdExecutor#executeStreaming(CommandOutputParser, String...)
+ */
+@FunctionalInterface
+public interface CommandOutputParser<T> {
+
+    /**
+     * Parses the command output. The parser doesn't have to read the output to the end,
+     * the rest of it is skipped by the executor.
+     *
+     * @param output The standard output of the command.
+     * @return The parsing result.
+     * @throws IOException if the output can't be read.
+     */
+    T parse(BufferedReader output) throws IOException;
+}
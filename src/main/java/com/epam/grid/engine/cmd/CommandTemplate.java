@@ -0,0 +1,455 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.exception.GridEngineException;
+import org.springframework.http.HttpStatus;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.context.ExpressionContext;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.context.IExpressionContext;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.standard.expression.Assignation;
+import org.thymeleaf.standard.expression.AssignationUtils;
+import org.thymeleaf.standard.expression.Each;
+import org.thymeleaf.standard.expression.EachUtils;
+import org.thymeleaf.standard.expression.IStandardExpression;
+import org.thymeleaf.standard.expression.IStandardExpressionParser;
+import org.thymeleaf.standard.expression.StandardExpressions;
+import org.thymeleaf.util.EvaluationUtils;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * This class is a command template parsed into the plan of the command arguments. It emits the arguments
+ * directly from the context variables, instead of rendering the template into a string that is split
+ * into the arguments afterwards.
+ *
+ * <p> The template is a thymeleaf TEXT template, the following syntax is supported:
+ * <ul>
+ *     <li>the inlined expressions {@code [(${...})]} and {@code [[${...}]]};</li>
+ *     <li>the elements {@code [# ...]...[/]} with the {@code th:each}, {@code th:if}, {@code th:unless},
+ *     {@code th:with} and {@code th:text} attributes processed in the order of thymeleaf.</li>
+ * </ul>
+ * The expressions are evaluated by the thymeleaf standard expression parser of the template engine,
+ * so they have the same semantics as in the rendered template. The quotes of the template text delimit
+ * an argument that contains whitespace characters, see {@link CommandArgsBuilder}.
+ */
+public final class CommandTemplate {
+
+    private static final String ELEMENT_START = "[#";
+    private static final String ELEMENT_END = "[/";
+    private static final String UNESCAPED_INLINE_START = "[(";
+    private static final String UNESCAPED_INLINE_END = ")]";
+    private static final String ESCAPED_INLINE_START = "[[";
+    private static final String ESCAPED_INLINE_END = "]]";
+    private static final String ATTRIBUTE_PREFIX = "th:";
+    private static final char QUOTE = '"';
+    private static final char BACKSLASH = '\\';
+
+    private final IEngineConfiguration configuration;
+    private final List<Node> nodes;
+
+    private CommandTemplate(final IEngineConfiguration configuration, final List<Node> nodes) {
+        this.configuration = configuration;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Parses the command template.
+     *
+     * @param name The name of the template used in the error messages.
+     * @param template The text of the template.
+     * @param configuration The configuration of the template engine that evaluates the expressions.
+     * @return The parsed template.
+     * @throws GridEngineException if the template is malformed or uses unsupported syntax.
+     */
+    public static CommandTemplate parse(final String name, final String template,
+                                        final IEngineConfiguration configuration) {
+        try {
+            return new CommandTemplate(configuration, new Parser(name, template, configuration).parse());
+        } catch (final TemplateProcessingException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    String.format("Command template %s contains an invalid expression: %s", name, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Forms the command structure from the context variables.
+     *
+     * @param context Data for forming a command.
+     * @return The structure of the command execution.
+     */
+    public String[] toArguments(final IContext context) {
+        final Map<String, Object> variables = new HashMap<>();
+        for (final String variableName : context.getVariableNames()) {
+            variables.put(variableName, context.getVariable(variableName));
+        }
+        final ExpressionContext expressionContext = new ExpressionContext(configuration, context.getLocale(),
+                variables);
+        final CommandArgsBuilder arguments = new CommandArgsBuilder();
+        appendNodes(nodes, expressionContext, arguments);
+        return arguments.build();
+    }
+
+    static boolean isWhitespace(final char ch) {
+        switch (ch) {
+            case '\r':
+            case '\n':
+            case ' ':
+            case '\t':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void appendNodes(final List<Node> nodes, final ExpressionContext context,
+                                    final CommandArgsBuilder arguments) {
+        for (final Node node : nodes) {
+            node.append(context, arguments);
+        }
+    }
+
+    private static String toText(final Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static void withVariable(final ExpressionContext context, final String name, final Object value,
+                                     final Runnable action) {
+        final boolean shadowed = context.containsVariable(name);
+        final Object shadowedValue = context.getVariable(name);
+        context.setVariable(name, value);
+        try {
+            action.run();
+        } finally {
+            if (shadowed) {
+                context.setVariable(name, shadowedValue);
+            } else {
+                context.removeVariable(name);
+            }
+        }
+    }
+
+    private static void forEachItem(final Object iterable, final Consumer<Object> action) {
+        if (iterable == null) {
+            return;
+        }
+        if (iterable instanceof Iterable) {
+            ((Iterable<?>) iterable).forEach(action);
+        } else if (iterable instanceof Map) {
+            ((Map<?, ?>) iterable).entrySet().forEach(action);
+        } else if (iterable.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(iterable); i++) {
+                action.accept(Array.get(iterable, i));
+            }
+        } else {
+            action.accept(iterable);
+        }
+    }
+
+    private interface Node {
+        void append(ExpressionContext context, CommandArgsBuilder arguments);
+    }
+
+    private static final class TextNode implements Node {
+        private final String text;
+
+        TextNode(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void append(final ExpressionContext context, final CommandArgsBuilder arguments) {
+            arguments.appendText(text);
+        }
+    }
+
+    private static final class WhitespaceNode implements Node {
+        private final String whitespace;
+
+        WhitespaceNode(final String whitespace) {
+            this.whitespace = whitespace;
+        }
+
+        @Override
+        public void append(final ExpressionContext context, final CommandArgsBuilder arguments) {
+            arguments.appendWhitespace(whitespace);
+        }
+    }
+
+    private static final class QuoteNode implements Node {
+        private final int backslashes;
+
+        QuoteNode(final int backslashes) {
+            this.backslashes = backslashes;
+        }
+
+        @Override
+        public void append(final ExpressionContext context, final CommandArgsBuilder arguments) {
+            arguments.appendQuote(backslashes);
+        }
+    }
+
+    private static final class ExpressionNode implements Node {
+        private final IStandardExpression expression;
+
+        ExpressionNode(final IStandardExpression expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public void append(final ExpressionContext context, final CommandArgsBuilder arguments) {
+            arguments.appendValue(toText(expression.execute(context)));
+        }
+    }
+
+    private static final class ElementNode implements Node {
+        private final Each each;
+        private final IStandardExpression condition;
+        private final boolean negated;
+        private final List<Assignation> assignations;
+        private final IStandardExpression text;
+        private final List<Node> children;
+
+        ElementNode(final Each each, final IStandardExpression condition, final boolean negated,
+                    final List<Assignation> assignations, final IStandardExpression text,
+                    final List<Node> children) {
+            this.each = each;
+            this.condition = condition;
+            this.negated = negated;
+            this.assignations = assignations;
+            this.text = text;
+            this.children = children;
+        }
+
+        @Override
+        public void append(final ExpressionContext context, final CommandArgsBuilder arguments) {
+            if (each == null) {
+                appendOnce(context, arguments);
+                return;
+            }
+            final String iterationVariable = toText(each.getIterationVar().execute(context));
+            forEachItem(each.getIterable().execute(context), item ->
+                    withVariable(context, iterationVariable, item, () -> appendOnce(context, arguments)));
+        }
+
+        private void appendOnce(final ExpressionContext context, final CommandArgsBuilder arguments) {
+            if (condition != null && EvaluationUtils.evaluateAsBoolean(condition.execute(context)) == negated) {
+                return;
+            }
+            appendWithAssignations(0, context, arguments);
+        }
+
+        private void appendWithAssignations(final int index, final ExpressionContext context,
+                                            final CommandArgsBuilder arguments) {
+            if (index < assignations.size()) {
+                final Assignation assignation = assignations.get(index);
+                withVariable(context, toText(assignation.getLeft().execute(context)),
+                        assignation.getRight().execute(context),
+                        () -> appendWithAssignations(index + 1, context, arguments));
+            } else if (text != null) {
+                arguments.appendValue(toText(text.execute(context)));
+            } else {
+                appendNodes(children, context, arguments);
+            }
+        }
+    }
+
+    private static final class Parser {
+        private final String name;
+        private final String template;
+        private final IExpressionContext parsingContext;
+        private final IStandardExpressionParser expressionParser;
+        private int position;
+
+        Parser(final String name, final String template, final IEngineConfiguration configuration) {
+            this.name = name;
+            this.template = template;
+            this.parsingContext = new ExpressionContext(configuration);
+            this.expressionParser = StandardExpressions.getExpressionParser(configuration);
+        }
+
+        List<Node> parse() {
+            final List<Node> nodes = parseNodes();
+            if (position < template.length()) {
+                throw error("unexpected element end");
+            }
+            return nodes;
+        }
+
+        private List<Node> parseNodes() {
+            final List<Node> nodes = new ArrayList<>();
+            while (position < template.length() && !template.startsWith(ELEMENT_END, position)) {
+                if (template.startsWith(ELEMENT_START, position)) {
+                    nodes.add(parseElement());
+                } else if (template.startsWith(UNESCAPED_INLINE_START, position)) {
+                    nodes.add(parseInline(UNESCAPED_INLINE_START, UNESCAPED_INLINE_END));
+                } else if (template.startsWith(ESCAPED_INLINE_START, position)) {
+                    nodes.add(parseInline(ESCAPED_INLINE_START, ESCAPED_INLINE_END));
+                } else {
+                    nodes.add(parseText());
+                }
+            }
+            return nodes;
+        }
+
+        private Node parseText() {
+            final int start = position;
+            final char first = template.charAt(position);
+            if (isWhitespace(first)) {
+                while (position < template.length() && isWhitespace(template.charAt(position))) {
+                    position++;
+                }
+                return new WhitespaceNode(template.substring(start, position));
+            }
+            if (first == BACKSLASH || first == QUOTE) {
+                while (position < template.length() && template.charAt(position) == BACKSLASH) {
+                    position++;
+                }
+                if (position < template.length() && template.charAt(position) == QUOTE) {
+                    position++;
+                    return new QuoteNode(position - start - 1);
+                }
+                return new TextNode(template.substring(start, position));
+            }
+            position++;
+            while (position < template.length() && !isSpecial(position)) {
+                position++;
+            }
+            return new TextNode(template.substring(start, position));
+        }
+
+        private boolean isSpecial(final int index) {
+            final char ch = template.charAt(index);
+            return isWhitespace(ch) || ch == QUOTE || ch == BACKSLASH
+                    || template.startsWith(ELEMENT_START, index) || template.startsWith(ELEMENT_END, index)
+                    || template.startsWith(UNESCAPED_INLINE_START, index)
+                    || template.startsWith(ESCAPED_INLINE_START, index);
+        }
+
+        private Node parseInline(final String start, final String end) {
+            final int expressionEnd = template.indexOf(end, position + start.length());
+            if (expressionEnd < 0) {
+                throw error("unclosed inlined expression");
+            }
+            final String expression = template.substring(position + start.length(), expressionEnd);
+            position = expressionEnd + end.length();
+            return new ExpressionNode(parseExpression(expression));
+        }
+
+        private Node parseElement() {
+            final int tagEnd = findTagEnd();
+            final boolean selfClosing = template.charAt(tagEnd - 1) == '/';
+            final Map<String, String> attributes = parseAttributes(
+                    template.substring(position + ELEMENT_START.length(), selfClosing ? tagEnd - 1 : tagEnd));
+            position = tagEnd + 1;
+            final List<Node> children = selfClosing ? Collections.emptyList() : parseNodes();
+            if (!selfClosing) {
+                final int closingEnd = template.indexOf(']', position);
+                if (!template.startsWith(ELEMENT_END, position) || closingEnd < 0) {
+                    throw error("unclosed element");
+                }
+                position = closingEnd + 1;
+            }
+            return createElement(attributes, children);
+        }
+
+        private int findTagEnd() {
+            boolean inValue = false;
+            for (int i = position + ELEMENT_START.length(); i < template.length(); i++) {
+                final char ch = template.charAt(i);
+                if (ch == QUOTE) {
+                    inValue = !inValue;
+                } else if (ch == ']' && !inValue) {
+                    return i;
+                }
+            }
+            throw error("unclosed element");
+        }
+
+        private Map<String, String> parseAttributes(final String tag) {
+            final Map<String, String> attributes = new HashMap<>();
+            int index = 0;
+            while (index < tag.length() && !isWhitespace(tag.charAt(index))) {
+                index++;
+            }
+            while (index < tag.length()) {
+                if (isWhitespace(tag.charAt(index))) {
+                    index++;
+                    continue;
+                }
+                final int assignment = tag.indexOf('=', index);
+                final int valueEnd = assignment < 0 ? -1 : tag.indexOf(QUOTE, assignment + 2);
+                if (assignment < 0 || tag.charAt(assignment + 1) != QUOTE || valueEnd < 0) {
+                    throw error("malformed attribute " + tag.substring(index).trim());
+                }
+                attributes.put(tag.substring(index, assignment).trim(), tag.substring(assignment + 2, valueEnd));
+                index = valueEnd + 1;
+            }
+            return attributes;
+        }
+
+        private Node createElement(final Map<String, String> attributes, final List<Node> children) {
+            final Map<String, String> remaining = new HashMap<>(attributes);
+            final String eachValue = remaining.remove(ATTRIBUTE_PREFIX + "each");
+            final String ifValue = remaining.remove(ATTRIBUTE_PREFIX + "if");
+            final String unlessValue = remaining.remove(ATTRIBUTE_PREFIX + "unless");
+            final String withValue = remaining.remove(ATTRIBUTE_PREFIX + "with");
+            final String textValue = remaining.remove(ATTRIBUTE_PREFIX + "text");
+            final String utextValue = remaining.remove(ATTRIBUTE_PREFIX + "utext");
+            if (!remaining.isEmpty()) {
+                throw error("unsupported attributes " + remaining.keySet());
+            }
+            if (ifValue != null && unlessValue != null || textValue != null && utextValue != null) {
+                throw error("conflicting attributes " + attributes.keySet());
+            }
+            final Each each = eachValue == null ? null : EachUtils.parseEach(parsingContext, eachValue);
+            if (eachValue != null && each == null) {
+                throw error("invalid iteration " + eachValue);
+            }
+            final String conditionValue = ifValue != null ? ifValue : unlessValue;
+            final List<Assignation> assignations = new ArrayList<>();
+            if (withValue != null) {
+                assignations.addAll(AssignationUtils.parseAssignationSequence(parsingContext, withValue, false)
+                        .getAssignations());
+            }
+            final String elementText = textValue != null ? textValue : utextValue;
+            return new ElementNode(each,
+                    conditionValue == null ? null : parseExpression(conditionValue), unlessValue != null,
+                    assignations, elementText == null ? null : parseExpression(elementText), children);
+        }
+
+        private IStandardExpression parseExpression(final String expression) {
+            return expressionParser.parseExpression(parsingContext, expression);
+        }
+
+        private GridEngineException error(final String message) {
+            return new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    String.format("Command template %s is malformed at position %d: %s", name, position, message));
+        }
+    }
+}
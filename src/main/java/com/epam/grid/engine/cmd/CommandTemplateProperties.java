@@ -0,0 +1,103 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.cmd;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.io.File;
+import java.time.Duration;
+
+/**
+ * This class holds the settings of the command and entity templates,
+ * they are defined by the properties with the {@code command.template} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "command.template")
+public class CommandTemplateProperties {
+
+    /**
+     * The path to the template folder, it's a folder of the file system if it exists, a classpath location otherwise.
+     */
+    private String path = "templates/";
+
+    /**
+     * Whether all command templates are parsed at startup, so a broken template fails the application start.
+     */
+    private boolean preload = true;
+
+    /**
+     * The way the rendered entity descriptions are passed to the commands that register or update the entities.
+     */
+    private EntityDescriptionMode entityDescription = EntityDescriptionMode.STDIN;
+
+    /**
+     * Settings of keeping the parsed templates.
+     */
+    private final Cache cache = new Cache();
+
+    /**
+     * Settings of reloading the templates when the template folder is changed.
+     */
+    private final Reload reload = new Reload();
+
+    /**
+     * Returns whether the templates are read from a folder of the file system.
+     *
+     * @return true if the template path is an existing folder.
+     */
+    public boolean isFileBased() {
+        return new File(path).isDirectory();
+    }
+
+    @Data
+    public static class Cache {
+        /**
+         * Whether the parsed templates are kept, otherwise a template is parsed on every use.
+         */
+        private boolean enabled = true;
+        /**
+         * The time a parsed entity template is kept before it's parsed again, it isn't limited if not specified.
+         */
+        private Duration ttl;
+    }
+
+    @Data
+    public static class Reload {
+        /**
+         * Whether the templates are reloaded when the file-based template folder is changed.
+         */
+        private boolean enabled;
+        /**
+         * The time without further changes of the template folder after which the templates are reloaded.
+         */
+        private Duration delay = Duration.ofSeconds(1);
+    }
+
+    public enum EntityDescriptionMode {
+        /**
+         * The description is written to the standard input of the command that reads {@code /dev/stdin}.
+         */
+        STDIN,
+        /**
+         * The description is written to a temporary file that is deleted once the command completes.
+         */
+        FILE
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.exception.GridEngineException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import org.thymeleaf.templateresolver.TemplateResolution;
+import org.thymeleaf.templateresource.ITemplateResource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class keeps the parsed command templates. All templates of the template folder can be parsed at once
+ * and replace the previous ones atomically, so the commands being compiled never see a partially reloaded set.
+ * The entity templates are validated along with them, they are rendered by the template engine that caches
+ * them on its own.
+ */
+@Slf4j
+public class CommandTemplateRegistry {
+
+    private static final String COMMAND_PATH = "command";
+    private static final String ENTITY_PATH = "entity";
+    private static final String PATH_DELIMITER = "/";
+
+    private final SpringTemplateEngine templateEngine;
+    private final CommandTemplateProperties properties;
+    private final AtomicReference<Map<String, CommandTemplate>> commandTemplates =
+            new AtomicReference<>(new ConcurrentHashMap<>());
+
+    public CommandTemplateRegistry(final SpringTemplateEngine templateEngine,
+                                   final CommandTemplateProperties properties) {
+        this.templateEngine = templateEngine;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the parsed command template, the template is parsed if it isn't loaded yet or caching is disabled.
+     *
+     * @param template The template name relative to the template folder, e.g. {@code sge/command/qstat}.
+     * @return The parsed command template.
+     */
+    public CommandTemplate getCommandTemplate(final String template) {
+        if (!properties.getCache().isEnabled()) {
+            return parseCommandTemplate(template);
+        }
+        return commandTemplates.get().computeIfAbsent(template, this::parseCommandTemplate);
+    }
+
+    /**
+     * Parses all command templates of the template folder and replaces the loaded ones with them.
+     * The entity templates are parsed by the same rules to check their syntax and expressions.
+     * Nothing is replaced if any template can't be parsed.
+     *
+     * @throws GridEngineException if a command or entity template can't be read or parsed.
+     */
+    public void load() {
+        final Map<String, CommandTemplate> templates = new ConcurrentHashMap<>();
+        for (final String template : findTemplates(COMMAND_PATH)) {
+            templates.put(template, parseCommandTemplate(template));
+        }
+        final List<String> entityTemplates = findTemplates(ENTITY_PATH);
+        for (final String template : entityTemplates) {
+            parseCommandTemplate(template);
+        }
+        commandTemplates.set(templates);
+        log.info("{} command templates and {} entity templates are loaded from {}", templates.size(),
+                entityTemplates.size(), properties.getPath());
+    }
+
+    /**
+     * Reloads all command templates and drops the entity templates cached by the template engine.
+     * The previously loaded command templates are kept if any template can't be parsed.
+     *
+     * @return true if the templates are reloaded.
+     */
+    public boolean reload() {
+        try {
+            load();
+        } catch (final GridEngineException e) {
+            log.error("Command templates are not reloaded, the previously loaded ones are used", e);
+            return false;
+        }
+        templateEngine.clearTemplateCache();
+        return true;
+    }
+
+    private List<String> findTemplates(final String kind) {
+        final String root = StringUtils.trimTrailingCharacter(properties.getPath(), '/');
+        final String location = properties.isFileBased()
+                ? ResourceUtils.FILE_URL_PREFIX + Paths.get(root).toAbsolutePath()
+                : ResourcePatternUtils.CLASSPATH_ALL_URL_PREFIX + root;
+        try {
+            final List<String> templates = new ArrayList<>();
+            for (final Resource resource : new PathMatchingResourcePatternResolver()
+                    .getResources(location + "/*/" + kind + "/*")) {
+                if (resource.isReadable()) {
+                    templates.add(getTemplateName(resource, kind));
+                }
+            }
+            return templates;
+        } catch (final IOException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    String.format("Unable to list %s templates of %s", kind, properties.getPath()), e);
+        }
+    }
+
+    private static String getTemplateName(final Resource resource, final String kind) throws IOException {
+        final String url = resource.getURL().getPath();
+        final int kindFolder = url.lastIndexOf(PATH_DELIMITER + kind + PATH_DELIMITER);
+        final int engineFolder = url.lastIndexOf(PATH_DELIMITER, kindFolder - 1);
+        return Paths.get(url.substring(engineFolder + 1, kindFolder), kind, resource.getFilename()).toString();
+    }
+
+    private CommandTemplate parseCommandTemplate(final String template) {
+        final IEngineConfiguration configuration = templateEngine.getConfiguration();
+        for (final ITemplateResolver resolver : configuration.getTemplateResolvers()) {
+            final TemplateResolution resolution = resolver.resolveTemplate(configuration, null, template, null);
+            if (resolution == null) {
+                continue;
+            }
+            final ITemplateResource resource = resolution.getTemplateResource();
+            if (resolution.isTemplateResourceExistenceVerified() || resource.exists()) {
+                log.debug("Parsing command template {}", template);
+                return CommandTemplate.parse(template, readTemplate(template, resource), configuration);
+            }
+        }
+        throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                String.format("Command template %s is not found", template));
+    }
+
+    private static String readTemplate(final String template, final ITemplateResource resource) {
+        try (Reader reader = resource.reader()) {
+            return FileCopyUtils.copyToString(reader);
+        } catch (final IOException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    String.format("Unable to read command template %s", template), e);
+        }
+    }
+}
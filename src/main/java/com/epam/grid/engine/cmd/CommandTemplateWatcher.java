@@ -0,0 +1,119 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.cmd;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class reloads the templates when the file-based template folder is changed. A burst of changes,
+ * e.g. copying of a new template set, results in a single reload after the folder has been quiet for the delay.
+ */
+@Slf4j
+public class CommandTemplateWatcher implements Closeable {
+
+    private static final String WATCHER_THREAD_PREFIX = "cmd-template-watcher-";
+    private static final int TEMPLATE_FOLDER_DEPTH = 2;
+
+    private final CommandTemplateRegistry registry;
+    private final Path folder;
+    private final Duration delay;
+    private final WatchService watchService;
+
+    public CommandTemplateWatcher(final CommandTemplateRegistry registry, final Path folder, final Duration delay) {
+        this.registry = registry;
+        this.folder = folder;
+        this.delay = delay;
+        try {
+            this.watchService = folder.getFileSystem().newWatchService();
+            registerFolders();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to watch the template folder " + folder, e);
+        }
+    }
+
+    /**
+     * Starts watching the template folder in a daemon thread.
+     */
+    public void start() {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(WATCHER_THREAD_PREFIX);
+        threadFactory.setDaemon(true);
+        threadFactory.newThread(this::watch).start();
+        log.info("Watching the template folder {} for changes", folder);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                while (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                    key = watchService.poll(delay.toMillis(), TimeUnit.MILLISECONDS);
+                }
+                registerNewFolders();
+                log.info("The template folder {} is changed, reloading the templates", folder);
+                registry.reload();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            log.debug("Watching the template folder {} is stopped", folder);
+        }
+    }
+
+    private void registerNewFolders() {
+        try {
+            registerFolders();
+        } catch (final IOException | UncheckedIOException e) {
+            log.warn("Unable to watch new folders of the template folder {}", folder, e);
+        }
+    }
+
+    private void registerFolders() throws IOException {
+        final List<Path> folders;
+        try (Stream<Path> paths = Files.walk(folder, TEMPLATE_FOLDER_DEPTH)) {
+            folders = paths.filter(Files::isDirectory).collect(Collectors.toList());
+        }
+        for (final Path path : folders) {
+            path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+    }
+}
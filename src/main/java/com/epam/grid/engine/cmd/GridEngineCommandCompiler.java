@@ -22,8 +22,6 @@ package com.epam.grid.engine.cmd;
 import com.epam.grid.engine.entity.CommandType;
 import org.thymeleaf.context.IContext;
 
-import java.nio.file.Path;
-
 /**
  * This is an interface that provides requirements to different compile methods by context.
  */
@@ -40,12 +38,12 @@ public interface GridEngineCommandCompiler {
     String[] compileCommand(CommandType commandType, String command, IContext context);
 
     /**
-     * Configures temporary file with entity information by engine type and context.
+     * Renders the entity description by engine type and context.
      *
      * @param commandType A command type.
      * @param entity     Name of the entity used.
-     * @param context    Structure with data for forming a template file.
-     * @return Path to temporary file.
+     * @param context    Structure with data for forming the description.
+     * @return The entity description.
      */
-    Path compileEntityConfigFile(CommandType commandType, String entity, IContext context);
+    String compileEntityDescription(CommandType commandType, String entity, IContext context);
 }
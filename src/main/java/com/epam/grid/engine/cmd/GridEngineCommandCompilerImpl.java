@@ -28,9 +28,6 @@ import org.springframework.stereotype.Component;
 import org.thymeleaf.context.IContext;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 
 /**
@@ -41,12 +38,11 @@ import java.nio.file.Paths;
 @RequiredArgsConstructor
 public class GridEngineCommandCompilerImpl implements GridEngineCommandCompiler {
 
-    private static final String CREATING_ENTITY_DESCRIPTION_FILE_ERROR =
-            "Unable to create temporary entity description file";
     private static final String COMMAND_PATH = "command";
     private static final String ENTITY_PATH = "entity";
 
     private final SpringTemplateEngine templateEngine;
+    private final CommandTemplateRegistry commandTemplateRegistry;
 
     /**
      * This method creates the command structure by engine type and context.
@@ -60,22 +56,22 @@ public class GridEngineCommandCompilerImpl implements GridEngineCommandCompiler
     public String[] compileCommand(final CommandType commandType, final String command,
                                    final IContext context) {
         final String commandFolderPath = Paths.get(getPathByEngineType(commandType), COMMAND_PATH, command).toString();
-        return CommandArgUtils.splitCommandIntoArgs(templateEngine.process(commandFolderPath, context));
+        return commandTemplateRegistry.getCommandTemplate(commandFolderPath).toArguments(context);
     }
 
     /**
-     * Configures temporary file with entity information by engine type and context.
+     * Renders the entity description by engine type and context.
      *
      * @param commandType A command type.
      * @param entity     Name of the entity used.
-     * @param context    Structure with data for forming a template file.
-     * @return Path to temporary file.
+     * @param context    Structure with data for forming the description.
+     * @return The entity description.
      */
     @Override
-    public Path compileEntityConfigFile(final CommandType commandType, final String entity, final IContext context) {
-        final String commandFolderPath = Paths.get(getPathByEngineType(commandType), ENTITY_PATH, entity).toString();
-        final String entityDescription = templateEngine.process(commandFolderPath, context);
-        return writeEntityDescriptionToTemporaryFile(entityDescription);
+    public String compileEntityDescription(final CommandType commandType, final String entity,
+                                           final IContext context) {
+        final String entityFolderPath = Paths.get(getPathByEngineType(commandType), ENTITY_PATH, entity).toString();
+        return templateEngine.process(entityFolderPath, context);
     }
 
     private String getPathByEngineType(final CommandType commandType) {
@@ -96,13 +92,4 @@ public class GridEngineCommandCompilerImpl implements GridEngineCommandCompiler
         }
         return path;
     }
-
-    private Path writeEntityDescriptionToTemporaryFile(final String entityDescription) {
-        try {
-            final Path tempFile = Files.createTempFile("sge-api_entity_tmp_files", null);
-            return Files.writeString(tempFile, entityDescription);
-        } catch (final IOException e) {
-            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, CREATING_ENTITY_DESCRIPTION_FILE_ERROR, e);
-        }
-    }
 }
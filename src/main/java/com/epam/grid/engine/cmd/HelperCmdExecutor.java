@@ -0,0 +1,474 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.CommandTimeoutException;
+import com.epam.grid.engine.exception.GridEngineException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+
+import static com.epam.grid.engine.utils.TextConstants.NEW_LINE_DELIMITER;
+import static com.epam.grid.engine.utils.TextConstants.SPACE;
+
+/**
+ * This executor runs the commands by a pool of long-lived shell launchers instead of starting a new process
+ * from the application for every command, so the application process is never forked to run a command.
+ * A launcher receives the arguments of a command over its standard input, runs the command and writes back
+ * the framed standard output, standard error and exit code, see {@code cmd/helper-launcher.sh}.
+ *
+ * <p>A launcher is discarded and its whole process tree is killed when its command times out or the
+ * protocol breaks. Commands whose arguments contain line breaks can't be framed and are passed
+ * to the fallback executor.
+ *
+ * <p>This executor is experimental: it hasn't been measured against {@link SimpleCmdExecutor} on a production
+ * grid engine yet, see {@code CmdExecutorBenchmark}, so the simple executor stays the default one.
+ */
+@Slf4j
+public class HelperCmdExecutor implements CmdExecutor, Closeable {
+
+    static final String LAUNCHER_SCRIPT = "/cmd/helper-launcher.sh";
+
+    private static final String SHELL = "/bin/sh";
+    private static final String LAUNCHER_NAME = "helper-launcher";
+    private static final String COMMAND_TIMED_OUT = "The command didn't complete within %d ms and was killed: %s";
+    private static final int FAILURE_DETAILS_OUTPUT_LIMIT = 64 * 1024;
+    private static final char STD_OUT_FRAME = 'O';
+    private static final char STD_ERR_FRAME = 'E';
+    private static final char EXIT_CODE_FRAME = 'X';
+
+    private final CmdExecutor fallbackExecutor;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final CmdExecutorProperties properties;
+    private final String launcherScript;
+
+    /**
+     * Launchers that are free to run a command.
+     */
+    private final BlockingQueue<Launcher> idleLaunchers = new LinkedBlockingQueue<>();
+
+    /**
+     * Permits to run a command, there is a permit for every launcher of the pool.
+     */
+    private final Semaphore launcherPermits;
+
+    public HelperCmdExecutor(final CmdExecutor fallbackExecutor, final ScheduledExecutorService timeoutScheduler,
+                             final CmdExecutorProperties properties) {
+        this.fallbackExecutor = fallbackExecutor;
+        this.timeoutScheduler = timeoutScheduler;
+        this.properties = properties;
+        this.launcherScript = loadLauncherScript();
+        this.launcherPermits = new Semaphore(properties.getHelper().getPoolSize(), true);
+    }
+
+    @Override
+    public CommandResult execute(final String... arguments) {
+        return executeWithTimeout(properties.resolveTimeout(CommandArgUtils.getCommandName(arguments)), arguments);
+    }
+
+    @Override
+    public CommandResult executeWithTimeout(final Duration timeout, final String... arguments) {
+        if (!isFramable(arguments)) {
+            return fallbackExecutor.executeWithTimeout(timeout, arguments);
+        }
+        final OutputCollector stdOutCollector = new OutputCollector(properties.getOutput(),
+                CommandArgUtils.getCommandName(arguments));
+        final ParsedCommandResult<List<String>> result;
+        try {
+            result = run(timeout, output -> OutputCollector.readLines(output, stdOutCollector), arguments);
+        } catch (final RuntimeException e) {
+            stdOutCollector.close();
+            throw e;
+        }
+        final List<String> stdOut = result.getOutput() == null ? result.getStdOut() : result.getOutput();
+        return new CommandResult(stdOut, result.getExitCode(), result.getStdErr());
+    }
+
+    /**
+     * Executes the command by the fallback executor, the launchers don't pass the standard input to the commands.
+     */
+    @Override
+    public CommandResult executeWithInput(final String input, final String... arguments) {
+        return fallbackExecutor.executeWithInput(input, arguments);
+    }
+
+    @Override
+    public <T> ParsedCommandResult<T> executeStreaming(final CommandOutputParser<T> parser,
+                                                       final String... arguments) {
+        if (!isFramable(arguments)) {
+            return fallbackExecutor.executeStreaming(parser, arguments);
+        }
+        return run(properties.resolveTimeout(CommandArgUtils.getCommandName(arguments)), parser, arguments);
+    }
+
+    /**
+     * Kills all idle launchers, a launcher that is running a command is killed once it's released.
+     */
+    @Override
+    public void close() {
+        Launcher launcher;
+        while ((launcher = idleLaunchers.poll()) != null) {
+            launcher.close();
+        }
+    }
+
+    private <T> ParsedCommandResult<T> run(final Duration timeout, final CommandOutputParser<T> parser,
+                                           final String... arguments) {
+        acquirePermit(arguments);
+        Launcher launcher = null;
+        SimpleCmdExecutor.ProcessWatchdog watchdog = null;
+        boolean reusable = false;
+        final OutputCollector stdErr = new OutputCollector(properties.getOutput(),
+                CommandArgUtils.getCommandName(arguments));
+        final ParsedCommandResult<T> result;
+        RuntimeException parsingError = null;
+        try {
+            launcher = borrowLauncher();
+            watchdog = SimpleCmdExecutor.ProcessWatchdog.start(launcher.process, timeout, timeoutScheduler);
+            launcher.send(properties.getOutput().resolveHardLimit(CommandArgUtils.getCommandName(arguments))
+                    .toBytes(), arguments);
+
+            final StdOutFrameReader frameReader = new StdOutFrameReader(launcher.frames);
+            final SimpleCmdExecutor.HeadCapturingReader stdOut =
+                    new SimpleCmdExecutor.HeadCapturingReader(frameReader, FAILURE_DETAILS_OUTPUT_LIMIT,
+                            properties.getOutput().resolveHardLimit(CommandArgUtils.getCommandName(arguments))
+                                    .toBytes());
+            final BufferedReader reader = new BufferedReader(stdOut);
+            T output = null;
+            try {
+                output = parser.parse(reader);
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            } catch (final RuntimeException e) {
+                parsingError = e;
+            }
+            reader.transferTo(Writer.nullWriter());
+
+            final Integer exitCode = readErrorFrames(launcher, frameReader.getTerminatingFrame(), stdErr);
+            // the launcher may write a few frames of the killed command before it is killed itself
+            if (watchdog.isFired()) {
+                throw timeoutException(timeout, arguments, stdOut.getCapturedLines(), stdErr.snapshot());
+            }
+            if (exitCode == null) {
+                throw new IOException("The command launcher exited unexpectedly");
+            }
+            result = new ParsedCommandResult<>(output, exitCode, stdOut.getCapturedLines(), stdErr.finish());
+            reusable = true;
+        } catch (final CommandTimeoutException e) {
+            stdErr.close();
+            throw e;
+        } catch (final OutputLimitExceededException e) {
+            stdErr.close();
+            throw e.toGridEngineException(arguments);
+        } catch (final IOException | RuntimeException e) {
+            stdErr.close();
+            if (watchdog != null && watchdog.isFired()) {
+                throw timeoutException(timeout, arguments, List.of(), List.of());
+            }
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while reading output of the command: " + String.join(SPACE, arguments), e);
+        } finally {
+            if (watchdog != null) {
+                watchdog.cancel();
+            }
+            releaseLauncher(launcher, reusable);
+        }
+        if (parsingError != null && result.getExitCode() == 0) {
+            throw parsingError;
+        }
+        return result;
+    }
+
+    /**
+     * Reads the standard error frames up to the exit code frame.
+     *
+     * @return The exit code of the command, null if the launcher exited before the command completed.
+     */
+    private static Integer readErrorFrames(final Launcher launcher, final String firstFrame,
+                                           final OutputCollector stdErr) throws IOException {
+        String frame = firstFrame;
+        while (frame != null) {
+            if (frame.isEmpty()) {
+                throw new IOException("Unexpected empty frame of the command launcher");
+            }
+            switch (frame.charAt(0)) {
+                case STD_ERR_FRAME:
+                    stdErr.add(frame.substring(1));
+                    break;
+                case EXIT_CODE_FRAME:
+                    return Integer.valueOf(frame.substring(1));
+                default:
+                    throw new IOException("Unexpected frame of the command launcher: " + frame);
+            }
+            frame = launcher.frames.readFrame();
+        }
+        return null;
+    }
+
+    private void acquirePermit(final String... arguments) {
+        try {
+            launcherPermits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while executing the command: " + String.join(SPACE, arguments), e);
+        }
+    }
+
+    private Launcher borrowLauncher() throws IOException {
+        Launcher launcher;
+        while ((launcher = idleLaunchers.poll()) != null) {
+            if (launcher.process.isAlive()) {
+                return launcher;
+            }
+            launcher.close();
+        }
+        return Launcher.start(launcherScript);
+    }
+
+    private void releaseLauncher(final Launcher launcher, final boolean reusable) {
+        try {
+            if (launcher != null) {
+                if (reusable) {
+                    idleLaunchers.add(launcher);
+                } else {
+                    launcher.close();
+                }
+            }
+        } finally {
+            launcherPermits.release();
+        }
+    }
+
+    private static boolean isFramable(final String... arguments) {
+        return arguments.length > 0 && Arrays.stream(arguments)
+                .noneMatch(argument -> argument.indexOf('\n') >= 0 || argument.indexOf('\r') >= 0);
+    }
+
+    private static CommandTimeoutException timeoutException(final Duration timeout, final String[] arguments,
+                                                            final List<String> stdOut, final List<String> stdErr) {
+        final CommandResult partialResult = new CommandResult(new ArrayList<>(stdOut), -1, new ArrayList<>(stdErr));
+        final StringBuilder message = new StringBuilder(String.format(COMMAND_TIMED_OUT, timeout.toMillis(),
+                String.join(SPACE, arguments)));
+        if (!stdErr.isEmpty()) {
+            message.append(NEW_LINE_DELIMITER).append(String.join(NEW_LINE_DELIMITER, stdErr));
+        }
+        return new CommandTimeoutException(message.toString(), partialResult);
+    }
+
+    private static String loadLauncherScript() {
+        try (InputStream script = HelperCmdExecutor.class.getResourceAsStream(LAUNCHER_SCRIPT)) {
+            if (script == null) {
+                throw new IllegalStateException("The command launcher script isn't found: " + LAUNCHER_SCRIPT);
+            }
+            return new String(script.readAllBytes(), Charset.defaultCharset());
+        } catch (final IOException e) {
+            throw new IllegalStateException("Cannot read the command launcher script: " + LAUNCHER_SCRIPT, e);
+        }
+    }
+
+    /**
+     * A running launcher process with the temporary files where it keeps the standard error
+     * and the exit code of the current command.
+     */
+    private static final class Launcher implements Closeable {
+        private final Process process;
+        private final Writer requests;
+        private final FrameReader frames;
+        private final Path errFile;
+        private final Path exitCodeFile;
+
+        private Launcher(final Process process, final Path errFile, final Path exitCodeFile) {
+            this.process = process;
+            this.requests = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+            this.frames = new FrameReader(new InputStreamReader(process.getInputStream()));
+            this.errFile = errFile;
+            this.exitCodeFile = exitCodeFile;
+        }
+
+        static Launcher start(final String script) throws IOException {
+            final Path errFile = Files.createTempFile(LAUNCHER_NAME, ".err");
+            final Path exitCodeFile = Files.createTempFile(LAUNCHER_NAME, ".code");
+            try {
+                final Process process = new ProcessBuilder(SHELL, "-c", script, LAUNCHER_NAME,
+                        errFile.toString(), exitCodeFile.toString())
+                        .redirectError(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+                return new Launcher(process, errFile, exitCodeFile);
+            } catch (final IOException e) {
+                Files.deleteIfExists(errFile);
+                Files.deleteIfExists(exitCodeFile);
+                throw e;
+            }
+        }
+
+        void send(final long stdErrLimit, final String... arguments) throws IOException {
+            requests.write(Integer.toString(arguments.length));
+            requests.write(NEW_LINE_DELIMITER);
+            requests.write(Long.toString(stdErrLimit));
+            requests.write(NEW_LINE_DELIMITER);
+            for (final String argument : arguments) {
+                requests.write(argument);
+                requests.write(NEW_LINE_DELIMITER);
+            }
+            requests.flush();
+        }
+
+        @Override
+        public void close() {
+            SimpleCmdExecutor.ProcessWatchdog.destroyProcessTree(process);
+            try {
+                Files.deleteIfExists(errFile);
+                Files.deleteIfExists(exitCodeFile);
+            } catch (final IOException e) {
+                log.warn("Cannot delete temporary files of the command launcher", e);
+            }
+        }
+    }
+
+    /**
+     * Exposes the standard output frames of a single command as a plain character stream,
+     * the stream ends at the first frame of another kind.
+     */
+    private static final class StdOutFrameReader extends Reader {
+        private final FrameReader frames;
+        private String line;
+        private int position;
+        private String terminatingFrame;
+        private boolean finished;
+
+        private StdOutFrameReader(final FrameReader frames) {
+            this.frames = frames;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!nextLine()) {
+                return -1;
+            }
+            final int count = Math.min(length, line.length() - position);
+            line.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        private boolean nextLine() throws IOException {
+            while (!finished && (line == null || position == line.length())) {
+                final String frame = frames.readFrame();
+                if (frame != null && !frame.isEmpty() && frame.charAt(0) == STD_OUT_FRAME) {
+                    line = frame.substring(1) + NEW_LINE_DELIMITER;
+                    position = 0;
+                } else {
+                    terminatingFrame = frame;
+                    finished = true;
+                }
+            }
+            return !finished;
+        }
+
+        String getTerminatingFrame() {
+            return terminatingFrame;
+        }
+
+        /**
+         * The frames belong to the launcher, they must stay open for the next command.
+         */
+        @Override
+        public void close() {
+            finished = true;
+        }
+    }
+
+    /**
+     * Reads the frames of a launcher. The frames are separated by line feeds only, unlike
+     * {@link BufferedReader#readLine()} a carriage return is kept as a part of the frame.
+     */
+    private static final class FrameReader {
+        private static final int BUFFER_SIZE = 8192;
+        private static final char FRAME_DELIMITER = '\n';
+
+        private final Reader input;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        FrameReader(final Reader input) {
+            this.input = input;
+        }
+
+        /**
+         * Reads the next frame.
+         *
+         * @return The frame without its delimiter, null if the launcher closed its output.
+         * @throws IOException if the output of the launcher can't be read.
+         */
+        String readFrame() throws IOException {
+            StringBuilder frame = null;
+            while (true) {
+                if (position == limit) {
+                    limit = input.read(buffer);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        return frame == null ? null : frame.toString();
+                    }
+                }
+                for (int i = position; i < limit; i++) {
+                    if (buffer[i] == FRAME_DELIMITER) {
+                        final String tail = new String(buffer, position, i - position);
+                        position = i + 1;
+                        return frame == null ? tail : frame.append(tail).toString();
+                    }
+                }
+                if (frame == null) {
+                    frame = new StringBuilder();
+                }
+                frame.append(buffer, position, limit - position);
+                position = limit;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.cmd;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reads the collected output lines as a stream of characters, every line is followed by a line break.
+ * The lines are iterated lazily, so the output backed by a temporary file isn't loaded into memory.
+ */
+final class LinesReader extends Reader {
+
+    private static final char LINE_BREAK = '\n';
+
+    private final Iterator<String> lines;
+    private String line;
+    private int position;
+
+    LinesReader(final List<String> lines) {
+        this.lines = lines.iterator();
+    }
+
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (line == null || position > line.length()) {
+            if (!lines.hasNext()) {
+                return -1;
+            }
+            line = lines.next();
+            position = 0;
+        }
+        if (position == line.length()) {
+            buffer[offset] = LINE_BREAK;
+            position++;
+            return 1;
+        }
+        final int count = Math.min(length, line.length() - position);
+        line.getChars(position, position + count, buffer, offset);
+        position += count;
+        return count;
+    }
+
+    /**
+     * Closes the iterator of the lines, so a temporary file isn't kept open if the output wasn't read till the end.
+     */
+    @Override
+    public void close() throws IOException {
+        if (lines instanceof Closeable) {
+            ((Closeable) lines).close();
+        }
+    }
+}
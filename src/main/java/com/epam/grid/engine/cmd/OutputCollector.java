@@ -0,0 +1,128 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the output lines of a command. The lines are kept in memory until their estimated heap size
+ * exceeds the memory limit, then they are moved to a temporary file and the following lines are appended
+ * to it. The collection is aborted once the whole output exceeds the hard limit.
+ *
+ * @see SpilledLines
+ */
+final class OutputCollector implements Closeable {
+
+    /**
+     * The approximate heap size of a line besides its characters: the string, its array and the list slot.
+     */
+    private static final int LINE_OVERHEAD_BYTES = 64;
+
+    private final long memoryLimit;
+    private final long hardLimit;
+    private final Path spillFolder;
+    private final String spillPrefix;
+    private List<String> lines = new ArrayList<>();
+    private long memorySize;
+    private long outputSize;
+    private SpilledLines.Writer spill;
+
+    OutputCollector(final CmdExecutorProperties.Output settings, final String commandName) {
+        this.memoryLimit = settings.resolveMemoryLimit(commandName).toBytes();
+        this.hardLimit = settings.resolveHardLimit(commandName).toBytes();
+        this.spillFolder = settings.resolveSpillFolder();
+        this.spillPrefix = "cmd-" + commandName + "-";
+    }
+
+    /**
+     * Reads all lines of the output.
+     *
+     * @param output    The output of a command.
+     * @param collector The collector of the lines.
+     * @return The lines of the output, they are backed by a temporary file if the output is large.
+     * @throws OutputLimitExceededException if the output exceeds its hard limit.
+     * @throws IOException if the output can't be read or spilled.
+     */
+    static List<String> readLines(final BufferedReader output, final OutputCollector collector)
+            throws IOException {
+        String line;
+        while ((line = output.readLine()) != null) {
+            collector.add(line);
+        }
+        return collector.finish();
+    }
+
+    synchronized void add(final String line) throws IOException {
+        outputSize += line.length() + 1;
+        if (hardLimit > 0 && outputSize > hardLimit) {
+            throw new OutputLimitExceededException(hardLimit);
+        }
+        if (spill != null) {
+            spill.write(line);
+            return;
+        }
+        lines.add(line);
+        memorySize += 2L * line.length() + LINE_OVERHEAD_BYTES;
+        if (memoryLimit > 0 && memorySize > memoryLimit) {
+            spill = new SpilledLines.Writer(spillFolder, spillPrefix);
+            for (final String collectedLine : lines) {
+                spill.write(collectedLine);
+            }
+            lines = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the collected lines, nothing can be added afterwards.
+     */
+    synchronized List<String> finish() throws IOException {
+        if (spill == null) {
+            return lines;
+        }
+        final SpilledLines spilledLines = spill.finish();
+        spill = null;
+        return spilledLines;
+    }
+
+    /**
+     * Returns a copy of the lines that are kept in memory, it describes a failed command
+     * while the output is still being collected. Spilled lines aren't included.
+     */
+    synchronized List<String> snapshot() {
+        return new ArrayList<>(lines);
+    }
+
+    /**
+     * Discards the collected lines and deletes the temporary file.
+     */
+    @Override
+    public synchronized void close() {
+        if (spill != null) {
+            spill.close();
+            spill = null;
+        }
+        lines = new ArrayList<>();
+    }
+}
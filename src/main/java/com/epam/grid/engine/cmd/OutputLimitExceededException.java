@@ -0,0 +1,54 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.exception.GridEngineException;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+import static com.epam.grid.engine.utils.TextConstants.SPACE;
+
+/**
+ * Signals that the output of a command exceeds its hard limit, the command must be killed.
+ */
+final class OutputLimitExceededException extends IOException {
+
+    private static final long serialVersionUID = -2412839155823045172L;
+
+    private final long limit;
+
+    OutputLimitExceededException(final long limit) {
+        super("The command output exceeds " + limit + " bytes");
+        this.limit = limit;
+    }
+
+    /**
+     * Describes the failure of the command for the client.
+     *
+     * @param arguments The command's structure.
+     * @return The exception to be thrown to the client.
+     */
+    GridEngineException toGridEngineException(final String... arguments) {
+        return new GridEngineException(HttpStatus.INSUFFICIENT_STORAGE,
+                String.format("The output of the command exceeds the limit of %d bytes, the command was killed: %s",
+                        limit, String.join(SPACE, arguments)), this);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandRecording;
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This executor stores every completed execution of the delegate executor to the fixture folder:
+ * the compiled arguments, the output, the exit code and the execution time. The recordings can be
+ * served later by {@link ReplayCmdExecutor} without a grid engine. The executions that fail with
+ * an exception, e.g. timed out ones, are not recorded.
+ */
+@Slf4j
+public class RecordingCmdExecutor implements CmdExecutor {
+
+    private final CmdExecutor delegate;
+    private final CommandFixtures fixtures;
+
+    public RecordingCmdExecutor(final CmdExecutor delegate, final CmdExecutorProperties.Fixtures settings,
+                                final ObjectMapper objectMapper) {
+        this.delegate = delegate;
+        this.fixtures = new CommandFixtures(Paths.get(settings.getFolder()), objectMapper);
+    }
+
+    @Override
+    public CommandResult execute(final String... arguments) {
+        final long start = System.nanoTime();
+        return record(delegate.execute(arguments), start, arguments);
+    }
+
+    @Override
+    public CommandResult executeWithTimeout(final Duration timeout, final String... arguments) {
+        final long start = System.nanoTime();
+        return record(delegate.executeWithTimeout(timeout, arguments), start, arguments);
+    }
+
+    /**
+     * Executes the command with the input and records its result, the input itself isn't recorded.
+     */
+    @Override
+    public CommandResult executeWithInput(final String input, final String... arguments) {
+        final long start = System.nanoTime();
+        return record(delegate.executeWithInput(input, arguments), start, arguments);
+    }
+
+    /**
+     * Executes the command and parses its output, the output is collected as a whole to be recorded.
+     */
+    @Override
+    public <T> ParsedCommandResult<T> executeStreaming(final CommandOutputParser<T> parser,
+                                                       final String... arguments) {
+        return CmdExecutor.super.executeStreaming(parser, arguments);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(final String... arguments) {
+        final long start = System.nanoTime();
+        return delegate.executeAsync(arguments).thenApply(result -> record(result, start, arguments));
+    }
+
+    private CommandResult record(final CommandResult result, final long start, final String... arguments) {
+        final CommandRecording recording = CommandRecording.builder()
+                .arguments(List.of(arguments))
+                .exitCode(result.getExitCode())
+                .stdOut(result.getStdOut())
+                .stdErr(result.getStdErr())
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+        try {
+            fixtures.write(recording);
+        } catch (final RuntimeException e) {
+            log.warn("The execution of the command {} isn't recorded", CommandArgUtils.getCommandName(arguments), e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandRecording;
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.epam.grid.engine.utils.TextConstants.SPACE;
+
+/**
+ * This executor never starts processes, it serves the executions recorded by {@link RecordingCmdExecutor}
+ * to the fixture folder. A command is served only if a command with exactly the same arguments was recorded,
+ * otherwise it fails as a command that can't be executed. The recordings are loaded once and kept in memory.
+ *
+ * <p> If the latency is replayed, the result is returned after the recorded execution time,
+ * the command timeouts are not applied to the replayed executions.
+ */
+public class ReplayCmdExecutor implements CmdExecutor {
+
+    private final CommandFixtures fixtures;
+    private final boolean replayLatency;
+    private final ConcurrentMap<List<String>, CommandRecording> recordings = new ConcurrentHashMap<>();
+
+    public ReplayCmdExecutor(final CmdExecutorProperties.Fixtures settings, final ObjectMapper objectMapper) {
+        this.fixtures = new CommandFixtures(Paths.get(settings.getFolder()), objectMapper);
+        this.replayLatency = settings.isReplayLatency();
+    }
+
+    @Override
+    public CommandResult execute(final String... arguments) {
+        final CommandRecording recording = findRecording(arguments);
+        if (replayLatency) {
+            awaitLatency(recording, arguments);
+        }
+        return toResult(recording);
+    }
+
+    @Override
+    public CommandResult executeWithTimeout(final Duration timeout, final String... arguments) {
+        return execute(arguments);
+    }
+
+    /**
+     * Returns the recorded execution of the command, the input isn't compared since it isn't recorded.
+     */
+    @Override
+    public CommandResult executeWithInput(final String input, final String... arguments) {
+        return execute(arguments);
+    }
+
+    /**
+     * Returns the recorded execution without blocking the calling thread, the replayed latency
+     * is awaited by a delayed executor.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(final String... arguments) {
+        final CommandRecording recording;
+        try {
+            recording = findRecording(arguments);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (!replayLatency || recording.getDurationMillis() <= 0) {
+            return CompletableFuture.completedFuture(toResult(recording));
+        }
+        return CompletableFuture.supplyAsync(() -> toResult(recording), CompletableFuture.delayedExecutor(
+                recording.getDurationMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private CommandRecording findRecording(final String... arguments) {
+        final List<String> command = List.of(arguments);
+        final CommandRecording cached = recordings.get(command);
+        if (cached != null) {
+            return cached;
+        }
+        final Optional<CommandRecording> recording = fixtures.read(arguments);
+        if (recording.isEmpty()) {
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "The execution of the command isn't recorded: " + String.join(SPACE, arguments));
+        }
+        recordings.putIfAbsent(command, recording.get());
+        return recording.get();
+    }
+
+    private static void awaitLatency(final CommandRecording recording, final String... arguments) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(recording.getDurationMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while executing the command: " + String.join(SPACE, arguments), e);
+        }
+    }
+
+    /**
+     * Every caller gets its own result object, the recorded output lines are shared and can't be modified.
+     */
+    private static CommandResult toResult(final CommandRecording recording) {
+        return new CommandResult(unmodifiable(recording.getStdOut()), recording.getExitCode(),
+                unmodifiable(recording.getStdErr()));
+    }
+
+    private static List<String> unmodifiable(final List<String> lines) {
+        return lines == null ? Collections.emptyList() : Collections.unmodifiableList(lines);
+    }
+}
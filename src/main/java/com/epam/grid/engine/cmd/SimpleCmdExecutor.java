@@ -20,86 +20,557 @@
 package com.epam.grid.engine.cmd;
 
 import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.CommandTimeoutException;
 import com.epam.grid.engine.exception.GridEngineException;
-import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedReader;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 
+import static com.epam.grid.engine.CmdExecutorConfiguration.COMMAND_TIMEOUT_SCHEDULER;
+import static com.epam.grid.engine.CmdExecutorConfiguration.OUTPUT_READER_EXECUTOR;
+import static com.epam.grid.engine.utils.TextConstants.NEW_LINE_DELIMITER;
 import static com.epam.grid.engine.utils.TextConstants.SPACE;
 
+@Slf4j
 @Component
 public class SimpleCmdExecutor implements CmdExecutor {
 
+    private static final String OUTPUT_READERS_ARE_EXHAUSTED =
+            "Too many commands are being executed at the moment, unable to read output of the command: ";
+    private static final String COMMAND_TIMED_OUT = "The command didn't complete within %d ms and was killed: %s";
+    private static final long KILLED_PROCESS_DRAIN_MILLIS = 1000;
+    private static final int FAILURE_DETAILS_OUTPUT_LIMIT = 64 * 1024;
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n");
+
+    /**
+     * The application-wide pool that drains output streams of the executed commands.
+     */
+    private final ExecutorService outputReaderExecutor;
+
+    /**
+     * The scheduler that kills commands which don't complete in time.
+     */
+    private final ScheduledExecutorService timeoutScheduler;
+
+    private final CmdExecutorProperties properties;
+
+    public SimpleCmdExecutor(@Qualifier(OUTPUT_READER_EXECUTOR) final ExecutorService outputReaderExecutor,
+                             @Qualifier(COMMAND_TIMEOUT_SCHEDULER) final ScheduledExecutorService timeoutScheduler,
+                             final CmdExecutorProperties properties) {
+        this.outputReaderExecutor = outputReaderExecutor;
+        this.timeoutScheduler = timeoutScheduler;
+        this.properties = properties;
+    }
+
     @Override
     public CommandResult execute(final String... arguments) {
+        return executeWithTimeout(properties.resolveTimeout(CommandArgUtils.getCommandName(arguments)), arguments);
+    }
+
+    /**
+     * Executes the command and collects its output. The output that exceeds the memory limit of the command
+     * is kept in a temporary file, the command is killed if its output exceeds the hard limit.
+     */
+    @Override
+    public CommandResult executeWithTimeout(final Duration timeout, final String... arguments) {
+        return collect(timeout, null, arguments);
+    }
+
+    /**
+     * Executes the command and collects its output, the input is written to the standard input
+     * before the output is read, so it's meant for small inputs such as entity descriptions.
+     */
+    @Override
+    public CommandResult executeWithInput(final String input, final String... arguments) {
+        return collect(properties.resolveTimeout(CommandArgUtils.getCommandName(arguments)), input, arguments);
+    }
+
+    private CommandResult collect(final Duration timeout, final String input, final String... arguments) {
+        final OutputCollector stdOutCollector = new OutputCollector(properties.getOutput(),
+                CommandArgUtils.getCommandName(arguments));
+        final ParsedCommandResult<List<String>> result;
+        try {
+            result = run(timeout, input, output -> OutputCollector.readLines(output, stdOutCollector), arguments);
+        } catch (final RuntimeException e) {
+            stdOutCollector.close();
+            throw e;
+        }
+        final List<String> stdOut = result.getOutput() == null ? result.getStdOut() : result.getOutput();
+        return new CommandResult(stdOut, result.getExitCode(), result.getStdErr());
+    }
+
+    /**
+     * Executes the command and parses its standard output as it is written. The output read by the parser
+     * isn't collected, only its beginning is kept to describe a failure of the command.
+     */
+    @Override
+    public <T> ParsedCommandResult<T> executeStreaming(final CommandOutputParser<T> parser,
+                                                       final String... arguments) {
+        return run(properties.resolveTimeout(CommandArgUtils.getCommandName(arguments)), null, parser, arguments);
+    }
+
+    /**
+     * Starts the command and returns at once, the process exit is awaited by {@link Process#onExit()}.
+     * The standard output is drained by the shared pool into a collector bounded by the output limits
+     * of the command. The standard error is redirected to a temporary file that is read once the process
+     * exits, so a command takes a single pooled reader as the synchronous executions do.
+     */
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(final String... arguments) {
+        final String commandName = CommandArgUtils.getCommandName(arguments);
+        final Duration timeout = properties.resolveTimeout(commandName);
+        final OutputCollector stdOutCollector = new OutputCollector(properties.getOutput(), commandName);
+        final OutputCollector stdErrCollector = new OutputCollector(properties.getOutput(), commandName);
+        Process process = null;
+        Path stdErrFile = null;
+        try {
+            stdErrFile = Files.createTempFile(properties.getOutput().resolveSpillFolder(),
+                    "cmd-" + commandName + "-", ".err");
+            process = new ProcessBuilder(arguments)
+                    .redirectError(stdErrFile.toFile())
+                    .start();
+            final ProcessWatchdog watchdog = ProcessWatchdog.start(process, timeout, timeoutScheduler);
+            final Process startedProcess = process;
+            final Path startedProcessErrFile = stdErrFile;
+            final CompletableFuture<List<String>> stdOut = CompletableFuture.supplyAsync(
+                    () -> readStream(startedProcess, startedProcess.getInputStream(), stdOutCollector),
+                    outputReaderExecutor);
+            return CompletableFuture.allOf(stdOut, process.onExit())
+                    .handle((ignored, error) -> {
+                        final List<String> stdErr;
+                        try {
+                            stdErr = readErrorFile(startedProcessErrFile, stdErrCollector, arguments);
+                        } catch (final GridEngineException e) {
+                            watchdog.cancel();
+                            stdOutCollector.close();
+                            throw e;
+                        }
+                        return completeAsync(startedProcess, watchdog, linesOf(stdOut), stdErr, error, timeout,
+                                arguments);
+                    });
+        } catch (final RejectedExecutionException e) {
+            discard(process, stdOutCollector, stdErrCollector);
+            deleteFile(stdErrFile);
+            return CompletableFuture.failedFuture(new GridEngineException(HttpStatus.SERVICE_UNAVAILABLE,
+                    OUTPUT_READERS_ARE_EXHAUSTED + String.join(SPACE, arguments), e));
+        } catch (final IOException | RuntimeException e) {
+            discard(process, stdOutCollector, stdErrCollector);
+            deleteFile(stdErrFile);
+            return CompletableFuture.failedFuture(new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while executing the command: " + String.join(SPACE, arguments), e));
+        }
+    }
+
+    private static CommandResult completeAsync(final Process process, final ProcessWatchdog watchdog,
+                                               final List<String> stdOut, final List<String> stdErr,
+                                               final Throwable error, final Duration timeout,
+                                               final String... arguments) {
+        watchdog.cancel();
+        if (watchdog.isFired()) {
+            throw timeoutException(timeout, arguments, stdOut, -1, stdErr);
+        }
+        final OutputLimitExceededException limitExceeded = findLimitExceeded(error);
+        if (limitExceeded != null) {
+            throw limitExceeded.toGridEngineException(arguments);
+        }
+        if (error != null) {
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while reading output of the command: "
+                            + String.join(SPACE, arguments), unwrap(error));
+        }
+        return new CommandResult(stdOut, process.exitValue(), stdErr);
+    }
+
+    /**
+     * Reads the standard error that the exited process wrote to the file, the file is deleted afterwards.
+     */
+    private static List<String> readErrorFile(final Path file, final OutputCollector collector,
+                                              final String... arguments) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(file)))) {
+            return OutputCollector.readLines(reader, collector);
+        } catch (final OutputLimitExceededException e) {
+            collector.close();
+            throw e.toGridEngineException(arguments);
+        } catch (final IOException e) {
+            collector.close();
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while reading output of the command: " + String.join(SPACE, arguments), e);
+        } finally {
+            deleteFile(file);
+        }
+    }
+
+    private static void deleteFile(final Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            log.warn("Cannot delete the temporary file {}", file, e);
+        }
+    }
+
+    /**
+     * Returns the lines read from a stream, a failed reader contributes no lines.
+     */
+    private static List<String> linesOf(final CompletableFuture<List<String>> reader) {
+        return reader.isCompletedExceptionally() ? new ArrayList<>() : reader.join();
+    }
+
+    private <T> ParsedCommandResult<T> run(final Duration timeout, final String input,
+                                           final CommandOutputParser<T> parser, final String... arguments) {
         final ProcessBuilder processBuilder = new ProcessBuilder();
         processBuilder.command(arguments);
         Process process = null;
+        AsyncOutputReader asyncOutputReader = null;
+        ProcessWatchdog watchdog = null;
+        HeadCapturingReader stdOut = null;
+        final OutputCollector stdErr = new OutputCollector(properties.getOutput(),
+                CommandArgUtils.getCommandName(arguments));
+        final ParsedCommandResult<T> result;
+        RuntimeException parsingError = null;
         try {
             process = processBuilder.start();
+            watchdog = ProcessWatchdog.start(process, timeout, timeoutScheduler);
 
-            final AsyncOutputReader asyncOutputReader = new AsyncOutputReader(process);
-            final List<String> stdOut = new ArrayList<>();
-            final List<String> stdErr = new ArrayList<>();
-            asyncOutputReader.readLinesToLists(stdOut, stdErr);
+            asyncOutputReader = new AsyncOutputReader(process, outputReaderExecutor);
+            asyncOutputReader.readErrorLines(stdErr);
+            if (input != null) {
+                writeInput(process, input);
+            }
+            stdOut = new HeadCapturingReader(new InputStreamReader(process.getInputStream()),
+                    FAILURE_DETAILS_OUTPUT_LIMIT, properties.getOutput().resolveHardLimit(
+                            CommandArgUtils.getCommandName(arguments)).toBytes());
+            T output = null;
+            try (BufferedReader reader = new BufferedReader(stdOut)) {
+                try {
+                    output = parser.parse(reader);
+                } catch (final UncheckedIOException e) {
+                    throw e.getCause();
+                } catch (final RuntimeException e) {
+                    parsingError = e;
+                }
+                reader.transferTo(Writer.nullWriter());
+            }
             final int exitCode = process.waitFor();
-            asyncOutputReader.shutdown();
+            if (watchdog.isFired()) {
+                asyncOutputReader.awaitCompletion(KILLED_PROCESS_DRAIN_MILLIS);
+                throw timeoutException(timeout, arguments, stdOut.getCapturedLines(), exitCode, stdErr.snapshot());
+            }
+            asyncOutputReader.awaitCompletion();
 
-            return new CommandResult(stdOut, exitCode, stdErr);
-        } catch (final InterruptedException | ExecutionException e) {
+            result = new ParsedCommandResult<>(output, exitCode, stdOut.getCapturedLines(), stdErr.finish());
+        } catch (final RejectedExecutionException e) {
+            throw new GridEngineException(HttpStatus.SERVICE_UNAVAILABLE,
+                    OUTPUT_READERS_ARE_EXHAUSTED + String.join(SPACE, arguments), e);
+        } catch (final OutputLimitExceededException e) {
+            stdErr.close();
+            ProcessWatchdog.destroyProcessTree(process);
+            throw e.toGridEngineException(arguments);
+        } catch (final ExecutionException e) {
+            stdErr.close();
+            final OutputLimitExceededException limitExceeded = findLimitExceeded(e);
+            if (limitExceeded != null) {
+                throw limitExceeded.toGridEngineException(arguments);
+            }
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Something went wrong while executing the command: " + String.join(SPACE, arguments), e);
+        } catch (final InterruptedException e) {
+            stdErr.close();
             Thread.currentThread().interrupt();
             throw new GridEngineException(HttpStatus.NOT_FOUND,
                     "Something went wrong while executing the command: " + String.join(SPACE, arguments), e);
+        } catch (final CommandTimeoutException e) {
+            stdErr.close();
+            throw e;
         } catch (final RuntimeException | IOException e) {
+            final List<String> stdErrLines = stdErr.snapshot();
+            stdErr.close();
+            if (watchdog != null && watchdog.isFired()) {
+                throw timeoutException(timeout, arguments, stdOut == null ? List.of() : stdOut.getCapturedLines(),
+                        -1, stdErrLines);
+            }
             throw new GridEngineException(HttpStatus.NOT_FOUND,
                     "Something went wrong while reading output of the command: " + String.join(SPACE, arguments), e);
         } finally {
+            if (watchdog != null) {
+                watchdog.cancel();
+            }
             if (process != null && process.isAlive()) {
                 process.destroy();
             }
+            if (asyncOutputReader != null) {
+                asyncOutputReader.release();
+            }
+        }
+        if (parsingError != null && result.getExitCode() == 0) {
+            throw parsingError;
+        }
+        return result;
+    }
+
+    /**
+     * Reads an output stream of the process, the process is killed if its output exceeds the hard limit.
+     */
+    private static List<String> readStream(final Process process, final InputStream stream,
+                                           final OutputCollector collector) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+            return OutputCollector.readLines(reader, collector);
+        } catch (final OutputLimitExceededException e) {
+            collector.close();
+            ProcessWatchdog.destroyProcessTree(process);
+            throw new UncheckedIOException(e);
+        } catch (final IOException e) {
+            collector.close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInput(final Process process, final String input) throws IOException {
+        try (Writer writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write(input);
+        }
+    }
+
+    private static OutputLimitExceededException findLimitExceeded(final Throwable error) {
+        Throwable cause = error;
+        while (cause != null && !(cause instanceof OutputLimitExceededException)) {
+            cause = cause.getCause();
+        }
+        return (OutputLimitExceededException) cause;
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static void discard(final Process process, final OutputCollector... collectors) {
+        if (process != null && process.isAlive()) {
+            process.destroy();
+        }
+        for (final OutputCollector collector : collectors) {
+            collector.close();
+        }
+    }
+
+    private static CommandTimeoutException timeoutException(final Duration timeout, final String[] arguments,
+                                                            final List<String> stdOut, final int exitCode,
+                                                            final List<String> stdErr) {
+        final CommandResult partialResult = new CommandResult(copyOf(stdOut), exitCode, copyOf(stdErr));
+        final StringBuilder message = new StringBuilder(String.format(COMMAND_TIMED_OUT, timeout.toMillis(),
+                String.join(SPACE, arguments)));
+        if (!partialResult.getStdErr().isEmpty()) {
+            message.append(NEW_LINE_DELIMITER).append(String.join(NEW_LINE_DELIMITER, partialResult.getStdErr()));
+        }
+        return new CommandTimeoutException(message.toString(), partialResult);
+    }
+
+    private static List<String> copyOf(final List<String> lines) {
+        synchronized (lines) {
+            return new ArrayList<>(lines);
+        }
+    }
+
+    /**
+     * Kills the whole process tree of a command once its timeout expires. Descendants are killed as well,
+     * otherwise a child that inherited the output pipes would keep the command's streams open.
+     */
+    static final class ProcessWatchdog implements Runnable {
+        private final Process process;
+        private final AtomicBoolean fired = new AtomicBoolean();
+        private ScheduledFuture<?> scheduledKill;
+
+        private ProcessWatchdog(final Process process) {
+            this.process = process;
+        }
+
+        static ProcessWatchdog start(final Process process, final Duration timeout,
+                                     final ScheduledExecutorService scheduler) {
+            final ProcessWatchdog watchdog = new ProcessWatchdog(process);
+            if (!timeout.isZero() && !timeout.isNegative()) {
+                watchdog.scheduledKill = scheduler.schedule(watchdog, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return watchdog;
+        }
+
+        @Override
+        public void run() {
+            fired.set(true);
+            destroyProcessTree(process);
+        }
+
+        boolean isFired() {
+            return fired.get();
+        }
+
+        void cancel() {
+            if (scheduledKill != null) {
+                scheduledKill.cancel(false);
+            }
+        }
+
+        static void destroyProcessTree(final Process process) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
         }
     }
 
-    @AllArgsConstructor
+    /**
+     * Drains the standard error stream of a process by the shared pool while the standard output stream
+     * is read by the calling thread, so a single command never holds more than one pooled reader
+     * and can't wait for a reader of its own.
+     */
     static class AsyncOutputReader {
         private static final String CANNOT_READ_CMD_EXECUTION_RESULT = "Cannot read command execution result";
 
         private final Process process;
-        private final ExecutorService executorService = Executors.newFixedThreadPool(2);
-        private final List<Future<?>> futures = new ArrayList<>();
+        private final ExecutorService executorService;
+        private Future<?> errorReader;
+
+        AsyncOutputReader(final Process process, final ExecutorService executorService) {
+            this.process = process;
+            this.executorService = executorService;
+        }
 
-        public void readLinesToLists(final List<String> outLines, final List<String> errLines) {
-            futures.add(executorService.submit(() -> readOutputStream(process.getInputStream(), outLines)));
-            futures.add(executorService.submit(() -> readOutputStream(process.getErrorStream(), errLines)));
+        public void readErrorLines(final OutputCollector errLines) {
+            errorReader = executorService.submit(() -> readOutputStream(process.getErrorStream(), errLines));
         }
 
-        private void readOutputStream(final InputStream inputStream, final List<String> result) {
+        private void readOutputStream(final InputStream inputStream, final OutputCollector result) {
             try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                reader.lines().forEach(result::add);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    result.add(line);
+                }
+            } catch (final OutputLimitExceededException e) {
+                ProcessWatchdog.destroyProcessTree(process);
+                throw new UncheckedIOException(e);
             } catch (final IOException e) {
                 throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, CANNOT_READ_CMD_EXECUTION_RESULT, e);
             }
         }
 
-        public void shutdown() throws ExecutionException, InterruptedException {
+        public void awaitCompletion() throws ExecutionException, InterruptedException {
+            if (errorReader != null) {
+                errorReader.get();
+            }
+        }
+
+        /**
+         * Waits for the standard error reader of a killed process, the partial output is taken as it is
+         * if the stream isn't closed in time.
+         */
+        public void awaitCompletion(final long timeoutMillis) throws InterruptedException {
+            if (errorReader == null) {
+                return;
+            }
             try {
-                for (Future<?> future : futures) {
-                    future.get();
+                errorReader.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (final ExecutionException | TimeoutException e) {
+                release();
+            }
+        }
+
+        /**
+         * Withdraws the pooled reader if it is still queued or running, it is called on every exit path.
+         */
+        public void release() {
+            if (errorReader != null && !errorReader.isDone()) {
+                errorReader.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Keeps the beginning of the standard output while it is passed to a parser,
+     * so a failed command can be described without collecting its whole output.
+     * The reading fails once the output exceeds the hard limit, a zero limit disables the check.
+     */
+    static class HeadCapturingReader extends FilterReader {
+        private final StringBuilder head = new StringBuilder();
+        private final int limit;
+        private final long hardLimit;
+        private long outputSize;
+
+        HeadCapturingReader(final Reader reader, final int limit, final long hardLimit) {
+            super(reader);
+            this.limit = limit;
+            this.hardLimit = hardLimit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkHardLimit();
+            final int character = super.read();
+            if (character != -1) {
+                outputSize++;
+                if (head.length() < limit) {
+                    head.append((char) character);
                 }
-            } finally {
-                executorService.shutdown();
             }
+            return character;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) throws IOException {
+            checkHardLimit();
+            final int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                outputSize += count;
+                if (head.length() < limit) {
+                    head.append(buffer, offset, Math.min(count, limit - head.length()));
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Fails every read once the limit is exceeded, so a parser that swallows the failure
+         * can't continue to read the output.
+         */
+        private void checkHardLimit() throws OutputLimitExceededException {
+            if (hardLimit > 0 && outputSize > hardLimit) {
+                throw new OutputLimitExceededException(hardLimit);
+            }
+        }
+
+        public List<String> getCapturedLines() {
+            if (head.length() == 0) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(Arrays.asList(LINE_BREAK.split(head)));
         }
     }
 }
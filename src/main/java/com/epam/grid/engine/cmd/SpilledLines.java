@@ -0,0 +1,276 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable list of output lines that are stored in a temporary file instead of the heap.
+ * The lines are read lazily and can be read any number of times: every iterator reads the file by its own,
+ * {@link #get(int)} seeks the file by a sparse index of line offsets. The file is deleted when the list
+ * is closed or becomes unreachable, the readers of the iterators that weren't read to the end are closed as well.
+ * An iterator that is abandoned early can be closed at once, see {@link #iterator()}.
+ */
+public final class SpilledLines extends AbstractList<String> implements Closeable {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /**
+     * The offset of every {@code INDEX_STEP}-th line is kept in memory.
+     */
+    private static final int INDEX_STEP = 64;
+    private static final int NEW_LINE = '\n';
+
+    private final SpillFile file;
+    private final long[] index;
+    private final int size;
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * The reader used by {@link #get(int)} and the index of the line it returns next.
+     */
+    private BufferedReader cursor;
+    private int cursorIndex;
+
+    private SpilledLines(final SpillFile file, final long[] index, final int size) {
+        this.file = file;
+        this.index = index;
+        this.size = size;
+        this.cleanable = CLEANER.register(this, file);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized String get(final int lineIndex) {
+        if (lineIndex < 0 || lineIndex >= size) {
+            throw new IndexOutOfBoundsException("Index: " + lineIndex + ", Size: " + size);
+        }
+        try {
+            if (cursor == null || lineIndex < cursorIndex || lineIndex - cursorIndex >= INDEX_STEP) {
+                moveCursor(lineIndex / INDEX_STEP);
+            }
+            while (cursorIndex < lineIndex) {
+                cursor.readLine();
+                cursorIndex++;
+            }
+            cursorIndex++;
+            return cursor.readLine();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns an iterator that reads the file by its own reader, the reader is closed once the last line
+     * is read, when the iterator is closed or when the list is closed.
+     *
+     * @return The iterator that is {@link Closeable}.
+     */
+    @Override
+    public Iterator<String> iterator() {
+        return new LineIterator();
+    }
+
+    /**
+     * Deletes the file and closes the readers of the unfinished iterators, the lines can't be read afterwards.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    private void moveCursor(final int block) throws IOException {
+        cursor = new BufferedReader(Channels.newReader(file.open().position(index[block]),
+                StandardCharsets.UTF_8));
+        cursorIndex = block * INDEX_STEP;
+    }
+
+    /**
+     * Writes the lines to a new temporary file.
+     */
+    static final class Writer implements Closeable {
+        private final Path path;
+        private final OutputStream output;
+        private long[] index = new long[INDEX_STEP];
+        private long offset;
+        private int size;
+
+        Writer(final Path folder, final String prefix) throws IOException {
+            this.path = Files.createTempFile(folder, prefix, ".out");
+            this.output = new BufferedOutputStream(Files.newOutputStream(path));
+        }
+
+        void write(final String line) throws IOException {
+            if (size % INDEX_STEP == 0) {
+                final int block = size / INDEX_STEP;
+                if (block == index.length) {
+                    index = Arrays.copyOf(index, index.length * 2);
+                }
+                index[block] = offset;
+            }
+            final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            output.write(bytes);
+            output.write(NEW_LINE);
+            offset += bytes.length + 1;
+            size++;
+        }
+
+        /**
+         * Completes the file and returns the list of its lines, the list owns the file afterwards.
+         */
+        SpilledLines finish() throws IOException {
+            output.close();
+            return new SpilledLines(new SpillFile(path), index, size);
+        }
+
+        /**
+         * Deletes the file, it's used when the lines are discarded.
+         */
+        @Override
+        public void close() {
+            try {
+                output.close();
+                Files.deleteIfExists(path);
+            } catch (final IOException e) {
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * The file, the channel shared by the cursor and the readers of the iterators,
+     * it's cleaned without a reference to the list.
+     */
+    private static final class SpillFile implements Runnable {
+        private final Path path;
+        private final Set<Closeable> readers = new HashSet<>();
+        private FileChannel channel;
+
+        SpillFile(final Path path) {
+            this.path = path;
+        }
+
+        synchronized FileChannel open() throws IOException {
+            if (channel == null) {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+            }
+            return channel;
+        }
+
+        synchronized BufferedReader openReader() throws IOException {
+            final BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            readers.add(reader);
+            return reader;
+        }
+
+        synchronized void closeReader(final Closeable reader) throws IOException {
+            if (readers.remove(reader)) {
+                reader.close();
+            }
+        }
+
+        @Override
+        public synchronized void run() {
+            try {
+                for (final Closeable reader : readers) {
+                    reader.close();
+                }
+                readers.clear();
+                if (channel != null) {
+                    channel.close();
+                }
+                Files.deleteIfExists(path);
+            } catch (final IOException e) {
+                path.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    private final class LineIterator implements Iterator<String>, Closeable {
+        private BufferedReader reader;
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+            if (position < size) {
+                return true;
+            }
+            closeReader();
+            return false;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                if (reader == null) {
+                    reader = file.openReader();
+                }
+                position++;
+                return reader.readLine();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            position = size;
+            closeReader();
+        }
+
+        private void closeReader() {
+            if (reader == null) {
+                return;
+            }
+            try {
+                file.closeReader(reader);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                reader = null;
+            }
+        }
+    }
+}
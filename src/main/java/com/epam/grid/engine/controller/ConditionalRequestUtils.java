@@ -0,0 +1,109 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.controller;
+
+import com.epam.grid.engine.utils.JsonDigestUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * This class answers the GET listing requests with a strong ETag and with {@code 304 Not Modified}
+ * if the {@code If-None-Match} header of the request contains the ETag of the current listing.
+ * Only GET and HEAD requests are conditional (RFC 7232, section 3.2), the listings requested
+ * by any other method are answered with neither an ETag nor 304.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ConditionalRequestUtils {
+
+    private static final String ANY_ETAG = "*";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ETAG_DELIMITER = ",";
+
+    /**
+     * Answers the listing with the ETag computed from the SHA-256 digest of its JSON, the listing
+     * is obtained anyway but isn't sent if the ETag matches.
+     *
+     * @param request      The request with the optional If-None-Match header.
+     * @param objectMapper The mapper that serializes the listing.
+     * @param listing      The supplier of the listing.
+     * @param <T>          The type of the listing.
+     * @return The listing with the ETag, or the empty 304 response.
+     */
+    public static <T> ResponseEntity<T> conditionalResponse(final WebRequest request,
+                                                            final ObjectMapper objectMapper,
+                                                            final Supplier<T> listing) {
+        if (!isConditional(request)) {
+            return ResponseEntity.ok(listing.get());
+        }
+        final T body = listing.get();
+        return conditionalResponse(request, JsonDigestUtils.digest(objectMapper, body), () -> body);
+    }
+
+    /**
+     * Answers the listing with the ETag of the specified tag, e.g. the version of a snapshot the listing
+     * is selected from, so the listing isn't even obtained if the ETag matches.
+     *
+     * @param request The request with the optional If-None-Match header.
+     * @param tag     The tag that changes whenever the listing changes.
+     * @param listing The supplier of the listing.
+     * @param <T>     The type of the listing.
+     * @return The listing with the ETag, or the empty 304 response.
+     */
+    public static <T> ResponseEntity<T> conditionalResponse(final WebRequest request, final String tag,
+                                                            final Supplier<T> listing) {
+        if (!isConditional(request)) {
+            return ResponseEntity.ok(listing.get());
+        }
+        final String etag = String.format("\"%s\"", tag);
+        if (isNotModified(request, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(listing.get());
+    }
+
+    private static boolean isConditional(final WebRequest request) {
+        final HttpMethod method = request instanceof ServletWebRequest
+                ? ((ServletWebRequest) request).getHttpMethod()
+                : null;
+        return method == HttpMethod.GET || method == HttpMethod.HEAD;
+    }
+
+    private static boolean isNotModified(final WebRequest request, final String etag) {
+        final String[] headers = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        return headers != null && Arrays.stream(headers)
+                .flatMap(header -> Arrays.stream(header.split(ETAG_DELIMITER)))
+                .map(String::trim)
+                .map(value -> value.startsWith(WEAK_ETAG_PREFIX) ? value.substring(WEAK_ETAG_PREFIX.length()) : value)
+                .anyMatch(value -> value.equals(etag) || value.equals(ANY_ETAG));
+    }
+}
@@ -20,6 +20,7 @@
 package com.epam.grid.engine.controller;
 
 import com.epam.grid.engine.entity.job.HandleExceptionBody;
+import com.epam.grid.engine.exception.CommandRejectedException;
 import com.epam.grid.engine.exception.GridEngineException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -52,8 +53,13 @@ public class ControllerAdvisor extends ResponseEntityExceptionHandler {
         log.error(exception.getMessage(), exception);
         if (exception instanceof GridEngineException) {
             final GridEngineException gridEngineException = (GridEngineException) exception;
+            final HttpHeaders headers = new HttpHeaders();
+            if (exception instanceof CommandRejectedException) {
+                headers.set(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(((CommandRejectedException) exception).getRetryAfterSeconds()));
+            }
             return handleExceptionInternal(gridEngineException,
-                    createBody(gridEngineException, gridEngineException.getHttpStatus()), new HttpHeaders(),
+                    createBody(gridEngineException, gridEngineException.getHttpStatus()), headers,
                     gridEngineException.getHttpStatus(), request);
         }
         return new ResponseEntity<>(exception.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
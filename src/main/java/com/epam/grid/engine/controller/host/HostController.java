@@ -23,17 +23,23 @@ import com.epam.grid.engine.entity.HostFilter;
 import com.epam.grid.engine.entity.Listing;
 import com.epam.grid.engine.entity.host.Host;
 import com.epam.grid.engine.service.HostOperationProviderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.WebRequest;
+
+import static com.epam.grid.engine.controller.ConditionalRequestUtils.conditionalResponse;
 
 /**
  * This controller is responsible for host management operations.
@@ -47,12 +53,15 @@ public class HostController {
     private static final String NOT_FOUND = "Requested hosts not found";
     private static final String INTERNAL_ERROR = "Internal error";
     private static final String SUCCESS = "Hosts received successfully";
+    private static final String NOT_MODIFIED = "Hosts not modified";
     private final HostOperationProviderService hostOperationProviderService;
+    private final ObjectMapper objectMapper;
 
     /**
      * This endpoint is responsible for hosts listing
      * Optional filtering details are passed in the request body.
      * In case of the empty filter - all the hosts will be returned.
+     * The response isn't cacheable, the conditional listing is requested by GET.
      *
      * @param hostFilter names of hosts needed
      * @return {@link Listing} of {@link Host}
@@ -71,4 +80,32 @@ public class HostController {
     public Listing<Host> listHosts(@RequestBody(required = false) final HostFilter hostFilter) {
         return hostOperationProviderService.filter(hostFilter);
     }
+
+    /**
+     * This endpoint is responsible for hosts listing
+     * Optional filtering details are passed in the query parameters.
+     * In case of the empty filter - all the hosts will be returned.
+     * The listing has an ETag of its content, 304 is returned if it matches the If-None-Match header.
+     *
+     * @param hostFilter names of hosts needed
+     * @param request    the request with the optional If-None-Match header
+     * @return {@link Listing} of {@link Host}, or 304 if it isn't modified
+     */
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @ApiOperation(value = "List host nodes conditionally",
+            notes = "Returns list that contains information about specific hosts regarding to filter, "
+                    + "304 is returned if it matches the If-None-Match header",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = SUCCESS),
+            @ApiResponse(code = 304, message = NOT_MODIFIED),
+            @ApiResponse(code = 404, message = NOT_FOUND),
+            @ApiResponse(code = 500, message = INTERNAL_ERROR)
+    })
+    public ResponseEntity<Listing<Host>> listHostsConditionally(final HostFilter hostFilter,
+                                                                final WebRequest request) {
+        return conditionalResponse(request, objectMapper, () -> hostOperationProviderService.filter(hostFilter));
+    }
 }
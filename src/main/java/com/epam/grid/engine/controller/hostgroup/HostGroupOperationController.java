@@ -37,6 +37,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The controller that receives web requests from users and transmits it
@@ -56,8 +57,9 @@ public class HostGroupOperationController {
 
     /**
      * Returns a List containing specified {@link HostGroup}s with respect to provided {@link HostGroupFilter}.
+     * The request thread is released while the host groups are being fetched.
      * @param hostGroupFilter a provided filter
-     * @return a List containing specified HostGroups with respect to provided filter
+     * @return a future List containing specified HostGroups with respect to provided filter
      */
     @PostMapping("/filter")
     @ResponseStatus(HttpStatus.OK)
@@ -70,8 +72,9 @@ public class HostGroupOperationController {
             @ApiResponse(code = 404, message = NOT_FOUND),
             @ApiResponse(code = 500, message = INTERNAL_ERROR)
     })
-    public List<HostGroup> listHostGroups(@RequestBody(required = false) final HostGroupFilter hostGroupFilter) {
-        return hostGroupOperationProviderService.listHostGroups(hostGroupFilter);
+    public CompletableFuture<List<HostGroup>> listHostGroups(
+            @RequestBody(required = false) final HostGroupFilter hostGroupFilter) {
+        return hostGroupOperationProviderService.listHostGroupsAsync(hostGroupFilter);
     }
 
     /**
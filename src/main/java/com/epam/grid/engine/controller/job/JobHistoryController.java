@@ -0,0 +1,75 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.controller.job;
+
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.service.JobHistoryOperationProviderService;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * This controller lists the finished jobs from the grid engine accounting.
+ */
+@RestController
+@RequestMapping("/jobs/history")
+@RequiredArgsConstructor
+public class JobHistoryController {
+
+    private static final String INTERNAL_ERROR = "Internal error";
+    private static final String INVALID_FILTER = "Invalid limit, cursor or time window";
+    private static final String SUCCESSFULLY_RECEIVED = "Finished jobs received successfully";
+
+    /**
+     * This field contains the service class to which the data received from the user is transmitted.
+     */
+    private final JobHistoryOperationProviderService historyService;
+
+    /**
+     * Returns a page of the finished jobs ordered by their end time.
+     *
+     * @param filter An object with the job selection parameters.
+     * @return The page of the finished jobs.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.OK)
+    @ApiOperation(value = "List finished jobs",
+            notes = "Returns the finished jobs matching the filter, the jobs are taken from the grid engine "
+                    + "accounting and ordered by their end time",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = SUCCESSFULLY_RECEIVED),
+            @ApiResponse(code = 400, message = INVALID_FILTER),
+            @ApiResponse(code = 500, message = INTERNAL_ERROR)
+    })
+    public Listing<FinishedJob> getFinishedJobs(@RequestBody(required = false) final JobHistoryFilter filter) {
+        return historyService.getFinishedJobs(filter);
+    }
+}
@@ -27,14 +27,19 @@ import com.epam.grid.engine.entity.job.Job;
 import com.epam.grid.engine.entity.Listing;
 import com.epam.grid.engine.entity.job.JobOptions;
 import com.epam.grid.engine.entity.job.JobLogInfo;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.entity.job.JobStateEvent;
 import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.service.JobEventService;
 import com.epam.grid.engine.service.JobOperationProviderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -44,10 +49,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+import static com.epam.grid.engine.controller.ConditionalRequestUtils.conditionalResponse;
 
 /**
  * This controller is responsible for job management operations.
@@ -59,22 +71,40 @@ public class JobOperationController extends AbstractRestController {
 
     private static final String JOB_ID = "jobId";
     private static final String JOB_ID_LOGS_URL_SECTION = "/{" + JOB_ID + ":[\\d]+}/logs";
+    private static final String JOB_ID_WAIT_URL_SECTION = "/{" + JOB_ID + ":[\\d]+}/wait";
     private static final String LOG_TYPE_ID = "type";
     private static final String INTERNAL_ERROR = "Internal error";
     private static final String MISSING_OR_INVALID_REQUEST_BODY = "Missing or invalid request body";
     private static final String NOT_FOUND = "Specified job(-s) not found";
+    private static final String NOT_MODIFIED = "Jobs not modified";
     private static final String SUCCESSFULLY_RECEIVED = "Job received successfully";
     private static final String SUCCESSFULLY_DELETED = "Job deleted successfully";
     private static final String SUCCESSFULLY_SUBMITTED = "Job submitted successfully";
     private static final String SUCCESSFULLY_RECEIVED_LOG = "Log received successfully";
+    private static final String SUCCESSFULLY_SUBSCRIBED = "Subscribed to job events successfully";
+    private static final String EVENTS_DISABLED = "Job events are disabled";
+    private static final String JOB_STATE_RECEIVED = "Job state received successfully";
+    private static final String INVALID_TIMEOUT = "Invalid wait timeout";
+    private static final String NOT_LISTED = "Job events are disabled or the job isn't listed";
 
     /**
      * This field contains the service class to which the data received from the user is transmitted.
      */
     private final JobOperationProviderService providerService;
 
+    /**
+     * This field contains the service class that streams the job state changes.
+     */
+    private final JobEventService eventService;
+
+    /**
+     * This field contains the mapper that serializes the listings to compute their ETags.
+     */
+    private final ObjectMapper objectMapper;
+
     /**
      * Returns a list of jobs after applying the filter specified by the user.
+     * The response isn't cacheable, the conditional listing is requested by GET.
      *
      * @param jobFilter An object with the job selection parameters.
      * @return list of jobs.
@@ -94,6 +124,96 @@ public class JobOperationController extends AbstractRestController {
         return providerService.filter(jobFilter);
     }
 
+    /**
+     * Returns a list of jobs after applying the filter specified by the query parameters. The list has an ETag,
+     * it's taken from the job snapshot version if the list is selected from the snapshot, so neither
+     * the grid engine is requested nor the list is serialized if the ETag matches the If-None-Match header.
+     *
+     * @param jobFilter An object with the job selection parameters.
+     * @param request   The request with the optional If-None-Match header.
+     * @return list of jobs, or 304 if it isn't modified.
+     */
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @ApiOperation(value = "List jobs",
+            notes = "Returns list that contains information about specific jobs regarding to filter, "
+                    + "304 is returned if it matches the If-None-Match header",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = SUCCESSFULLY_RECEIVED),
+            @ApiResponse(code = 304, message = NOT_MODIFIED),
+            @ApiResponse(code = 404, message = NOT_FOUND),
+            @ApiResponse(code = 500, message = INTERNAL_ERROR)
+    })
+    public ResponseEntity<Listing<Job>> listJobs(final JobFilter jobFilter, final WebRequest request) {
+        return providerService.getSnapshotTag(jobFilter)
+                .map(tag -> conditionalResponse(request, tag, () -> providerService.filter(jobFilter)))
+                .orElseGet(() -> conditionalResponse(request, objectMapper, () -> providerService.filter(jobFilter)));
+    }
+
+    /**
+     * Opens a stream of the job state changes as Server-Sent Events, the changes are found
+     * by comparing the successive job snapshots.
+     *
+     * @param owners The owners of the jobs.
+     * @param ids    The ids of the jobs.
+     * @param names  The names of the jobs.
+     * @return The event stream.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @ApiOperation(value = "Subscribe to job events",
+            notes = "Streams the state changes of the jobs selected by the optional owners, ids and names,"
+                    + " a job that has left the grid engine listing is reported as finished",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = SUCCESSFULLY_SUBSCRIBED),
+            @ApiResponse(code = 404, message = EVENTS_DISABLED),
+            @ApiResponse(code = 500, message = INTERNAL_ERROR)
+    })
+    public SseEmitter subscribeJobEvents(@RequestParam(value = "owners", required = false) final List<String> owners,
+                                         @RequestParam(value = "ids", required = false) final List<Long> ids,
+                                         @RequestParam(value = "names", required = false) final List<String> names) {
+        return eventService.subscribe(JobFilter.builder()
+                .owners(owners)
+                .ids(ids)
+                .names(names)
+                .build());
+    }
+
+    /**
+     * Waits until the job reaches the state category or finishes, the current state is returned
+     * if the timeout expires first.
+     *
+     * @param jobId   The job identifier.
+     * @param until   The awaited state category.
+     * @param timeout The wait timeout in seconds.
+     * @return The job state.
+     */
+    @GetMapping(JOB_ID_WAIT_URL_SECTION)
+    @ResponseStatus(HttpStatus.OK)
+    @ApiOperation(value = "Wait for job state",
+            notes = "Holds the request until the job reaches the state category or leaves the grid engine listing,"
+                    + " returns the current state of the job if the timeout expires first",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = JOB_STATE_RECEIVED),
+            @ApiResponse(code = 400, message = INVALID_TIMEOUT),
+            @ApiResponse(code = 404, message = NOT_LISTED),
+            @ApiResponse(code = 500, message = INTERNAL_ERROR)
+    })
+    public DeferredResult<JobStateEvent> waitForJobState(@PathVariable(JOB_ID) final long jobId,
+                                                         @RequestParam(value = "until", required = false,
+                                                                 defaultValue = "FINISHED")
+                                                         final JobState.Category until,
+                                                         @RequestParam(value = "timeout", required = false,
+                                                                 defaultValue = "60") final long timeout) {
+        return eventService.waitForState(jobId, until, Duration.ofSeconds(timeout));
+    }
+
     /**
      * Deletes job and returns information about this job.
      *
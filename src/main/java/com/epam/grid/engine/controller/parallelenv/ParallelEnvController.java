@@ -23,12 +23,14 @@ import com.epam.grid.engine.entity.ParallelEnvFilter;
 import com.epam.grid.engine.entity.parallelenv.ParallelEnv;
 import com.epam.grid.engine.entity.parallelenv.PeRegistrationVO;
 import com.epam.grid.engine.service.ParallelEnvOperationProviderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -37,9 +39,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+import static com.epam.grid.engine.controller.ConditionalRequestUtils.conditionalResponse;
+
 /**
  * This controller is responsible for parallel environment management operations.
  * Requests received are passed to underlying layer {@link ParallelEnvOperationProviderService} for processing.
@@ -54,6 +59,7 @@ public class ParallelEnvController {
     private static final String INVALID_REQUEST = "Missing or invalid request body";
     private static final String NOT_FOUND = "Requested parallel environments not found";
     private static final String SUCCESSFULLY_RECEIVED = "Parallel environments received successfully";
+    private static final String NOT_MODIFIED = "Parallel environments not modified";
     private static final String SUCCESSFULLY_DELETED = "PE was successfully deleted";
     private static final String DELETION_DENIED = "Deletion denied";
     private static final String SUCCESSFULLY_REGISTERED = "Parallel environment registered successfully";
@@ -62,11 +68,13 @@ public class ParallelEnvController {
     private static final String REGISTRATION_DENIED = "Registration denied";
 
     private final ParallelEnvOperationProviderService parallelEnvOperationProviderService;
+    private final ObjectMapper objectMapper;
 
     /**
      * This endpoint is responsible for PE listing
      * Optional filtering details are passed in the request body.
      * In case of the empty filter - all the PE will be returned.
+     * The response isn't cacheable, the conditional listing is requested by GET.
      *
      * @param parallelEnvFilter names of PE needed
      * @return Listing of {@link ParallelEnv}
@@ -82,10 +90,38 @@ public class ParallelEnvController {
             @ApiResponse(code = 500, message = INTERNAL_ERROR)
     })
     public List<ParallelEnv> listParallelEnv(@RequestBody(required = false)
-                                                 final ParallelEnvFilter parallelEnvFilter) {
+                                             final ParallelEnvFilter parallelEnvFilter) {
         return parallelEnvOperationProviderService.filterParallelEnvs(parallelEnvFilter);
     }
 
+    /**
+     * This endpoint is responsible for PE listing
+     * Optional filtering details are passed in the query parameters.
+     * In case of the empty filter - all the PE will be returned.
+     * The listing has an ETag of its content, 304 is returned if it matches the If-None-Match header.
+     *
+     * @param parallelEnvFilter names of PE needed
+     * @param request           the request with the optional If-None-Match header
+     * @return Listing of {@link ParallelEnv}, or 304 if it isn't modified
+     */
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @ApiOperation(value = "List parallel environments conditionally",
+            notes = "Returns list that contains all PE or information about specific PE regarding to filter, "
+                    + "304 is returned if it matches the If-None-Match header",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = SUCCESSFULLY_RECEIVED),
+            @ApiResponse(code = 304, message = NOT_MODIFIED),
+            @ApiResponse(code = 404, message = NOT_FOUND),
+            @ApiResponse(code = 500, message = INTERNAL_ERROR)
+    })
+    public ResponseEntity<List<ParallelEnv>> listParallelEnvConditionally(final ParallelEnvFilter parallelEnvFilter,
+                                                                          final WebRequest request) {
+        return conditionalResponse(request, objectMapper,
+                () -> parallelEnvOperationProviderService.filterParallelEnvs(parallelEnvFilter));
+    }
+
     /**
      * This endpoint retrieves information about specific PE.
      *
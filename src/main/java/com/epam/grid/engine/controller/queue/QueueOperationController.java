@@ -23,12 +23,14 @@ import com.epam.grid.engine.entity.QueueFilter;
 import com.epam.grid.engine.entity.queue.Queue;
 import com.epam.grid.engine.entity.queue.QueueVO;
 import com.epam.grid.engine.service.QueueOperationProviderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -38,9 +40,12 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
+import static com.epam.grid.engine.controller.ConditionalRequestUtils.conditionalResponse;
+
 /**
  * The class which receives web requests from users and transmits it
  * for processing to the {@link QueueOperationProviderService}.
@@ -61,16 +66,20 @@ public class QueueOperationController {
     private static final String UPDATE_DENIED = "Update denied";
     private static final String REGISTRATION_DENIED = "Registration denied";
     private static final String SUCCESSFULLY_RECEIVED = "Queues received successfully";
+    private static final String NOT_MODIFIED = "Queues not modified";
     private static final String SUCCESSFULLY_REGISTERED = "Queue registered successfully";
     private static final String SUCCESSFULLY_DELETED = "Queue was successfully deleted";
     private static final String SUCCESSFULLY_UPDATED = "Queue was successfully updated";
 
     private final QueueOperationProviderService queueOperationProviderService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Returns a list containing the existing Queues. Each {@link Queue} entity of
-     * this List has only one attribute representing Queue's name.
+     * this List has only one attribute representing Queue's name. The List has an ETag of its content,
+     * 304 is returned if it matches the If-None-Match header.
      *
+     * @param request the request with the optional If-None-Match header
      * @return a List containing the existing Queues with their names
      */
     @GetMapping
@@ -81,15 +90,17 @@ public class QueueOperationController {
     )
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = SUCCESSFULLY_RECEIVED),
+            @ApiResponse(code = 304, message = NOT_MODIFIED),
             @ApiResponse(code = 404, message = QUEUE_NOT_FOUND),
             @ApiResponse(code = 500, message = INTERNAL_ERROR)
     })
-    public List<Queue> listQueueNames() {
-        return queueOperationProviderService.listQueues();
+    public ResponseEntity<List<Queue>> listQueueNames(final WebRequest request) {
+        return conditionalResponse(request, objectMapper, queueOperationProviderService::listQueues);
     }
 
     /**
      * Returns a List containing specified {@link Queue}s with respect to provided {@link QueueFilter}.
+     * The response isn't cacheable, unlike the GET listing of the queue names.
      *
      * @param queueFilter a provided filter
      * @return a List containing specified Queues with respect to provided filter
@@ -24,14 +24,39 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Data
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class CommandResult {
+public class CommandResult implements AutoCloseable {
+    /**
+     * The output lines, a large output is backed by a temporary file and read lazily every time it's iterated.
+     */
     private List<String> stdOut;
     private int exitCode;
     private List<String> stdErr;
+
+    /**
+     * Releases the temporary files that back a large output, the output can't be read afterwards.
+     */
+    @Override
+    public void close() {
+        closeLines(stdOut);
+        closeLines(stdErr);
+    }
+
+    private static void closeLines(final List<String> lines) {
+        if (lines instanceof Closeable) {
+            try {
+                ((Closeable) lines).close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -19,6 +19,8 @@
 
 package com.epam.grid.engine.entity;
 
+import com.epam.grid.engine.entity.job.JobField;
+import com.epam.grid.engine.entity.job.JobSortField;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -50,4 +52,24 @@ public class JobFilter {
      * A list of job owners.
      */
     private List<String> owners;
+    /**
+     * The maximum number of jobs in the listing, all matching jobs are listed if it isn't specified.
+     */
+    private Integer limit;
+    /**
+     * The cursor of the listing page, it's the next cursor of the previous page.
+     */
+    private String cursor;
+    /**
+     * The field the jobs are sorted by, the jobs are sorted by id if a limit or a cursor is specified.
+     */
+    private JobSortField sort;
+    /**
+     * Sort the jobs in the descending order.
+     */
+    private boolean descending;
+    /**
+     * The fields of the listed jobs, all fields are listed if it isn't specified.
+     */
+    private List<JobField> fields;
 }
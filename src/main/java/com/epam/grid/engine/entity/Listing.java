@@ -19,10 +19,10 @@
 
 package com.epam.grid.engine.entity;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -30,9 +30,28 @@ import java.util.List;
  * @param <T> takes object for listing
  */
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class Listing<T> {
 
     private List<T> elements;
+    /**
+     * The time the elements were obtained from the grid engine, it's set if they are taken from a snapshot.
+     */
+    private LocalDateTime snapshotTime;
+    /**
+     * The age of the snapshot in milliseconds at the moment of the response.
+     */
+    private Long snapshotAge;
+    /**
+     * The cursor of the next page, it's set if there are more elements after the page.
+     */
+    private String nextCursor;
+    /**
+     * The number of all elements matching the filter, it's set if the elements are paginated or sorted.
+     */
+    private Integer totalCount;
+
+    public Listing(final List<T> elements) {
+        this.elements = elements;
+    }
 }
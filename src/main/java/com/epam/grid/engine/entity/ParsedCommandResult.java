@@ -0,0 +1,64 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * This class holds the result of the command whose output was parsed while the command was running.
+ *
+ * @param <T> The type of the parsed output.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ParsedCommandResult<T> implements AutoCloseable {
+    /**
+     * The parsed output, it is {@code null} if the command failed and its output couldn't be parsed.
+     */
+    private T output;
+    private int exitCode;
+    /**
+     * The beginning of the standard output kept to describe a failure of the command.
+     */
+    private List<String> stdOut;
+    private List<String> stdErr;
+
+    /**
+     * Converts this result to a {@link CommandResult} that describes the command execution details.
+     *
+     * @return The command result without the parsed output.
+     */
+    public CommandResult toCommandResult() {
+        return new CommandResult(stdOut, exitCode, stdErr);
+    }
+
+    /**
+     * Releases the temporary files that back a large output of the command.
+     */
+    @Override
+    public void close() {
+        toCommandResult().close();
+    }
+}
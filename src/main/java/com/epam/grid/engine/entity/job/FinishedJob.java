@@ -0,0 +1,78 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.entity.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * This class represents the accounting record of a job that has left the grid engine queue.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FinishedJob {
+    /**
+     * ID of job.
+     */
+    private long id;
+    /**
+     * ID of the array job task, it's null if the job isn't an array job.
+     */
+    private String taskId;
+    /**
+     * Name of job.
+     */
+    private String name;
+    /**
+     * Owner of job.
+     */
+    private String owner;
+    /**
+     * Name of the queue or partition in which the job was run.
+     */
+    private String queueName;
+    /**
+     * Final state of job, its category tells whether the job succeeded.
+     */
+    private JobState state;
+    /**
+     * Exit code of the job script.
+     */
+    private Integer exitCode;
+    /**
+     * Submission time of job.
+     */
+    private LocalDateTime submissionTime;
+    /**
+     * Start time of job, it's null if the job never started.
+     */
+    private LocalDateTime startTime;
+    /**
+     * End time of job.
+     */
+    private LocalDateTime endTime;
+}
@@ -63,6 +63,10 @@ public class Job {
      * Name of the queue in which the job is started.
      */
     private String queueName;
+    /**
+     * ID of the array job task, or the range of the pending tasks, it's null if the job isn't an array job.
+     */
+    private String taskId;
     /**
      * The number of slots that the job takes up.
      */
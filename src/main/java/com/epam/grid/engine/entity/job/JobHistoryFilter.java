@@ -0,0 +1,65 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.entity.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The class represents a description of the filter for getting finished jobs.
+ */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobHistoryFilter {
+    /**
+     * List of job IDs.
+     */
+    private List<Long> ids;
+    /**
+     * List of job names.
+     */
+    private List<String> names;
+    /**
+     * List of job owners.
+     */
+    private List<String> owners;
+    /**
+     * The earliest end time of the jobs, the default lookback period is used if neither it nor the ids are set.
+     */
+    private LocalDateTime startTime;
+    /**
+     * The latest end time of the jobs, the jobs ended up to now are selected if it isn't set.
+     */
+    private LocalDateTime endTime;
+    /**
+     * The maximum number of jobs in the listing, all jobs of the time window are listed if it isn't set.
+     */
+    private Integer limit;
+    /**
+     * The cursor of the next page returned by the previous listing.
+     */
+    private String cursor;
+}
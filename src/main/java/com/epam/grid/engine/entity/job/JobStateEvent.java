@@ -0,0 +1,62 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.entity.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * This class represents a change of the job state category found by comparing two successive job snapshots.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobStateEvent {
+    /**
+     * ID of job.
+     */
+    private long id;
+    /**
+     * Name of job.
+     */
+    private String name;
+    /**
+     * Owner of job.
+     */
+    private String owner;
+    /**
+     * State of job in the previous snapshot, it's null if the job has just appeared.
+     */
+    private JobState previousState;
+    /**
+     * State of job in the current snapshot, it's finished if the job has left the grid engine listing.
+     */
+    private JobState state;
+    /**
+     * The time of the snapshot where the change is found.
+     */
+    private LocalDateTime time;
+}
@@ -97,6 +97,12 @@ public class SgeJob {
     @XmlElement(name = "queue_name")
     private String queueName;
 
+    /**
+     * ID of the array job task, or the range of the pending tasks.
+     */
+    @XmlElement(name = "tasks")
+    private String taskId;
+
     /**
      * The number of slots that the job takes up.
      */
@@ -0,0 +1,39 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.exception;
+
+import com.epam.grid.engine.entity.CommandResult;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * This exception is thrown when a command doesn't complete within its timeout,
+ * it holds the output that the command managed to produce before it was killed.
+ */
+@Getter
+public class CommandTimeoutException extends GridEngineException {
+    private static final long serialVersionUID = -3418807551273914046L;
+    private final transient CommandResult partialResult;
+
+    public CommandTimeoutException(final String message, final CommandResult partialResult) {
+        super(HttpStatus.GATEWAY_TIMEOUT, message);
+        this.partialResult = partialResult;
+    }
+}
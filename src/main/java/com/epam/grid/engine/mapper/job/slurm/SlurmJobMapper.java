@@ -61,11 +61,14 @@ public interface SlurmJobMapper {
     @Mapping(target = "queueName", source = "slurmJob.partition")
     @Mapping(target = "slots", ignore = true)
     @Mapping(target = "state", ignore = true)
+    @Mapping(target = "taskId", ignore = true)
     Job slurmJobToJob(final SlurmJob slurmJob);
 
     @AfterMapping
     default void fillState(final SlurmJob slurmJob, final @MappingTarget Job job) {
-        job.setState(mapJobState(slurmJob.getState(), slurmJob.getStateCompact()));
+        if (slurmJob.getState() != null) {
+            job.setState(mapJobState(slurmJob.getState(), slurmJob.getStateCompact()));
+        }
     }
 
     default JobState mapJobState(final String state, final String stateCode) {
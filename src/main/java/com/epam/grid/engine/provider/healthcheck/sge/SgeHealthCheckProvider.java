@@ -19,8 +19,8 @@
 
 package com.epam.grid.engine.provider.healthcheck.sge;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.healthcheck.HealthCheckInfo;
@@ -44,18 +44,18 @@ public class SgeHealthCheckProvider implements HealthCheckProvider {
 
     private final String qmasterPort;
     private final String qmasterHostPath;
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
     private final GridEngineCommandCompiler commandCompiler;
 
     public SgeHealthCheckProvider(
             @Value("${sge.qmaster.port}") final String qmasterPort,
             @Value("${sge.qmaster.host.path}") final String qmasterHostPath,
-            final SimpleCmdExecutor simpleCmdExecutor,
+            final CmdExecutor cmdExecutor,
             final GridEngineCommandCompiler commandCompiler
     ) {
         this.qmasterPort = qmasterPort;
         this.qmasterHostPath = qmasterHostPath;
-        this.simpleCmdExecutor = simpleCmdExecutor;
+        this.cmdExecutor = cmdExecutor;
         this.commandCompiler = commandCompiler;
     }
 
@@ -82,7 +82,7 @@ public class SgeHealthCheckProvider implements HealthCheckProvider {
     }
 
     private HealthCheckInfo executeQpingCommand() {
-        final CommandResult result = simpleCmdExecutor.execute(getQpingCommand());
+        final CommandResult result = cmdExecutor.execute(getQpingCommand());
         return QpingCommandParser.parseQpingResult(result);
     }
 
@@ -99,7 +99,7 @@ public class SgeHealthCheckProvider implements HealthCheckProvider {
         final String[] defineQmasterCommand = commandCompiler.compileCommand(getProviderType(),
                 DEFINE_QMASTER_COMMAND, context);
 
-        final CommandResult result = simpleCmdExecutor.execute(defineQmasterCommand);
+        final CommandResult result = cmdExecutor.execute(defineQmasterCommand);
         return QpingCommandParser.parseQmasterHostName(result);
     }
 }
@@ -19,8 +19,8 @@
 
 package com.epam.grid.engine.provider.healthcheck.slurm;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.healthcheck.HealthCheckInfo;
 import com.epam.grid.engine.provider.healthcheck.HealthCheckProvider;
@@ -41,7 +41,7 @@ public class SlurmHealthCheckProvider implements HealthCheckProvider {
 
     private static final String SHOW_CONFIG_COMMAND = "show_config";
 
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
     private final GridEngineCommandCompiler commandCompiler;
 
     /**
@@ -67,7 +67,7 @@ public class SlurmHealthCheckProvider implements HealthCheckProvider {
     }
 
     private HealthCheckInfo executeShowConfigCommand() {
-        return ShowConfigCommandParser.parseShowConfigResult(simpleCmdExecutor.execute(getShowConfigCommand()));
+        return ShowConfigCommandParser.parseShowConfigResult(cmdExecutor.execute(getShowConfigCommand()));
     }
 
     private String[] getShowConfigCommand() {
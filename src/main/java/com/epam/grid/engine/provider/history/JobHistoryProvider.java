@@ -0,0 +1,44 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.history;
+
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.provider.CommandTypeAware;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A provider for the accounting records of the finished jobs.
+ */
+public interface JobHistoryProvider extends CommandTypeAware {
+
+    /**
+     * This method provides the first finished jobs from the grid engine accounting in the order of the listing.
+     * The ids, names, owners and the time window of the filter may only narrow the accounting request,
+     * so the jobs are selected by the matcher while the output is parsed, and only the first ones up to the limit
+     * of the filter are kept in memory.
+     *
+     * @param filter  The filter with the time window narrowed to the requested page and the number of jobs to keep.
+     * @param matcher The predicate of the jobs that belong to the requested page.
+     * @return The first matching finished jobs ordered by their end time.
+     */
+    List<FinishedJob> getFinishedJobs(JobHistoryFilter filter, Predicate<FinishedJob> matcher);
+}
@@ -0,0 +1,123 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.history.sge;
+
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
+import com.epam.grid.engine.entity.CommandType;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.provider.history.JobHistoryProvider;
+import com.epam.grid.engine.provider.utils.CommandsUtils;
+import com.epam.grid.engine.provider.utils.FirstFinishedJobs;
+import com.epam.grid.engine.provider.utils.sge.history.QacctJobParser;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A {@link JobHistoryProvider} implementation for Sun Grid Engine queuing system, the finished jobs
+ * are taken from the accounting file by the {@code qacct -j} command.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "grid.engine.type", havingValue = "SGE")
+public class SgeJobHistoryProvider implements JobHistoryProvider {
+
+    private static final String QACCT_COMMAND = "qacct_jobs";
+    private static final String OWNER = "owner";
+    private static final String JOB = "job";
+    private static final String END_TIME = "endTime";
+    private static final String NOT_FOUND = "not found";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm.ss");
+
+    /**
+     * The executor that provide the ability to call any command available in the current environment.
+     */
+    private final CmdExecutor cmdExecutor;
+
+    /**
+     * An object that forms the structure of an executable command according to a template.
+     */
+    private final GridEngineCommandCompiler commandCompiler;
+
+    @Override
+    public CommandType getProviderType() {
+        return CommandType.SGE;
+    }
+
+    /**
+     * Lists the jobs by {@code qacct -j}. The command accepts a single owner and a single job id or name,
+     * and its time options bound the start time of the jobs, so only the end of the window is passed
+     * and the rest of the filter is applied by the matcher. The output is parsed while the command is running,
+     * and only the first matching jobs are kept.
+     *
+     * <p> The memory is bounded by the limit, but {@code qacct} reads the whole accounting file on every call,
+     * so a request costs a scan of the file unless all its job ids are cached by the caller. The accounting file
+     * should be rotated to keep this scan short.
+     *
+     * @param filter  The filter with the time window narrowed to the requested page.
+     * @param matcher The predicate of the jobs that belong to the requested page.
+     * @return The first matching finished jobs ordered by their end time.
+     */
+    @Override
+    public List<FinishedJob> getFinishedJobs(final JobHistoryFilter filter, final Predicate<FinishedJob> matcher) {
+        final List<Long> ids = ListUtils.emptyIfNull(filter.getIds());
+        final List<String> names = ListUtils.emptyIfNull(filter.getNames());
+        final List<String> owners = ListUtils.emptyIfNull(filter.getOwners());
+        final Context context = new Context();
+        if (owners.size() == 1) {
+            context.setVariable(OWNER, owners.get(0));
+        }
+        if (ids.size() + names.size() == 1) {
+            context.setVariable(JOB, ids.isEmpty() ? names.get(0) : String.valueOf(ids.get(0)));
+        }
+        Optional.ofNullable(filter.getEndTime())
+                .ifPresent(endTime -> context.setVariable(END_TIME, TIME_FORMAT.format(endTime)));
+
+        final FirstFinishedJobs jobs = new FirstFinishedJobs(matcher, filter.getLimit());
+        try (ParsedCommandResult<List<FinishedJob>> result = cmdExecutor.executeStreaming(output -> {
+            QacctJobParser.parseJobs(output, jobs);
+            return jobs.getJobs();
+        }, commandCompiler.compileCommand(getProviderType(), QACCT_COMMAND, context))) {
+            if (result.getExitCode() != 0) {
+                if (result.getStdOut().isEmpty()
+                        && result.getStdErr().stream().anyMatch(line -> line.contains(NOT_FOUND))) {
+                    return Collections.emptyList();
+                }
+                CommandsUtils.throwExecutionDetails(result.toCommandResult(), HttpStatus.INTERNAL_SERVER_ERROR);
+            } else if (!result.getStdErr().isEmpty()) {
+                log.warn(CommandsUtils.mergeOutputLines(result.getStdErr()));
+            }
+            return result.getOutput();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.history.slurm;
+
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
+import com.epam.grid.engine.entity.CommandType;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.provider.history.JobHistoryProvider;
+import com.epam.grid.engine.provider.utils.CommandsUtils;
+import com.epam.grid.engine.provider.utils.FirstFinishedJobs;
+import com.epam.grid.engine.provider.utils.slurm.history.SacctJobParser;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.thymeleaf.context.Context;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * A {@link JobHistoryProvider} implementation for the SLURM engine, the finished jobs
+ * are taken from the accounting database by the {@code sacct} command.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "grid.engine.type", havingValue = "SLURM")
+public class SlurmJobHistoryProvider implements JobHistoryProvider {
+
+    private static final String SACCT_COMMAND = "sacct";
+    private static final String FILTER = "filter";
+    private static final String FORMAT = "format";
+    private static final String START_TIME = "startTime";
+    private static final String END_TIME = "endTime";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /**
+     * The command execution mechanism used.
+     */
+    private final CmdExecutor cmdExecutor;
+
+    /**
+     * An object that forms the structure of an executable command according to a template.
+     */
+    private final GridEngineCommandCompiler commandCompiler;
+
+    @Override
+    public CommandType getProviderType() {
+        return CommandType.SLURM;
+    }
+
+    /**
+     * Lists the jobs by {@code sacct}. The command selects the jobs that were eligible within the time window,
+     * so the ones which ended outside of it are rejected by the matcher, and the ones still running are skipped.
+     * The output is parsed while the command is running, and only the first matching jobs are kept.
+     *
+     * @param filter  The filter with the time window narrowed to the requested page.
+     * @param matcher The predicate of the jobs that belong to the requested page.
+     * @return The first matching finished jobs ordered by their end time.
+     */
+    @Override
+    public List<FinishedJob> getFinishedJobs(final JobHistoryFilter filter, final Predicate<FinishedJob> matcher) {
+        final Context context = new Context();
+        context.setVariable(FILTER, filter);
+        context.setVariable(FORMAT, SacctJobParser.FORMAT);
+        Optional.ofNullable(filter.getStartTime())
+                .ifPresent(startTime -> context.setVariable(START_TIME, TIME_FORMAT.format(startTime)));
+        Optional.ofNullable(filter.getEndTime())
+                .ifPresent(endTime -> context.setVariable(END_TIME, TIME_FORMAT.format(endTime)));
+
+        final FirstFinishedJobs jobs = new FirstFinishedJobs(matcher, filter.getLimit());
+        try (ParsedCommandResult<List<FinishedJob>> result = cmdExecutor.executeStreaming(output -> {
+            SacctJobParser.parseJobs(output, jobs);
+            return jobs.getJobs();
+        }, commandCompiler.compileCommand(getProviderType(), SACCT_COMMAND, context))) {
+            if (result.getExitCode() != 0) {
+                CommandsUtils.throwExecutionDetails(result.toCommandResult(), HttpStatus.INTERNAL_SERVER_ERROR);
+            } else if (!result.getStdErr().isEmpty()) {
+                log.warn(CommandsUtils.mergeOutputLines(result.getStdErr()));
+            }
+            return result.getOutput();
+        }
+    }
+}
@@ -19,12 +19,12 @@
 
 package com.epam.grid.engine.provider.host.sge;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
-import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.HostFilter;
 import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.ParsedCommandResult;
 import com.epam.grid.engine.entity.host.Host;
 import com.epam.grid.engine.entity.host.sge.SgeHostListing;
 import com.epam.grid.engine.mapper.host.sge.SgeHostMapper;
@@ -40,8 +40,6 @@ import org.thymeleaf.context.Context;
 
 import java.util.stream.Collectors;
 
-import static com.epam.grid.engine.utils.TextConstants.NEW_LINE_DELIMITER;
-
 /**
  * This is the implementation of the host provider for Sun Grid Engine.
  *
@@ -62,7 +60,7 @@ public class SgeHostProvider implements HostProvider {
     /**
      * The executor that provide the ability to call any command available in the current environment.
      */
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
 
     /**
      * An object that forms the structure of an executable command according to a template.
@@ -91,15 +89,15 @@ public class SgeHostProvider implements HostProvider {
         final Context context = new Context();
         context.setVariable(FILTER, hostFilter);
         final String[] hostCommand = commandCompiler.compileCommand(getProviderType(), QHOST_COMMAND, context);
-        final CommandResult commandResult = simpleCmdExecutor.execute(hostCommand);
-        if (commandResult.getExitCode() != 0) {
-            CommandsUtils.throwExecutionDetails(commandResult);
-        } else if (!commandResult.getStdErr().isEmpty()) {
-            log.warn(commandResult.getStdErr().toString());
+        try (ParsedCommandResult<SgeHostListing> commandResult = cmdExecutor.executeStreaming(
+                output -> JaxbUtils.unmarshall(output, SgeHostListing.class), hostCommand)) {
+            if (commandResult.getExitCode() != 0) {
+                CommandsUtils.throwExecutionDetails(commandResult.toCommandResult());
+            } else if (!commandResult.getStdErr().isEmpty()) {
+                log.warn(commandResult.getStdErr().toString());
+            }
+            return mapToHosts(commandResult.getOutput());
         }
-        return mapToHosts(JaxbUtils.unmarshall(String.join(NEW_LINE_DELIMITER,
-                        commandResult.getStdOut()),
-                SgeHostListing.class));
     }
 
     private Listing<Host> mapToHosts(final SgeHostListing sgeHostListing) {
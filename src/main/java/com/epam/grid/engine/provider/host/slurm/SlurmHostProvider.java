@@ -19,8 +19,8 @@
 
 package com.epam.grid.engine.provider.host.slurm;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.HostFilter;
@@ -54,7 +54,7 @@ public class SlurmHostProvider implements HostProvider {
     private static final String FILTER = "filter";
     private static final String SCONTROL_SHOW_NODE_COMMAND = "scontrol_show_node";
 
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
     private final GridEngineCommandCompiler commandCompiler;
     private final SlurmHostMapper slurmHostMapper;
 
@@ -69,24 +69,25 @@ public class SlurmHostProvider implements HostProvider {
         context.setVariable(FILTER, hostFilter);
         final String[] hostCommand = commandCompiler.compileCommand(
                 getProviderType(), SCONTROL_SHOW_NODE_COMMAND, context);
-        final CommandResult commandResult = simpleCmdExecutor.execute(hostCommand);
-        if (commandResult.getExitCode() != 0) {
-            CommandsUtils.throwExecutionDetails(commandResult);
-        } else if (!commandResult.getStdErr().isEmpty()) {
-            log.warn(commandResult.getStdErr().toString());
-        }
+        try (CommandResult commandResult = cmdExecutor.execute(hostCommand)) {
+            if (commandResult.getExitCode() != 0) {
+                CommandsUtils.throwExecutionDetails(commandResult);
+            } else if (!commandResult.getStdErr().isEmpty()) {
+                log.warn(commandResult.getStdErr().toString());
+            }
 
-        final List<String> stdOut = commandResult.getStdOut().stream()
-                .filter(ScontrolShowNodeParser::checkStdOutLine)
-                .collect(Collectors.toList());
+            final List<String> stdOut = commandResult.getStdOut().stream()
+                    .filter(ScontrolShowNodeParser::checkStdOutLine)
+                    .collect(Collectors.toList());
 
-        if (stdOut.isEmpty()) {
-            CommandsUtils.throwExecutionDetails(commandResult);
-        }
+            if (stdOut.isEmpty()) {
+                CommandsUtils.throwExecutionDetails(commandResult);
+            }
 
-        return mapToHosts(commandResult.getStdOut().stream()
-                .map(ScontrolShowNodeParser::mapHostDataToSlurmHost)
-                .collect(Collectors.toList()));
+            return mapToHosts(commandResult.getStdOut().stream()
+                    .map(ScontrolShowNodeParser::mapHostDataToSlurmHost)
+                    .collect(Collectors.toList()));
+        }
     }
 
     private Listing<Host> mapToHosts(final List<SlurmHost> hostList) {
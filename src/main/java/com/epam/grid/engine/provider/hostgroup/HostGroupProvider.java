@@ -24,6 +24,7 @@ import com.epam.grid.engine.entity.HostGroupFilter;
 import com.epam.grid.engine.provider.CommandTypeAware;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The interface which provides methods for different
@@ -38,6 +39,20 @@ public interface HostGroupProvider extends CommandTypeAware {
      */
     List<HostGroup> listHostGroups(HostGroupFilter hostGroupFilter);
 
+    /**
+     * Returns a future List containing specified {@link HostGroup}s with respect to provided
+     * {@link HostGroupFilter}. The default implementation lists the host groups in the calling thread.
+     * @param hostGroupFilter a provided filter
+     * @return a future List containing specified HostGroups with respect to provided filter
+     */
+    default CompletableFuture<List<HostGroup>> listHostGroupsAsync(final HostGroupFilter hostGroupFilter) {
+        try {
+            return CompletableFuture.completedFuture(listHostGroups(hostGroupFilter));
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Returns {@link HostGroup} by specified group name.
      *
@@ -19,8 +19,8 @@
 
 package com.epam.grid.engine.provider.hostgroup.sge;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.HostGroupFilter;
@@ -41,6 +41,7 @@ import org.thymeleaf.context.Context;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -57,7 +58,7 @@ public class SgeHostGroupProvider implements HostGroupProvider {
     private static final String FILTER = "filter";
     private static final String QCONF_COMMAND = "qconf";
 
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
     private final SgeHostGroupMapper hostGroupMapper;
 
     /**
@@ -84,9 +85,21 @@ public class SgeHostGroupProvider implements HostGroupProvider {
      */
     @Override
     public List<HostGroup> listHostGroups(final HostGroupFilter hostGroupFilter) {
-        final List<String> currentHostGroupNames = validateFilter(hostGroupFilter);
-        final List<SgeHostGroup> fetchedSgeHostGroups = getHostGroupsByName(currentHostGroupNames);
-        return mapSgeHostGroupToHostGroup(fetchedSgeHostGroups);
+        return CommandsUtils.await(listHostGroupsAsync(hostGroupFilter));
+    }
+
+    /**
+     * Returns a future List containing specified HostGroups. The description of every host group
+     * is requested by its own command, the commands are executed in parallel.
+     *
+     * @param hostGroupFilter a List containing names of the certain HostGroups
+     * @return a future list containing specified HostGroups
+     */
+    @Override
+    public CompletableFuture<List<HostGroup>> listHostGroupsAsync(final HostGroupFilter hostGroupFilter) {
+        return validateFilter(hostGroupFilter)
+                .thenCompose(this::getHostGroupsByName)
+                .thenApply(this::mapSgeHostGroupToHostGroup);
     }
 
     /**
@@ -108,32 +121,33 @@ public class SgeHostGroupProvider implements HostGroupProvider {
                 .collect(Collectors.toList());
     }
 
-    private List<String> buildRequest(final List<String> hostGroupNames) {
+    private CompletableFuture<List<String>> buildRequest(final List<String> hostGroupNames) {
         final Context context = new Context();
         context.setVariable(FILTER, new HostGroupFilter(hostGroupNames));
-        final CommandResult commandResult = simpleCmdExecutor.execute(commandCompiler
-                .compileCommand(getProviderType(), QCONF_COMMAND, context));
-        validateCommandResult(commandResult);
-
-        return commandResult.getStdOut();
+        return cmdExecutor.executeAsync(commandCompiler.compileCommand(getProviderType(), QCONF_COMMAND, context))
+                .thenApply(commandResult -> {
+                    validateCommandResult(commandResult);
+                    return commandResult.getStdOut();
+                });
     }
 
-    private List<SgeHostGroup> getHostGroupsByName(final List<String> hostGroupNames) {
-        return hostGroupNames.stream()
+    private CompletableFuture<List<SgeHostGroup>> getHostGroupsByName(final List<String> hostGroupNames) {
+        return CommandsUtils.allOf(hostGroupNames.stream()
                 .map(Collections::singletonList)
                 .map(this::buildRequest)
-                .map(SgeOutputParsingUtils::parseEntitiesToMap)
-                .map(hostGroupMapper::mapToSgeHostGroup)
-                .collect(Collectors.toList());
+                .map(output -> output
+                        .thenApply(SgeOutputParsingUtils::parseEntitiesToMap)
+                        .thenApply(hostGroupMapper::mapToSgeHostGroup))
+                .collect(Collectors.toList()));
     }
 
-    private List<String> validateFilter(final HostGroupFilter hostGroupFilter) {
+    private CompletableFuture<List<String>> validateFilter(final HostGroupFilter hostGroupFilter) {
         if (CollectionUtils.isEmpty(hostGroupFilter.getHostGroupNames())) {
             return buildRequest(null);
         }
-        return hostGroupFilter.getHostGroupNames().stream()
+        return CompletableFuture.completedFuture(hostGroupFilter.getHostGroupNames().stream()
                 .distinct()
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     private void verifyGroupName(final String groupName) {
@@ -27,6 +27,9 @@ import com.epam.grid.engine.entity.Listing;
 import com.epam.grid.engine.entity.job.JobOptions;
 import com.epam.grid.engine.provider.CommandTypeAware;
 
+import java.util.Optional;
+import java.util.function.Predicate;
+
 /**
  * This interface specifies methods for the job provider.
  */
@@ -58,4 +61,23 @@ public interface JobProvider extends CommandTypeAware {
      */
     Job runJob(JobOptions options, String logDir);
 
+    /**
+     * Gets a filter that selects the jobs of all users, it's used to take a snapshot of the grid engine jobs.
+     *
+     * @return The filter of all jobs.
+     */
+    default JobFilter getAllJobsFilter() {
+        return new JobFilter();
+    }
+
+    /**
+     * Gets a predicate that selects the jobs matching the filter in the same way as {@link #filterJobs(JobFilter)},
+     * it's applied to the jobs of a snapshot.
+     *
+     * @param jobFilter The specified filter.
+     * @return The predicate, or an empty value if the filter can be evaluated only by the grid engine.
+     */
+    default Optional<Predicate<Job>> getJobPredicate(final JobFilter jobFilter) {
+        return Optional.empty();
+    }
 }
@@ -19,13 +19,14 @@
 
 package com.epam.grid.engine.provider.job.sge;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.CommandArgUtils;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.JobFilter;
 import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.ParsedCommandResult;
 import com.epam.grid.engine.entity.job.Job;
 import com.epam.grid.engine.entity.job.JobOptions;
 import com.epam.grid.engine.entity.job.JobState;
@@ -33,28 +34,30 @@ import com.epam.grid.engine.entity.job.DeleteJobFilter;
 import com.epam.grid.engine.entity.job.DeletedJobInfo;
 import com.epam.grid.engine.entity.job.ParallelEnvOptions;
 import com.epam.grid.engine.entity.job.sge.SgeJob;
-import com.epam.grid.engine.entity.job.sge.SgeQueueListing;
 import com.epam.grid.engine.mapper.job.sge.SgeJobMapper;
 import com.epam.grid.engine.exception.GridEngineException;
 import com.epam.grid.engine.provider.job.JobProvider;
-import com.epam.grid.engine.provider.utils.JaxbUtils;
 import com.epam.grid.engine.provider.utils.sge.job.QstatCommandParser;
+import com.epam.grid.engine.provider.utils.sge.job.QstatXmlParser;
 import com.epam.grid.engine.provider.utils.CommandsUtils;
-import com.epam.grid.engine.utils.TextConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.thymeleaf.context.Context;
 
-import java.util.Collection;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -83,6 +86,11 @@ public class SgeJobProvider implements JobProvider {
     private static final String OPTIONS = "options";
     private static final String LOG_DIR = "logDir";
     private static final String ENV_VARIABLES = "envVariables";
+    private static final String ALL_USERS = "*";
+    private static final String PENDING_STATE = "pending";
+    private static final String RUNNING_STATE = "running";
+    private static final String SUSPENDED_STATE = "suspended";
+    private static final String JOBS = "jobs";
     private static final String JOBS_DELETING_EXECUTION_RESULT = "Jobs deleting result: ";
     private static final Pattern SUBMITTED_JOB_ID_PATTERN = Pattern.compile("Your job (\\d+).* has been submitted");
     private static final Pattern DELETED_JOB_ID_PATTERN = Pattern.compile(".*has deleted job (\\d+).*");
@@ -95,38 +103,92 @@ public class SgeJobProvider implements JobProvider {
     /**
      * The command execution mechanism used.
      */
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
 
     /**
      * An object that forms the structure of an executable command according to a template.
      */
     private final GridEngineCommandCompiler commandCompiler;
 
+    /**
+     * The maximum number of job ids and names looked up by {@code qstat -j} before listing the jobs.
+     */
+    private final int maxLookupJobs;
+
     public SgeJobProvider(final SgeJobMapper jobMapper,
-                          final SimpleCmdExecutor simpleCmdExecutor,
-                          final GridEngineCommandCompiler commandCompiler) {
+                          final CmdExecutor cmdExecutor,
+                          final GridEngineCommandCompiler commandCompiler,
+                          @Value("${sge.job.lookup.max-jobs:20}") final int maxLookupJobs) {
         this.jobMapper = jobMapper;
-        this.simpleCmdExecutor = simpleCmdExecutor;
+        this.cmdExecutor = cmdExecutor;
         this.commandCompiler = commandCompiler;
+        this.maxLookupJobs = maxLookupJobs;
     }
 
     /**
-     * Gets a list of jobs for the specified filters.
+     * Gets a list of jobs for the specified filters. Since {@code qstat} can't list jobs by ids or names,
+     * a few requested jobs are looked up by {@code qstat -j} first, then only the jobs of their owners are listed.
      *
      * @param jobFilter The specified filter.
      * @return List of jobs.
      */
     @Override
     public Listing<Job> filterJobs(final JobFilter jobFilter) {
-        final CommandResult result = simpleCmdExecutor.execute(makeQstatCommand(jobFilter));
-        if (result.getExitCode() != 0) {
-            CommandsUtils.throwExecutionDetails(result);
+        final Predicate<SgeJob> filter = isValidJobFilter(jobFilter)
+                ? jobFilter(jobFilter)
+                : job -> true;
+        final JobFilter qstatFilter = narrowToJobOwners(jobFilter);
+        if (qstatFilter == null) {
+            return new Listing<>(Collections.emptyList());
         }
-        if (!result.getStdErr().isEmpty()) {
-            log.warn(result.getStdErr().toString());
+        try (ParsedCommandResult<List<Job>> result = cmdExecutor.executeStreaming(
+                output -> QstatXmlParser.parseJobs(output, filter, jobMapper::sgeJobToJob),
+                makeQstatCommand(qstatFilter))) {
+            if (result.getExitCode() != 0) {
+                CommandsUtils.throwExecutionDetails(result.toCommandResult());
+            }
+            if (!result.getStdErr().isEmpty()) {
+                log.warn(result.getStdErr().toString());
+            }
+            return new Listing<>(result.getOutput());
         }
-        return mapJobs(JaxbUtils.unmarshall(String.join(TextConstants.NEW_LINE_DELIMITER, result.getStdOut()),
-                SgeQueueListing.class), jobFilter);
+    }
+
+    /**
+     * Gets a filter that selects the jobs of all users, {@code qstat} selects them by the {@code -u *} option.
+     *
+     * @return The filter of all jobs.
+     */
+    @Override
+    public JobFilter getAllJobsFilter() {
+        return JobFilter.builder()
+                .owners(List.of(ALL_USERS))
+                .build();
+    }
+
+    /**
+     * Gets a predicate that selects the jobs as {@code qstat} does. The hold and zombie states
+     * can be evaluated only by {@code qstat}.
+     *
+     * @param jobFilter The specified filter.
+     * @return The predicate, or an empty value if the filter can be evaluated only by the grid engine.
+     */
+    @Override
+    public Optional<Predicate<Job>> getJobPredicate(final JobFilter jobFilter) {
+        if (jobFilter == null) {
+            return Optional.of(job -> true);
+        }
+        final Set<String> owners = new HashSet<>(CollectionUtils.emptyIfNull(jobFilter.getOwners()));
+        final Predicate<Job> ownerPredicate = owners.isEmpty() || owners.contains(ALL_USERS)
+                ? job -> true
+                : job -> owners.contains(job.getOwner());
+        final Set<Long> ids = new HashSet<>(CollectionUtils.emptyIfNull(jobFilter.getIds()));
+        final Set<String> names = new HashSet<>(CollectionUtils.emptyIfNull(jobFilter.getNames()));
+        final Predicate<Job> idOrNamePredicate = ids.isEmpty() && names.isEmpty()
+                ? job -> true
+                : job -> ids.contains(job.getId()) || names.contains(job.getName());
+        return getStatePredicate(jobFilter.getState())
+                .map(statePredicate -> ownerPredicate.and(idOrNamePredicate).and(statePredicate));
     }
 
     /**
@@ -156,20 +218,21 @@ public class SgeJobProvider implements JobProvider {
         if (!isValidParallelEnvOptions(options.getParallelEnvOptions())) {
             throw new GridEngineException(HttpStatus.BAD_REQUEST, "Invalid PE specification!");
         }
-        final CommandResult result = simpleCmdExecutor.execute(makeQsubCommand(options, logDir));
-        if (result.getExitCode() != 0 || result.getStdOut().isEmpty()) {
-            CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        final Matcher matcher = SUBMITTED_JOB_ID_PATTERN.matcher(result.getStdOut().get(0));
-        if (!matcher.find()) {
-            CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
+        try (CommandResult result = cmdExecutor.execute(makeQsubCommand(options, logDir))) {
+            if (result.getExitCode() != 0 || result.getStdOut().isEmpty()) {
+                CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            final Matcher matcher = SUBMITTED_JOB_ID_PATTERN.matcher(result.getStdOut().get(0));
+            if (!matcher.find()) {
+                CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            return Job.builder()
+                    .id(Long.parseLong(matcher.group(1)))
+                    .state(JobState.builder()
+                            .category(JobState.Category.PENDING)
+                            .build())
+                    .build();
         }
-        return Job.builder()
-                .id(Long.parseLong(matcher.group(1)))
-                .state(JobState.builder()
-                        .category(JobState.Category.PENDING)
-                        .build())
-                .build();
     }
 
     /**
@@ -186,14 +249,15 @@ public class SgeJobProvider implements JobProvider {
             throw new GridEngineException(HttpStatus.NOT_FOUND,
                     String.format("No jobs found from the specified %s to remove!", deleteJobFilter));
         }
-        final CommandResult result = simpleCmdExecutor.execute(makeQdelCommand(deleteJobFilter));
-        final List<Long> deletedJobIds = parseDeletedJobId(result.getStdOut());
-
-        if (result.getExitCode() != 0) {
-            if (deletedJobIds.isEmpty()) {
-                CommandsUtils.throwExecutionDetails(result, HttpStatus.NOT_FOUND);
-            } else {
-                log.warn(JOBS_DELETING_EXECUTION_RESULT + result);
+        final List<Long> deletedJobIds;
+        try (CommandResult result = cmdExecutor.execute(makeQdelCommand(deleteJobFilter))) {
+            deletedJobIds = parseDeletedJobId(result.getStdOut());
+            if (result.getExitCode() != 0) {
+                if (deletedJobIds.isEmpty()) {
+                    CommandsUtils.throwExecutionDetails(result, HttpStatus.NOT_FOUND);
+                } else {
+                    log.warn(JOBS_DELETING_EXECUTION_RESULT + result);
+                }
             }
         }
         return new Listing<>(deletedJobIds.stream()
@@ -220,6 +284,54 @@ public class SgeJobProvider implements JobProvider {
         return commandCompiler.compileCommand(getProviderType(), QSTAT_COMMAND, context);
     }
 
+    /**
+     * Restricts the listing to the owners of the requested jobs if the filter selects a few jobs
+     * by ids or names and doesn't select their owners.
+     *
+     * @param jobFilter User-defined filter for selecting job data.
+     * @return The filter of the listing, or null if none of the requested jobs exists.
+     */
+    private JobFilter narrowToJobOwners(final JobFilter jobFilter) {
+        if (!isValidJobFilter(jobFilter) || hasOwners(jobFilter)) {
+            return jobFilter;
+        }
+        final List<String> jobs = Stream.concat(
+                        CollectionUtils.emptyIfNull(jobFilter.getIds()).stream().map(String::valueOf),
+                        CollectionUtils.emptyIfNull(jobFilter.getNames()).stream())
+                .distinct()
+                .collect(Collectors.toList());
+        if (jobs.size() > maxLookupJobs) {
+            return jobFilter;
+        }
+        final Context context = new Context();
+        context.setVariable(JOBS, jobs);
+        final Set<String> owners;
+        try (CommandResult result = cmdExecutor.execute(
+                commandCompiler.compileCommand(getProviderType(), QSTAT_COMMAND, context))) {
+            if (result.getStdOut().isEmpty()) {
+                if (result.getExitCode() != 0) {
+                    CommandsUtils.throwExecutionDetails(result);
+                }
+                return null;
+            }
+            owners = QstatXmlParser.parseJobOwners(new StringReader(mergeOutputLines(result.getStdOut())));
+        }
+        if (owners.isEmpty()) {
+            return null;
+        }
+        return JobFilter.builder()
+                .ids(jobFilter.getIds())
+                .names(jobFilter.getNames())
+                .state(jobFilter.getState())
+                .owners(new ArrayList<>(owners))
+                .build();
+    }
+
+    private boolean hasOwners(final JobFilter jobFilter) {
+        final List<String> owners = jobFilter.getOwners();
+        return CollectionUtils.isNotEmpty(owners) && !owners.contains(ALL_USERS);
+    }
+
     /**
      * Creates the structure of an executable command based on the passed options.
      *
@@ -232,7 +344,7 @@ public class SgeJobProvider implements JobProvider {
         final Context context = new Context();
         context.setVariable(OPTIONS, options);
         context.setVariable(LOG_DIR, logDir);
-        context.setVariable(ARGUMENTS, CommandArgUtils.toEscapeQuotes(options.getArguments()));
+        context.setVariable(ARGUMENTS, ListUtils.emptyIfNull(options.getArguments()));
         context.setVariable(ENV_VARIABLES, CommandArgUtils.envVariablesMapToString(options.getEnvVariables()));
         return commandCompiler.compileCommand(getProviderType(), QSUB_COMMAND, context);
     }
@@ -265,16 +377,6 @@ public class SgeJobProvider implements JobProvider {
                 .collect(Collectors.toList());
     }
 
-    private Listing<Job> mapJobs(final SgeQueueListing sgeQueueListing, final JobFilter jobFilter) {
-        final List<SgeJob> unfilteredJob = mergeJobs(sgeQueueListing);
-
-        final List<SgeJob> jobs = isValidJobFilter(jobFilter)
-                ? filteredJob(unfilteredJob, jobFilter)
-                : unfilteredJob;
-
-        return mapToJobListing(jobs);
-    }
-
     private boolean isValidJobFilter(final JobFilter jobFilter) {
         final boolean presentId = isFieldPresent(jobFilter, JobFilter::getIds);
         final boolean presentName = isFieldPresent(jobFilter, JobFilter::getNames);
@@ -290,30 +392,27 @@ public class SgeJobProvider implements JobProvider {
                 .isPresent();
     }
 
-    private List<SgeJob> filteredJob(final List<SgeJob> unfilteredJob, final JobFilter jobFilter) {
-        return unfilteredJob.stream()
-                .filter(sgeJob -> jobFilter(jobFilter).test(sgeJob))
-                .collect(Collectors.toList());
-    }
-
-    private Listing<Job> mapToJobListing(final List<SgeJob> jobs) {
-        return new Listing<>(jobs.stream()
-                .map(jobMapper::sgeJobToJob)
-                .collect(Collectors.toList()));
-    }
-
     private Predicate<SgeJob> jobFilter(final JobFilter request) {
-        return job -> CollectionUtils.emptyIfNull(request.getIds())
-                .contains(job.getId())
-                || CollectionUtils.emptyIfNull(request.getNames())
-                .contains(job.getName());
+        final Set<Long> ids = new HashSet<>(CollectionUtils.emptyIfNull(request.getIds()));
+        final Set<String> names = new HashSet<>(CollectionUtils.emptyIfNull(request.getNames()));
+        return job -> ids.contains(job.getId()) || names.contains(job.getName());
     }
 
-    private List<SgeJob> mergeJobs(final SgeQueueListing sgeQueueListing) {
-        return Stream.of(sgeQueueListing.getSgeJobs(), sgeQueueListing.getSgeQueues())
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private Optional<Predicate<Job>> getStatePredicate(final String state) {
+        if (!StringUtils.hasText(state)) {
+            return Optional.of(job -> true);
+        }
+        QstatCommandParser.getStateFromStateMap(state);
+        switch (state) {
+            case PENDING_STATE:
+            case RUNNING_STATE:
+                return Optional.of(job -> job.getState() != null && state.equals(job.getState().getState()));
+            case SUSPENDED_STATE:
+                return Optional.of(job -> job.getState() != null
+                        && job.getState().getCategory() == JobState.Category.SUSPENDED);
+            default:
+                return Optional.empty();
+        }
     }
 
     private Map<Long, String> getJobOwners(final DeleteJobFilter deleteJobFilter) {
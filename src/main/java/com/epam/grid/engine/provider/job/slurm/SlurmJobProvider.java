@@ -19,25 +19,31 @@
 
 package com.epam.grid.engine.provider.job.slurm;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.CommandArgUtils;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.JobFilter;
 import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.ParsedCommandResult;
 import com.epam.grid.engine.entity.job.Job;
 import com.epam.grid.engine.entity.job.JobOptions;
 import com.epam.grid.engine.entity.job.JobState;
 import com.epam.grid.engine.entity.job.DeletedJobInfo;
 import com.epam.grid.engine.entity.job.DeleteJobFilter;
+import com.epam.grid.engine.entity.job.JobField;
 import com.epam.grid.engine.entity.job.ParallelExecutionOptions;
+import com.epam.grid.engine.entity.job.slurm.SlurmJob;
 import com.epam.grid.engine.exception.GridEngineException;
 import com.epam.grid.engine.mapper.job.slurm.SlurmJobMapper;
 import com.epam.grid.engine.provider.job.JobProvider;
 
 import com.epam.grid.engine.provider.utils.CommandsUtils;
+import com.epam.grid.engine.provider.utils.JobProjectionUtils;
 import com.epam.grid.engine.provider.utils.slurm.job.SacctCommandParser;
+import com.epam.grid.engine.provider.utils.slurm.job.SqueueOutputFormat;
+import com.epam.grid.engine.provider.utils.slurm.job.SqueueRowDecoder;
 import com.epam.grid.engine.utils.TextConstants;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
@@ -48,12 +54,21 @@ import org.springframework.util.StringUtils;
 import org.thymeleaf.context.Context;
 import org.apache.commons.collections4.CollectionUtils;
 
+import java.io.BufferedReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This class performs various actions with jobs for the SLURM engine.
@@ -65,6 +80,7 @@ public class SlurmJobProvider implements JobProvider {
     private static final int JOB_OUTPUT_HEADER_LINES_COUNT = 1;
     private static final long MAX_SENT_PRIORITY = 4_294_967_294L;
     private static final String JOB_FILTER = "filter";
+    private static final String FORMAT = "format";
     private static final String SCANCEL_COMMAND = "scancel";
     private static final String SQUEUE_COMMAND = "squeue";
     private static final String SBATCH_COMMAND = "sbatch";
@@ -79,6 +95,9 @@ public class SlurmJobProvider implements JobProvider {
     private static final int ERROR_JOB_ID_POSITION = KILL_JOB_ERROR_PREFIX.length() + 1;
     private static final String JOBS_DELETING_EXECUTION_RESULT = "Jobs deleting result: ";
     private static final Pattern SUBMITTED_JOB_PATTERN = Pattern.compile("Submitted batch job (\\d+).*");
+    private static final String STATE_DELIMITER = ",";
+    private static final Set<String> LISTED_STATES = Set.of("PENDING", "PD", "RUNNING", "R", "SUSPENDED", "S",
+            "COMPLETING", "CG", "CONFIGURING", "CF");
 
     /**
      * The MapStruct mapping mechanism used.
@@ -88,7 +107,7 @@ public class SlurmJobProvider implements JobProvider {
     /**
      * The command execution mechanism used.
      */
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
 
     /**
      * An object that forms the structure of an executable command according to a template.
@@ -96,10 +115,10 @@ public class SlurmJobProvider implements JobProvider {
     private final GridEngineCommandCompiler commandCompiler;
 
     public SlurmJobProvider(final SlurmJobMapper jobMapper,
-                            final SimpleCmdExecutor simpleCmdExecutor,
+                            final CmdExecutor cmdExecutor,
                             final GridEngineCommandCompiler commandCompiler) {
         this.jobMapper = jobMapper;
-        this.simpleCmdExecutor = simpleCmdExecutor;
+        this.cmdExecutor = cmdExecutor;
         this.commandCompiler = commandCompiler;
     }
 
@@ -111,13 +130,48 @@ public class SlurmJobProvider implements JobProvider {
     @Override
     public Listing<Job> filterJobs(final JobFilter jobFilter) {
         SacctCommandParser.filterCorrectJobIds(jobFilter);
-        final CommandResult result = simpleCmdExecutor.execute(makeSqueueCommand(jobFilter));
-        if (result.getExitCode() != 0) {
-            CommandsUtils.throwExecutionDetails(result);
-        } else if (!result.getStdErr().isEmpty()) {
-            log.warn(CommandsUtils.mergeOutputLines(result.getStdErr()));
+        final Set<JobField> fields = JobProjectionUtils.getRequiredFields(jobFilter);
+        final SqueueOutputFormat format = fields.isEmpty() ? null : SqueueOutputFormat.of(fields);
+        try (ParsedCommandResult<List<Job>> result = cmdExecutor.executeStreaming(
+                output -> readJobs(output, format), makeSqueueCommand(jobFilter, format))) {
+            if (result.getExitCode() != 0) {
+                CommandsUtils.throwExecutionDetails(result.toCommandResult());
+            } else if (!result.getStdErr().isEmpty()) {
+                log.warn(CommandsUtils.mergeOutputLines(result.getStdErr()));
+            }
+            return CollectionUtils.isEmpty(result.getOutput())
+                    ? new Listing<>()
+                    : new Listing<>(result.getOutput());
         }
-        return mapToJobListing(result.getStdOut());
+    }
+
+    /**
+     * Gets a predicate that selects the jobs as {@code squeue} does. Only the states listed by {@code squeue}
+     * without the {@code -t} option can be evaluated, e.g. the completed jobs are selected only by {@code squeue}.
+     *
+     * @param jobFilter The specified filter.
+     * @return The predicate, or an empty value if the filter can be evaluated only by the grid engine.
+     */
+    @Override
+    public Optional<Predicate<Job>> getJobPredicate(final JobFilter jobFilter) {
+        SacctCommandParser.filterCorrectJobIds(jobFilter);
+        if (jobFilter == null) {
+            return Optional.of(job -> true);
+        }
+        final Set<String> states = StringUtils.hasText(jobFilter.getState())
+                ? Arrays.stream(jobFilter.getState().split(STATE_DELIMITER))
+                        .map(state -> state.trim().toUpperCase(Locale.ROOT))
+                        .collect(Collectors.toSet())
+                : Collections.emptySet();
+        if (!LISTED_STATES.containsAll(states)) {
+            return Optional.empty();
+        }
+        return Optional.of(matchAny(jobFilter.getOwners(), Job::getOwner)
+                .and(matchAny(jobFilter.getNames(), Job::getName))
+                .and(matchAny(jobFilter.getIds(), Job::getId))
+                .and(job -> states.isEmpty() || job.getState() != null
+                        && (states.contains(job.getState().getState())
+                        || states.contains(job.getState().getStateCode()))));
     }
 
     @Override
@@ -133,20 +187,21 @@ public class SlurmJobProvider implements JobProvider {
         if (options.getPriority() != null && (options.getPriority() < 0 || options.getPriority() > MAX_SENT_PRIORITY)) {
             throw new GridEngineException(HttpStatus.BAD_REQUEST, "Priority should be between 0 and 4_294_967_294");
         }
-        final CommandResult result = simpleCmdExecutor.execute(makeSbatchCommand(options, logDir));
-        if (result.getExitCode() != 0 || result.getStdOut().isEmpty()) {
-            CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-        final Matcher matcher = SUBMITTED_JOB_PATTERN.matcher(result.getStdOut().get(0));
-        if (!matcher.find()) {
-            CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
+        try (CommandResult result = cmdExecutor.execute(makeSbatchCommand(options, logDir))) {
+            if (result.getExitCode() != 0 || result.getStdOut().isEmpty()) {
+                CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            final Matcher matcher = SUBMITTED_JOB_PATTERN.matcher(result.getStdOut().get(0));
+            if (!matcher.find()) {
+                CommandsUtils.throwExecutionDetails(result, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+            return Job.builder()
+                    .id(Long.parseLong(matcher.group(1)))
+                    .state(JobState.builder()
+                            .category(JobState.Category.PENDING)
+                            .build())
+                    .build();
         }
-        return Job.builder()
-                .id(Long.parseLong(matcher.group(1)))
-                .state(JobState.builder()
-                        .category(JobState.Category.PENDING)
-                        .build())
-                .build();
     }
 
     /**
@@ -164,32 +219,34 @@ public class SlurmJobProvider implements JobProvider {
                     String.format("No jobs found from the specified %s to remove!", deleteJobFilter));
         }
 
-        final CommandResult result = simpleCmdExecutor.execute(makeScancelCommand(deleteJobFilter));
-        if (result.getExitCode() != 0) {
-            CommandsUtils.throwExecutionDetails(result, HttpStatus.NOT_FOUND);
-        }
+        try (CommandResult result = cmdExecutor.execute(makeScancelCommand(deleteJobFilter))) {
+            if (result.getExitCode() != 0) {
+                CommandsUtils.throwExecutionDetails(result, HttpStatus.NOT_FOUND);
+            }
 
-        final Set<String> errorDeletingJobs = result.getStdErr().stream()
-                .filter((s) -> s.startsWith(KILL_JOB_ERROR_PREFIX))
-                .map((s) -> s.substring(ERROR_JOB_ID_POSITION, s.indexOf(TextConstants.COLON, ERROR_JOB_ID_POSITION)))
-                .collect(Collectors.toSet());
+            final Set<String> errorDeletingJobs = result.getStdErr().stream()
+                    .filter((s) -> s.startsWith(KILL_JOB_ERROR_PREFIX))
+                    .map((s) -> s.substring(ERROR_JOB_ID_POSITION,
+                            s.indexOf(TextConstants.COLON, ERROR_JOB_ID_POSITION)))
+                    .collect(Collectors.toSet());
 
-        final List<Long> deletedJobIds = result.getStdErr().stream()
-                .filter((s) -> s.startsWith(START_TERMINATING_JOB_PREFIX))
-                .map((s) -> s.substring(JOB_ID_START_POSITION))
-                .filter((id) -> !errorDeletingJobs.contains(id))
-                .map(Long::valueOf)
-                .collect(Collectors.toList());
+            final List<Long> deletedJobIds = result.getStdErr().stream()
+                    .filter((s) -> s.startsWith(START_TERMINATING_JOB_PREFIX))
+                    .map((s) -> s.substring(JOB_ID_START_POSITION))
+                    .filter((id) -> !errorDeletingJobs.contains(id))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList());
 
-        if (deletedJobIds.isEmpty()) {
-            CommandsUtils.throwExecutionDetails(result, HttpStatus.NOT_FOUND);
-        }
-        if (deletedJobIds.size() < jobOwners.size()) {
-            log.warn(JOBS_DELETING_EXECUTION_RESULT + result);
+            if (deletedJobIds.isEmpty()) {
+                CommandsUtils.throwExecutionDetails(result, HttpStatus.NOT_FOUND);
+            }
+            if (deletedJobIds.size() < jobOwners.size()) {
+                log.warn(JOBS_DELETING_EXECUTION_RESULT + result);
+            }
+            return new Listing<>(deletedJobIds.stream()
+                    .map(id -> new DeletedJobInfo(id, jobOwners.get(id)))
+                    .collect(Collectors.toList()));
         }
-        return new Listing<>(deletedJobIds.stream()
-                .map(id -> new DeletedJobInfo(id, jobOwners.get(id)))
-                .collect(Collectors.toList()));
     }
 
     /**
@@ -209,11 +266,10 @@ public class SlurmJobProvider implements JobProvider {
         if (options.isCanBeBinary()) {
             final String binaryCommandArguments = options.getArguments().stream()
                     .map(CommandArgUtils::toEncloseInQuotes)
-                    .map(CommandArgUtils::toEscapeQuotes)
                     .collect(Collectors.joining(TextConstants.SPACE));
             context.setVariable(BINARY_COMMAND, options.getCommand() + TextConstants.SPACE + binaryCommandArguments);
         } else {
-            context.setVariable(ARGUMENTS, CommandArgUtils.toEscapeQuotes(options.getArguments()));
+            context.setVariable(ARGUMENTS, ListUtils.emptyIfNull(options.getArguments()));
         }
         return commandCompiler.compileCommand(getProviderType(), SBATCH_COMMAND, context);
     }
@@ -222,25 +278,25 @@ public class SlurmJobProvider implements JobProvider {
      * Creates the structure of an executable command based on the passed filter.
      *
      * @param filter User-defined filter for selecting job data.
+     * @param format The format of the requested job fields, all fields are listed if it's null.
      * @return The structure of an executable command.
      */
-    private String[] makeSqueueCommand(final JobFilter filter) {
+    private String[] makeSqueueCommand(final JobFilter filter, final SqueueOutputFormat format) {
         final Context context = new Context();
         context.setVariable(JOB_FILTER, filter);
+        context.setVariable(FORMAT, format == null ? null : format.getFormat());
         return commandCompiler.compileCommand(getProviderType(), SQUEUE_COMMAND, context);
     }
 
-    private Listing<Job> mapToJobListing(final List<String> stdOut) {
-        if (stdOut.size() > JOB_OUTPUT_HEADER_LINES_COUNT) {
-            return new Listing<>(stdOut.stream()
-                    .skip(JOB_OUTPUT_HEADER_LINES_COUNT)
-                    .map(SacctCommandParser::parseSlurmJob)
-                    .filter(CollectionUtils::isNotEmpty)
-                    .map(SacctCommandParser::mapJobDataToSlurmJob)
-                    .map(jobMapper::slurmJobToJob)
-                    .collect(Collectors.toList()));
-        }
-        return new Listing<>();
+    private List<Job> readJobs(final BufferedReader output, final SqueueOutputFormat format) {
+        final Stream<String> jobLines = output.lines()
+                .skip(JOB_OUTPUT_HEADER_LINES_COUNT);
+        final Function<String, SlurmJob> decoder = format == null
+                ? SqueueRowDecoder.ALL_COLUMNS::decode
+                : format::parseJob;
+        return jobLines.map(decoder)
+                .map(jobMapper::slurmJobToJob)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -266,6 +322,14 @@ public class SlurmJobProvider implements JobProvider {
                 .collect(Collectors.toMap(Job::getId, Job::getOwner));
     }
 
+    private static <T> Predicate<Job> matchAny(final List<T> values, final Function<Job, T> fieldExtractor) {
+        if (CollectionUtils.isEmpty(values)) {
+            return job -> true;
+        }
+        final Set<T> selectedValues = new HashSet<>(values);
+        return job -> selectedValues.contains(fieldExtractor.apply(job));
+    }
+
     private boolean checkParallelExecutionOptions(final ParallelExecutionOptions parallelExecutionOptions) {
         return parallelExecutionOptions != null
                 && (isNotGreaterThanZero(parallelExecutionOptions.getNumTasks())
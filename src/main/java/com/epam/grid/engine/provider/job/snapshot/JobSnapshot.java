@@ -0,0 +1,186 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.job.snapshot;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobState;
+import lombok.Getter;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * This class is an immutable listing of all grid engine jobs taken at a moment. The jobs are indexed by id,
+ * owner, name, state category and queue, so a filter selects the candidate jobs without scanning the listing.
+ */
+public final class JobSnapshot {
+
+    /**
+     * The owner of {@code qstat} that selects the jobs of all users.
+     */
+    private static final String ANY_OWNER = "*";
+
+    /**
+     * The identifier of the engine that took the snapshot, it's unique for every engine instance.
+     */
+    @Getter
+    private final String origin;
+    /**
+     * The version of the snapshot, it's changed only if the jobs are changed.
+     */
+    @Getter
+    private final long version;
+    /**
+     * The time the jobs were requested from the grid engine.
+     */
+    @Getter
+    private final Instant time;
+    /**
+     * All jobs in the order of the grid engine listing.
+     */
+    @Getter
+    private final List<Job> jobs;
+
+    private final Map<Job, Integer> positions;
+    private final Map<Long, List<Job>> jobsById;
+    private final Map<String, List<Job>> jobsByOwner;
+    private final Map<String, List<Job>> jobsByName;
+    private final Map<String, List<Job>> jobsByQueue;
+    private final Map<JobState.Category, List<Job>> jobsByCategory;
+
+    public JobSnapshot(final String origin, final long version, final Instant time, final List<Job> jobs) {
+        this.origin = origin;
+        this.version = version;
+        this.time = time;
+        this.jobs = Collections.unmodifiableList(new ArrayList<>(jobs));
+        this.positions = new IdentityHashMap<>(jobs.size());
+        for (final Job job : this.jobs) {
+            positions.put(job, positions.size());
+        }
+        this.jobsById = index(Job::getId);
+        this.jobsByOwner = index(Job::getOwner);
+        this.jobsByName = index(Job::getName);
+        this.jobsByQueue = index(Job::getQueueName);
+        this.jobsByCategory = index(job -> job.getState() == null ? null : job.getState().getCategory());
+    }
+
+    /**
+     * Gets the tag of the snapshot, the versions restart with every engine instance,
+     * so the tag combines the version with the engine identifier.
+     *
+     * @return The tag that differs for all snapshots with different jobs.
+     */
+    public String getTag() {
+        return origin + "-" + version;
+    }
+
+    /**
+     * Selects the jobs matching the filter. The candidates are taken from the id and name indexes
+     * or from the owner index, the predicate evaluates the whole filter on the candidates only.
+     *
+     * @param jobFilter The specified filter.
+     * @param predicate The predicate that evaluates the filter as the grid engine does.
+     * @return The matching jobs in the order of the grid engine listing.
+     */
+    public List<Job> filter(final JobFilter jobFilter, final Predicate<Job> predicate) {
+        return selectCandidates(jobFilter).stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the jobs with the specified id, the tasks of an array job share its id.
+     *
+     * @param id The job id.
+     * @return The jobs with the id.
+     */
+    public List<Job> getJobs(final long id) {
+        return jobsById.getOrDefault(id, Collections.emptyList());
+    }
+
+    /**
+     * Gets the jobs of the specified state category.
+     *
+     * @param category The state category.
+     * @return The jobs of the category.
+     */
+    public List<Job> getJobs(final JobState.Category category) {
+        return jobsByCategory.getOrDefault(category, Collections.emptyList());
+    }
+
+    /**
+     * Gets the jobs started in the specified queue.
+     *
+     * @param queueName The queue name.
+     * @return The jobs of the queue.
+     */
+    public List<Job> getQueueJobs(final String queueName) {
+        return jobsByQueue.getOrDefault(queueName, Collections.emptyList());
+    }
+
+    private List<Job> selectCandidates(final JobFilter jobFilter) {
+        if (jobFilter == null) {
+            return jobs;
+        }
+        if (CollectionUtils.isNotEmpty(jobFilter.getIds()) || CollectionUtils.isNotEmpty(jobFilter.getNames())) {
+            return union(lookup(jobsById, jobFilter.getIds()), lookup(jobsByName, jobFilter.getNames()));
+        }
+        if (CollectionUtils.isNotEmpty(jobFilter.getOwners()) && !jobFilter.getOwners().contains(ANY_OWNER)) {
+            return union(lookup(jobsByOwner, jobFilter.getOwners()), Collections.emptyList());
+        }
+        return jobs;
+    }
+
+    private List<Job> union(final List<Job> first, final List<Job> second) {
+        final Set<Job> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(first);
+        candidates.addAll(second);
+        final List<Job> orderedCandidates = new ArrayList<>(candidates);
+        orderedCandidates.sort(Comparator.comparing(positions::get));
+        return orderedCandidates;
+    }
+
+    private static <K> List<Job> lookup(final Map<K, List<Job>> index, final Collection<K> keys) {
+        return CollectionUtils.emptyIfNull(keys).stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .flatMap(key -> index.getOrDefault(key, Collections.emptyList()).stream())
+                .collect(Collectors.toList());
+    }
+
+    private <K> Map<K, List<Job>> index(final Function<Job, K> keyExtractor) {
+        return Collections.unmodifiableMap(jobs.stream()
+                .filter(job -> keyExtractor.apply(job) != null)
+                .collect(Collectors.groupingBy(keyExtractor,
+                        Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList))));
+    }
+}
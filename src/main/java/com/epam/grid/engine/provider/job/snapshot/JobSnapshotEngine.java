@@ -0,0 +1,236 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.job.snapshot;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.entity.job.JobStateEvent;
+import com.epam.grid.engine.provider.job.JobProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class keeps a snapshot of all grid engine jobs. A single background poller requests all jobs
+ * from the job provider with the configured interval and publishes them as an immutable {@link JobSnapshot},
+ * the job listings are selected from the latest snapshot unless it's older than the maximum age.
+ * The listeners are notified of every new version with the job state changes since the previous one.
+ */
+@Slf4j
+public class JobSnapshotEngine implements Closeable {
+
+    private static final String POLLER_THREAD_PREFIX = "job-snapshot-poller-";
+    private static final JobState FINISHED_STATE = JobState.builder()
+            .category(JobState.Category.FINISHED)
+            .build();
+
+    private final JobProvider jobProvider;
+    private final JobSnapshotProperties properties;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicReference<JobSnapshot> snapshot = new AtomicReference<>();
+    private final List<JobSnapshotListener> listeners = new CopyOnWriteArrayList<>();
+
+    public JobSnapshotEngine(final JobProvider jobProvider, final JobSnapshotProperties properties,
+                             final Clock clock) {
+        this.jobProvider = jobProvider;
+        this.properties = properties;
+        this.clock = clock;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(POLLER_THREAD_PREFIX);
+        threadFactory.setDaemon(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    /**
+     * Starts refreshing the snapshot in the background, the first snapshot is taken at once.
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, properties.getInterval().toMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("Refreshing the job snapshot every {}", properties.getInterval());
+    }
+
+    /**
+     * Requests all jobs from the job provider and publishes them as the latest snapshot.
+     * The version is kept if the jobs are not changed, the previous snapshot is kept if the request fails.
+     * The listeners are notified of the changes if the version is changed and of every successful refresh.
+     */
+    public void refresh() {
+        try {
+            final Instant time = clock.instant();
+            final List<Job> jobs = ListUtils.emptyIfNull(
+                    jobProvider.filterJobs(jobProvider.getAllJobsFilter()).getElements());
+            final JobSnapshot previous = snapshot.get();
+            final long version;
+            if (previous == null) {
+                version = 1;
+            } else {
+                version = previous.getJobs().equals(jobs) ? previous.getVersion() : previous.getVersion() + 1;
+            }
+            final JobSnapshot current = new JobSnapshot(instanceId, version, time, jobs);
+            snapshot.set(current);
+            if (previous != null && version != previous.getVersion()) {
+                notifyListeners(current, getStateChanges(previous, current));
+            }
+            notifyRefresh(current);
+        } catch (final RuntimeException e) {
+            log.warn("Unable to refresh the job snapshot", e);
+        }
+    }
+
+    /**
+     * Gets the latest snapshot if it isn't older than the maximum age.
+     *
+     * @return The latest snapshot, or an empty value if there is no fresh snapshot.
+     */
+    public Optional<JobSnapshot> getSnapshot() {
+        return Optional.ofNullable(snapshot.get())
+                .filter(current -> getAge(current).compareTo(properties.getMaxAge()) <= 0);
+    }
+
+    /**
+     * Selects the jobs matching the filter from the latest snapshot.
+     *
+     * @param jobFilter The specified filter.
+     * @return The listing with the snapshot time and age, or an empty value if there is no fresh snapshot
+     * or the filter can be evaluated only by the grid engine.
+     */
+    public Optional<Listing<Job>> filterJobs(final JobFilter jobFilter) {
+        return getSnapshot().flatMap(current -> jobProvider.getJobPredicate(jobFilter)
+                .map(predicate -> toListing(current, current.filter(jobFilter, predicate))));
+    }
+
+    /**
+     * Registers the listener of the new snapshot versions.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(final JobSnapshotListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters the listener of the new snapshot versions.
+     *
+     * @param listener The listener.
+     */
+    public void removeListener(final JobSnapshotListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void notifyListeners(final JobSnapshot current, final List<JobStateEvent> events) {
+        for (final JobSnapshotListener listener : listeners) {
+            try {
+                listener.onSnapshot(current, events);
+            } catch (final RuntimeException e) {
+                log.warn("Unable to notify the job snapshot listener", e);
+            }
+        }
+    }
+
+    private void notifyRefresh(final JobSnapshot current) {
+        for (final JobSnapshotListener listener : listeners) {
+            try {
+                listener.onRefresh(current);
+            } catch (final RuntimeException e) {
+                log.warn("Unable to notify the job snapshot listener", e);
+            }
+        }
+    }
+
+    /**
+     * Compares the state categories of the jobs in two snapshots. The first listed task of an array job
+     * represents the whole job, a job that has left the listing is reported as finished since the grid engines
+     * don't list the completed jobs.
+     */
+    private List<JobStateEvent> getStateChanges(final JobSnapshot previous, final JobSnapshot current) {
+        final LocalDateTime time = LocalDateTime.ofInstant(current.getTime(), clock.getZone());
+        final List<JobStateEvent> events = new ArrayList<>();
+        final Set<Long> comparedIds = new HashSet<>();
+        for (final Job job : current.getJobs()) {
+            if (!comparedIds.add(job.getId())) {
+                continue;
+            }
+            final List<Job> previousJobs = previous.getJobs(job.getId());
+            final JobState previousState = previousJobs.isEmpty() ? null : previousJobs.get(0).getState();
+            if (previousJobs.isEmpty() || !Objects.equals(getCategory(previousState), getCategory(job.getState()))) {
+                events.add(toEvent(job, previousState, job.getState(), time));
+            }
+        }
+        for (final Job job : previous.getJobs()) {
+            if (comparedIds.add(job.getId())) {
+                events.add(toEvent(job, job.getState(), FINISHED_STATE, time));
+            }
+        }
+        return events;
+    }
+
+    private static JobState.Category getCategory(final JobState state) {
+        return state == null ? null : state.getCategory();
+    }
+
+    private static JobStateEvent toEvent(final Job job, final JobState previousState, final JobState state,
+                                         final LocalDateTime time) {
+        return JobStateEvent.builder()
+                .id(job.getId())
+                .name(job.getName())
+                .owner(job.getOwner())
+                .previousState(previousState)
+                .state(state)
+                .time(time)
+                .build();
+    }
+
+    private Listing<Job> toListing(final JobSnapshot current, final List<Job> jobs) {
+        final Listing<Job> listing = new Listing<>(jobs);
+        listing.setSnapshotTime(LocalDateTime.ofInstant(current.getTime(), clock.getZone()));
+        listing.setSnapshotAge(getAge(current).toMillis());
+        return listing;
+    }
+
+    private Duration getAge(final JobSnapshot current) {
+        return Duration.between(current.getTime(), clock.instant());
+    }
+}
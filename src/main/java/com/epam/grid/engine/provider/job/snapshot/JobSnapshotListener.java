@@ -0,0 +1,48 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.job.snapshot;
+
+import com.epam.grid.engine.entity.job.JobStateEvent;
+
+import java.util.List;
+
+/**
+ * The listener of the job snapshot changes, it's notified by the poller thread of {@link JobSnapshotEngine}
+ * every time a new version of the snapshot is published.
+ */
+@FunctionalInterface
+public interface JobSnapshotListener {
+
+    /**
+     * Handles a new version of the job snapshot.
+     *
+     * @param snapshot The new snapshot.
+     * @param events   The state changes of the jobs since the previous snapshot, it may be empty.
+     */
+    void onSnapshot(JobSnapshot snapshot, List<JobStateEvent> events);
+
+    /**
+     * Handles every successful refresh of the job snapshot, whether the version is changed or not.
+     * It's called after {@link #onSnapshot(JobSnapshot, List)} if the version is changed.
+     *
+     * @param snapshot The latest snapshot.
+     */
+    default void onRefresh(final JobSnapshot snapshot) {
+    }
+}
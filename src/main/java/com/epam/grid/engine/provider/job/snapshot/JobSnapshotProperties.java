@@ -0,0 +1,64 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.job.snapshot;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * This class holds the settings of the job snapshot, they are defined by the properties
+ * with the {@code job.snapshot} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "job.snapshot")
+public class JobSnapshotProperties {
+
+    /**
+     * Serve the job listings from a snapshot of all jobs refreshed in the background.
+     */
+    private boolean enabled;
+    /**
+     * The delay between the end of a snapshot refresh and the start of the next one.
+     */
+    private Duration interval = Duration.ofSeconds(5);
+    /**
+     * The maximum age of a snapshot used for the job listings, the jobs are requested from the grid engine
+     * if the snapshot is older, e.g. when the grid engine commands fail.
+     */
+    private Duration maxAge = Duration.ofSeconds(30);
+    /**
+     * The time after which a job event stream is closed, the clients are expected to reconnect.
+     */
+    private Duration eventsTimeout = Duration.ofMinutes(30);
+    /**
+     * The maximum number of events waiting to be sent to a subscriber, the stream of a subscriber
+     * that lags further behind is closed.
+     */
+    private int eventsQueueSize = 100;
+    /**
+     * The number of threads that send the job events to the subscribers.
+     */
+    private int eventsSenders = 4;
+    /**
+     * The maximum time a request waits for a job state, the current state is returned afterwards.
+     */
+    private Duration maxWaitTimeout = Duration.ofMinutes(5);
+}
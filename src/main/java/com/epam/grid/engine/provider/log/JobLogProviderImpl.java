@@ -1,7 +1,7 @@
 package com.epam.grid.engine.provider.log;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.job.JobLogInfo;
@@ -38,7 +38,7 @@ public class JobLogProviderImpl implements JobLogProvider {
     /**
      * The command execution mechanism used.
      */
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
 
     /**
      * An object that forms the structure of an executable command according to a template.
@@ -51,11 +51,11 @@ public class JobLogProviderImpl implements JobLogProvider {
      */
     private final String logDir;
 
-    public JobLogProviderImpl(final SimpleCmdExecutor simpleCmdExecutor,
+    public JobLogProviderImpl(final CmdExecutor cmdExecutor,
                               final GridEngineCommandCompiler commandCompiler,
                               @Value("${job.log.dir}") final String logDir,
                               @Value("${grid.engine.shared.folder}") final String gridSharedFolder) {
-        this.simpleCmdExecutor = simpleCmdExecutor;
+        this.cmdExecutor = cmdExecutor;
         this.commandCompiler = commandCompiler;
         this.logDir = DirectoryPathUtils.resolvePathToAbsolute(gridSharedFolder, logDir);
     }
@@ -81,9 +81,9 @@ public class JobLogProviderImpl implements JobLogProvider {
         context.setVariable("lines", lines);
         context.setVariable("fromHead", fromHead);
 
-        final CommandResult resultLogFileInfoCommand = simpleCmdExecutor.execute(
+        final CommandResult resultLogFileInfoCommand = cmdExecutor.execute(
                 commandCompiler.compileCommand(getProviderType(), GET_LOGFILE_INFO_COMMAND, context));
-        final CommandResult resultLogLinesCommand = simpleCmdExecutor.execute(
+        final CommandResult resultLogLinesCommand = cmdExecutor.execute(
                 commandCompiler.compileCommand(getProviderType(), GET_LOG_LINES_COMMAND, context));
 
         if (resultLogFileInfoCommand.getExitCode() != 0 || resultLogLinesCommand.getExitCode() != 0) {
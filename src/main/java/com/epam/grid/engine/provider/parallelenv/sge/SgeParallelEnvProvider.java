@@ -19,11 +19,12 @@
 
 package com.epam.grid.engine.provider.parallelenv.sge;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.cmd.CommandTemplateProperties;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.CommandResult;
-import com.epam.grid.engine.entity.EntitiesRawOutput;
+import com.epam.grid.engine.entity.ParsedCommandResult;
 import com.epam.grid.engine.entity.ParallelEnvFilter;
 import com.epam.grid.engine.entity.parallelenv.AllocationRuleType;
 import com.epam.grid.engine.entity.parallelenv.ParallelEnv;
@@ -42,19 +43,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.thymeleaf.context.Context;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.epam.grid.engine.provider.utils.CommandsUtils.determineStatus;
-import static com.epam.grid.engine.provider.utils.sge.common.SgeEntitiesRegistrationUtils.normalizePathToUnixFormat;
-import static com.epam.grid.engine.provider.utils.sge.common.SgeEntitiesRegistrationUtils.deleteTemporaryDescriptionFile;
+import static com.epam.grid.engine.provider.utils.sge.common.SgeEntitiesRegistrationUtils.executeWithEntityDescription;
 
 /**
  * This is the implementation of the PE provider for Sun Grid Engine.
@@ -82,8 +79,6 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
     private static final String ALLOCATION_RULE_FIELD = "allocationRule";
     private static final String PE_REG_TEMPLATE_FILE = "pe_registration_template";
     private static final String PE_REG_COMMAND_FILE = "pe_registration_command";
-    private static final String TEMPORARY_FILE_WAS_NOT_FOUND =
-            "Temporary file with parallel environment description was not found";
 
     /**
      * The MapStruct mapping mechanism used.
@@ -93,27 +88,31 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
     /**
      * The executor that provide the ability to call any command available in the current environment.
      */
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
 
     /**
      * An object that forms the structure of an executable command according to a template.
      */
     private final GridEngineCommandCompiler commandCompiler;
 
+    private final CommandTemplateProperties templateProperties;
+
     private final String peRegistrationDefaultSlots;
 
     private final String peRegistrationDefaultAllocationRule;
 
     public SgeParallelEnvProvider(final SgeParallelEnvMapper parallelEnvMapper,
-                                  final SimpleCmdExecutor simpleCmdExecutor,
+                                  final CmdExecutor cmdExecutor,
                                   final GridEngineCommandCompiler commandCompiler,
+                                  final CommandTemplateProperties templateProperties,
                                   @Value("${sge.parallel.environment.registration.default.slots:999}")
                                   final String peRegistrationDefaultSlots,
                                   @Value("${sge.parallel.environment.registration.default.allocation.rule:$fill_up}")
                                   final String peRegistrationDefaultAllocationRule) {
         this.parallelEnvMapper = parallelEnvMapper;
-        this.simpleCmdExecutor = simpleCmdExecutor;
+        this.cmdExecutor = cmdExecutor;
         this.commandCompiler = commandCompiler;
+        this.templateProperties = templateProperties;
         this.peRegistrationDefaultSlots = peRegistrationDefaultSlots;
         this.peRegistrationDefaultAllocationRule = peRegistrationDefaultAllocationRule;
     }
@@ -142,12 +141,11 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
         final Context context = new Context();
         context.setVariable(FILTER, filter);
         final String[] command = commandCompiler.compileCommand(getProviderType(), QCONF_SP, context);
-        final List<EntitiesRawOutput> rawPeList = SgeOutputParsingUtils
-                .splitOutputToEntities(executeCommandAndGetOutput(command), PE_NAME);
+        final ParsedCommandResult<List<Map<String, String>>> commandResult = cmdExecutor.executeStreaming(
+                output -> SgeOutputParsingUtils.readEntitiesToMaps(output, PE_NAME), command);
+        verifyCommandResult(commandResult.toCommandResult());
 
-        return rawPeList.stream()
-                .map(EntitiesRawOutput::getRawEntitiesList)
-                .map(SgeOutputParsingUtils::parseEntitiesToMap)
+        return commandResult.getOutput().stream()
                 .map(parallelEnvMapper::mapRawOutputToSgePe)
                 .map(parallelEnvMapper::mapSgePeToPe)
                 .collect(Collectors.toList());
@@ -193,11 +191,11 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
     @Override
     public ParallelEnv registerParallelEnv(final PeRegistrationVO registrationRequest) {
         validateRegistrationRequest(registrationRequest);
-        final Path pathToTemporaryPeDescription = createPeRegistrationTmpFile(registrationRequest);
-        final CommandResult commandResult = simpleCmdExecutor
-                .execute(normalizePathToUnixFormat(pathToTemporaryPeDescription, PE_REG_COMMAND_FILE, commandCompiler));
+        final String peDescription = createPeRegistrationDescription(registrationRequest);
+        final CommandResult commandResult = executeWithEntityDescription(peDescription, PE_REG_COMMAND_FILE,
+                templateProperties.getEntityDescription(), commandCompiler, cmdExecutor);
         verifyProcessStatus(commandResult, determineStatus(commandResult.getStdErr()));
-        return createPeFromTemporaryFile(pathToTemporaryPeDescription);
+        return createPeFromDescription(peDescription);
     }
 
     private void validateRegistrationRequest(final PeRegistrationVO registrationRequest) {
@@ -222,7 +220,7 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
                 .isPresent();
     }
 
-    private Path createPeRegistrationTmpFile(final PeRegistrationVO peRegistrationVO) {
+    private String createPeRegistrationDescription(final PeRegistrationVO peRegistrationVO) {
         final Context context = new Context();
         context.setVariable(PE_NAME_FIELD, peRegistrationVO.getName());
         final String slots = peRegistrationVO.getSlots() != null
@@ -234,7 +232,7 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
                 : peRegistrationDefaultAllocationRule;
         context.setVariable(ALLOCATION_RULE_FIELD, allocationRule);
         return commandCompiler
-                .compileEntityConfigFile(getProviderType(), PE_REG_TEMPLATE_FILE, context);
+                .compileEntityDescription(getProviderType(), PE_REG_TEMPLATE_FILE, context);
     }
 
     private void verifyProcessStatus(final CommandResult commandResult, final HttpStatus status) {
@@ -245,17 +243,11 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
         }
     }
 
-    private ParallelEnv createPeFromTemporaryFile(final Path pathToTemporaryPeDescription) {
-        try (Stream<String> lines = Files.lines(pathToTemporaryPeDescription)) {
-            final List<String> rawEntities = lines.collect(Collectors.toList());
-            final SgeParallelEnv sgeParallelEnv = parallelEnvMapper.mapRawOutputToSgePe(SgeOutputParsingUtils
-                    .parseEntitiesToMap(rawEntities));
-            return parallelEnvMapper.mapSgePeToPe(sgeParallelEnv);
-        } catch (final IOException e) {
-            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, TEMPORARY_FILE_WAS_NOT_FOUND, e);
-        } finally {
-            deleteTemporaryDescriptionFile(pathToTemporaryPeDescription);
-        }
+    private ParallelEnv createPeFromDescription(final String peDescription) {
+        final List<String> rawEntities = peDescription.lines().collect(Collectors.toList());
+        final SgeParallelEnv sgeParallelEnv = parallelEnvMapper.mapRawOutputToSgePe(SgeOutputParsingUtils
+                .parseEntitiesToMap(rawEntities));
+        return parallelEnvMapper.mapSgePeToPe(sgeParallelEnv);
     }
 
     private ParallelEnvFilter validateAndFormPeFilter(final ParallelEnvFilter parallelEnvFilter) {
@@ -283,7 +275,7 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
 
     private String executeDeleteCommand(final String parallelEnvName) {
         final String[] deleteCommand = buildDeleteCommand(parallelEnvName);
-        final CommandResult commandResult = simpleCmdExecutor.execute(deleteCommand);
+        final CommandResult commandResult = cmdExecutor.execute(deleteCommand);
 
         if (commandResult.getExitCode() == 0) {
             return parallelEnvName;
@@ -306,13 +298,16 @@ public class SgeParallelEnvProvider implements ParallelEnvProvider {
     }
 
     private List<String> executeCommandAndGetOutput(final String[] envCommand) {
-        final CommandResult commandResult = simpleCmdExecutor.execute(envCommand);
+        final CommandResult commandResult = cmdExecutor.execute(envCommand);
+        verifyCommandResult(commandResult);
+        return commandResult.getStdOut();
+    }
 
+    private void verifyCommandResult(final CommandResult commandResult) {
         if (commandResult.getExitCode() != 0) {
             CommandsUtils.throwExecutionDetails(commandResult);
         } else if (!commandResult.getStdErr().isEmpty()) {
             log.warn(commandResult.getStdErr().toString());
         }
-        return commandResult.getStdOut();
     }
 }
@@ -19,11 +19,12 @@
 
 package com.epam.grid.engine.provider.queue.sge;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.cmd.CommandTemplateProperties;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
-import com.epam.grid.engine.entity.EntitiesRawOutput;
+import com.epam.grid.engine.entity.ParsedCommandResult;
 import com.epam.grid.engine.entity.QueueFilter;
 import com.epam.grid.engine.entity.queue.Queue;
 import com.epam.grid.engine.entity.queue.QueueVO;
@@ -42,17 +43,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.thymeleaf.context.Context;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.epam.grid.engine.provider.utils.CommandsUtils.determineStatus;
 import static com.epam.grid.engine.provider.utils.CommandsUtils.mergeOutputLines;
-import static com.epam.grid.engine.provider.utils.sge.common.SgeEntitiesRegistrationUtils.normalizePathToUnixFormat;
-import static com.epam.grid.engine.provider.utils.sge.common.SgeEntitiesRegistrationUtils.deleteTemporaryDescriptionFile;
+import static com.epam.grid.engine.provider.utils.sge.common.SgeEntitiesRegistrationUtils.executeWithEntityDescription;
 import static com.epam.grid.engine.utils.TextConstants.SPACE;
 
 /**
@@ -82,8 +79,6 @@ public class SgeQueueProvider implements QueueProvider {
     private static final String OWNER_LIST_DEFAULT = "NONE";
     private static final String USER_LIST_DEFAULT = "arusers";
 
-    private static final String TEMPORARY_FILE_WAS_NOT_FOUND =
-            "Temporary file with queue description was not found";
     private static final String WRONG_QUEUE_REGISTRATION_REQUEST_MESSAGE =
             "Queue registration request should exist, queue name should be specified!";
     private static final String WRONG_QUEUE_UPDATE_REQUEST_MESSAGE =
@@ -96,13 +91,15 @@ public class SgeQueueProvider implements QueueProvider {
      */
     private final SgeQueueMapper queueMapper;
 
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
 
     /**
      * An object that forms the structure of an executable command according to a template.
      */
     private final GridEngineCommandCompiler commandCompiler;
 
+    private final CommandTemplateProperties templateProperties;
+
     /**
      * Returns the type of used grid engine. In this case - Sun Grid Engine.
      *
@@ -121,7 +118,7 @@ public class SgeQueueProvider implements QueueProvider {
      */
     @Override
     public List<Queue> listQueues() {
-        final CommandResult commandResult = simpleCmdExecutor.execute(buildQueueListingCommand(null));
+        final CommandResult commandResult = cmdExecutor.execute(buildQueueListingCommand(null));
         verifyProcessStatus(commandResult, HttpStatus.NOT_FOUND);
 
         return commandResult.getStdOut().stream()
@@ -140,15 +137,12 @@ public class SgeQueueProvider implements QueueProvider {
      */
     @Override
     public List<Queue> listQueues(final QueueFilter queueFilter) {
-        final CommandResult commandResult = simpleCmdExecutor.execute(buildQueueListingCommand(queueFilter));
-        verifyProcessStatus(commandResult, HttpStatus.NOT_FOUND);
+        final ParsedCommandResult<List<Map<String, String>>> commandResult = cmdExecutor.executeStreaming(
+                output -> SgeOutputParsingUtils.readEntitiesToMaps(output, PREFIX),
+                buildQueueListingCommand(queueFilter));
+        verifyProcessStatus(commandResult.toCommandResult(), HttpStatus.NOT_FOUND);
 
-        final List<EntitiesRawOutput> queuesDescription = SgeOutputParsingUtils
-                .splitOutputToEntities(commandResult.getStdOut(), PREFIX);
-
-        final List<SgeQueue> sgeQueues = queuesDescription.stream()
-                .map(EntitiesRawOutput::getRawEntitiesList)
-                .map(SgeOutputParsingUtils::parseEntitiesToMap)
+        final List<SgeQueue> sgeQueues = commandResult.getOutput().stream()
                 .map(queueMapper::mapRawOutputToSgeQueue)
                 .collect(Collectors.toList());
 
@@ -168,14 +162,14 @@ public class SgeQueueProvider implements QueueProvider {
         validateRegistrationRequest(registrationRequest);
 
         final Context context = createQueueRegistrationContext(registrationRequest);
-        final Path pathToTemporaryQueueDescription = commandCompiler
-                .compileEntityConfigFile(getProviderType(), QUEUE_ENTITY, context);
+        final String queueDescription = commandCompiler
+                .compileEntityDescription(getProviderType(), QUEUE_ENTITY, context);
 
-        final CommandResult commandResult = simpleCmdExecutor
-                .execute(normalizePathToUnixFormat(pathToTemporaryQueueDescription, QCONF_AQ, commandCompiler));
+        final CommandResult commandResult = executeWithEntityDescription(queueDescription, QCONF_AQ,
+                templateProperties.getEntityDescription(), commandCompiler, cmdExecutor);
         verifyProcessStatus(commandResult, determineStatus(commandResult.getStdErr()));
 
-        return createQueueFromTemporaryFile(pathToTemporaryQueueDescription);
+        return createQueueFromDescription(queueDescription);
     }
 
     /**
@@ -210,14 +204,14 @@ public class SgeQueueProvider implements QueueProvider {
         }
         final Queue queue = queues.get(0);
         final Context context = createQueueUpdateContext(updateRequest, queue);
-        final Path pathToTemporaryQueueDescription = commandCompiler
-                .compileEntityConfigFile(getProviderType(), QUEUE_ENTITY, context);
+        final String queueDescription = commandCompiler
+                .compileEntityDescription(getProviderType(), QUEUE_ENTITY, context);
 
-        final CommandResult commandResult = simpleCmdExecutor
-                .execute(normalizePathToUnixFormat(pathToTemporaryQueueDescription, QCONF_MQ, commandCompiler));
+        final CommandResult commandResult = executeWithEntityDescription(queueDescription, QCONF_MQ,
+                templateProperties.getEntityDescription(), commandCompiler, cmdExecutor);
         verifyProcessStatus(commandResult, determineStatus(commandResult.getStdErr()));
 
-        return createQueueFromTemporaryFile(pathToTemporaryQueueDescription);
+        return createQueueFromDescription(queueDescription);
     }
 
     private Context createQueueUpdateContext(final QueueVO queueVO, final Queue queue) {
@@ -282,21 +276,15 @@ public class SgeQueueProvider implements QueueProvider {
         }
     }
 
-    private Queue createQueueFromTemporaryFile(final Path pathToTemporaryQueueDescription) {
-        try (Stream<String> lines = Files.lines(pathToTemporaryQueueDescription)) {
-            final List<String> rawEntity = lines.collect(Collectors.toList());
-            final SgeQueue sgeQueue = queueMapper.mapRawOutputToSgeQueue(SgeOutputParsingUtils
-                    .parseEntitiesToMap(rawEntity));
-            return queueMapper.sgeQueueToQueue(sgeQueue);
-        } catch (final IOException e) {
-            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, TEMPORARY_FILE_WAS_NOT_FOUND, e);
-        } finally {
-            deleteTemporaryDescriptionFile(pathToTemporaryQueueDescription);
-        }
+    private Queue createQueueFromDescription(final String queueDescription) {
+        final List<String> rawEntity = queueDescription.lines().collect(Collectors.toList());
+        final SgeQueue sgeQueue = queueMapper.mapRawOutputToSgeQueue(SgeOutputParsingUtils
+                .parseEntitiesToMap(rawEntity));
+        return queueMapper.sgeQueueToQueue(sgeQueue);
     }
 
     private String parseAndExecuteDeleteCommand(final String queueName) {
-        final CommandResult commandResult = simpleCmdExecutor
+        final CommandResult commandResult = cmdExecutor
                 .execute(SgeDeleteQueueCommandUtils.buildDeleteQueueCommand(queueName,
                         commandCompiler, getProviderType()));
 
@@ -19,8 +19,8 @@
 
 package com.epam.grid.engine.provider.queue.slurm;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.QueueFilter;
@@ -82,7 +82,7 @@ public class SlurmQueueProvider implements QueueProvider {
     private static final int SCONTROL_OUPUT_CPUS_INDEX = 2;
     private static final int SCONTROL_OUPUT_USERGROUPS_INDEX = 3;
 
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
     private final SlurmQueueMapper queueMapper;
 
     /**
@@ -104,7 +104,7 @@ public class SlurmQueueProvider implements QueueProvider {
     public Queue registerQueue(final QueueVO registrationRequest) {
         checkRegistrationRequest(registrationRequest);
         final Context context = prepareContext(registrationRequest);
-        final CommandResult result = simpleCmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
+        final CommandResult result = cmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
                 SCONTROL_COMMAND, context));
         checkIsResultIsCorrect(result);
         return listQueues(
@@ -131,7 +131,7 @@ public class SlurmQueueProvider implements QueueProvider {
         }
 
         final Context context = createContextWithUpdatePartitionName(updateName);
-        final CommandResult sinfoResult = simpleCmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
+        final CommandResult sinfoResult = cmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
                 SINFO_COMMAND, context));
         checkIfExecutionResultIsEmpty(sinfoResult);
 
@@ -154,7 +154,7 @@ public class SlurmQueueProvider implements QueueProvider {
         }
         fillContextWithDataToUpdate(context, updateUserGroups, updateHostListParsed);
 
-        final CommandResult result = simpleCmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
+        final CommandResult result = cmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
                 SCONTROL_COMMAND, context));
         checkIsResultIsCorrect(result);
 
@@ -168,7 +168,7 @@ public class SlurmQueueProvider implements QueueProvider {
 
     @Override
     public List<Queue> listQueues() {
-        final CommandResult result = simpleCmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
+        final CommandResult result = cmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
                 SINFO_COMMAND, new Context()));
         checkIsResultIsCorrect(result);
 
@@ -181,7 +181,7 @@ public class SlurmQueueProvider implements QueueProvider {
         if (queueFilter.getQueues() != null) {
             context.setVariable(SCONTROL_PARTITION_NAME, queueFilter.getQueues());
         }
-        final CommandResult result = simpleCmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
+        final CommandResult result = cmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
                 SINFO_COMMAND, context));
         checkIsResultIsCorrect(result);
 
@@ -196,7 +196,7 @@ public class SlurmQueueProvider implements QueueProvider {
         final Context context = new Context();
         context.setVariable(SCONTROL_ACTION, SCONTROL_DELETE_COMMAND);
         context.setVariable(SCONTROL_PARTITION_NAME, queueName);
-        final CommandResult result = simpleCmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
+        final CommandResult result = cmdExecutor.execute(commandCompiler.compileCommand(getProviderType(),
                 SCONTROL_COMMAND, context));
         checkIsResultIsCorrect(result);
         return Queue.builder()
@@ -19,8 +19,8 @@
 
 package com.epam.grid.engine.provider.usage.sge;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.usage.UsageReport;
@@ -63,7 +63,7 @@ public class SgeUsageProvider implements UsageProvider {
     /**
      * The executor that provide the ability to call any command available in the current environment.
      */
-    private final SimpleCmdExecutor simpleCmdExecutor;
+    private final CmdExecutor cmdExecutor;
 
     /**
      * An object that forms the structure of an executable command according to a template.
@@ -88,16 +88,16 @@ public class SgeUsageProvider implements UsageProvider {
         Optional.ofNullable(filter.getEndTime())
                 .ifPresent(endTime -> context.setVariable(END_TIME, parseTime(endTime)));
 
-        final CommandResult commandResult = simpleCmdExecutor.execute(commandCompiler.compileCommand(
-                getProviderType(), QACCT_COMMAND, context));
-
-        if (commandResult.getExitCode() != 0) {
-            CommandsUtils.throwExecutionDetails(commandResult);
-        } else if (!commandResult.getStdErr().isEmpty()) {
-            log.warn("Standard error while sge qacct command was executed: {}", commandResult.getStdErr());
+        try (CommandResult commandResult = cmdExecutor.execute(commandCompiler.compileCommand(
+                getProviderType(), QACCT_COMMAND, context))) {
+            if (commandResult.getExitCode() != 0) {
+                CommandsUtils.throwExecutionDetails(commandResult);
+            } else if (!commandResult.getStdErr().isEmpty()) {
+                log.warn("Standard error while sge qacct command was executed: {}", commandResult.getStdErr());
+            }
+            final SgeAccountingDataParser parser = selectSgeAccountingDataParser(filter);
+            return parser.parseAccountingDataFromStdOut(commandResult.getStdOut());
         }
-        final SgeAccountingDataParser parser = selectSgeAccountingDataParser(filter);
-        return parser.parseAccountingDataFromStdOut(commandResult.getStdOut());
     }
 
     /**
@@ -26,6 +26,10 @@ import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import static com.epam.grid.engine.utils.TextConstants.NEW_LINE_DELIMITER;
 import static com.epam.grid.engine.utils.TextConstants.EMPTY_STRING;
@@ -61,4 +65,37 @@ public final class CommandsUtils {
                 ? HttpStatus.FORBIDDEN
                 : HttpStatus.BAD_REQUEST;
     }
+
+    /**
+     * Waits for the future result of a command, the failure of the command is rethrown as it is.
+     *
+     * @param future The future result.
+     * @param <T>    The type of the result.
+     * @return The result.
+     */
+    public static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Combines the future results of the commands that are executed in parallel.
+     *
+     * @param futures The future results.
+     * @param <T>     The type of the results.
+     * @return The future list of the results in the order of the futures,
+     *         it fails if any of the futures fails.
+     */
+    public static <T> CompletableFuture<List<T>> allOf(final List<CompletableFuture<T>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.toList()));
+    }
 }
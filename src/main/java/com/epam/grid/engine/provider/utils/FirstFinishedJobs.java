@@ -0,0 +1,79 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils;
+
+import com.epam.grid.engine.entity.job.FinishedJob;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * This class keeps the first matching jobs in the order of the finished job listing while the jobs
+ * are parsed one by one, so a limited page is selected from a long accounting output in memory
+ * bounded by the limit. The jobs without the end time are skipped.
+ */
+public final class FirstFinishedJobs implements Consumer<FinishedJob> {
+
+    private final Predicate<FinishedJob> matcher;
+    private final Integer limit;
+
+    /**
+     * The kept jobs in the reverse listing order, so the head is the job evicted by a preceding one.
+     */
+    private final Queue<FinishedJob> jobs = new PriorityQueue<>(JobHistoryPageUtils.ORDER.reversed());
+
+    /**
+     * Creates the empty selection.
+     *
+     * @param matcher The predicate of the jobs to keep.
+     * @param limit   The maximum number of the kept jobs, all matching jobs are kept if it's null.
+     */
+    public FirstFinishedJobs(final Predicate<FinishedJob> matcher, final Integer limit) {
+        this.matcher = matcher;
+        this.limit = limit;
+    }
+
+    @Override
+    public void accept(final FinishedJob job) {
+        if (job.getEndTime() == null || !matcher.test(job)) {
+            return;
+        }
+        if (limit == null || jobs.size() < limit) {
+            jobs.add(job);
+        } else if (!jobs.isEmpty() && JobHistoryPageUtils.ORDER.compare(job, jobs.peek()) < 0) {
+            jobs.poll();
+            jobs.add(job);
+        }
+    }
+
+    /**
+     * Returns the kept jobs.
+     *
+     * @return The first matching jobs in the listing order.
+     */
+    public List<FinishedJob> getJobs() {
+        final List<FinishedJob> result = new ArrayList<>(jobs);
+        result.sort(JobHistoryPageUtils.ORDER);
+        return result;
+    }
+}
@@ -16,7 +16,6 @@
  *
  *
  */
-
 package com.epam.grid.engine.provider.utils;
 
 import com.epam.grid.engine.exception.GridEngineException;
@@ -27,20 +26,101 @@ import org.springframework.http.HttpStatus;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * This class unmarshalls XML documents. A context is created once per document class and its unmarshallers
+ * are reused, since they aren't thread-safe an unmarshaller is used by a single thread at a time.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class JaxbUtils {
 
+    private static final int UNMARSHALLER_POOL_SIZE = 16;
+
+    private static final Map<Class<?>, UnmarshallerPool> POOLS = new ConcurrentHashMap<>();
+
     public static <T> T unmarshall(final String xml, final Class<T> clazz) {
+        return unmarshall(new StringReader(xml), clazz);
+    }
+
+    /**
+     * Unmarshalls the XML document while it is being read, so the document doesn't have to be held
+     * in memory as a whole, e.g. the output of a running command.
+     *
+     * @param xml   The source of the XML document.
+     * @param clazz The class of the document root.
+     * @param <T>   The type of the document root.
+     * @return The unmarshalled document.
+     */
+    public static <T> T unmarshall(final Reader xml, final Class<T> clazz) {
+        return unmarshall(clazz, unmarshaller -> unmarshaller.unmarshal(xml));
+    }
+
+    /**
+     * Unmarshalls the XML document while it is being read, the encoding is defined by the document.
+     *
+     * @param xml   The source of the XML document.
+     * @param clazz The class of the document root.
+     * @param <T>   The type of the document root.
+     * @return The unmarshalled document.
+     */
+    public static <T> T unmarshall(final InputStream xml, final Class<T> clazz) {
+        return unmarshall(clazz, unmarshaller -> unmarshaller.unmarshal(xml));
+    }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T unmarshall(final Class<T> clazz, final UnmarshallingAction action) {
         try {
-            final JAXBContext context = JAXBContext.newInstance(clazz);
-            final Unmarshaller unmarshaller = context.createUnmarshaller();
-            return (T) unmarshaller.unmarshal(new StringReader(xml));
+            final UnmarshallerPool pool = POOLS.computeIfAbsent(clazz, JaxbUtils::createPool);
+            final Unmarshaller unmarshaller = pool.borrow();
+            final T result = (T) action.unmarshal(unmarshaller);
+            pool.release(unmarshaller);
+            return result;
         } catch (final JAXBException e) {
             throw new GridEngineException(HttpStatus.NOT_FOUND,
                     "Some problems during unmarshalling XML data", e);
         }
     }
+
+    private static UnmarshallerPool createPool(final Class<?> clazz) {
+        try {
+            return new UnmarshallerPool(JAXBContext.newInstance(clazz));
+        } catch (final JAXBException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Unable to create XML binding context for " + clazz.getName(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface UnmarshallingAction {
+        Object unmarshal(Unmarshaller unmarshaller) throws JAXBException;
+    }
+
+    /**
+     * Keeps the idle unmarshallers of a context. An unmarshaller that failed isn't released,
+     * so a broken document can't affect the following ones.
+     */
+    private static final class UnmarshallerPool {
+        private final JAXBContext context;
+        private final BlockingQueue<Unmarshaller> idleUnmarshallers = new ArrayBlockingQueue<>(UNMARSHALLER_POOL_SIZE);
+
+        UnmarshallerPool(final JAXBContext context) {
+            this.context = context;
+        }
+
+        Unmarshaller borrow() throws JAXBException {
+            final Unmarshaller unmarshaller = idleUnmarshallers.poll();
+            return unmarshaller != null ? unmarshaller : context.createUnmarshaller();
+        }
+
+        void release(final Unmarshaller unmarshaller) {
+            idleUnmarshallers.offer(unmarshaller);
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils;
+
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.exception.GridEngineException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * This class selects a page of a finished job listing, the jobs are ordered by their end time,
+ * so a cursor bounds the time window of the next page.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobHistoryPageUtils {
+
+    static final Comparator<FinishedJob> ORDER = Comparator.comparing(FinishedJob::getEndTime)
+            .thenComparingLong(FinishedJob::getId)
+            .thenComparing(FinishedJob::getTaskId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final String CURSOR_DELIMITER = "|";
+    private static final String CURSOR_DELIMITER_PATTERN = "\\|";
+    private static final int CURSOR_PARTS = 3;
+    private static final String EMPTY_VALUE = "";
+    private static final String INVALID_CURSOR = "The cursor is invalid";
+
+    /**
+     * Selects the page of the finished jobs which follow the last job of the previous page.
+     *
+     * @param jobs    The finished jobs matching the filter, all of them should have the end time.
+     * @param lastJob The last job of the previous page decoded from the cursor, it's null for the first page.
+     * @param limit   The maximum number of jobs on the page, all jobs are listed if it's null.
+     * @return The page ordered by the end time with the cursor of the next page.
+     */
+    public static Listing<FinishedJob> selectPage(final List<FinishedJob> jobs, final FinishedJob lastJob,
+                                                  final Integer limit) {
+        final List<FinishedJob> remainingJobs = jobs.stream()
+                .filter(job -> follows(job, lastJob))
+                .sorted(ORDER)
+                .collect(Collectors.toList());
+        if (limit == null || remainingJobs.size() <= limit) {
+            return new Listing<>(remainingJobs);
+        }
+        final List<FinishedJob> page = remainingJobs.subList(0, limit);
+        final Listing<FinishedJob> result = new Listing<>(page);
+        result.setNextCursor(encodeCursor(page.get(page.size() - 1)));
+        return result;
+    }
+
+    /**
+     * Checks whether the job follows the last job of the previous page in the listing order.
+     *
+     * @param job     The finished job with the end time.
+     * @param lastJob The last job of the previous page decoded from the cursor, it's null for the first page.
+     * @return true if the job may be listed on the page that follows the last job.
+     */
+    public static boolean follows(final FinishedJob job, final FinishedJob lastJob) {
+        return lastJob == null || ORDER.compare(job, lastJob) > 0;
+    }
+
+    /**
+     * Decodes the cursor into the sort key of the last job of the previous page.
+     *
+     * @param cursor The cursor returned with the previous page.
+     * @return The job with the end time, id and task id of the last job.
+     */
+    public static FinishedJob decodeCursor(final String cursor) {
+        try {
+            final String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_DELIMITER_PATTERN, CURSOR_PARTS);
+            if (parts.length != CURSOR_PARTS) {
+                throw new GridEngineException(HttpStatus.BAD_REQUEST, INVALID_CURSOR);
+            }
+            return FinishedJob.builder()
+                    .endTime(LocalDateTime.parse(parts[0]))
+                    .id(Long.parseLong(parts[1]))
+                    .taskId(parts[2].isEmpty() ? null : parts[2])
+                    .build();
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw new GridEngineException(HttpStatus.BAD_REQUEST, INVALID_CURSOR, e);
+        }
+    }
+
+    private static String encodeCursor(final FinishedJob job) {
+        final String cursor = String.join(CURSOR_DELIMITER, job.getEndTime().toString(),
+                String.valueOf(job.getId()), Objects.toString(job.getTaskId(), EMPTY_VALUE));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
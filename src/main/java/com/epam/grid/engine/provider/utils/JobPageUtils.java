@@ -0,0 +1,205 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobSortField;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.exception.GridEngineException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+/**
+ * This class selects a page of a job listing according to the limit, cursor and sorting of the job filter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobPageUtils {
+
+    private static final String CURSOR_DELIMITER = "|";
+    private static final String CURSOR_DELIMITER_PATTERN = "\\|";
+    private static final int CURSOR_PARTS = 6;
+    private static final String EMPTY_VALUE = "";
+    private static final String INVALID_CURSOR = "The cursor is invalid or doesn't match the sorting of the listing";
+
+    /**
+     * Selects the page of the listing. The cursor holds the sort key of the last job of the previous page,
+     * so the next page starts after that job even if jobs are added or removed between the requests.
+     * The job ID, the array task ID and the queue name complete the sort key, they are stable between
+     * the requests unlike the position of the job in the listing.
+     * A limited page is selected by a heap of the limit size instead of sorting all the jobs.
+     * The listing is returned as is if the filter specifies neither a limit, nor a cursor, nor a sort field.
+     *
+     * @param listing   The listing of all jobs matching the filter.
+     * @param jobFilter The filter with the page parameters.
+     * @return The sorted page with the number of all matching jobs and the cursor of the next page.
+     */
+    public static Listing<Job> selectPage(final Listing<Job> listing, final JobFilter jobFilter) {
+        if (jobFilter == null || jobFilter.getLimit() == null && jobFilter.getCursor() == null
+                && jobFilter.getSort() == null) {
+            return listing;
+        }
+        final Integer limit = jobFilter.getLimit();
+        if (limit != null && limit < 1) {
+            throw new GridEngineException(HttpStatus.BAD_REQUEST, "The limit should be a positive number");
+        }
+        final JobSortField sort = Optional.ofNullable(jobFilter.getSort()).orElse(JobSortField.ID);
+        final Comparator<Job> comparator = getComparator(sort, jobFilter.isDescending());
+        final Job lastJob = Optional.ofNullable(jobFilter.getCursor())
+                .map(cursor -> decodeCursor(cursor, sort, jobFilter.isDescending()))
+                .orElse(null);
+        final List<Job> jobs = ListUtils.emptyIfNull(listing.getElements());
+        final List<Job> remainingJobs = lastJob == null
+                ? jobs
+                : jobs.stream()
+                        .filter(job -> comparator.compare(job, lastJob) > 0)
+                        .collect(Collectors.toList());
+        final List<Job> page = limit == null
+                ? sort(remainingJobs, comparator)
+                : selectTop(remainingJobs, comparator, limit);
+
+        final Listing<Job> result = new Listing<>(page);
+        result.setSnapshotTime(listing.getSnapshotTime());
+        result.setSnapshotAge(listing.getSnapshotAge());
+        result.setTotalCount(jobs.size());
+        if (page.size() < remainingJobs.size()) {
+            result.setNextCursor(encodeCursor(page.get(page.size() - 1), sort, jobFilter.isDescending()));
+        }
+        return result;
+    }
+
+    private static List<Job> sort(final List<Job> jobs, final Comparator<Job> comparator) {
+        final List<Job> sortedJobs = new ArrayList<>(jobs);
+        sortedJobs.sort(comparator);
+        return sortedJobs;
+    }
+
+    private static List<Job> selectTop(final List<Job> jobs, final Comparator<Job> comparator, final int limit) {
+        final Queue<Job> heap = new PriorityQueue<>(Math.min(limit, jobs.size()) + 1, comparator.reversed());
+        for (final Job job : jobs) {
+            heap.offer(job);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        return sort(new ArrayList<>(heap), comparator);
+    }
+
+    private static Comparator<Job> getComparator(final JobSortField sort, final boolean descending) {
+        final Comparator<Job> fieldComparator;
+        switch (sort) {
+            case SUBMISSION_TIME:
+                fieldComparator = Comparator.comparing(Job::getSubmissionTime,
+                        Comparator.nullsLast(Comparator.naturalOrder()));
+                break;
+            case PRIORITY:
+                fieldComparator = Comparator.comparingDouble(Job::getPriority);
+                break;
+            case STATE:
+                fieldComparator = Comparator.comparing(JobPageUtils::getCategory,
+                        Comparator.nullsLast(Comparator.naturalOrder()));
+                break;
+            default:
+                fieldComparator = Comparator.comparingLong(Job::getId);
+                break;
+        }
+        return (descending ? fieldComparator.reversed() : fieldComparator)
+                .thenComparingLong(Job::getId)
+                .thenComparing(Job::getTaskId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Job::getQueueName, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    private static String encodeCursor(final Job job, final JobSortField sort, final boolean descending) {
+        final String cursor = String.join(CURSOR_DELIMITER, sort.name(), String.valueOf(descending),
+                String.valueOf(job.getId()), getSortValue(job, sort), Objects.toString(job.getTaskId(), EMPTY_VALUE),
+                Objects.toString(job.getQueueName(), EMPTY_VALUE));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Job decodeCursor(final String cursor, final JobSortField sort, final boolean descending) {
+        try {
+            final String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_DELIMITER_PATTERN, CURSOR_PARTS);
+            if (parts.length != CURSOR_PARTS || !sort.name().equals(parts[0])
+                    || !String.valueOf(descending).equals(parts[1])) {
+                throw new GridEngineException(HttpStatus.BAD_REQUEST, INVALID_CURSOR);
+            }
+            final Job.JobBuilder job = Job.builder()
+                    .id(Long.parseLong(parts[2]))
+                    .taskId(parts[4].isEmpty() ? null : parts[4])
+                    .queueName(parts[5].isEmpty() ? null : parts[5]);
+            final String value = parts[3];
+            if (!value.isEmpty()) {
+                switch (sort) {
+                    case SUBMISSION_TIME:
+                        job.submissionTime(LocalDateTime.parse(value));
+                        break;
+                    case PRIORITY:
+                        job.priority(Double.parseDouble(value));
+                        break;
+                    case STATE:
+                        job.state(JobState.builder()
+                                .category(JobState.Category.valueOf(value))
+                                .build());
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return job.build();
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw new GridEngineException(HttpStatus.BAD_REQUEST, INVALID_CURSOR, e);
+        }
+    }
+
+    private static String getSortValue(final Job job, final JobSortField sort) {
+        switch (sort) {
+            case SUBMISSION_TIME:
+                return Objects.toString(job.getSubmissionTime(), EMPTY_VALUE);
+            case PRIORITY:
+                return Double.toString(job.getPriority());
+            case STATE:
+                return Optional.ofNullable(getCategory(job))
+                        .map(Enum::name)
+                        .orElse(EMPTY_VALUE);
+            default:
+                return EMPTY_VALUE;
+        }
+    }
+
+    private static JobState.Category getCategory(final Job job) {
+        return job.getState() == null ? null : job.getState().getCategory();
+    }
+}
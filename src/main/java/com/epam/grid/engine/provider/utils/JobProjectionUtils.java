@@ -0,0 +1,134 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobField;
+import com.epam.grid.engine.entity.job.JobSortField;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This class narrows the listed jobs to the fields requested by the job filter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobProjectionUtils {
+
+    /**
+     * Gets the fields the grid engine has to provide for the filter. Besides the requested fields,
+     * the id and the sort field are required to select a page of the listing.
+     *
+     * @param jobFilter The specified filter.
+     * @return The required fields, or an empty set if all fields are requested.
+     */
+    public static Set<JobField> getRequiredFields(final JobFilter jobFilter) {
+        final Set<JobField> fields = getRequestedFields(jobFilter);
+        if (fields.isEmpty()) {
+            return fields;
+        }
+        fields.add(JobField.ID);
+        if (jobFilter.getSort() != null) {
+            fields.add(toField(jobFilter.getSort()));
+        }
+        return fields;
+    }
+
+    /**
+     * Replaces the jobs of the listing by the copies that contain only the requested fields,
+     * the listed jobs themselves are not changed since they may be shared by a job snapshot.
+     *
+     * @param listing   The listing of jobs.
+     * @param jobFilter The filter with the requested fields.
+     * @return The listing with the narrowed jobs.
+     */
+    public static Listing<Job> project(final Listing<Job> listing, final JobFilter jobFilter) {
+        final Set<JobField> fields = getRequestedFields(jobFilter);
+        if (fields.isEmpty()) {
+            return listing;
+        }
+        listing.setElements(ListUtils.emptyIfNull(listing.getElements()).stream()
+                .map(job -> project(job, fields))
+                .collect(Collectors.toList()));
+        return listing;
+    }
+
+    private static Job project(final Job job, final Set<JobField> fields) {
+        final Job.JobBuilder projection = Job.builder();
+        if (fields.contains(JobField.ID)) {
+            projection.id(job.getId());
+        }
+        if (fields.contains(JobField.PRIORITY)) {
+            projection.priority(job.getPriority());
+        }
+        if (fields.contains(JobField.NAME)) {
+            projection.name(job.getName());
+        }
+        if (fields.contains(JobField.OWNER)) {
+            projection.owner(job.getOwner());
+        }
+        if (fields.contains(JobField.STATE)) {
+            projection.state(job.getState());
+        }
+        if (fields.contains(JobField.SUBMISSION_TIME)) {
+            projection.submissionTime(job.getSubmissionTime());
+        }
+        if (fields.contains(JobField.QUEUE_NAME)) {
+            projection.queueName(job.getQueueName());
+        }
+        if (fields.contains(JobField.SLOTS)) {
+            projection.slots(job.getSlots());
+        }
+        if (fields.contains(JobField.TASK_ID)) {
+            projection.taskId(job.getTaskId());
+        }
+        return projection.build();
+    }
+
+    private static Set<JobField> getRequestedFields(final JobFilter jobFilter) {
+        if (jobFilter == null || CollectionUtils.isEmpty(jobFilter.getFields())) {
+            return Collections.emptySet();
+        }
+        return jobFilter.getFields().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(JobField.class)));
+    }
+
+    private static JobField toField(final JobSortField sort) {
+        switch (sort) {
+            case SUBMISSION_TIME:
+                return JobField.SUBMISSION_TIME;
+            case PRIORITY:
+                return JobField.PRIORITY;
+            case STATE:
+                return JobField.STATE;
+            default:
+                return JobField.ID;
+        }
+    }
+}
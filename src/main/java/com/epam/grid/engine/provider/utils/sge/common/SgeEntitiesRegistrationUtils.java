@@ -16,14 +16,17 @@
  *
  *
  */
-
 package com.epam.grid.engine.provider.utils.sge.common;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.cmd.CommandTemplateProperties.EntityDescriptionMode;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
+import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.exception.GridEngineException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.thymeleaf.context.Context;
 
@@ -31,26 +34,75 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+@Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SgeEntitiesRegistrationUtils {
 
     private static final String TEMP_FILE_FIELD = "tempFile";
-    private static final String TEMPORARY_FILE_WAS_NOT_FOUND =
-            "Temporary file with entity's description was not found";
+    private static final String STANDARD_INPUT_PATH = "/dev/stdin";
+    private static final String TEMP_FILE_PREFIX = "sge-api_entity_tmp_files";
+    private static final String CREATING_ENTITY_DESCRIPTION_FILE_ERROR =
+            "Unable to create temporary entity description file";
 
-    public static String[] normalizePathToUnixFormat(final Path pathToDescription, final String command,
-                                                     final GridEngineCommandCompiler commandCompiler) {
+    /**
+     * Executes the command that registers or updates an entity by its description. The description is passed
+     * to the command as {@code /dev/stdin} or as a temporary file that is deleted once the command completes.
+     *
+     * @param description     The entity description.
+     * @param command         The name of the command template, it refers to the description by {@code tempFile}.
+     * @param mode            The way the description is passed to the command.
+     * @param commandCompiler The compiler of the command.
+     * @param cmdExecutor     The executor of the command.
+     * @return The result of the command execution.
+     */
+    public static CommandResult executeWithEntityDescription(final String description, final String command,
+                                                             final EntityDescriptionMode mode,
+                                                             final GridEngineCommandCompiler commandCompiler,
+                                                             final CmdExecutor cmdExecutor) {
+        if (mode == EntityDescriptionMode.STDIN) {
+            return cmdExecutor.executeWithInput(description,
+                    compileDescriptionCommand(STANDARD_INPUT_PATH, command, commandCompiler));
+        }
+        final Path descriptionFile = writeTemporaryDescriptionFile(description);
+        try {
+            return cmdExecutor.execute(normalizePathToUnixFormat(descriptionFile, command, commandCompiler));
+        } finally {
+            deleteTemporaryDescriptionFile(descriptionFile);
+        }
+    }
+
+    private static String[] normalizePathToUnixFormat(final Path pathToDescription, final String command,
+                                                      final GridEngineCommandCompiler commandCompiler) {
+        return compileDescriptionCommand(pathToDescription.toFile().getAbsolutePath().replaceAll("\\\\", "//"),
+                command, commandCompiler);
+    }
+
+    private static String[] compileDescriptionCommand(final String descriptionPath, final String command,
+                                                      final GridEngineCommandCompiler commandCompiler) {
         final Context context = new Context();
-        context.setVariable(TEMP_FILE_FIELD, pathToDescription.toFile().getAbsolutePath()
-                .replaceAll("\\\\", "//"));
+        context.setVariable(TEMP_FILE_FIELD, descriptionPath);
         return commandCompiler.compileCommand(CommandType.SGE, command, context);
     }
 
-    public static void deleteTemporaryDescriptionFile(final Path path) {
+    private static Path writeTemporaryDescriptionFile(final String description) {
+        Path descriptionFile = null;
+        try {
+            descriptionFile = Files.createTempFile(TEMP_FILE_PREFIX, null);
+            return Files.writeString(descriptionFile, description);
+        } catch (final IOException e) {
+            if (descriptionFile != null) {
+                deleteTemporaryDescriptionFile(descriptionFile);
+            }
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, CREATING_ENTITY_DESCRIPTION_FILE_ERROR, e);
+        }
+    }
+
+    private static void deleteTemporaryDescriptionFile(final Path path) {
         try {
             Files.deleteIfExists(path);
         } catch (final IOException e) {
-            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, TEMPORARY_FILE_WAS_NOT_FOUND, e);
+            log.warn("Unable to delete temporary entity description file {}", path, e);
+            path.toFile().deleteOnExit();
         }
     }
 }
@@ -24,6 +24,9 @@ import com.epam.grid.engine.entity.EntitiesRawOutput;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -79,4 +82,35 @@ public final class SgeOutputParsingUtils {
                 .collect(Collectors.toMap(line -> line.split(SPACE, 2)[0].trim(),
                         line -> line.split(SPACE, 2)[1].trim()));
     }
+
+    /**
+     * Reads SGE command output line by line and converts each entity starting with entityType parameter
+     * to {@link Map} as soon as the entity is read, so only the lines of a single entity are held in memory.
+     *
+     * @param output the stdOut of the running SGE command
+     * @param entityType determines begging of an entity
+     * @return a List containing a Map of parameters for each entity
+     * @throws IOException if the output can't be read
+     * @see #splitOutputToEntities(List, String)
+     * @see #parseEntitiesToMap(List)
+     */
+    public static List<Map<String, String>> readEntitiesToMaps(final BufferedReader output,
+                                                               final String entityType) throws IOException {
+        final List<Map<String, String>> entities = new ArrayList<>();
+        final List<String> entityLines = new ArrayList<>();
+        String line;
+        while ((line = output.readLine()) != null) {
+            if (line.startsWith(entityType) && !entityLines.isEmpty()) {
+                entities.add(parseEntitiesToMap(entityLines));
+                entityLines.clear();
+            }
+            if (line.startsWith(entityType) || !entityLines.isEmpty()) {
+                entityLines.add(line);
+            }
+        }
+        if (!entityLines.isEmpty()) {
+            entities.add(parseEntitiesToMap(entityLines));
+        }
+        return entities;
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.sge.history;
+
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.exception.GridEngineException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * This class parses the accounting records printed by {@code qacct -j}, each record starts
+ * with a line of {@code =} characters and consists of the key value lines.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QacctJobParser {
+
+    private static final Pattern RECORD_SEPARATOR = Pattern.compile("^=+$");
+    private static final String KEY_VALUE_DELIMITER = "\\s+";
+    private static final String JOB_NUMBER = "jobnumber";
+    private static final String UNDEFINED = "undefined";
+    private static final String FAILED_STATE = "failed";
+    private static final String EXITED_STATE = "exited";
+    private static final String COMPLETED_STATE = "completed";
+    private static final Set<String> UNKNOWN_TIMES = Set.of("-/-", "");
+    private static final DateTimeFormatter CTIME_FORMAT =
+            DateTimeFormatter.ofPattern("EEE MMM ppd HH:mm:ss yyyy", Locale.US);
+    private static final DateTimeFormatter NUMERIC_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss.SSS");
+
+    /**
+     * Parses the accounting records of the finished jobs record by record, so the output is never held in memory.
+     *
+     * @param output   The command output.
+     * @param consumer The consumer of the parsed jobs.
+     * @throws IOException if the output can't be read.
+     */
+    public static void parseJobs(final BufferedReader output, final Consumer<FinishedJob> consumer)
+            throws IOException {
+        final Map<String, String> fields = new HashMap<>();
+        for (String line = output.readLine(); line != null; line = output.readLine()) {
+            if (RECORD_SEPARATOR.matcher(line).matches()) {
+                addJob(consumer, fields);
+                fields.clear();
+                continue;
+            }
+            final String[] keyValue = line.trim().split(KEY_VALUE_DELIMITER, 2);
+            if (keyValue.length == 2) {
+                fields.put(keyValue[0], keyValue[1].trim());
+            }
+        }
+        addJob(consumer, fields);
+    }
+
+    private static void addJob(final Consumer<FinishedJob> consumer, final Map<String, String> fields) {
+        if (!fields.containsKey(JOB_NUMBER)) {
+            return;
+        }
+        try {
+            final String taskId = fields.get("taskid");
+            final int failed = Integer.parseInt(fields.getOrDefault("failed", "0").split(KEY_VALUE_DELIMITER)[0]);
+            final int exitStatus = Integer.parseInt(fields.getOrDefault("exit_status", "0")
+                    .split(KEY_VALUE_DELIMITER)[0]);
+            consumer.accept(FinishedJob.builder()
+                    .id(Long.parseLong(fields.get(JOB_NUMBER)))
+                    .taskId(taskId == null || UNDEFINED.equals(taskId) ? null : taskId)
+                    .name(fields.get("jobname"))
+                    .owner(fields.get("owner"))
+                    .queueName(fields.get("qname"))
+                    .state(getState(failed, exitStatus))
+                    .exitCode(exitStatus)
+                    .submissionTime(parseTime(fields.get("qsub_time")))
+                    .startTime(parseTime(fields.get("start_time")))
+                    .endTime(parseTime(fields.get("end_time")))
+                    .build());
+        } catch (final NumberFormatException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to parse job accounting data", e);
+        }
+    }
+
+    private static JobState getState(final int failed, final int exitStatus) {
+        if (failed != 0) {
+            return JobState.builder().category(JobState.Category.ERROR).state(FAILED_STATE).build();
+        }
+        if (exitStatus != 0) {
+            return JobState.builder().category(JobState.Category.ERROR).state(EXITED_STATE).build();
+        }
+        return JobState.builder().category(JobState.Category.FINISHED).state(COMPLETED_STATE).build();
+    }
+
+    private static LocalDateTime parseTime(final String time) {
+        if (time == null || UNKNOWN_TIMES.contains(time)) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(time, CTIME_FORMAT);
+        } catch (final DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(time, NUMERIC_FORMAT);
+            } catch (final DateTimeParseException numericException) {
+                throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "Error during date parsing",
+                        numericException);
+            }
+        }
+    }
+}
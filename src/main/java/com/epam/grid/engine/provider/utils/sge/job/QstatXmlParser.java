@@ -0,0 +1,226 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.sge.job;
+
+import com.epam.grid.engine.entity.job.sge.SgeJob;
+import com.epam.grid.engine.exception.GridEngineException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * This class parses the {@code qstat -xml} output while it is being read. Every {@code job_list} element
+ * is filtered and mapped as soon as it's complete, so only the selected jobs are kept in memory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QstatXmlParser {
+
+    private static final String QUEUE_INFO = "queue_info";
+    private static final String JOB_INFO = "job_info";
+    private static final String JOB_LIST = "job_list";
+    private static final String STATE = "state";
+    private static final String JOB_OWNER = "JB_owner";
+    private static final int SECTION_DEPTH = 2;
+    private static final int JOB_DEPTH = 3;
+    private static final String FAILED_TO_PARSE_QSTAT_OUTPUT = "Some problems during parsing qstat XML output";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    /**
+     * Parses the jobs of the {@code qstat -xml} output. The pending jobs of the {@code job_info} section
+     * precede the jobs of the {@code queue_info} section as in the unmarshalled {@code SgeQueueListing}.
+     *
+     * @param xml    The source of the qstat output.
+     * @param filter The predicate that selects the jobs.
+     * @param mapper The mapper of the selected jobs.
+     * @param <T>    The type of the mapped jobs.
+     * @return The mapped jobs that match the filter.
+     */
+    public static <T> List<T> parseJobs(final Reader xml, final Predicate<SgeJob> filter,
+                                        final Function<SgeJob, T> mapper) {
+        final List<T> pendingJobs = new ArrayList<>();
+        final List<T> queuedJobs = new ArrayList<>();
+        try {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+            try {
+                List<T> sectionJobs = null;
+                int depth = 0;
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.END_ELEMENT) {
+                        depth--;
+                    } else if (event == XMLStreamConstants.START_ELEMENT) {
+                        depth++;
+                        if (depth == SECTION_DEPTH) {
+                            sectionJobs = selectSection(reader.getLocalName(), pendingJobs, queuedJobs);
+                        } else if (depth == JOB_DEPTH && sectionJobs != null
+                                && JOB_LIST.equals(reader.getLocalName())) {
+                            final SgeJob job = readJob(reader);
+                            depth--;
+                            if (filter.test(job)) {
+                                sectionJobs.add(mapper.apply(job));
+                            }
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw new GridEngineException(HttpStatus.NOT_FOUND, FAILED_TO_PARSE_QSTAT_OUTPUT, e);
+        }
+        pendingJobs.addAll(queuedJobs);
+        return pendingJobs;
+    }
+
+    /**
+     * Parses the owners of the jobs of the {@code qstat -j <jobs> -xml} output, the unknown jobs are ignored.
+     *
+     * @param xml The source of the qstat output.
+     * @return The owners of the found jobs.
+     */
+    public static Set<String> parseJobOwners(final Reader xml) {
+        final Set<String> owners = new HashSet<>();
+        try {
+            final XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && JOB_OWNER.equals(reader.getLocalName())) {
+                        owners.add(reader.getElementText().trim());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw new GridEngineException(HttpStatus.NOT_FOUND, FAILED_TO_PARSE_QSTAT_OUTPUT, e);
+        }
+        return owners;
+    }
+
+    private static <T> List<T> selectSection(final String section, final List<T> pendingJobs,
+                                             final List<T> queuedJobs) {
+        if (JOB_INFO.equals(section)) {
+            return pendingJobs;
+        }
+        return QUEUE_INFO.equals(section) ? queuedJobs : null;
+    }
+
+    /**
+     * Reads the {@code job_list} element the reader is positioned at, the reader is left at its end tag.
+     */
+    private static SgeJob readJob(final XMLStreamReader reader) throws XMLStreamException {
+        final SgeJob job = new SgeJob();
+        job.setState(reader.getAttributeValue(null, STATE));
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "JB_job_number":
+                    job.setId(toLong(reader.getElementText()));
+                    break;
+                case "JAT_prio":
+                    job.setPriority(toDouble(reader.getElementText()));
+                    break;
+                case "JB_name":
+                    job.setName(reader.getElementText());
+                    break;
+                case JOB_OWNER:
+                    job.setOwner(reader.getElementText());
+                    break;
+                case STATE:
+                    job.setStateCode(reader.getElementText());
+                    break;
+                case "JAT_start_time":
+                case "JB_submission_time":
+                    job.setSubmissionTime(toDateTime(reader.getElementText()));
+                    break;
+                case "queue_name":
+                    job.setQueueName(reader.getElementText());
+                    break;
+                case "tasks":
+                    job.setTaskId(reader.getElementText());
+                    break;
+                case "slots":
+                    job.setSlots((int) toLong(reader.getElementText()));
+                    break;
+                default:
+                    skipElement(reader);
+                    break;
+            }
+        }
+        return job;
+    }
+
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static long toLong(final String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static double toDouble(final String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static LocalDateTime toDateTime(final String value) {
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (final DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.slurm.history;
+
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.exception.GridEngineException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * This class parses the output of {@code sacct --parsable2 --noheader --format=<FORMAT>}, the jobs that haven't
+ * finished yet are skipped.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SacctJobParser {
+
+    /**
+     * The columns of the accounting records in the order of the parser.
+     */
+    public static final String FORMAT = "JobID,JobName,User,Partition,State,ExitCode,Submit,Start,End";
+
+    private static final int FIELDS_AMOUNT = 9;
+    private static final String FIELD_DELIMITER = "\\|";
+    private static final String TASK_DELIMITER = "_";
+    private static final String COMPONENT_DELIMITER = "+";
+    private static final String EXIT_CODE_DELIMITER = ":";
+    private static final String STATE_DELIMITER = " ";
+    private static final String COMPLETED = "COMPLETED";
+    private static final Set<String> CANCELLED_STATES = Set.of("CANCELLED", "PREEMPTED", "REVOKED");
+    private static final Set<String> UNFINISHED_STATES = Set.of("PENDING", "RUNNING", "REQUEUED", "RESIZING",
+            "SUSPENDED");
+    private static final Set<String> UNKNOWN_TIMES = Set.of("Unknown", "None", "");
+
+    /**
+     * Parses the accounting records of the finished jobs line by line, so the output is never held in memory.
+     *
+     * @param output   The command output.
+     * @param consumer The consumer of the parsed jobs.
+     */
+    public static void parseJobs(final BufferedReader output, final Consumer<FinishedJob> consumer) {
+        output.lines()
+                .filter(line -> !line.isEmpty())
+                .map(SacctJobParser::parseJob)
+                .filter(Objects::nonNull)
+                .forEach(consumer);
+    }
+
+    private static FinishedJob parseJob(final String line) {
+        final String[] fields = line.split(FIELD_DELIMITER, -1);
+        if (fields.length != FIELDS_AMOUNT) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "Job accounting field mismatch error. "
+                    + "Expected " + FIELDS_AMOUNT + " fields, but " + fields.length + " were provided");
+        }
+        final String state = fields[4].split(STATE_DELIMITER, 2)[0];
+        final LocalDateTime endTime = parseTime(fields[8]);
+        if (UNFINISHED_STATES.contains(state) || endTime == null) {
+            return null;
+        }
+        try {
+            final String jobId = fields[0];
+            final int taskDelimiter = jobId.indexOf(TASK_DELIMITER);
+            final int componentDelimiter = jobId.indexOf(COMPONENT_DELIMITER);
+            final int idEnd = taskDelimiter >= 0 ? taskDelimiter
+                    : componentDelimiter >= 0 ? componentDelimiter : jobId.length();
+            return FinishedJob.builder()
+                    .id(Long.parseLong(jobId.substring(0, idEnd)))
+                    .taskId(taskDelimiter >= 0 ? jobId.substring(taskDelimiter + 1) : null)
+                    .name(fields[1])
+                    .owner(fields[2])
+                    .queueName(fields[3])
+                    .state(JobState.builder()
+                            .category(getCategory(state))
+                            .state(state)
+                            .build())
+                    .exitCode(Integer.parseInt(fields[5].split(EXIT_CODE_DELIMITER, 2)[0]))
+                    .submissionTime(parseTime(fields[6]))
+                    .startTime(parseTime(fields[7]))
+                    .endTime(endTime)
+                    .build();
+        } catch (final NumberFormatException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to parse job accounting data", e);
+        }
+    }
+
+    private static JobState.Category getCategory(final String state) {
+        if (COMPLETED.equals(state)) {
+            return JobState.Category.FINISHED;
+        }
+        return CANCELLED_STATES.contains(state) ? JobState.Category.DELETED : JobState.Category.ERROR;
+    }
+
+    private static LocalDateTime parseTime(final String time) {
+        if (UNKNOWN_TIMES.contains(time)) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(time);
+        } catch (final DateTimeParseException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "Error during date parsing", e);
+        }
+    }
+}
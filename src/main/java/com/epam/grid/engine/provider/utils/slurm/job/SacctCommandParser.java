@@ -25,14 +25,17 @@ import com.epam.grid.engine.exception.GridEngineException;
 import com.epam.grid.engine.provider.utils.DateUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.epam.grid.engine.utils.TextConstants.COMMA;
 
@@ -42,7 +45,7 @@ public final class SacctCommandParser {
     private static final int JOB_DESCRIPTION_PARAMETERS_AMOUNT = 52;
     private static final String STANDARD_SLURM_DELIMETER = "\\|";
     private static final String FAILED_TO_PARSE_JOB_DATA = "failed to parse job data";
-    private static final String SLURM_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
+    private static final DateTimeFormatter SLURM_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
     public static List<String> parseSlurmJob(final String jobString) {
         final String[] jobArray = jobString.split(STANDARD_SLURM_DELIMETER);
@@ -53,6 +56,18 @@ public final class SacctCommandParser {
         return Arrays.stream(jobArray).collect(Collectors.toList());
     }
 
+    /**
+     * Lazily parses the lines of the job listing, so the jobs are mapped while the listing is being read.
+     *
+     * @param jobLines The job lines without the header.
+     * @return The stream of parsed jobs.
+     */
+    public static Stream<SlurmJob> parseSlurmJobs(final Stream<String> jobLines) {
+        return jobLines.map(SacctCommandParser::parseSlurmJob)
+                .filter(CollectionUtils::isNotEmpty)
+                .map(SacctCommandParser::mapJobDataToSlurmJob);
+    }
+
     public static SlurmJob mapJobDataToSlurmJob(final List<String> jobData) {
         try {
             return SlurmJob.builder()
@@ -120,7 +135,7 @@ public final class SacctCommandParser {
 
     private static LocalDateTime convertStringToTimeEntry(final String dateTime) {
         return !dateTime.equals("N/A")
-                ? DateUtils.tryParseStringToLocalDateTime(dateTime, SLURM_DATE_FORMAT)
+                ? DateUtils.tryParseStringToLocalDateTime(dateTime, SLURM_DATE_FORMATTER)
                 : null;
     }
 
@@ -0,0 +1,131 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.slurm.job;
+
+import com.epam.grid.engine.entity.job.JobField;
+import com.epam.grid.engine.entity.job.slurm.SlurmJob;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * This class is an explicit {@code squeue --format} that lists only the columns of the requested job fields,
+ * its job lines are decoded according to its column layout instead of the 52 columns of {@code %all}.
+ */
+public final class SqueueOutputFormat {
+
+    private static final String DELIMITER = "|";
+
+    private final List<Column> columns;
+    private final SqueueRowDecoder decoder;
+
+    private SqueueOutputFormat(final List<Column> columns) {
+        this.columns = columns;
+        this.decoder = new SqueueRowDecoder(columns.stream()
+                .map(column -> column.field)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates the format of the requested job fields. The slots are not listed by {@code squeue},
+     * so the slots field has no columns.
+     *
+     * @param fields The requested job fields.
+     * @return The format with the columns of the fields.
+     */
+    public static SqueueOutputFormat of(final Collection<JobField> fields) {
+        final Set<Column> columns = EnumSet.noneOf(Column.class);
+        for (final JobField field : fields) {
+            switch (field) {
+                case ID:
+                    columns.add(Column.JOB_ID);
+                    break;
+                case PRIORITY:
+                    columns.add(Column.PRIORITY);
+                    break;
+                case NAME:
+                    columns.add(Column.NAME);
+                    break;
+                case OWNER:
+                    columns.add(Column.USER);
+                    break;
+                case STATE:
+                    columns.add(Column.STATE);
+                    columns.add(Column.STATE_COMPACT);
+                    break;
+                case SUBMISSION_TIME:
+                    columns.add(Column.SUBMIT_TIME);
+                    break;
+                case QUEUE_NAME:
+                    columns.add(Column.PARTITION);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new SqueueOutputFormat(new ArrayList<>(columns));
+    }
+
+    /**
+     * Gets the value of the {@code squeue --format} option.
+     *
+     * @return The format specifications of the columns separated by the pipe character.
+     */
+    public String getFormat() {
+        return columns.stream()
+                .map(column -> column.specification)
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    /**
+     * Parses a job line of the listing, the job fields without a column are left unset.
+     *
+     * @param jobLine The job line.
+     * @return The parsed job.
+     */
+    public SlurmJob parseJob(final String jobLine) {
+        return decoder.decode(jobLine);
+    }
+
+    /**
+     * The columns in the order of {@code %all}, so a projected line has the order of the full listing.
+     */
+    private enum Column {
+        JOB_ID("%i", SqueueRowDecoder.Field.JOB_ID),
+        NAME("%j", SqueueRowDecoder.Field.NAME),
+        PRIORITY("%p", SqueueRowDecoder.Field.PRIORITY),
+        STATE_COMPACT("%t", SqueueRowDecoder.Field.STATE_COMPACT),
+        USER("%u", SqueueRowDecoder.Field.USER),
+        PARTITION("%P", SqueueRowDecoder.Field.PARTITION),
+        STATE("%T", SqueueRowDecoder.Field.STATE),
+        SUBMIT_TIME("%V", SqueueRowDecoder.Field.SUBMIT_TIME);
+
+        final String specification;
+        final SqueueRowDecoder.Field field;
+
+        Column(final String specification, final SqueueRowDecoder.Field field) {
+            this.specification = specification;
+            this.field = field;
+        }
+    }
+}
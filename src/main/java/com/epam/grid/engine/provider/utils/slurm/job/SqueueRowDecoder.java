@@ -0,0 +1,247 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.slurm.job;
+
+import com.epam.grid.engine.entity.job.slurm.SlurmJob;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.provider.utils.DateUtils;
+import org.springframework.http.HttpStatus;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class decodes the job lines of {@code squeue} into the job fields used by the API. A line is scanned
+ * once by the delimiter positions, only the columns with a field are copied, and the numbers and dates
+ * are parsed in place, so a job costs the allocation of its string fields only.
+ */
+public final class SqueueRowDecoder {
+
+    /**
+     * The decoder of the {@code squeue -o %all} lines, it reads 8 of their 52 columns.
+     */
+    public static final SqueueRowDecoder ALL_COLUMNS = new SqueueRowDecoder(allColumns());
+
+    private static final char DELIMITER = '|';
+    private static final String NOT_AVAILABLE = "N/A";
+    private static final int ALL_COLUMNS_AMOUNT = 52;
+    private static final int DATE_TIME_LENGTH = 19;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXACT_SCALE = 22;
+    private static final double[] POWERS_OF_TEN = powersOfTen();
+    private static final DateTimeFormatter SLURM_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final Field[] fields;
+
+    /**
+     * Creates the decoder of a column layout.
+     *
+     * @param fields The fields of the columns in the order of the line, a column without a field is skipped.
+     */
+    public SqueueRowDecoder(final List<Field> fields) {
+        this.fields = fields.toArray(new Field[0]);
+    }
+
+    /**
+     * Decodes a job line, the job fields without a column are left unset.
+     *
+     * @param line The job line.
+     * @return The decoded job.
+     */
+    public SlurmJob decode(final String line) {
+        final SlurmJob.SlurmJobBuilder job = SlurmJob.builder();
+        final int length = line.length();
+        int start = 0;
+        int column = 0;
+        try {
+            while (true) {
+                final int delimiter = line.indexOf(DELIMITER, start);
+                final int end = delimiter < 0 ? length : delimiter;
+                if (column < fields.length && fields[column] != null) {
+                    setField(job, fields[column], line, start, end);
+                }
+                column++;
+                if (delimiter < 0) {
+                    break;
+                }
+                start = end + 1;
+            }
+        } catch (final NumberFormatException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "failed to parse job data", e);
+        }
+        if (column != fields.length) {
+            throw new GridEngineException(HttpStatus.BAD_REQUEST, "Job data field mismatch error. Expected "
+                    + fields.length + " fields, but " + column + " were provided");
+        }
+        return job.build();
+    }
+
+    private static void setField(final SlurmJob.SlurmJobBuilder job, final Field field, final String line,
+                                 final int start, final int end) {
+        switch (field) {
+            case JOB_ID:
+                job.jobId(parseLong(line, start, end));
+                break;
+            case NAME:
+                job.name(line.substring(start, end));
+                break;
+            case PRIORITY:
+                job.priority(parseDouble(line, start, end));
+                break;
+            case STATE_COMPACT:
+                job.stateCompact(line.substring(start, end));
+                break;
+            case USER:
+                job.userName(line.substring(start, end));
+                break;
+            case PARTITION:
+                job.partition(line.substring(start, end));
+                break;
+            case STATE:
+                job.state(line.substring(start, end));
+                break;
+            case SUBMIT_TIME:
+                if (!isNotAvailable(line, start, end)) {
+                    job.submissionTime(parseDateTime(line, start, end));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    static long parseLong(final String line, final int start, final int end) {
+        if (start == end) {
+            throw new NumberFormatException("Empty number");
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("Invalid number: " + line.substring(start, end));
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses a plain decimal number exactly as {@link Double#parseDouble(String)} does: a mantissa of at most
+     * 53 bits divided by a power of ten of at most 22 is correctly rounded by a single division. Other numbers,
+     * e.g. the ones with an exponent, are parsed by {@link Double#parseDouble(String)}.
+     *
+     * @param line  The line.
+     * @param start The start index of the number.
+     * @param end   The end index of the number.
+     * @return The parsed number.
+     */
+    static double parseDouble(final String line, final int start, final int end) {
+        int i = start;
+        final boolean negative = i < end && line.charAt(i) == '-';
+        if (negative || i < end && line.charAt(i) == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int scale = 0;
+        boolean point = false;
+        boolean digits = false;
+        for (; i < end; i++) {
+            final char c = line.charAt(i);
+            if (c == '.' && !point) {
+                point = true;
+                continue;
+            }
+            final int digit = c - '0';
+            if (digit < 0 || digit > 9 || mantissa > (MAX_EXACT_MANTISSA - digit) / 10) {
+                return Double.parseDouble(line.substring(start, end));
+            }
+            mantissa = mantissa * 10 + digit;
+            digits = true;
+            if (point) {
+                scale++;
+            }
+        }
+        if (!digits || scale > MAX_EXACT_SCALE) {
+            return Double.parseDouble(line.substring(start, end));
+        }
+        final double value = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    static LocalDateTime parseDateTime(final String line, final int start, final int end) {
+        if (end - start != DATE_TIME_LENGTH || line.charAt(start + 4) != '-' || line.charAt(start + 7) != '-'
+                || line.charAt(start + 10) != 'T' || line.charAt(start + 13) != ':'
+                || line.charAt(start + 16) != ':') {
+            return DateUtils.tryParseStringToLocalDateTime(line.substring(start, end), SLURM_DATE_FORMATTER);
+        }
+        try {
+            return LocalDateTime.of((int) parseLong(line, start, start + 4),
+                    (int) parseLong(line, start + 5, start + 7),
+                    (int) parseLong(line, start + 8, start + 10),
+                    (int) parseLong(line, start + 11, start + 13),
+                    (int) parseLong(line, start + 14, start + 16),
+                    (int) parseLong(line, start + 17, end));
+        } catch (final DateTimeException | NumberFormatException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "Error during date parsing", e);
+        }
+    }
+
+    private static boolean isNotAvailable(final String line, final int start, final int end) {
+        return end - start == NOT_AVAILABLE.length() && line.startsWith(NOT_AVAILABLE, start);
+    }
+
+    private static double[] powersOfTen() {
+        final double[] powers = new double[MAX_EXACT_SCALE + 1];
+        powers[0] = 1;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+        return powers;
+    }
+
+    private static List<Field> allColumns() {
+        final Field[] columns = new Field[ALL_COLUMNS_AMOUNT];
+        columns[8] = Field.JOB_ID;
+        columns[9] = Field.NAME;
+        columns[15] = Field.PRIORITY;
+        columns[19] = Field.STATE_COMPACT;
+        columns[20] = Field.USER;
+        columns[41] = Field.PARTITION;
+        columns[45] = Field.STATE;
+        columns[47] = Field.SUBMIT_TIME;
+        return Arrays.asList(columns);
+    }
+
+    /**
+     * The job fields read from the {@code squeue} columns.
+     */
+    public enum Field {
+        JOB_ID,
+        NAME,
+        PRIORITY,
+        STATE_COMPACT,
+        USER,
+        PARTITION,
+        STATE,
+        SUBMIT_TIME
+    }
+}
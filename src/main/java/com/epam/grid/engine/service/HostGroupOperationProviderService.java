@@ -27,6 +27,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The class which processes the information received from {@link HostGroupOperationController}
@@ -48,6 +49,17 @@ public class HostGroupOperationProviderService {
         return hostGroupProvider.listHostGroups(hostGroupFilter);
     }
 
+    /**
+     * Returns a future List of {@link HostGroup}s according to {@link HostGroupFilter} parameter,
+     * the calling thread isn't blocked while the grid engine commands are running.
+     *
+     * @param hostGroupFilter a provided filter
+     * @return a future List of HostGroups according to hostGroupFilter parameter
+     */
+    public CompletableFuture<List<HostGroup>> listHostGroupsAsync(final HostGroupFilter hostGroupFilter) {
+        return hostGroupProvider.listHostGroupsAsync(hostGroupFilter);
+    }
+
     /**
      * Returns {@link HostGroup} by specified group name.
      *
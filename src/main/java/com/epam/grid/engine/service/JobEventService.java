@@ -0,0 +1,372 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.service;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.entity.job.JobStateEvent;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshot;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotEngine;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotListener;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.epam.grid.engine.JobSnapshotConfiguration.JOB_EVENTS_SENDER;
+
+/**
+ * This class streams the job state changes to the subscribers as Server-Sent Events and completes the requests
+ * waiting for a job state. The changes are found by the job snapshot poller, so all subscribers and waiters
+ * are served by a single grid engine request per interval. The poller only queues the events of a subscriber,
+ * they are sent by the sender pool, and the stream of a subscriber whose queue is full is closed.
+ */
+@Slf4j
+@Service
+public class JobEventService implements JobSnapshotListener {
+
+    private static final String JOB_STATE_EVENT = "job-state";
+    private static final String ANY_OWNER = "*";
+    private static final JobState FINISHED_STATE = JobState.builder()
+            .category(JobState.Category.FINISHED)
+            .build();
+    /**
+     * The refresh that is running when a wait starts may have requested the jobs before the wait,
+     * so only the following one tells that the job isn't listed.
+     */
+    private static final int REFRESHES_TO_MISS_JOB = 2;
+
+    private final JobSnapshotEngine jobSnapshotEngine;
+    private final JobSnapshotProperties properties;
+    private final Executor eventSender;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Map<Long, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor, subscribes to the job snapshot changes if the snapshot is enabled.
+     *
+     * @param jobSnapshotEngine the snapshot of all jobs, if it's enabled
+     * @param properties        the snapshot settings
+     * @param eventSender       the pool that sends the events to the subscribers
+     */
+    public JobEventService(final ObjectProvider<JobSnapshotEngine> jobSnapshotEngine,
+                           final JobSnapshotProperties properties,
+                           @Qualifier(JOB_EVENTS_SENDER) final Executor eventSender) {
+        this.jobSnapshotEngine = jobSnapshotEngine.getIfAvailable();
+        this.properties = properties;
+        this.eventSender = eventSender;
+        if (this.jobSnapshotEngine != null) {
+            this.jobSnapshotEngine.addListener(this);
+        }
+    }
+
+    /**
+     * Opens a stream of the state changes of the jobs selected by the filter. The owners, ids and names
+     * of the filter are optional, a job matches if it belongs to one of the owners and has one of the ids
+     * or names.
+     *
+     * @param jobFilter An object with the owners, ids and names of the jobs.
+     * @return The event stream.
+     */
+    public SseEmitter subscribe(final JobFilter jobFilter) {
+        checkSnapshotEnabled();
+        final SseEmitter emitter = new SseEmitter(properties.getEventsTimeout().toMillis());
+        final Subscription subscription = new Subscription(jobFilter, emitter, properties.getEventsQueueSize());
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onError(e -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        return emitter;
+    }
+
+    /**
+     * Waits until the job reaches the state category or leaves the grid engine listing, since a finished job
+     * can't reach any other state. The current state of the job is returned if the timeout expires first.
+     * The wait fails at once if the job isn't listed by a snapshot taken after the wait has started,
+     * unless it was listed before, then the job is reported as finished.
+     *
+     * @param jobId   The job identifier.
+     * @param until   The awaited state category.
+     * @param timeout The wait timeout, it's limited by the maximum wait timeout of the snapshot.
+     * @return The state of the job that completes the wait.
+     */
+    public DeferredResult<JobStateEvent> waitForState(final long jobId, final JobState.Category until,
+                                                      final Duration timeout) {
+        checkSnapshotEnabled();
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new GridEngineException(HttpStatus.BAD_REQUEST, "The wait timeout should be positive");
+        }
+        final Duration waitTimeout = timeout.compareTo(properties.getMaxWaitTimeout()) > 0
+                ? properties.getMaxWaitTimeout()
+                : timeout;
+        final Optional<JobSnapshot> snapshot = jobSnapshotEngine.getSnapshot();
+        final Waiter waiter = new Waiter(jobId, until, new DeferredResult<>(waitTimeout.toMillis()),
+                snapshot.flatMap(current -> current.getJobs(jobId).stream().findFirst()).orElse(null));
+        waiter.result.onTimeout(() -> completeWithCurrentState(waiter));
+        waiter.result.onCompletion(() -> removeWaiter(waiter));
+        waiters.computeIfAbsent(jobId, id -> ConcurrentHashMap.newKeySet()).add(waiter);
+        snapshot.flatMap(current -> getCurrentState(current, jobId))
+                .filter(waiter::isReachedBy)
+                .ifPresent(waiter.result::setResult);
+        return waiter.result;
+    }
+
+    /**
+     * Queues the matching events for every subscriber, the poller thread never writes to the clients.
+     */
+    @Override
+    public void onSnapshot(final JobSnapshot snapshot, final List<JobStateEvent> events) {
+        notifyWaiters(events);
+        for (final Subscription subscription : subscriptions) {
+            for (final JobStateEvent event : events) {
+                if (subscription.matches(event) && !subscription.queue.offer(SseEmitter.event()
+                        .id(String.valueOf(snapshot.getVersion()))
+                        .name(JOB_STATE_EVENT)
+                        .data(event, MediaType.APPLICATION_JSON))) {
+                    log.debug("The job event subscriber lags behind, the subscription is closed");
+                    subscriptions.remove(subscription);
+                    subscription.lagging.set(true);
+                    break;
+                }
+            }
+            if (subscription.lagging.get() || !subscription.queue.isEmpty()) {
+                scheduleSending(subscription);
+            }
+        }
+    }
+
+    /**
+     * Completes the waits for the jobs that aren't listed by the snapshot: a job that was listed before
+     * has finished, other jobs have finished before the wait or don't exist.
+     */
+    @Override
+    public void onRefresh(final JobSnapshot snapshot) {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        final LocalDateTime time = LocalDateTime.ofInstant(snapshot.getTime(), ZoneId.systemDefault());
+        for (final Set<Waiter> jobWaiters : waiters.values()) {
+            for (final Waiter waiter : jobWaiters) {
+                final Optional<Job> job = snapshot.getJobs(waiter.jobId).stream().findFirst();
+                if (job.isPresent()) {
+                    waiter.lastListedJob = job.get();
+                } else if (waiter.lastListedJob != null) {
+                    waiter.result.setResult(toEvent(waiter.lastListedJob, FINISHED_STATE, time));
+                    removeWaiter(waiter);
+                } else if (++waiter.refreshes >= REFRESHES_TO_MISS_JOB) {
+                    waiter.result.setErrorResult(jobNotListed(waiter.jobId));
+                    removeWaiter(waiter);
+                }
+            }
+        }
+    }
+
+    private void scheduleSending(final Subscription subscription) {
+        if (!subscription.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            eventSender.execute(() -> send(subscription));
+        } catch (final RejectedExecutionException e) {
+            log.debug("Unable to send the job events, the subscription is closed", e);
+            subscriptions.remove(subscription);
+            subscription.emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * Sends the queued events of the subscriber, the sending is rescheduled if an event is queued
+     * after the queue is drained. The stream is closed if the subscriber lags behind or can't receive the events.
+     */
+    private void send(final Subscription subscription) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscription.lagging.get() && (event = subscription.queue.poll()) != null) {
+                subscription.emitter.send(event);
+            }
+            if (subscription.lagging.get()) {
+                subscription.queue.clear();
+                subscription.emitter.complete();
+                return;
+            }
+        } catch (final IOException | IllegalStateException e) {
+            log.debug("Unable to send the job events, the subscription is closed", e);
+            subscriptions.remove(subscription);
+            subscription.queue.clear();
+            subscription.emitter.completeWithError(e);
+            return;
+        }
+        subscription.sending.set(false);
+        if (subscription.lagging.get() || !subscription.queue.isEmpty()) {
+            scheduleSending(subscription);
+        }
+    }
+
+    private void notifyWaiters(final List<JobStateEvent> events) {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        for (final JobStateEvent event : events) {
+            final Set<Waiter> jobWaiters = waiters.get(event.getId());
+            if (jobWaiters == null) {
+                continue;
+            }
+            for (final Waiter waiter : jobWaiters) {
+                if (waiter.isReachedBy(event)) {
+                    waiter.result.setResult(event);
+                    removeWaiter(waiter);
+                }
+            }
+        }
+    }
+
+    private void completeWithCurrentState(final Waiter waiter) {
+        final Optional<JobStateEvent> currentState = jobSnapshotEngine.getSnapshot()
+                .flatMap(snapshot -> getCurrentState(snapshot, waiter.jobId));
+        if (currentState.isPresent()) {
+            waiter.result.setResult(currentState.get());
+        } else {
+            waiter.result.setErrorResult(jobNotListed(waiter.jobId));
+        }
+    }
+
+    private static GridEngineException jobNotListed(final long jobId) {
+        return new GridEngineException(HttpStatus.NOT_FOUND, String.format(
+                "Job %d isn't listed by the grid engine, it's finished or doesn't exist", jobId));
+    }
+
+    private void removeWaiter(final Waiter waiter) {
+        waiters.computeIfPresent(waiter.jobId, (id, jobWaiters) -> {
+            jobWaiters.remove(waiter);
+            return jobWaiters.isEmpty() ? null : jobWaiters;
+        });
+    }
+
+    private void checkSnapshotEnabled() {
+        if (jobSnapshotEngine == null) {
+            throw new GridEngineException(HttpStatus.NOT_FOUND,
+                    "Job events are available only if the job snapshot is enabled");
+        }
+    }
+
+    private static Optional<JobStateEvent> getCurrentState(final JobSnapshot snapshot, final long jobId) {
+        return snapshot.getJobs(jobId).stream()
+                .findFirst()
+                .map(job -> toEvent(job, job.getState(),
+                        LocalDateTime.ofInstant(snapshot.getTime(), ZoneId.systemDefault())));
+    }
+
+    private static JobStateEvent toEvent(final Job job, final JobState state, final LocalDateTime time) {
+        return JobStateEvent.builder()
+                .id(job.getId())
+                .name(job.getName())
+                .owner(job.getOwner())
+                .state(state)
+                .time(time)
+                .build();
+    }
+
+    /**
+     * The request waiting for a job state. The last listed job and the number of the refreshes
+     * that haven't listed the job are changed by the snapshot poller only.
+     */
+    static final class Waiter {
+
+        final long jobId;
+        final DeferredResult<JobStateEvent> result;
+        Job lastListedJob;
+        int refreshes;
+        private final JobState.Category until;
+
+        Waiter(final long jobId, final JobState.Category until, final DeferredResult<JobStateEvent> result,
+               final Job lastListedJob) {
+            this.jobId = jobId;
+            this.until = until;
+            this.result = result;
+            this.lastListedJob = lastListedJob;
+        }
+
+        boolean isReachedBy(final JobStateEvent event) {
+            final JobState.Category category = event.getState() == null ? null : event.getState().getCategory();
+            return category == until || category == JobState.Category.FINISHED;
+        }
+    }
+
+    /**
+     * The job event stream with the sets of the selected owners, ids and names, an empty set selects any value,
+     * and the bounded queue of the events waiting to be sent.
+     */
+    static final class Subscription {
+
+        final SseEmitter emitter;
+        final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        final AtomicBoolean sending = new AtomicBoolean();
+        final AtomicBoolean lagging = new AtomicBoolean();
+        private final Set<String> owners;
+        private final Set<Long> ids;
+        private final Set<String> names;
+
+        Subscription(final JobFilter jobFilter, final SseEmitter emitter, final int queueSize) {
+            final JobFilter filter = jobFilter == null ? new JobFilter() : jobFilter;
+            this.owners = toSet(filter.getOwners());
+            this.owners.remove(ANY_OWNER);
+            this.ids = toSet(filter.getIds());
+            this.names = toSet(filter.getNames());
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        }
+
+        boolean matches(final JobStateEvent event) {
+            if (!owners.isEmpty() && !owners.contains(event.getOwner())) {
+                return false;
+            }
+            return (ids.isEmpty() && names.isEmpty()) || ids.contains(event.getId())
+                    || names.contains(event.getName());
+        }
+
+        private static <T> Set<T> toSet(final Collection<T> values) {
+            return new HashSet<>(CollectionUtils.emptyIfNull(values));
+        }
+    }
+}
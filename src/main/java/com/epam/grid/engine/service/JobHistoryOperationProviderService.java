@@ -0,0 +1,187 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.service;
+
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.provider.history.JobHistoryProvider;
+import com.epam.grid.engine.provider.utils.JobHistoryPageUtils;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * This class lists the finished jobs from the grid engine accounting and returns the results
+ * to the controller {@link com.epam.grid.engine.controller.job.JobHistoryController}.
+ */
+@Service
+public class JobHistoryOperationProviderService {
+
+    private final JobHistoryProvider jobHistoryProvider;
+    private final Duration defaultLookback;
+    private final Map<Long, FinishedJob> jobCache;
+    private final Clock clock;
+
+    /**
+     * Constructor, sets the provider of the finished jobs and the history settings.
+     *
+     * @param jobHistoryProvider the provider of the finished jobs
+     * @param defaultLookback    the time window of a listing which specifies neither a start time, nor job ids
+     * @param cacheSize          the maximum number of the finished jobs kept in memory by their ids
+     * @param clock              the clock the default time window ends at
+     */
+    public JobHistoryOperationProviderService(final JobHistoryProvider jobHistoryProvider,
+                                              @Value("${job.history.default-lookback:7d}")
+                                              final Duration defaultLookback,
+                                              @Value("${job.history.cache-size:10000}") final int cacheSize,
+                                              final Clock clock) {
+        this.jobHistoryProvider = jobHistoryProvider;
+        this.defaultLookback = defaultLookback;
+        this.jobCache = Collections.synchronizedMap(new JobCache(cacheSize));
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a page of the finished jobs ordered by their end time. The cursor of a page holds the end time
+     * of its last job, so the next page is requested from the grid engine for the rest of the time window only.
+     * Only one job more than the limit is kept while the accounting output is parsed, it tells
+     * whether the page has a next one.
+     * The accounting records don't change once a job has finished, so the jobs requested by their ids
+     * are returned from the cache without running a command if all of them have been listed before.
+     *
+     * @param filter An object with the job selection parameters.
+     * @return The page of the finished jobs with the cursor of the next page.
+     */
+    public Listing<FinishedJob> getFinishedJobs(final JobHistoryFilter filter) {
+        final JobHistoryFilter historyFilter = Optional.ofNullable(filter).orElseGet(JobHistoryFilter::new);
+        validate(historyFilter);
+        final FinishedJob lastJob = Optional.ofNullable(historyFilter.getCursor())
+                .map(JobHistoryPageUtils::decodeCursor)
+                .orElse(null);
+        final LocalDateTime startTime = getPageStartTime(historyFilter, lastJob);
+        final Predicate<FinishedJob> matcher = job -> matches(job, historyFilter, startTime)
+                && JobHistoryPageUtils.follows(job, lastJob);
+        final List<FinishedJob> jobs = getCachedJobs(historyFilter)
+                .orElseGet(() -> loadJobs(historyFilter.toBuilder()
+                        .startTime(startTime)
+                        .limit(Optional.ofNullable(historyFilter.getLimit())
+                                .map(limit -> limit < Integer.MAX_VALUE ? limit + 1 : null)
+                                .orElse(null))
+                        .cursor(null)
+                        .build(), matcher));
+        final List<FinishedJob> matchingJobs = jobs.stream()
+                .filter(matcher)
+                .collect(Collectors.toList());
+        return JobHistoryPageUtils.selectPage(matchingJobs, lastJob, historyFilter.getLimit());
+    }
+
+    private void validate(final JobHistoryFilter filter) {
+        if (filter.getLimit() != null && filter.getLimit() < 1) {
+            throw new GridEngineException(HttpStatus.BAD_REQUEST, "The limit should be a positive number");
+        }
+        if (filter.getStartTime() != null && filter.getEndTime() != null
+                && filter.getStartTime().isAfter(filter.getEndTime())) {
+            throw new GridEngineException(HttpStatus.BAD_REQUEST, "The start time should precede the end time");
+        }
+    }
+
+    private LocalDateTime getPageStartTime(final JobHistoryFilter filter, final FinishedJob lastJob) {
+        final LocalDateTime startTime = filter.getStartTime() == null && ListUtils.emptyIfNull(filter.getIds())
+                .isEmpty()
+                ? LocalDateTime.now(clock).minus(defaultLookback)
+                : filter.getStartTime();
+        if (lastJob == null || startTime != null && startTime.isAfter(lastJob.getEndTime())) {
+            return startTime;
+        }
+        return lastJob.getEndTime();
+    }
+
+    private Optional<List<FinishedJob>> getCachedJobs(final JobHistoryFilter filter) {
+        final List<Long> ids = ListUtils.emptyIfNull(filter.getIds());
+        if (ids.isEmpty() || !ListUtils.emptyIfNull(filter.getNames()).isEmpty()) {
+            return Optional.empty();
+        }
+        final List<FinishedJob> jobs = new ArrayList<>(ids.size());
+        for (final Long id : ids) {
+            final FinishedJob job = jobCache.get(id);
+            if (job == null) {
+                return Optional.empty();
+            }
+            jobs.add(job);
+        }
+        return Optional.of(jobs);
+    }
+
+    private List<FinishedJob> loadJobs(final JobHistoryFilter filter, final Predicate<FinishedJob> matcher) {
+        final List<FinishedJob> jobs = jobHistoryProvider.getFinishedJobs(filter, matcher);
+        jobs.stream()
+                .filter(job -> job.getTaskId() == null)
+                .forEach(job -> jobCache.put(job.getId(), job));
+        return jobs;
+    }
+
+    private static boolean matches(final FinishedJob job, final JobHistoryFilter filter,
+                                   final LocalDateTime startTime) {
+        final List<Long> ids = ListUtils.emptyIfNull(filter.getIds());
+        final List<String> names = ListUtils.emptyIfNull(filter.getNames());
+        final List<String> owners = ListUtils.emptyIfNull(filter.getOwners());
+        return job.getEndTime() != null
+                && (startTime == null || !job.getEndTime().isBefore(startTime))
+                && (filter.getEndTime() == null || !job.getEndTime().isAfter(filter.getEndTime()))
+                && (owners.isEmpty() || owners.contains(job.getOwner()))
+                && (ids.isEmpty() && names.isEmpty() || ids.contains(job.getId()) || names.contains(job.getName()));
+    }
+
+    /**
+     * The finished jobs by their ids, the least recently used ones are evicted once the size limit is reached.
+     */
+    static final class JobCache extends LinkedHashMap<Long, FinishedJob> {
+
+        private static final long serialVersionUID = 1L;
+        private static final float LOAD_FACTOR = 0.75f;
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int maxSize;
+
+        JobCache(final int maxSize) {
+            super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Long, FinishedJob> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
@@ -29,11 +29,17 @@ import com.epam.grid.engine.entity.job.JobOptions;
 import com.epam.grid.engine.exception.GridEngineException;
 import com.epam.grid.engine.provider.job.JobProvider;
 
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotEngine;
 import com.epam.grid.engine.provider.log.JobLogProvider;
 import com.epam.grid.engine.provider.utils.DirectoryPathUtils;
+import com.epam.grid.engine.provider.utils.JobPageUtils;
+import com.epam.grid.engine.provider.utils.JobProjectionUtils;
+import com.epam.grid.engine.utils.JsonDigestUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -53,32 +59,61 @@ public class JobOperationProviderService {
     private final String gridSharedFolder;
     private final JobProvider jobProvider;
     private final JobLogProvider jobLogProvider;
+    private final JobSnapshotEngine jobSnapshotEngine;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructor, sets created jobProvider bean to the class field and the path to job log.
      *
-     * @param jobProvider      created JobProvider
-     * @param gridSharedFolder the path to the primary directory from properties, where log and working directories
-     *                         should be stored
+     * @param jobProvider       created JobProvider
+     * @param jobSnapshotEngine the snapshot of all jobs, if it's enabled
+     * @param objectMapper      the mapper that serializes the filters to tag the listings
+     * @param gridSharedFolder  the path to the primary directory from properties, where log and working directories
+     *                          should be stored
      * @see JobProvider
      */
 
     public JobOperationProviderService(final JobProvider jobProvider,
                                        final JobLogProvider jobLogProvider,
+                                       final ObjectProvider<JobSnapshotEngine> jobSnapshotEngine,
+                                       final ObjectMapper objectMapper,
                                        @Value("${grid.engine.shared.folder}") final String gridSharedFolder) {
         this.jobProvider = jobProvider;
         this.jobLogProvider = jobLogProvider;
+        this.jobSnapshotEngine = jobSnapshotEngine.getIfAvailable();
+        this.objectMapper = objectMapper;
         this.gridSharedFolder = gridSharedFolder;
     }
 
     /**
-     * Returns a list of jobs after using the filter selected by the user.
+     * Returns a list of jobs after using the filter selected by the user. The jobs are selected
+     * from the job snapshot if it's enabled and fresh, otherwise they are requested from the grid engine.
+     * The list is sorted and paginated if the filter specifies a limit, a cursor or a sort field,
+     * the listed jobs contain only the requested fields if the filter specifies them.
      *
      * @param jobFilter An object with the job selection parameters.
      * @return list of jobs.
      */
     public Listing<Job> filter(final JobFilter jobFilter) {
-        return jobProvider.filterJobs(jobFilter);
+        final Listing<Job> listing = Optional.ofNullable(jobSnapshotEngine)
+                .flatMap(engine -> engine.filterJobs(jobFilter))
+                .orElseGet(() -> jobProvider.filterJobs(jobFilter));
+        return JobProjectionUtils.project(JobPageUtils.selectPage(listing, jobFilter), jobFilter);
+    }
+
+    /**
+     * Returns the tag of the listing selected by the filter from the job snapshot, it's composed of
+     * the snapshot tag and the SHA-256 digest of the filter JSON, so it changes whenever the listing changes.
+     *
+     * @param jobFilter An object with the job selection parameters.
+     * @return The tag, or an empty value if the listing can't be selected from a fresh snapshot.
+     */
+    public Optional<String> getSnapshotTag(final JobFilter jobFilter) {
+        return Optional.ofNullable(jobSnapshotEngine)
+                .flatMap(JobSnapshotEngine::getSnapshot)
+                .filter(snapshot -> jobProvider.getJobPredicate(jobFilter).isPresent())
+                .map(snapshot -> String.format("%s-%s", snapshot.getTag(),
+                        JsonDigestUtils.digest(objectMapper, jobFilter)));
     }
 
     /**
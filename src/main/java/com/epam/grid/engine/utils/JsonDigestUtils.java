@@ -0,0 +1,63 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.utils;
+
+import com.epam.grid.engine.exception.GridEngineException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * This class computes the SHA-256 digests of the JSON representation of objects, e.g. to tag listings.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonDigestUtils {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * Computes the digest of the value serialized by the mapper. The JSON is written straight
+     * to the digest, so it's never held in memory.
+     *
+     * @param objectMapper The mapper that serializes the value.
+     * @param value        The value, it may be null.
+     * @return The digest in the URL-safe Base64 encoding without padding.
+     */
+    public static String digest(final ObjectMapper objectMapper, final Object value) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            try (OutputStream output = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                objectMapper.writeValue(output, value);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (final NoSuchAlgorithmException | IOException e) {
+            throw new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR,
+                    String.format("Unable to compute the digest of %s", value), e);
+        }
+    }
+}
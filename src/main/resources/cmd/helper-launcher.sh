@@ -0,0 +1,70 @@
+#
+# /*
+#  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+#  *
+#  * Licensed under the Apache License, Version 2.0 (the "License");
+#  * you may not use this file except in compliance with the License.
+#  * You may obtain a copy of the License at
+#  *
+#  *     http://www.apache.org/licenses/LICENSE-2.0
+#  *
+#  * Unless required by applicable law or agreed to in writing, software
+#  * distributed under the License is distributed on an "AS IS" BASIS,
+#  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  * See the License for the specific language governing permissions and
+#  * limitations under the License.
+#  */
+#
+#
+
+# A long-lived launcher of the grid engine commands, it is started by HelperCmdExecutor as
+#   sh -c "<this script>" helper-launcher <stderr file> <exit code file>
+#
+# Request:  the number of arguments on a line, the limit of the standard error size in bytes on a line
+#           (zero if it isn't limited), followed by one argument per line.
+# Response: "O<line>" for every standard output line, then "E<line>" for every standard error line,
+#           then "X<exit code>" once the command has completed. Frames are separated by line feeds only,
+#           so a line may contain a carriage return. The standard error lines beyond the limit are dropped.
+#
+# The frames are written by the shell builtins, so the output is streamed as it is written
+# and no other process is started besides the command itself.
+
+err_file=$1
+code_file=$2
+
+run_command() {
+    "$@" </dev/null
+    echo "$?" >"$code_file"
+}
+
+frame_output() {
+    while IFS= read -r line || [ -n "$line" ]; do
+        printf 'O%s\n' "$line"
+    done
+}
+
+capture_errors() {
+    size=0
+    while IFS= read -r line || [ -n "$line" ]; do
+        size=$((size + ${#line} + 1))
+        if [ "$err_limit" -le 0 ] || [ "$size" -le "$err_limit" ]; then
+            printf 'E%s\n' "$line"
+        fi
+    done >"$err_file"
+}
+
+while IFS= read -r count; do
+    IFS= read -r err_limit || exit 0
+    set --
+    while [ "$count" -gt 0 ]; do
+        IFS= read -r argument || exit 0
+        set -- "$@" "$argument"
+        count=$((count - 1))
+    done
+    { run_command "$@" 2>&1 >&3 3>&- | capture_errors; } 3>&1 | frame_output
+    while IFS= read -r line; do
+        printf '%s\n' "$line"
+    done <"$err_file"
+    IFS= read -r status <"$code_file"
+    printf 'X%s\n' "$status"
+done
@@ -0,0 +1,150 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.exception.CommandRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class BulkheadCmdExecutorTest {
+
+    private static final String[] QSTAT_COMMAND = {"qstat", "-xml"};
+    private static final String[] QSUB_COMMAND = {"qsub", "job.sh"};
+    private static final long AWAIT_SECONDS = 10;
+    private static final Duration MAX_WAIT = Duration.ofMillis(200);
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(3);
+    private static final CommandResult COMMAND_RESULT = new CommandResult(List.of(), 0, List.of());
+
+    private final CmdExecutor delegate = Mockito.mock(CmdExecutor.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BulkheadCmdExecutor executor;
+
+    @Test
+    public void shouldRejectCommandThatWaitedTooLong() throws Exception {
+        executor = createExecutor(1);
+        final Future<CommandResult> running = occupyQueryPermit();
+
+        final CommandRejectedException exception = Assertions.assertThrows(CommandRejectedException.class,
+                () -> executor.execute(QSTAT_COMMAND));
+
+        Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        Assertions.assertEquals(RETRY_AFTER.toSeconds(), exception.getRetryAfterSeconds());
+        Assertions.assertEquals(1, meterRegistry.counter(BulkheadCmdExecutor.REJECTED_METRIC,
+                "class", CommandClass.QUERY.name()).count());
+        release.countDown();
+        Assertions.assertEquals(COMMAND_RESULT, running.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldRejectCommandAtOnceWhenQueueIsFull() throws Exception {
+        executor = createExecutor(0);
+        occupyQueryPermit();
+
+        final long start = System.nanoTime();
+        Assertions.assertThrows(CommandRejectedException.class, () -> executor.execute(QSTAT_COMMAND));
+        Assertions.assertTrue(System.nanoTime() - start < MAX_WAIT.toNanos());
+    }
+
+    @Test
+    public void shouldAdmitWaitingCommandWhenPermitIsReleased() throws Exception {
+        executor = createExecutor(1);
+        final Future<CommandResult> running = occupyQueryPermit();
+
+        final Future<CommandResult> waiting = callers.submit(() -> executor.execute(QSTAT_COMMAND));
+        release.countDown();
+
+        Assertions.assertEquals(COMMAND_RESULT, running.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertEquals(COMMAND_RESULT, waiting.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldRejectAsyncCommandAtOnceWhenNoPermitIsAvailable() throws Exception {
+        executor = createExecutor(1);
+        occupyQueryPermit();
+
+        final long start = System.nanoTime();
+        final CompletableFuture<CommandResult> result = executor.executeAsync(QSTAT_COMMAND);
+
+        Assertions.assertTrue(System.nanoTime() - start < MAX_WAIT.toNanos());
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertTrue(exception.getCause() instanceof CommandRejectedException);
+        Mockito.verify(delegate, Mockito.never()).executeAsync(QSTAT_COMMAND);
+    }
+
+    @Test
+    public void shouldNotLimitOtherCommandClasses() throws Exception {
+        executor = createExecutor(0);
+        Mockito.doReturn(COMMAND_RESULT).when(delegate).execute(QSUB_COMMAND);
+        occupyQueryPermit();
+
+        Assertions.assertEquals(COMMAND_RESULT, executor.execute(QSUB_COMMAND));
+        Assertions.assertEquals(1.0, meterRegistry.get(BulkheadCmdExecutor.ACTIVE_METRIC)
+                .tag("class", CommandClass.QUERY.name())
+                .gauge()
+                .value());
+    }
+
+    @AfterEach
+    public void shutdownCallers() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    private BulkheadCmdExecutor createExecutor(final int maxQueue) {
+        final CmdExecutorProperties.Limit limit = new CmdExecutorProperties.Limit();
+        limit.setMaxConcurrent(1);
+        limit.setMaxQueue(maxQueue);
+        limit.setMaxWait(MAX_WAIT);
+        final CmdExecutorProperties.Bulkhead settings = new CmdExecutorProperties.Bulkhead();
+        settings.setRetryAfter(RETRY_AFTER);
+        settings.getLimits().put(CommandClass.QUERY, limit);
+        return new BulkheadCmdExecutor(delegate, settings, meterRegistry);
+    }
+
+    private Future<CommandResult> occupyQueryPermit() throws InterruptedException {
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            return COMMAND_RESULT;
+        }).when(delegate).execute(QSTAT_COMMAND);
+        final Future<CommandResult> running = callers.submit(() -> executor.execute(QSTAT_COMMAND));
+        Assertions.assertTrue(started.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+        return running;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.GridEngineException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class CoalescingCmdExecutorTest {
+
+    private static final String[] QSTAT_COMMAND = {"qstat", "-u", "*", "-xml"};
+    private static final String[] QDEL_COMMAND = {"qdel", "1"};
+    private static final int CALLERS = 8;
+    private static final long AWAIT_SECONDS = 10;
+    private static final CommandResult COMMAND_RESULT = new CommandResult(List.of("<job_info/>"), 0, List.of());
+
+    private final CmdExecutor delegate = Mockito.mock(CmdExecutor.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoalescingCmdExecutor executor = new CoalescingCmdExecutor(delegate, meterRegistry);
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+
+    @Test
+    public void shouldShareExecutionOfIdenticalReadOnlyCommand() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            return COMMAND_RESULT;
+        }).when(delegate).execute(QSTAT_COMMAND);
+
+        final Future<CommandResult> leader = callers.submit(() -> executor.execute(QSTAT_COMMAND));
+        Assertions.assertTrue(started.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+        final List<Future<CommandResult>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLERS; i++) {
+            followers.add(callers.submit(() -> executor.execute(QSTAT_COMMAND)));
+        }
+        awaitSavedExecutions(CALLERS - 1);
+        release.countDown();
+
+        Assertions.assertEquals(COMMAND_RESULT, leader.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        for (final Future<CommandResult> follower : followers) {
+            Assertions.assertEquals(COMMAND_RESULT, follower.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        }
+        Mockito.verify(delegate, Mockito.times(1)).execute(QSTAT_COMMAND);
+        Assertions.assertEquals(1, meterRegistry.counter(CoalescingCmdExecutor.EXECUTED_METRIC,
+                "command", "qstat").count());
+    }
+
+    @Test
+    public void shouldExecuteCommandAgainWhenPreviousExecutionCompleted() {
+        Mockito.doReturn(COMMAND_RESULT).when(delegate).execute(QSTAT_COMMAND);
+
+        executor.execute(QSTAT_COMMAND);
+        executor.execute(QSTAT_COMMAND);
+
+        Mockito.verify(delegate, Mockito.times(2)).execute(QSTAT_COMMAND);
+    }
+
+    @Test
+    public void shouldPassFailureToAllCallers() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            throw new GridEngineException(HttpStatus.NOT_FOUND, "qmaster is unreachable");
+        }).when(delegate).execute(QSTAT_COMMAND);
+
+        final Future<CommandResult> leader = callers.submit(() -> executor.execute(QSTAT_COMMAND));
+        Assertions.assertTrue(started.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+        final Future<CommandResult> follower = callers.submit(() -> executor.execute(QSTAT_COMMAND));
+        awaitSavedExecutions(1);
+        release.countDown();
+
+        for (final Future<CommandResult> caller : List.of(leader, follower)) {
+            final Exception exception = Assertions.assertThrows(Exception.class,
+                    () -> caller.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+            Assertions.assertTrue(exception.getCause() instanceof GridEngineException);
+        }
+    }
+
+    @Test
+    public void shouldShareAsyncExecutionOfIdenticalReadOnlyCommand() {
+        final CompletableFuture<CommandResult> pending = new CompletableFuture<>();
+        Mockito.doReturn(pending).when(delegate).executeAsync(QSTAT_COMMAND);
+
+        final CompletableFuture<CommandResult> first = executor.executeAsync(QSTAT_COMMAND);
+        final CompletableFuture<CommandResult> second = executor.executeAsync(QSTAT_COMMAND);
+        Assertions.assertFalse(first.isDone());
+        pending.complete(COMMAND_RESULT);
+
+        Assertions.assertEquals(COMMAND_RESULT, first.join());
+        Assertions.assertEquals(COMMAND_RESULT, second.join());
+        Mockito.verify(delegate, Mockito.times(1)).executeAsync(QSTAT_COMMAND);
+        Assertions.assertEquals(1, meterRegistry.counter(CoalescingCmdExecutor.SAVED_METRIC,
+                "command", "qstat").count());
+    }
+
+    @Test
+    public void shouldNeverShareMutatingCommand() throws Exception {
+        final CountDownLatch started = new CountDownLatch(2);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            started.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            return COMMAND_RESULT;
+        }).when(delegate).execute(QDEL_COMMAND);
+
+        final Future<CommandResult> first = callers.submit(() -> executor.execute(QDEL_COMMAND));
+        final Future<CommandResult> second = callers.submit(() -> executor.execute(QDEL_COMMAND));
+        first.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        second.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+
+        Mockito.verify(delegate, Mockito.times(2)).execute(QDEL_COMMAND);
+        Assertions.assertEquals(0, meterRegistry.find(CoalescingCmdExecutor.SAVED_METRIC).counters().size());
+    }
+
+    @Test
+    public void shouldShareStreamedExecutionOfIdenticalReadOnlyCommand() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            started.countDown();
+            release.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+            return COMMAND_RESULT;
+        }).when(delegate).execute(QSTAT_COMMAND);
+        final CommandOutputParser<String> parser = BufferedReader::readLine;
+
+        final List<Future<ParsedCommandResult<String>>> results = new ArrayList<>();
+        results.add(callers.submit(() -> executor.executeStreaming(parser, QSTAT_COMMAND)));
+        Assertions.assertTrue(started.await(AWAIT_SECONDS, TimeUnit.SECONDS));
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(callers.submit(() -> executor.executeStreaming(parser, QSTAT_COMMAND)));
+        }
+        awaitSavedExecutions(CALLERS - 1);
+        release.countDown();
+
+        for (final Future<ParsedCommandResult<String>> result : results) {
+            final ParsedCommandResult<String> parsedResult = result.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+            Assertions.assertEquals("<job_info/>", parsedResult.getOutput());
+            Assertions.assertEquals(0, parsedResult.getExitCode());
+        }
+        Mockito.verify(delegate, Mockito.times(1)).execute(QSTAT_COMMAND);
+        Mockito.verify(delegate, Mockito.never()).executeStreaming(parser, QSTAT_COMMAND);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldNotParseOutputOfFailedStreamedCommand() {
+        final CommandResult failedResult = new CommandResult(List.of(), 1, List.of("qmaster is unreachable"));
+        Mockito.doReturn(failedResult).when(delegate).execute(QSTAT_COMMAND);
+        final CommandOutputParser<String> parser = Mockito.mock(CommandOutputParser.class);
+
+        final ParsedCommandResult<String> parsedResult = executor.executeStreaming(parser, QSTAT_COMMAND);
+
+        Assertions.assertNull(parsedResult.getOutput());
+        Assertions.assertEquals(failedResult, parsedResult.toCommandResult());
+        Mockito.verifyNoInteractions(parser);
+    }
+
+    @Test
+    public void shouldStreamMutatingCommandThroughDelegate() {
+        final CommandOutputParser<String> parser = BufferedReader::readLine;
+        final ParsedCommandResult<String> parsedResult = new ParsedCommandResult<>("", 0, null, List.of());
+        Mockito.doReturn(parsedResult).when(delegate).executeStreaming(parser, QDEL_COMMAND);
+
+        Assertions.assertSame(parsedResult, executor.executeStreaming(parser, QDEL_COMMAND));
+        Mockito.verify(delegate, Mockito.never()).execute(QDEL_COMMAND);
+    }
+
+    @Test
+    public void shouldReleaseSharedOutputWhenLastCallerClosesResult() {
+        final ClosableLines stdOut = new ClosableLines();
+        stdOut.add("<job_info/>");
+        final CompletableFuture<CommandResult> pending = new CompletableFuture<>();
+        Mockito.doReturn(pending).when(delegate).executeAsync(QSTAT_COMMAND);
+
+        final CompletableFuture<CommandResult> first = executor.executeAsync(QSTAT_COMMAND);
+        final CompletableFuture<CommandResult> second = executor.executeAsync(QSTAT_COMMAND);
+        pending.complete(new CommandResult(stdOut, 0, List.of()));
+
+        first.join().close();
+        first.join().close();
+        Assertions.assertFalse(stdOut.isClosed());
+        Assertions.assertEquals(List.of("<job_info/>"), second.join().getStdOut());
+        second.join().close();
+        Assertions.assertTrue(stdOut.isClosed());
+    }
+
+    @AfterEach
+    public void shutdownCallers() {
+        callers.shutdownNow();
+    }
+
+    private void awaitSavedExecutions(final int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (meterRegistry.counter(CoalescingCmdExecutor.SAVED_METRIC, "command", "qstat").count() < expected
+                && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    /**
+     * The output lines that record whether they were closed, as the lines backed by a temporary file do.
+     */
+    private static final class ClosableLines extends ArrayList<String> implements Closeable {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+    }
+}
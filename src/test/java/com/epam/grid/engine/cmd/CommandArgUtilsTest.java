@@ -25,7 +25,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -34,8 +33,6 @@ class CommandArgUtilsTest {
     private static final String EMPTY_STRING = "";
     private static final String ONE_VARIABLE_NAME = "oneVariable";
     private static final String ONE_VALUE_WITH_SPACES = "a value with spaces";
-    private static final String QUOTE_TEST_TOKEN = "some \"token \\\"with \\\\\"quotes";
-    private static final String QUOTE_ESCAPED_TEST_TOKEN = "some \\\"token \\\\\"with \\\\\\\"quotes";
 
     @ParameterizedTest
     @MethodSource("provideCasesToParseCommand")
@@ -86,33 +83,11 @@ class CommandArgUtilsTest {
         return Stream.of(
                 Arguments.of(EMPTY_STRING, Map.of(EMPTY_STRING, EMPTY_STRING)),
                 Arguments.of(ONE_VARIABLE_NAME, Map.of(ONE_VARIABLE_NAME, EMPTY_STRING)),
-                Arguments.of(String.format("%s=\\\"%s\\\"", ONE_VARIABLE_NAME, ONE_VALUE_WITH_SPACES),
+                Arguments.of(String.format("%s=\"%s\"", ONE_VARIABLE_NAME, ONE_VALUE_WITH_SPACES),
                         Map.of(ONE_VARIABLE_NAME, ONE_VALUE_WITH_SPACES))
         );
     }
 
-    @ParameterizedTest
-    @MethodSource("provideCasesToEscapeQuotes")
-    public void shouldReturnQuoteEscapedToken(final String expectedToken, final String token) {
-        Assertions.assertEquals(expectedToken, CommandArgUtils.toEscapeQuotes(token));
-    }
-
-    static Stream<Arguments> provideCasesToEscapeQuotes() {
-        return Stream.of(
-                Arguments.of(EMPTY_STRING, EMPTY_STRING),
-                Arguments.of(ONE_VALUE_WITH_SPACES, ONE_VALUE_WITH_SPACES),
-                Arguments.of(QUOTE_ESCAPED_TEST_TOKEN, QUOTE_TEST_TOKEN)
-        );
-    }
-
-    @Test
-    public void shouldReturnQuoteEscapedTokenList() {
-        Assertions.assertEquals(
-                List.of(EMPTY_STRING, ONE_VALUE_WITH_SPACES, QUOTE_ESCAPED_TEST_TOKEN),
-                CommandArgUtils.toEscapeQuotes(List.of(EMPTY_STRING, ONE_VALUE_WITH_SPACES, QUOTE_TEST_TOKEN))
-        );
-    }
-
     @Test
     public void shouldReturnEnclosedInQuotesToken() {
         Assertions.assertEquals(
@@ -0,0 +1,57 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+class CommandClassTest {
+
+    @ParameterizedTest
+    @MethodSource("provideCommands")
+    public void shouldDetermineCommandClass(final String[] command, final CommandClass expectedClass) {
+        Assertions.assertEquals(expectedClass, CommandClass.of(command));
+    }
+
+    static Stream<Arguments> provideCommands() {
+        return Stream.of(
+                Arguments.of(new String[]{"qstat", "-u", "*", "-xml"}, CommandClass.QUERY),
+                Arguments.of(new String[]{"/opt/sge/bin/lx-amd64/qhost", "-xml"}, CommandClass.QUERY),
+                Arguments.of(new String[]{"qconf", "-sql"}, CommandClass.QUERY),
+                Arguments.of(new String[]{"qconf", "-sq", "main.q"}, CommandClass.QUERY),
+                Arguments.of(new String[]{"scontrol", "-o", "show", "node"}, CommandClass.QUERY),
+                Arguments.of(new String[]{"sinfo", "-h", "-N"}, CommandClass.QUERY),
+                Arguments.of(new String[]{"qacct", "-j", "1"}, CommandClass.ACCOUNTING),
+                Arguments.of(new String[]{"qsub", "-b", "y", "sleep", "1"}, CommandClass.SUBMISSION),
+                Arguments.of(new String[]{"sbatch", "--export", "ALL", "job.sh"}, CommandClass.SUBMISSION),
+                Arguments.of(new String[]{"qdel", "1"}, CommandClass.DELETION),
+                Arguments.of(new String[]{"scancel", "-v", "1"}, CommandClass.DELETION),
+                Arguments.of(new String[]{"qconf", "-Aq", "/tmp/queue"}, CommandClass.CONFIGURATION),
+                Arguments.of(new String[]{"qconf", "-dq", "main.q"}, CommandClass.CONFIGURATION),
+                Arguments.of(new String[]{"scontrol", "create", "PartitionName=p"}, CommandClass.CONFIGURATION),
+                Arguments.of(new String[]{"scontrol", "delete", "PartitionName=p"}, CommandClass.CONFIGURATION),
+                Arguments.of(new String[]{"unknown", "-x"}, CommandClass.CONFIGURATION)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.CommandTemplateConfiguration;
+import com.epam.grid.engine.exception.GridEngineException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class CommandTemplateRegistryTest {
+
+    private static final String QSTAT_TEMPLATE = "sge/command/qstat";
+    private static final String SQUEUE_TEMPLATE = "slurm/command/squeue";
+    private static final String QUEUE_TEMPLATE = "sge/entity/queue";
+    private static final String MALFORMED_TEMPLATE = "qstat [(${value)]";
+
+    @TempDir
+    Path templateFolder;
+
+    private final CommandTemplateConfiguration configuration = new CommandTemplateConfiguration();
+    private final CommandTemplateProperties properties = new CommandTemplateProperties();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        properties.setPath(templateFolder + "/");
+        writeTemplate(QSTAT_TEMPLATE, "qstat -xml");
+        writeTemplate(SQUEUE_TEMPLATE, "squeue [(${value})]");
+        writeTemplate(QUEUE_TEMPLATE, "qname    [(${value})]\nslots    1\n");
+    }
+
+    @Test
+    public void shouldLoadAllCommandTemplates() {
+        final CommandTemplateRegistry registry = createRegistry();
+        registry.load();
+
+        Assertions.assertArrayEquals(new String[]{"qstat", "-xml"}, compile(registry, QSTAT_TEMPLATE));
+        Assertions.assertArrayEquals(new String[]{"squeue", "value"}, compile(registry, SQUEUE_TEMPLATE));
+    }
+
+    @Test
+    public void shouldFailLoadingIfTemplateIsMalformed() throws IOException {
+        writeTemplate(QSTAT_TEMPLATE, MALFORMED_TEMPLATE);
+
+        Assertions.assertThrows(GridEngineException.class, () -> createRegistry().load());
+    }
+
+    @Test
+    public void shouldFailLoadingIfEntityTemplateIsMalformed() throws IOException {
+        writeTemplate(QUEUE_TEMPLATE, MALFORMED_TEMPLATE);
+
+        Assertions.assertThrows(GridEngineException.class, () -> createRegistry().load());
+    }
+
+    @Test
+    public void shouldReplaceTemplatesOnReload() throws IOException {
+        final CommandTemplateRegistry registry = createRegistry();
+        registry.load();
+        writeTemplate(QSTAT_TEMPLATE, "qstat -u [(${value})]");
+
+        Assertions.assertArrayEquals(new String[]{"qstat", "-xml"}, compile(registry, QSTAT_TEMPLATE));
+        Assertions.assertTrue(registry.reload());
+        Assertions.assertArrayEquals(new String[]{"qstat", "-u", "value"}, compile(registry, QSTAT_TEMPLATE));
+    }
+
+    @Test
+    public void shouldKeepTemplatesIfReloadFails() throws IOException {
+        final CommandTemplateRegistry registry = createRegistry();
+        registry.load();
+        writeTemplate(QSTAT_TEMPLATE, MALFORMED_TEMPLATE);
+
+        Assertions.assertFalse(registry.reload());
+        Assertions.assertArrayEquals(new String[]{"qstat", "-xml"}, compile(registry, QSTAT_TEMPLATE));
+    }
+
+    @Test
+    public void shouldParseTemplateOnEveryUseIfCacheIsDisabled() throws IOException {
+        properties.getCache().setEnabled(false);
+        final CommandTemplateRegistry registry = createRegistry();
+        registry.load();
+        writeTemplate(QSTAT_TEMPLATE, "qstat -f");
+
+        Assertions.assertArrayEquals(new String[]{"qstat", "-f"}, compile(registry, QSTAT_TEMPLATE));
+    }
+
+    private CommandTemplateRegistry createRegistry() {
+        final SpringTemplateEngine templateEngine = configuration.templateEngine(properties);
+        return new CommandTemplateRegistry(templateEngine, properties);
+    }
+
+    private static String[] compile(final CommandTemplateRegistry registry, final String template) {
+        final Context context = new Context();
+        context.setVariable("value", "value");
+        return registry.getCommandTemplate(template).toArguments(context);
+    }
+
+    private void writeTemplate(final String template, final String content) throws IOException {
+        final Path path = templateFolder.resolve(template);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.exception.GridEngineException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class CommandTemplateTest {
+
+    private static final String TEMPLATE_NAME = "test";
+    private static final String VALUE_WITH_QUOTES = "a value with \"quotes\" and \\\"escaped quotes\\\"";
+    private static final IEngineConfiguration CONFIGURATION = new SpringTemplateEngine().getConfiguration();
+
+    @ParameterizedTest
+    @MethodSource("provideTemplates")
+    public void shouldEmitArguments(final String template, final Map<String, Object> variables,
+                                    final String[] expectedArguments) {
+        final Context context = new Context();
+        context.setVariables(variables);
+        Assertions.assertArrayEquals(expectedArguments,
+                CommandTemplate.parse(TEMPLATE_NAME, template, CONFIGURATION).toArguments(context));
+    }
+
+    static Stream<Arguments> provideTemplates() {
+        return Stream.of(
+                Arguments.of("qhost\r\n\r\n-h\r\n \t current_host\n-xml\n", Map.of(),
+                        new String[]{"qhost", "-h", "current_host", "-xml"}),
+                Arguments.of("cmd \"\\\" quoted \t argument \\\"\" \"\"  \"another one\"", Map.of(),
+                        new String[]{"cmd", "\" quoted \t argument \"", "another one"}),
+                Arguments.of("cmd \"[(${value})]\" [(${value})]", Map.of("value", VALUE_WITH_QUOTES),
+                        new String[]{"cmd", VALUE_WITH_QUOTES, "a", "value", "with", "\"quotes\"", "and",
+                                "\\\"escaped", "quotes\\\""}),
+                Arguments.of("cmd -e [[${dir}]]/$JOB_ID.err \"ALL,[(${variables})]\"",
+                        Map.of("dir", "/logs", "variables", "KEY=\"a value\""),
+                        new String[]{"cmd", "-e", "/logs/$JOB_ID.err", "ALL,KEY=\"a value\""}),
+                Arguments.of("cmd\n[# th:if=\"${flag}\"]\n-f\n[/]\n[# th:unless=\"${flag}\"]\n-n\n[/]\n",
+                        Map.of("flag", true), new String[]{"cmd", "-f"}),
+                Arguments.of("cmd\n[# th:if=\"${not #lists.isEmpty(hosts)}\"]\n-h\n"
+                                + "[# th:each=\"host : ${hosts}\"] [(${host})] [/]\n[/]\n-xml",
+                        Map.of("hosts", List.of("host1", "host2")),
+                        new String[]{"cmd", "-h", "host1", "host2", "-xml"}),
+                Arguments.of("cmd --partition=[# th:text=\"${#strings.listJoin(queues, ',')}\"]\n[/] -x",
+                        Map.of("queues", List.of("main", "all")), new String[]{"cmd", "--partition=main,all", "-x"}),
+                Arguments.of("cmd [# th:with=\"min=${range[0]}, max=${range[1]}\"][(${min})]-[(${max})][/]",
+                        Map.of("range", new int[]{1, 10}), new String[]{"cmd", "1-10"}),
+                Arguments.of("cmd [# th:each=\"value : ${values}\" th:if=\"${value > 1}\"/] [(${values.size()})]",
+                        Map.of("values", List.of(1, 2, 3)), new String[]{"cmd", "3"})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideMalformedTemplates")
+    public void shouldFailOnMalformedTemplate(final String template) {
+        Assertions.assertThrows(GridEngineException.class,
+                () -> CommandTemplate.parse(TEMPLATE_NAME, template, CONFIGURATION));
+    }
+
+    static Stream<Arguments> provideMalformedTemplates() {
+        return Stream.of(
+                Arguments.of("cmd [# th:if=\"${flag}\"] -f"),
+                Arguments.of("cmd [# th:if=\"${flag}\"] -f [/] [/]"),
+                Arguments.of("cmd [(${value}"),
+                Arguments.of("cmd [# th:switch=\"${value}\"] -f [/]"),
+                Arguments.of("cmd [# th:if=\"${flag}\" th:unless=\"${flag}\"] -f [/]"),
+                Arguments.of("cmd [((${value})]")
+        );
+    }
+
+    @Test
+    public void shouldKeepIterationVariableInScope() {
+        final Context context = new Context();
+        context.setVariable("value", "outer");
+        context.setVariable("values", List.of("inner"));
+        Assertions.assertArrayEquals(new String[]{"cmd", "inner", "outer"},
+                CommandTemplate.parse(TEMPLATE_NAME, "cmd [# th:each=\"value : ${values}\"][(${value})][/] "
+                        + "[(${value})]", CONFIGURATION).toArguments(context));
+    }
+}
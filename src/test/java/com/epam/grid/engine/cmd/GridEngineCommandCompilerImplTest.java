@@ -46,8 +46,6 @@ import org.thymeleaf.templateresolver.FileTemplateResolver;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -270,7 +268,10 @@ public class GridEngineCommandCompilerImplTest {
         final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
         templateEngine.setTemplateResolver(getResolverByCommandPath(getPropertyValue(TEMPLATE_PATH_PROPERTY)));
 
-        return new GridEngineCommandCompilerImpl(templateEngine);
+        final CommandTemplateProperties properties = new CommandTemplateProperties();
+        properties.setPath(getPropertyValue(TEMPLATE_PATH_PROPERTY));
+        return new GridEngineCommandCompilerImpl(templateEngine,
+                new CommandTemplateRegistry(templateEngine, properties));
     }
 
     @ParameterizedTest
@@ -454,25 +455,13 @@ public class GridEngineCommandCompilerImplTest {
     }
 
     @ParameterizedTest
-    @MethodSource("provideParametersForCompilingEntityConfigFile")
-    public void shouldCompileEntityConfigFile(final CommandType commandType, final String entity,
-                                              final Context context, final String expected) {
-        final Path pathToTempFile = commandCompiler.compileEntityConfigFile(commandType, entity, context);
-
-        Assertions.assertNotEquals(null, pathToTempFile);
-        Assertions.assertTrue(pathToTempFile.isAbsolute());
-
-        String actual;
-        try {
-            actual = Files.readString(pathToTempFile);
-            Files.deleteIfExists(pathToTempFile);
-        } catch (final IOException e) {
-            actual = null;
-        }
-        Assertions.assertEquals(expected, actual);
+    @MethodSource("provideParametersForCompilingEntityDescription")
+    public void shouldCompileEntityDescription(final CommandType commandType, final String entity,
+                                               final Context context, final String expected) {
+        Assertions.assertEquals(expected, commandCompiler.compileEntityDescription(commandType, entity, context));
     }
 
-    static Stream<Arguments> provideParametersForCompilingEntityConfigFile() {
+    static Stream<Arguments> provideParametersForCompilingEntityDescription() {
         final Context contextForCreateQueue = new Context();
         contextForCreateQueue.setVariable(QNAME_FILED, QUEUE);
         contextForCreateQueue.setVariable(HOST_LIST_FIELD, SOME_HOSTLIST);
@@ -542,7 +531,7 @@ public class GridEngineCommandCompilerImplTest {
         final JobOptions jobOptions = jobOptionsBuilder.build();
         final Context context = new Context();
         context.setVariable(OPTIONS, jobOptions);
-        context.setVariable(ARGUMENTS, CommandArgUtils.toEscapeQuotes(jobOptions.getArguments()));
+        context.setVariable(ARGUMENTS, jobOptions.getArguments());
         assertArrayEquals(expectedCommand, commandCompiler.compileCommand(CommandType.SGE, QSUB, context));
     }
 
@@ -589,7 +578,7 @@ public class GridEngineCommandCompilerImplTest {
         final JobOptions jobOptions = jobOptionsBuilder.build();
         final Context context = new Context();
         context.setVariable(OPTIONS, jobOptions);
-        context.setVariable(ENV_VARIABLES, CommandArgUtils.toEscapeQuotes(envVariables));
+        context.setVariable(ENV_VARIABLES, envVariables);
         assertArrayEquals(expectedCommand, commandCompiler.compileCommand(CommandType.SGE, QSUB, context));
     }
 
@@ -0,0 +1,150 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.CommandTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.mockito.Mockito;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+@DisabledOnOs(OS.WINDOWS)
+public class HelperCmdExecutorTest {
+
+    private static final String[] FAILED_COMMAND = {"sh", "-c", "echo out; echo err >&2; exit 3"};
+    private static final String[] HANGING_COMMAND = {"sh", "-c", "echo partial; sleep 30"};
+    private static final String[] MANY_LINES_COMMAND =
+            {"sh", "-c", "i=0; while [ $i -lt 1000 ]; do echo line$i; i=$((i+1)); done"};
+    private static final String[] CARRIAGE_RETURN_COMMAND =
+            {"sh", "-c", "printf 'progress\\r100%%\\ndone\\n'; printf 'warning\\rretry\\n' >&2"};
+    private static final String[] MANY_ERROR_LINES_COMMAND =
+            {"sh", "-c", "for i in 1 2 3; do echo error$i >&2; done"};
+    private static final String[] MULTILINE_ARGUMENT_COMMAND = {"printf", "first\nsecond"};
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(500);
+    private static final int SEQUENTIAL_EXECUTIONS = 20;
+
+    private final ScheduledThreadPoolExecutor timeoutScheduler = new ScheduledThreadPoolExecutor(1);
+    private final CmdExecutorProperties properties = new CmdExecutorProperties();
+    private final CmdExecutor fallbackExecutor = Mockito.mock(CmdExecutor.class);
+    private final HelperCmdExecutor helperCmdExecutor =
+            new HelperCmdExecutor(fallbackExecutor, timeoutScheduler, properties);
+
+    @Test
+    public void shouldPassArgumentsAsTheyAre() {
+        final CommandResult result = helperCmdExecutor.execute("echo", "two  spaces", "back\\slash", "$HOME");
+
+        Assertions.assertEquals(0, result.getExitCode());
+        Assertions.assertEquals(List.of("two  spaces back\\slash $HOME"), result.getStdOut());
+        Assertions.assertEquals(List.of(), result.getStdErr());
+    }
+
+    @Test
+    public void shouldReturnErrorOutputAndExitCode() {
+        final CommandResult result = helperCmdExecutor.execute(FAILED_COMMAND);
+
+        Assertions.assertEquals(3, result.getExitCode());
+        Assertions.assertEquals(List.of("out"), result.getStdOut());
+        Assertions.assertEquals(List.of("err"), result.getStdErr());
+    }
+
+    @Test
+    public void shouldKeepCarriageReturnsInOutput() {
+        final ParsedCommandResult<String> result = helperCmdExecutor.executeStreaming(
+                HelperCmdExecutorTest::readAll, CARRIAGE_RETURN_COMMAND);
+
+        Assertions.assertEquals(0, result.getExitCode());
+        Assertions.assertEquals("progress\r100%\ndone\n", result.getOutput());
+        Assertions.assertEquals(List.of("warning\rretry"), result.getStdErr());
+        Assertions.assertEquals(List.of("next"), helperCmdExecutor.execute("echo", "next").getStdOut());
+    }
+
+    @Test
+    public void shouldDropErrorOutputBeyondLimit() {
+        properties.getOutput().getHardLimits().put("sh", DataSize.ofBytes(10));
+
+        final CommandResult result = helperCmdExecutor.execute(MANY_ERROR_LINES_COMMAND);
+
+        Assertions.assertEquals(0, result.getExitCode());
+        Assertions.assertEquals(List.of("error1"), result.getStdErr());
+    }
+
+    @Test
+    public void shouldReuseLaunchersForSequentialCommands() {
+        for (int i = 0; i < SEQUENTIAL_EXECUTIONS; i++) {
+            final CommandResult result = helperCmdExecutor.execute("echo", String.valueOf(i));
+
+            Assertions.assertEquals(List.of(String.valueOf(i)), result.getStdOut());
+        }
+    }
+
+    @Test
+    public void shouldKillTimedOutCommandAndRunNextOne() {
+        final CommandTimeoutException exception = Assertions.assertThrows(CommandTimeoutException.class,
+                () -> helperCmdExecutor.executeWithTimeout(SHORT_TIMEOUT, HANGING_COMMAND));
+
+        Assertions.assertNotNull(exception.getPartialResult());
+        Assertions.assertEquals(List.of("next"), helperCmdExecutor.execute("echo", "next").getStdOut());
+    }
+
+    @Test
+    public void shouldSkipOutputNotReadByParser() {
+        final ParsedCommandResult<List<String>> result = helperCmdExecutor.executeStreaming(
+                output -> output.lines().limit(2).collect(Collectors.toList()), MANY_LINES_COMMAND);
+
+        Assertions.assertEquals(List.of("line0", "line1"), result.getOutput());
+        Assertions.assertEquals(0, result.getExitCode());
+        Assertions.assertEquals(List.of("next"), helperCmdExecutor.execute("echo", "next").getStdOut());
+    }
+
+    @Test
+    public void shouldPassMultilineArgumentsToFallbackExecutor() {
+        final CommandResult expected = new CommandResult(List.of("first", "second"), 0, List.of());
+        Mockito.doReturn(expected).when(fallbackExecutor)
+                .executeWithTimeout(Mockito.any(), Mockito.eq(MULTILINE_ARGUMENT_COMMAND[0]),
+                        Mockito.eq(MULTILINE_ARGUMENT_COMMAND[1]));
+
+        Assertions.assertEquals(expected, helperCmdExecutor.execute(MULTILINE_ARGUMENT_COMMAND));
+    }
+
+    @AfterEach
+    public void closeExecutor() {
+        helperCmdExecutor.close();
+        timeoutScheduler.shutdownNow();
+    }
+
+    private static String readAll(final BufferedReader output) throws IOException {
+        final StringWriter content = new StringWriter();
+        output.transferTo(content);
+        return content.toString();
+    }
+}
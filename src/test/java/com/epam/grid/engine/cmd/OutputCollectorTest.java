@@ -0,0 +1,154 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class OutputCollectorTest {
+
+    private static final String COMMAND_NAME = "qacct";
+    private static final int LINES_COUNT = 1000;
+    private static final DataSize MEMORY_LIMIT = DataSize.ofKilobytes(4);
+    private static final DataSize HARD_LIMIT = DataSize.ofKilobytes(64);
+
+    @TempDir
+    Path spillFolder;
+
+    @Test
+    public void shouldKeepSmallOutputInMemory() throws IOException {
+        final List<String> lines = OutputCollector.readLines(output(10), createCollector());
+
+        Assertions.assertTrue(lines instanceof ArrayList);
+        Assertions.assertEquals(expectedLines(10), lines);
+        Assertions.assertEquals(0, countSpilledFiles());
+    }
+
+    @Test
+    public void shouldSpillLargeOutputToReReadableFile() throws IOException {
+        final List<String> lines = OutputCollector.readLines(output(LINES_COUNT), createCollector());
+
+        Assertions.assertTrue(lines instanceof SpilledLines);
+        Assertions.assertEquals(1, countSpilledFiles());
+        Assertions.assertEquals(LINES_COUNT, lines.size());
+        Assertions.assertEquals(expectedLines(LINES_COUNT), new ArrayList<>(lines));
+        Assertions.assertEquals(expectedLines(LINES_COUNT), lines.stream().collect(Collectors.toList()));
+        Assertions.assertEquals("line999", lines.get(999));
+        Assertions.assertEquals("line1", lines.get(1));
+        Assertions.assertEquals("line500", lines.get(500));
+    }
+
+    @Test
+    public void shouldDeleteSpilledFileWhenLinesAreClosed() throws IOException {
+        final List<String> lines = OutputCollector.readLines(output(LINES_COUNT), createCollector());
+
+        ((SpilledLines) lines).close();
+
+        Assertions.assertEquals(0, countSpilledFiles());
+    }
+
+    @Test
+    public void shouldDeleteSpilledFileWhenCommandResultIsClosed() throws IOException {
+        final List<String> lines = OutputCollector.readLines(output(LINES_COUNT), createCollector());
+
+        try (CommandResult result = new CommandResult(lines, 0, new ArrayList<>())) {
+            Assertions.assertEquals(LINES_COUNT, result.getStdOut().size());
+        }
+
+        Assertions.assertEquals(0, countSpilledFiles());
+    }
+
+    @Test
+    public void shouldCloseReaderOfUnfinishedIteratorWhenLinesAreClosed() throws IOException {
+        final List<String> lines = OutputCollector.readLines(output(LINES_COUNT), createCollector());
+        final Iterator<String> iterator = lines.iterator();
+        Assertions.assertEquals("line0", iterator.next());
+
+        ((SpilledLines) lines).close();
+
+        Assertions.assertEquals(0, countSpilledFiles());
+        Assertions.assertThrows(UncheckedIOException.class, iterator::next);
+    }
+
+    @Test
+    public void shouldStopIteratorWhenItIsClosed() throws IOException {
+        final List<String> lines = OutputCollector.readLines(output(LINES_COUNT), createCollector());
+        final Iterator<String> iterator = lines.iterator();
+        Assertions.assertEquals("line0", iterator.next());
+
+        ((Closeable) iterator).close();
+
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(expectedLines(LINES_COUNT), new ArrayList<>(lines));
+    }
+
+    @Test
+    public void shouldFailWhenOutputExceedsHardLimit() {
+        final OutputCollector collector = createCollector();
+
+        Assertions.assertThrows(OutputLimitExceededException.class,
+                () -> OutputCollector.readLines(output(LINES_COUNT * 10), collector));
+        collector.close();
+        Assertions.assertEquals(0, countSpilledFiles());
+    }
+
+    private OutputCollector createCollector() {
+        final CmdExecutorProperties.Output settings = new CmdExecutorProperties.Output();
+        settings.getMemoryLimits().put(COMMAND_NAME, MEMORY_LIMIT);
+        settings.getHardLimits().put(COMMAND_NAME, HARD_LIMIT);
+        settings.setSpillFolder(spillFolder.toString());
+        return new OutputCollector(settings, COMMAND_NAME);
+    }
+
+    private static BufferedReader output(final int linesCount) {
+        return new BufferedReader(new StringReader(String.join("\n", expectedLines(linesCount))));
+    }
+
+    private static List<String> expectedLines(final int linesCount) {
+        return IntStream.range(0, linesCount)
+                .mapToObj(i -> "line" + i)
+                .collect(Collectors.toList());
+    }
+
+    private long countSpilledFiles() {
+        try (Stream<Path> files = Files.list(spillFolder)) {
+            return files.count();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
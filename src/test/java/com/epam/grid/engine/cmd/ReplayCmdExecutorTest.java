@@ -0,0 +1,103 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.cmd;
+
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ReplayCmdExecutorTest {
+
+    private static final String[] QSTAT_COMMAND = {"qstat", "-u", "*", "-xml"};
+    private static final String[] QHOST_COMMAND = {"qhost", "-xml"};
+    private static final CommandResult QSTAT_RESULT = new CommandResult(
+            List.of("<?xml version='1.0'?>", "<job_info/>"), 0, List.of());
+    private static final CommandResult QHOST_RESULT = new CommandResult(
+            List.of(), 1, List.of("error: unable to contact qmaster"));
+    private static final long LATENCY_MILLIS = 300;
+    private static final long AWAIT_SECONDS = 10;
+
+    private final CmdExecutor delegate = Mockito.mock(CmdExecutor.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CmdExecutorProperties.Fixtures settings = new CmdExecutorProperties.Fixtures();
+
+    @TempDir
+    Path fixturesFolder;
+
+    @BeforeEach
+    public void setUp() {
+        settings.setFolder(fixturesFolder.toString());
+    }
+
+    @Test
+    public void shouldReplayRecordedExecutions() {
+        Mockito.doReturn(QSTAT_RESULT).when(delegate).execute(QSTAT_COMMAND);
+        Mockito.doReturn(CompletableFuture.completedFuture(QHOST_RESULT)).when(delegate).executeAsync(QHOST_COMMAND);
+        final RecordingCmdExecutor recordingExecutor = new RecordingCmdExecutor(delegate, settings, objectMapper);
+
+        Assertions.assertEquals(QSTAT_RESULT, recordingExecutor.execute(QSTAT_COMMAND));
+        Assertions.assertEquals(QHOST_RESULT, recordingExecutor.executeAsync(QHOST_COMMAND).join());
+
+        final ReplayCmdExecutor replayExecutor = new ReplayCmdExecutor(settings, objectMapper);
+        Assertions.assertEquals(QSTAT_RESULT, replayExecutor.execute(QSTAT_COMMAND));
+        Assertions.assertEquals(QSTAT_RESULT, replayExecutor.executeAsync(QSTAT_COMMAND).join());
+        Assertions.assertEquals(QHOST_RESULT, replayExecutor.execute(QHOST_COMMAND));
+    }
+
+    @Test
+    public void shouldFailIfCommandIsNotRecorded() {
+        Mockito.doReturn(QSTAT_RESULT).when(delegate).execute(QSTAT_COMMAND);
+        new RecordingCmdExecutor(delegate, settings, objectMapper).execute(QSTAT_COMMAND);
+        final ReplayCmdExecutor replayExecutor = new ReplayCmdExecutor(settings, objectMapper);
+
+        final GridEngineException exception = Assertions.assertThrows(GridEngineException.class,
+                () -> replayExecutor.execute("qstat", "-u", "user", "-xml"));
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+        Assertions.assertTrue(replayExecutor.executeAsync(QHOST_COMMAND).isCompletedExceptionally());
+    }
+
+    @Test
+    public void shouldReplayRecordedLatency() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(LATENCY_MILLIS);
+            return QSTAT_RESULT;
+        }).when(delegate).execute(QSTAT_COMMAND);
+        new RecordingCmdExecutor(delegate, settings, objectMapper).execute(QSTAT_COMMAND);
+        settings.setReplayLatency(true);
+        final ReplayCmdExecutor replayExecutor = new ReplayCmdExecutor(settings, objectMapper);
+
+        final long start = System.nanoTime();
+        final CompletableFuture<CommandResult> result = replayExecutor.executeAsync(QSTAT_COMMAND);
+        Assertions.assertFalse(result.isDone());
+        Assertions.assertEquals(QSTAT_RESULT, result.get(AWAIT_SECONDS, TimeUnit.SECONDS));
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= LATENCY_MILLIS);
+    }
+}
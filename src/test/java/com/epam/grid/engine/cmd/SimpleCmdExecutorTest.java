@@ -20,13 +20,27 @@
 package com.epam.grid.engine.cmd;
 
 import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.ParsedCommandResult;
+import com.epam.grid.engine.exception.CommandTimeoutException;
 import com.epam.grid.engine.exception.GridEngineException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public class SimpleCmdExecutorTest {
 
@@ -37,7 +51,26 @@ public class SimpleCmdExecutorTest {
     private static final String[] LINUX_NOT_EXISTING_FUNCTION = {"sh", "-c", "eco \"hello\""};
     private static final String[] WINDOWS_INVALID_COMMAND = {"cfghmd.exe", "/c", "echo \"hello\""};
     private static final String[] LINUX_INVALID_COMMAND = {"serh", "-c", "echo \"hello\""};
-    private final SimpleCmdExecutor executeImpl = new SimpleCmdExecutor();
+    private static final int READER_POOL_SIZE = 2;
+    private static final int READER_QUEUE_CAPACITY = 4;
+    private static final int SEQUENTIAL_EXECUTIONS = 20;
+    private static final String[] LINUX_HANGING_COMMAND = {"sh", "-c", "echo partial; sleep 30; echo done"};
+    private static final String[] LINUX_SLEEP_COMMAND = {"sleep", "30"};
+    private static final String[] LINUX_MANY_LINES_COMMAND =
+            {"sh", "-c", "i=0; while [ $i -lt 1000 ]; do echo line$i; i=$((i+1)); done"};
+    private static final String[] LINUX_FAILED_WITH_OUTPUT_COMMAND = {"sh", "-c", "echo broken; exit 3"};
+    private static final String[] LINUX_ENDLESS_COMMAND = {"yes"};
+    private static final String[] LINUX_BOTH_OUTPUTS_COMMAND = {"sh", "-c", "echo out; echo err >&2"};
+    private static final String[] LINUX_READ_STDIN_COMMAND = {"sh", "-c", "awk '{ print NR \": \" $0 }' /dev/stdin"};
+    private static final long MANY_LINES_COUNT = 1000;
+    private static final Duration SHORT_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration KILL_DEADLINE = Duration.ofSeconds(10);
+    private final ThreadPoolExecutor readerExecutor = new ThreadPoolExecutor(READER_POOL_SIZE, READER_POOL_SIZE,
+            1, TimeUnit.SECONDS, new ArrayBlockingQueue<>(READER_QUEUE_CAPACITY));
+    private final ScheduledThreadPoolExecutor timeoutScheduler = new ScheduledThreadPoolExecutor(1);
+    private final CmdExecutorProperties properties = new CmdExecutorProperties();
+    private final SimpleCmdExecutor executeImpl = new SimpleCmdExecutor(readerExecutor, timeoutScheduler,
+            properties);
     private final boolean isWindows = System.getProperty("os.name")
             .toLowerCase(Locale.US)
             .startsWith("windows");
@@ -72,4 +105,181 @@ public class SimpleCmdExecutorTest {
                     executeImpl.execute(LINUX_INVALID_COMMAND));
         }
     }
+
+    @Test
+    public void shouldReuseSharedReaderPool() {
+        final String[] command = isWindows ? WINDOWS_SUCCESSFUL_COMMAND : LINUX_SUCCESSFUL_COMMAND;
+        for (int i = 0; i < SEQUENTIAL_EXECUTIONS; i++) {
+            Assertions.assertEquals(0, executeImpl.execute(command).getExitCode());
+        }
+
+        Assertions.assertTrue(readerExecutor.getLargestPoolSize() <= READER_POOL_SIZE);
+        Assertions.assertEquals(0, readerExecutor.getQueue().size());
+        Assertions.assertFalse(readerExecutor.isShutdown());
+    }
+
+    @Test
+    public void shouldFailWhenReaderPoolIsExhausted() throws InterruptedException {
+        final ThreadPoolExecutor exhaustedExecutor = new ThreadPoolExecutor(1, 1,
+                1, TimeUnit.SECONDS, new SynchronousQueue<>());
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            exhaustedExecutor.submit(() -> {
+                release.await();
+                return null;
+            });
+            final SimpleCmdExecutor executor = new SimpleCmdExecutor(exhaustedExecutor, timeoutScheduler,
+                    properties);
+            final GridEngineException exception = Assertions.assertThrows(GridEngineException.class, () ->
+                    executor.execute(isWindows ? WINDOWS_SUCCESSFUL_COMMAND : LINUX_SUCCESSFUL_COMMAND));
+            Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        } finally {
+            release.countDown();
+            exhaustedExecutor.shutdown();
+            exhaustedExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldKillProcessTreeAndKeepPartialOutputOnTimeout() {
+        if (isWindows) {
+            return;
+        }
+        final CommandTimeoutException exception = Assertions.assertTimeoutPreemptively(KILL_DEADLINE, () ->
+                Assertions.assertThrows(CommandTimeoutException.class, () ->
+                        executeImpl.executeWithTimeout(SHORT_TIMEOUT, LINUX_HANGING_COMMAND)));
+
+        Assertions.assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getHttpStatus());
+        Assertions.assertEquals(List.of("partial"), exception.getPartialResult().getStdOut());
+    }
+
+    @Test
+    public void shouldApplyTimeoutConfiguredForCommandName() {
+        if (isWindows) {
+            return;
+        }
+        properties.getTimeouts().put("sleep", SHORT_TIMEOUT);
+
+        Assertions.assertTimeoutPreemptively(KILL_DEADLINE, () ->
+                Assertions.assertThrows(CommandTimeoutException.class, () ->
+                        executeImpl.execute(LINUX_SLEEP_COMMAND)));
+        Assertions.assertEquals(0, executeImpl.execute(LINUX_SUCCESSFUL_COMMAND).getExitCode());
+    }
+
+    @Test
+    public void shouldPassInputToCommand() {
+        if (isWindows) {
+            return;
+        }
+        final CommandResult result = executeImpl.executeWithInput("qname test.q\nslots 1\n",
+                LINUX_READ_STDIN_COMMAND);
+
+        Assertions.assertEquals(0, result.getExitCode());
+        Assertions.assertEquals(List.of("1: qname test.q", "2: slots 1"), result.getStdOut());
+    }
+
+    @Test
+    public void shouldParseOutputWhileReadingIt() {
+        if (isWindows) {
+            return;
+        }
+        final ParsedCommandResult<Long> result = executeImpl.executeStreaming(
+                output -> output.lines().count(), LINUX_MANY_LINES_COMMAND);
+
+        Assertions.assertEquals(0, result.getExitCode());
+        Assertions.assertEquals(MANY_LINES_COUNT, result.getOutput().longValue());
+        Assertions.assertEquals("line0", result.getStdOut().get(0));
+    }
+
+    @Test
+    public void shouldKeepFailureDetailsWhenOutputCannotBeParsed() {
+        if (isWindows) {
+            return;
+        }
+        final ParsedCommandResult<Object> result = executeImpl.executeStreaming(output -> {
+            throw new GridEngineException(HttpStatus.NOT_FOUND, output.readLine());
+        }, LINUX_FAILED_WITH_OUTPUT_COMMAND);
+
+        Assertions.assertEquals(3, result.getExitCode());
+        Assertions.assertNull(result.getOutput());
+        Assertions.assertEquals(List.of("broken"), result.getStdOut());
+    }
+
+    @Test
+    public void shouldRethrowParsingErrorOfSucceededCommand() {
+        final GridEngineException exception = Assertions.assertThrows(GridEngineException.class, () ->
+                executeImpl.executeStreaming(output -> {
+                    throw new GridEngineException(HttpStatus.BAD_REQUEST, "unparsable");
+                }, isWindows ? WINDOWS_SUCCESSFUL_COMMAND : LINUX_SUCCESSFUL_COMMAND));
+
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    public void shouldExecuteCommandsAsynchronously() {
+        if (isWindows) {
+            return;
+        }
+        final CompletableFuture<CommandResult> failed = executeImpl.executeAsync(LINUX_FAILED_WITH_OUTPUT_COMMAND);
+        final CompletableFuture<CommandResult> succeeded = executeImpl.executeAsync(LINUX_SUCCESSFUL_COMMAND);
+
+        final CommandResult failedResult = Assertions.assertTimeoutPreemptively(KILL_DEADLINE, failed::join);
+        Assertions.assertEquals(3, failedResult.getExitCode());
+        Assertions.assertEquals(List.of("broken"), failedResult.getStdOut());
+        Assertions.assertEquals(List.of("hello"), succeeded.join().getStdOut());
+        Assertions.assertEquals(EMPTY_LIST, succeeded.join().getStdErr());
+    }
+
+    @Test
+    public void shouldReadErrorOutputOfAsyncCommandWithoutPooledReader() {
+        if (isWindows) {
+            return;
+        }
+        final CommandResult result = Assertions.assertTimeoutPreemptively(KILL_DEADLINE, () ->
+                executeImpl.executeAsync(LINUX_BOTH_OUTPUTS_COMMAND).join());
+
+        Assertions.assertEquals(List.of("out"), result.getStdOut());
+        Assertions.assertEquals(List.of("err"), result.getStdErr());
+        Assertions.assertEquals(1, readerExecutor.getTaskCount());
+    }
+
+    @Test
+    public void shouldCompleteAsyncExecutionExceptionallyOnTimeout() {
+        if (isWindows) {
+            return;
+        }
+        properties.getTimeouts().put("sleep", SHORT_TIMEOUT);
+
+        final CompletionException exception = Assertions.assertTimeoutPreemptively(KILL_DEADLINE, () ->
+                Assertions.assertThrows(CompletionException.class, () ->
+                        executeImpl.executeAsync(LINUX_SLEEP_COMMAND).join()));
+        Assertions.assertTrue(exception.getCause() instanceof CommandTimeoutException);
+    }
+
+    @Test
+    public void shouldCompleteAsyncExecutionExceptionallyWhenCommandCannotStart() {
+        final CompletableFuture<CommandResult> result = executeImpl.executeAsync(
+                isWindows ? WINDOWS_INVALID_COMMAND : LINUX_INVALID_COMMAND);
+
+        final CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertTrue(exception.getCause() instanceof GridEngineException);
+    }
+
+    @Test
+    public void shouldKillCommandWhenOutputExceedsHardLimit() {
+        if (isWindows) {
+            return;
+        }
+        properties.getOutput().getHardLimits().put("yes", DataSize.ofKilobytes(64));
+
+        final GridEngineException exception = Assertions.assertTimeoutPreemptively(KILL_DEADLINE, () ->
+                Assertions.assertThrows(GridEngineException.class, () -> executeImpl.execute(LINUX_ENDLESS_COMMAND)));
+        Assertions.assertEquals(HttpStatus.INSUFFICIENT_STORAGE, exception.getHttpStatus());
+    }
+
+    @AfterEach
+    public void shutdownReaderPool() {
+        readerExecutor.shutdownNow();
+        timeoutScheduler.shutdownNow();
+    }
 }
@@ -30,7 +30,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public abstract class AbstractControllerTest {
@@ -49,6 +51,18 @@ public abstract class AbstractControllerTest {
                 .andReturn();
     }
 
+    public MvcResult performAsyncMvcRequest(final MockHttpServletRequestBuilder servletRequestBuilder)
+            throws Exception {
+        final MvcResult asyncResult = mvc.perform(servletRequestBuilder
+                .accept(EXPECTED_CONTENT_TYPE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EXPECTED_CONTENT_TYPE))
+                .andReturn();
+    }
+
     public MvcResult performMvcResultWithContent(
             final MockHttpServletRequestBuilder servletRequestBuilder, final Object bodyObject
     ) throws Exception {
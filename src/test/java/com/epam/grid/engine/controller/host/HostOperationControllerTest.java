@@ -20,6 +20,7 @@
 package com.epam.grid.engine.controller.host;
 
 import com.epam.grid.engine.controller.AbstractControllerTest;
+import com.epam.grid.engine.entity.HostFilter;
 import com.epam.grid.engine.entity.Listing;
 import com.epam.grid.engine.entity.host.Host;
 import com.epam.grid.engine.service.HostOperationProviderService;
@@ -27,17 +28,22 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(HostController.class)
 public class HostOperationControllerTest extends AbstractControllerTest {
 
     private static final String URI = "/hosts";
+    private static final String HOSTS = "hosts";
 
     @MockBean
     private HostOperationProviderService hostOperationProviderService;
@@ -69,4 +75,33 @@ public class HostOperationControllerTest extends AbstractControllerTest {
 
         assertThat(response).isEqualToIgnoringWhitespace(objectMapper.writeValueAsString(hostListing));
     }
+
+    @Test
+    public void shouldReturnNotModifiedIfEtagMatches() throws Exception {
+        final HostFilter hostFilter = new HostFilter(List.of("test-ip"));
+        final Listing<Host> hostListing = new Listing<>(List.of(Host.builder().hostname("test-ip").build()));
+        Mockito.when(hostOperationProviderService.filter(hostFilter)).thenReturn(hostListing);
+
+        final String etag = performMvcRequest(MockMvcRequestBuilders.get(URI).param(HOSTS, "test-ip"))
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(MockMvcRequestBuilders.get(URI).param(HOSTS, "test-ip").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        hostListing.setElements(List.of(Host.builder().hostname("other-ip").build()));
+        mvc.perform(MockMvcRequestBuilders.get(URI).param(HOSTS, "test-ip").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldNotAnswerPostListingConditionally() throws Exception {
+        final Listing<Host> hostListing = new Listing<>(List.of(Host.builder().hostname("test-ip").build()));
+        Mockito.when(hostOperationProviderService.filter(null)).thenReturn(hostListing);
+
+        mvc.perform(MockMvcRequestBuilders.post(URI).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
 }
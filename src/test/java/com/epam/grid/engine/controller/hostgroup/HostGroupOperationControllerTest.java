@@ -30,6 +30,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -51,8 +52,9 @@ public class HostGroupOperationControllerTest extends AbstractControllerTest {
                 .hostGroupEntry(Collections.singletonList(HOST_GROUP_ENTRY))
                 .build();
         final List<HostGroup> expectedResult = Collections.singletonList(expectedHostGroup);
-        Mockito.when(hostGroupOperationProviderService.listHostGroups(null)).thenReturn(expectedResult);
-        final String response = performMvcRequest(MockMvcRequestBuilders.post(URI))
+        Mockito.when(hostGroupOperationProviderService.listHostGroupsAsync(null))
+                .thenReturn(CompletableFuture.completedFuture(expectedResult));
+        final String response = performAsyncMvcRequest(MockMvcRequestBuilders.post(URI))
                 .getResponse()
                 .getContentAsString();
         assertThat(response).isEqualToIgnoringWhitespace(objectMapper.writeValueAsString(expectedResult));
@@ -0,0 +1,75 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.controller.job;
+
+import com.epam.grid.engine.controller.AbstractControllerTest;
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.service.JobHistoryOperationProviderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@WebMvcTest(JobHistoryController.class)
+public class JobHistoryControllerTest extends AbstractControllerTest {
+
+    private static final String URI = "/jobs/history";
+
+    @MockBean
+    private JobHistoryOperationProviderService historyService;
+
+    @Test
+    public void shouldReturnFinishedJobs() throws Exception {
+        final JobHistoryFilter filter = JobHistoryFilter.builder()
+                .owners(List.of("sgeuser"))
+                .limit(1)
+                .build();
+        final Listing<FinishedJob> listing = new Listing<>(List.of(FinishedJob.builder()
+                .id(5)
+                .name("job5")
+                .owner("sgeuser")
+                .state(JobState.builder()
+                        .category(JobState.Category.FINISHED)
+                        .state("completed")
+                        .stateCode("z")
+                        .build())
+                .exitCode(0)
+                .endTime(LocalDateTime.of(2022, 5, 1, 10, 10))
+                .build()));
+        listing.setNextCursor("cursor");
+        doReturn(listing).when(historyService).getFinishedJobs(filter);
+
+        final MvcResult mvcResult = performMvcResultWithContent(MockMvcRequestBuilders.post(URI), filter);
+
+        verify(historyService).getFinishedJobs(filter);
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .isEqualToIgnoringWhitespace(objectMapper.writeValueAsString(listing));
+    }
+}
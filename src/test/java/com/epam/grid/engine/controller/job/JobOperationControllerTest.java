@@ -20,6 +20,7 @@
 package com.epam.grid.engine.controller.job;
 
 import com.epam.grid.engine.controller.AbstractControllerTest;
+import com.epam.grid.engine.entity.JobFilter;
 import com.epam.grid.engine.entity.Listing;
 import com.epam.grid.engine.entity.job.DeleteJobFilter;
 import com.epam.grid.engine.entity.job.DeletedJobInfo;
@@ -27,7 +28,9 @@ import com.epam.grid.engine.entity.job.Job;
 import com.epam.grid.engine.entity.job.JobLogInfo;
 import com.epam.grid.engine.entity.job.JobOptions;
 import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.entity.job.JobStateEvent;
 import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.service.JobEventService;
 import com.epam.grid.engine.service.JobOperationProviderService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -35,24 +38,33 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(JobOperationController.class)
@@ -76,6 +88,9 @@ public class JobOperationControllerTest extends AbstractControllerTest {
     @MockBean
     private JobOperationProviderService jobOperationProviderService;
 
+    @MockBean
+    private JobEventService jobEventService;
+
     @Test
     public void shouldReturnJsonValueAndOkStatus() throws Exception {
         final Job expectedFirstJob = Job.builder()
@@ -110,6 +125,71 @@ public class JobOperationControllerTest extends AbstractControllerTest {
         assertThat(actual).isEqualToIgnoringWhitespace(objectMapper.writeValueAsString(expectedResult));
     }
 
+    @Test
+    public void shouldReturnNotModifiedWithoutListingIfSnapshotTagMatches() throws Exception {
+        final JobFilter jobFilter = JobFilter.builder()
+                .owners(List.of(SGEUSER))
+                .build();
+        doReturn(Optional.of("5-0")).when(jobOperationProviderService).getSnapshotTag(jobFilter);
+
+        mvc.perform(MockMvcRequestBuilders.get(URI)
+                        .param("owners", SGEUSER)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"4-0\", \"5-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5-0\""));
+
+        verify(jobOperationProviderService, never()).filter(any());
+    }
+
+    @Test
+    public void shouldNotAnswerPostListingConditionally() throws Exception {
+        doReturn(new Listing<>()).when(jobOperationProviderService).filter(null);
+
+        mvc.perform(MockMvcRequestBuilders.post(URI).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        verify(jobOperationProviderService, never()).getSnapshotTag(any());
+    }
+
+    @Test
+    public void shouldSubscribeToJobEvents() throws Exception {
+        final JobFilter jobFilter = JobFilter.builder()
+                .owners(List.of(SGEUSER))
+                .ids(List.of(SOME_JOB_ID))
+                .build();
+        doReturn(new SseEmitter()).when(jobEventService).subscribe(jobFilter);
+
+        mvc.perform(MockMvcRequestBuilders.get(URI + "/events")
+                        .param("owners", SGEUSER)
+                        .param("ids", String.valueOf(SOME_JOB_ID))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(jobEventService).subscribe(jobFilter);
+    }
+
+    @Test
+    public void shouldWaitForJobState() throws Exception {
+        final JobStateEvent expectedResult = JobStateEvent.builder()
+                .id(SOME_JOB_ID)
+                .owner(SGEUSER)
+                .state(JobState.builder().category(JobState.Category.RUNNING).build())
+                .build();
+        final DeferredResult<JobStateEvent> deferredResult = new DeferredResult<>();
+        deferredResult.setResult(expectedResult);
+        doReturn(deferredResult).when(jobEventService)
+                .waitForState(SOME_JOB_ID, JobState.Category.RUNNING, Duration.ofSeconds(30));
+
+        final MvcResult mvcResult = performAsyncMvcRequest(MockMvcRequestBuilders.get(URI + "/{job_id}/wait",
+                        SOME_JOB_ID)
+                .param("until", JobState.Category.RUNNING.name())
+                .param("timeout", "30"));
+
+        final String actual = mvcResult.getResponse().getContentAsString();
+        assertThat(actual).isEqualToIgnoringWhitespace(objectMapper.writeValueAsString(expectedResult));
+    }
+
     @Test
     public void shouldReturnJsonValueAndOkStatusForDeletion() throws Exception {
         final DeleteJobFilter deleteJobFilter = DeleteJobFilter.builder()
@@ -0,0 +1,701 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.emulator;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This class installs the emulated SGE and Slurm commands to a folder, so the unmodified command executor
+ * and providers can be run against a cluster of any size when the {@code bin} subfolder is on the {@code PATH}.
+ * The output of the commands is generated once by {@link #install(Path)} in the format of the real commands,
+ * the commands only select the requested part of it after the configured latency and fail with the configured
+ * probability.
+ *
+ * <p> Emulated commands: {@code qstat}, {@code qhost}, {@code qacct}, {@code qconf}, {@code squeue},
+ * {@code sinfo}, {@code scontrol} and {@code sbatch}.
+ */
+@Slf4j
+@Getter
+@Builder
+public class GridEngineEmulator {
+
+    public static final String FOLDER_PROPERTY = "emulator.folder";
+
+    private static final String RESOURCE_FOLDER = "/emulator/";
+    private static final List<String> COMMANDS = List.of("qstat", "qhost", "qacct", "qconf", "squeue", "sinfo",
+            "scontrol", "sbatch");
+    private static final String LIBRARY = "lib/emulator.sh";
+    private static final String BIN_FOLDER = "bin";
+    private static final String SGE_DATA_FOLDER = "data/sge";
+    private static final String SLURM_DATA_FOLDER = "data/slurm";
+    private static final String ALL_HOSTS_GROUP = "@allhosts";
+    private static final List<String> PARALLEL_ENVS = List.of("make", "smp", "mpi");
+    private static final List<String> ALLOCATION_RULES = List.of("$round_robin", "$pe_slots", "$fill_up");
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2022, 5, 1, 0, 0);
+    private static final DateTimeFormatter ISO_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final DateTimeFormatter CTIME_FORMAT =
+            DateTimeFormatter.ofPattern("EEE MMM ppd HH:mm:ss yyyy", Locale.US);
+    private static final double RUNNING_JOBS_SHARE = 0.3;
+    private static final int MAX_WALLCLOCK_SECONDS = 600;
+    private static final long MAX_SLURM_PRIORITY = 4_294_967_295L;
+    private static final String TIME_LIMIT = "5-00:00:00";
+
+    /**
+     * The number of active jobs.
+     */
+    @Builder.Default
+    private final int jobs = 1000;
+    /**
+     * The number of execution hosts.
+     */
+    @Builder.Default
+    private final int hosts = 100;
+    /**
+     * The number of queues, they are the partitions of Slurm.
+     */
+    @Builder.Default
+    private final int queues = 4;
+    /**
+     * The number of job owners.
+     */
+    @Builder.Default
+    private final int users = 10;
+    /**
+     * The number of accounting records of the completed jobs.
+     */
+    @Builder.Default
+    private final int accountingRecords = 1000;
+    /**
+     * The time every command takes before it prints its output.
+     */
+    @Builder.Default
+    private final Duration latency = Duration.ZERO;
+    /**
+     * The probability of a command failure.
+     */
+    @Builder.Default
+    private final double failureRate = 0;
+    /**
+     * The seed of the generated values, the same seed produces the same output.
+     */
+    @Builder.Default
+    private final long seed = 1;
+
+    /**
+     * Creates the emulator of the size defined by the {@code emulator.*} system properties,
+     * e.g. {@code emulator.jobs}, the latency is defined in milliseconds.
+     *
+     * @return The emulator.
+     */
+    public static GridEngineEmulator fromSystemProperties() {
+        final GridEngineEmulator defaults = GridEngineEmulator.builder().build();
+        return GridEngineEmulator.builder()
+                .jobs(Integer.getInteger("emulator.jobs", defaults.getJobs()))
+                .hosts(Integer.getInteger("emulator.hosts", defaults.getHosts()))
+                .queues(Integer.getInteger("emulator.queues", defaults.getQueues()))
+                .users(Integer.getInteger("emulator.users", defaults.getUsers()))
+                .accountingRecords(Integer.getInteger("emulator.accountingRecords",
+                        defaults.getAccountingRecords()))
+                .latency(Duration.ofMillis(Long.getLong("emulator.latency", defaults.getLatency().toMillis())))
+                .failureRate(Double.parseDouble(System.getProperty("emulator.failureRate",
+                        String.valueOf(defaults.getFailureRate()))))
+                .seed(Long.getLong("emulator.seed", defaults.getSeed()))
+                .build();
+    }
+
+    /**
+     * Installs the emulator of the size defined by the system properties to the folder defined by
+     * the {@code emulator.folder} system property.
+     *
+     * @return The installed emulator.
+     * @throws IOException if the emulator can't be installed.
+     */
+    public static GridEngineEmulator installFromSystemProperties() throws IOException {
+        final String folder = System.getProperty(FOLDER_PROPERTY);
+        if (folder == null) {
+            throw new IOException("The emulator folder isn't specified by the property " + FOLDER_PROPERTY);
+        }
+        final GridEngineEmulator emulator = fromSystemProperties();
+        final long start = System.nanoTime();
+        emulator.install(Paths.get(folder));
+        log.info("The emulator of {} jobs, {} hosts, {} queues and {} accounting records is installed in {} ms",
+                emulator.getJobs(), emulator.getHosts(), emulator.getQueues(), emulator.getAccountingRecords(),
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return emulator;
+    }
+
+    /**
+     * Checks whether the emulated commands are on the {@code PATH}.
+     *
+     * @return true if the emulator tests are run by the {@code emulatorTest} task.
+     */
+    public static boolean isEnabled() {
+        return System.getProperty(FOLDER_PROPERTY) != null;
+    }
+
+    /**
+     * Performs the operation and logs its duration and the peak usage of the heap.
+     *
+     * @param operation The name of the operation.
+     * @param action The operation.
+     * @param <T> The type of the result.
+     * @return The result of the operation.
+     */
+    public static <T> T measure(final String operation, final Supplier<T> action) {
+        final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        final long start = System.nanoTime();
+        final T result = action.get();
+        final long duration = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        final long peakHeap = heapPools.stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        log.info("{}: {} ms, peak heap usage {} MB", operation, duration, peakHeap / (1024 * 1024));
+        return result;
+    }
+
+    /**
+     * Generates the output of the commands and installs the commands to the folder,
+     * a previous installation is replaced.
+     *
+     * @param folder The emulator folder.
+     * @return The folder of the emulated commands that should be on the {@code PATH}.
+     * @throws IOException if the emulator can't be installed.
+     */
+    public Path install(final Path folder) throws IOException {
+        final Path binFolder = folder.resolve(BIN_FOLDER);
+        for (final String command : COMMANDS) {
+            copyResource(BIN_FOLDER + "/" + command, binFolder.resolve(command));
+        }
+        copyResource(LIBRARY, folder.resolve(LIBRARY));
+        writeLines(folder.resolve("settings"), List.of(
+                "LATENCY=" + formatSeconds(latency),
+                "FAILURE_RATE=" + failureRate,
+                "LAST_JOB_ID=" + (accountingRecords + jobs)));
+
+        final List<EmulatedHost> emulatedHosts = generateHosts();
+        final List<EmulatedJob> emulatedJobs = generateJobs(emulatedHosts);
+        final Path sgeData = folder.resolve(SGE_DATA_FOLDER);
+        writeQstat(sgeData.resolve("qstat.xml"), emulatedJobs);
+        writeQhost(sgeData.resolve("qhost.xml"), emulatedHosts);
+        writeQacct(sgeData, emulatedHosts);
+        writeQconf(sgeData, emulatedHosts);
+        final Path slurmData = folder.resolve(SLURM_DATA_FOLDER);
+        writeSqueue(slurmData.resolve("squeue.txt"), emulatedJobs);
+        writeSinfo(slurmData.resolve("sinfo.txt"), emulatedHosts);
+        writeNodes(slurmData.resolve("nodes.txt"), emulatedHosts);
+        writeConfig(slurmData.resolve("config.txt"));
+        return binFolder;
+    }
+
+    public String hostName(final int index) {
+        return String.format(Locale.ROOT, "node%05d", index + 1);
+    }
+
+    public String queueName(final int index) {
+        return index == 0 ? "all.q" : "queue" + index + ".q";
+    }
+
+    public String partitionName(final int index) {
+        return index == 0 ? "normal" : "partition" + index;
+    }
+
+    public String hostGroupName(final int index) {
+        return index == 0 ? ALL_HOSTS_GROUP : "@queue" + index + "hosts";
+    }
+
+    public String userName(final int index) {
+        return String.format(Locale.ROOT, "user%03d", index);
+    }
+
+    public List<String> parallelEnvNames() {
+        return PARALLEL_ENVS;
+    }
+
+    private List<EmulatedHost> generateHosts() {
+        final Random random = new Random(seed);
+        return IntStream.range(0, hosts)
+                .mapToObj(i -> {
+                    final int sockets = 1 + random.nextInt(2);
+                    final int cores = 4 << random.nextInt(3);
+                    final int processors = sockets * cores * 2;
+                    final int queue = queues > 1 ? 1 + i % (queues - 1) : 0;
+                    return new EmulatedHost(hostName(i), queue, sockets, cores, processors,
+                            random.nextDouble() * processors, processors * 4, random.nextDouble());
+                })
+                .collect(Collectors.toList());
+    }
+
+    private List<EmulatedJob> generateJobs(final List<EmulatedHost> emulatedHosts) {
+        final Random random = new Random(seed);
+        final List<EmulatedJob> emulatedJobs = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            final long id = accountingRecords + i + 1L;
+            final int user = i % Math.max(users, 1);
+            final boolean running = !emulatedHosts.isEmpty() && random.nextDouble() < RUNNING_JOBS_SHARE;
+            final EmulatedHost host = running ? emulatedHosts.get(random.nextInt(emulatedHosts.size())) : null;
+            final LocalDateTime submissionTime = START_TIME.plusSeconds(i);
+            emulatedJobs.add(new EmulatedJob(id, "job" + id % 1000, user, host,
+                    host == null ? random.nextInt(Math.max(queues, 1)) : host.getQueue(),
+                    0.5 + random.nextDouble() / 10, 1 << random.nextInt(3), submissionTime,
+                    running ? submissionTime.plusSeconds(random.nextInt(3600)) : null));
+        }
+        return emulatedJobs;
+    }
+
+    private void writeQstat(final Path file, final List<EmulatedJob> emulatedJobs) throws IOException {
+        try (BufferedWriter writer = createWriter(file)) {
+            writer.write("<?xml version='1.0'?>\n");
+            writer.write("<job_info  xmlns:xsd=\"http://arc.liv.ac.uk/repos/darcs/sge/source/dist/util/resources/"
+                    + "schemas/qstat/qstat.xsd\">\n");
+            writer.write("  <queue_info>\n");
+            for (final EmulatedJob job : emulatedJobs) {
+                if (job.isRunning()) {
+                    writeQstatJob(writer, job);
+                }
+            }
+            writer.write("  </queue_info>\n");
+            writer.write("  <job_info>\n");
+            for (final EmulatedJob job : emulatedJobs) {
+                if (!job.isRunning()) {
+                    writeQstatJob(writer, job);
+                }
+            }
+            writer.write("  </job_info>\n");
+            writer.write("</job_info>\n");
+        }
+    }
+
+    private void writeQstatJob(final BufferedWriter writer, final EmulatedJob job) throws IOException {
+        writer.write("    <job_list state=\"" + (job.isRunning() ? "running" : "pending") + "\">\n");
+        writer.write("      <JB_job_number>" + job.getId() + "</JB_job_number>\n");
+        writer.write(String.format(Locale.ROOT, "      <JAT_prio>%.5f</JAT_prio>\n", job.getPriority()));
+        writer.write("      <JB_name>" + job.getName() + "</JB_name>\n");
+        writer.write("      <JB_owner>" + userName(job.getUser()) + "</JB_owner>\n");
+        if (job.isRunning()) {
+            writer.write("      <state>r</state>\n");
+            writer.write("      <JAT_start_time>" + ISO_FORMAT.format(job.getStartTime()) + "</JAT_start_time>\n");
+            writer.write("      <queue_name>" + queueName(job.getQueue()) + "@" + job.getHost().getName()
+                    + "</queue_name>\n");
+        } else {
+            writer.write("      <state>qw</state>\n");
+            writer.write("      <JB_submission_time>" + ISO_FORMAT.format(job.getSubmissionTime())
+                    + "</JB_submission_time>\n");
+            writer.write("      <queue_name></queue_name>\n");
+        }
+        writer.write("      <jclass_name></jclass_name>\n");
+        writer.write("      <slots>" + job.getSlots() + "</slots>\n");
+        writer.write("    </job_list>\n");
+    }
+
+    private void writeQhost(final Path file, final List<EmulatedHost> emulatedHosts) throws IOException {
+        try (BufferedWriter writer = createWriter(file)) {
+            writer.write("<?xml version='1.0'?>\n");
+            writer.write("<qhost xmlns:xsd=\"http://arc.liv.ac.uk/repos/darcs/sge/source/dist/util/resources/"
+                    + "schemas/qhost/qhost.xsd\">\n");
+            writeQhostHost(writer, "global", List.of("-", "-", "-", "-", "-", "-", "-", "-", "-", "-"));
+            for (final EmulatedHost host : emulatedHosts) {
+                writeQhostHost(writer, host.getName(), List.of("lx-amd64",
+                        String.valueOf(host.getProcessors()),
+                        String.valueOf(host.getSockets()),
+                        String.valueOf(host.getSockets() * host.getCores()),
+                        String.valueOf(host.getProcessors()),
+                        String.format(Locale.ROOT, "%.2f", host.getLoad()),
+                        String.format(Locale.ROOT, "%.1fG", (double) host.getMemoryGigabytes()),
+                        String.format(Locale.ROOT, "%.1fG", host.getMemoryGigabytes() * host.getMemoryUsage()),
+                        "2.0G", "0.0"));
+            }
+            writer.write("</qhost>\n");
+        }
+    }
+
+    private void writeQhostHost(final BufferedWriter writer, final String name,
+                                final List<String> values) throws IOException {
+        final List<String> names = List.of("arch_string", "num_proc", "m_socket", "m_core", "m_thread", "load_avg",
+                "mem_total", "mem_used", "swap_total", "swap_used");
+        writer.write(" <host name='" + name + "'>\n");
+        for (int i = 0; i < names.size(); i++) {
+            writer.write("   <hostvalue name='" + names.get(i) + "'>" + values.get(i) + "</hostvalue>\n");
+        }
+        writer.write(" </host>\n");
+    }
+
+    private void writeQacct(final Path folder, final List<EmulatedHost> emulatedHosts) throws IOException {
+        final Random random = new Random(seed);
+        long wallClock = 0;
+        double userTime = 0;
+        double systemTime = 0;
+        double memory = 0;
+        double ioData = 0;
+        try (BufferedWriter writer = createWriter(folder.resolve("qacct.txt"))) {
+            for (int i = 0; i < accountingRecords; i++) {
+                final long id = i + 1L;
+                final EmulatedHost host = emulatedHosts.isEmpty()
+                        ? null
+                        : emulatedHosts.get(random.nextInt(emulatedHosts.size()));
+                final int jobWallClock = 1 + random.nextInt(MAX_WALLCLOCK_SECONDS);
+                final double jobUserTime = jobWallClock * random.nextDouble();
+                final double jobSystemTime = jobUserTime * random.nextDouble() / 10;
+                final double jobMemory = jobUserTime * random.nextDouble() / 100;
+                final double jobIoData = random.nextDouble() / 10;
+                final LocalDateTime startTime = START_TIME.minusSeconds(accountingRecords - i);
+                final Map<String, String> record = new LinkedHashMap<>();
+                record.put("qname", queueName(host == null ? 0 : host.getQueue()));
+                record.put("hostname", host == null ? "global" : host.getName());
+                record.put("group", "users");
+                record.put("owner", userName(i % Math.max(users, 1)));
+                record.put("project", "NONE");
+                record.put("department", "defaultdepartment");
+                record.put("jobname", "job" + id % 1000);
+                record.put("jobnumber", String.valueOf(id));
+                record.put("taskid", "undefined");
+                record.put("account", "sge");
+                record.put("priority", "0");
+                record.put("qsub_time", CTIME_FORMAT.format(startTime.minusSeconds(random.nextInt(60))));
+                record.put("start_time", CTIME_FORMAT.format(startTime));
+                record.put("end_time", CTIME_FORMAT.format(startTime.plusSeconds(jobWallClock)));
+                record.put("granted_pe", i % 10 == 0 ? PARALLEL_ENVS.get(i % PARALLEL_ENVS.size()) : "NONE");
+                record.put("slots", "1");
+                record.put("failed", "0");
+                record.put("exit_status", "0");
+                record.put("ru_wallclock", jobWallClock + "s");
+                record.put("ru_utime", formatDecimal(jobUserTime) + "s");
+                record.put("ru_stime", formatDecimal(jobSystemTime) + "s");
+                record.put("ru_maxrss", random.nextInt(100_000) + "KB");
+                for (final String name : List.of("ru_ixrss", "ru_ismrss", "ru_idrss", "ru_isrss")) {
+                    record.put(name, "0.000B");
+                }
+                record.put("ru_minflt", String.valueOf(random.nextInt(100_000)));
+                for (final String name : List.of("ru_majflt", "ru_nswap", "ru_inblock", "ru_oublock", "ru_msgsnd",
+                        "ru_msgrcv", "ru_nsignals")) {
+                    record.put(name, "0");
+                }
+                record.put("ru_nvcsw", String.valueOf(random.nextInt(10_000)));
+                record.put("ru_nivcsw", String.valueOf(random.nextInt(1000)));
+                record.put("cpu", formatDecimal(jobUserTime + jobSystemTime) + "s");
+                record.put("mem", formatDecimal(jobMemory) + "GBs");
+                record.put("io", formatDecimal(jobIoData) + "GB");
+                record.put("iow", "0.000s");
+                record.put("maxvmem", formatDecimal(random.nextDouble() * 1000) + "M");
+                record.put("arid", "undefined");
+                record.put("ar_sub_time", "undefined");
+                record.put("category", "-U users");
+                writer.write("==============================================================\n");
+                for (final Map.Entry<String, String> field : record.entrySet()) {
+                    writer.write(String.format(Locale.ROOT, "%-13s%s\n", field.getKey(), field.getValue()));
+                }
+                wallClock += jobWallClock;
+                userTime += jobUserTime;
+                systemTime += jobSystemTime;
+                memory += jobMemory;
+                ioData += jobIoData;
+            }
+        }
+        writeLines(folder.resolve("qacct-totals"), List.of(String.join(" ", String.valueOf(wallClock),
+                formatDecimal(userTime), formatDecimal(systemTime), formatDecimal(userTime + systemTime),
+                formatDecimal(memory), formatDecimal(ioData), formatDecimal(0))));
+    }
+
+    private void writeQconf(final Path folder, final List<EmulatedHost> emulatedHosts) throws IOException {
+        writeLines(folder.resolve("hosts"), emulatedHosts.stream()
+                .map(EmulatedHost::getName)
+                .collect(Collectors.toList()));
+        final List<String> queueNames = new ArrayList<>();
+        final List<String> hostGroupNames = new ArrayList<>();
+        for (int i = 0; i < queues; i++) {
+            final int queue = i;
+            final String hostList = emulatedHosts.stream()
+                    .filter(host -> queue == 0 || host.getQueue() == queue)
+                    .map(EmulatedHost::getName)
+                    .collect(Collectors.joining(" "));
+            queueNames.add(queueName(i));
+            hostGroupNames.add(hostGroupName(i));
+            writeLines(folder.resolve("hostgroup").resolve(hostGroupName(i)), List.of(
+                    "group_name " + hostGroupName(i),
+                    "hostlist " + (hostList.isEmpty() ? "NONE" : hostList)));
+            writeDescription(folder.resolve("queue").resolve(queueName(i)), 22, queueDescription(i));
+        }
+        writeLines(folder.resolve("queues"), queueNames);
+        writeLines(folder.resolve("hostgroups"), hostGroupNames);
+        for (int i = 0; i < PARALLEL_ENVS.size(); i++) {
+            final Map<String, String> description = new LinkedHashMap<>();
+            description.put("pe_name", PARALLEL_ENVS.get(i));
+            description.put("slots", "999");
+            description.put("user_lists", "NONE");
+            description.put("xuser_lists", "NONE");
+            description.put("start_proc_args", "NONE");
+            description.put("stop_proc_args", "NONE");
+            description.put("allocation_rule", ALLOCATION_RULES.get(i));
+            description.put("control_slaves", "TRUE");
+            description.put("job_is_first_task", "TRUE");
+            description.put("urgency_slots", "min");
+            description.put("accounting_summary", "FALSE");
+            description.put("qsort_args", "NONE");
+            writeDescription(folder.resolve("pe").resolve(PARALLEL_ENVS.get(i)), 20, description);
+        }
+        writeLines(folder.resolve("pes"), PARALLEL_ENVS);
+    }
+
+    private Map<String, String> queueDescription(final int index) {
+        final Map<String, String> description = new LinkedHashMap<>();
+        description.put("qname", queueName(index));
+        description.put("hostlist", hostGroupName(index));
+        description.put("seq_no", String.valueOf(index));
+        description.put("load_thresholds", "np_load_avg=1.75");
+        description.put("suspend_thresholds", "NONE");
+        description.put("nsuspend", "1");
+        description.put("suspend_interval", "00:05:00");
+        description.put("priority", "0");
+        description.put("min_cpu_interval", "00:05:00");
+        description.put("processors", "UNDEFINED");
+        description.put("qtype", "BATCH INTERACTIVE");
+        description.put("ckpt_list", "NONE");
+        description.put("pe_list", String.join(" ", PARALLEL_ENVS));
+        description.put("rerun", "FALSE");
+        description.put("slots", "1");
+        description.put("tmpdir", "/tmp");
+        description.put("shell", "/bin/sh");
+        for (final String name : List.of("prolog", "epilog")) {
+            description.put(name, "NONE");
+        }
+        description.put("shell_start_mode", "posix_compliant");
+        for (final String name : List.of("starter_method", "suspend_method", "resume_method", "terminate_method")) {
+            description.put(name, "NONE");
+        }
+        description.put("notify", "00:00:60");
+        for (final String name : List.of("owner_list", "user_lists", "xuser_lists", "subordinate_list",
+                "complex_values", "projects", "xprojects", "calendar")) {
+            description.put(name, "NONE");
+        }
+        description.put("initial_state", "default");
+        for (final String name : List.of("rt", "cpu", "fsize", "data", "stack", "core", "rss", "vmem")) {
+            description.put("s_" + name, "INFINITY");
+            description.put("h_" + name, "INFINITY");
+        }
+        return description;
+    }
+
+    private void writeSqueue(final Path file, final List<EmulatedJob> emulatedJobs) throws IOException {
+        try (BufferedWriter writer = createWriter(file)) {
+            writer.write("ACCOUNT|TRES_PER_NODE|MIN_CPUS|MIN_TMP_DISK|END_TIME|FEATURES|GROUP|OVER_SUBSCRIBE|JOBID|"
+                    + "NAME|COMMENT|TIME_LIMIT|MIN_MEMORY|REQ_NODES|COMMAND|PRIORITY|QOS|REASON||ST|USER|"
+                    + "RESERVATION|WCKEY|EXC_NODES|NICE|S:C:T|JOBID|EXEC_HOST|CPUS|NODES|DEPENDENCY|ARRAY_JOB_ID|"
+                    + "GROUP|SOCKETS_PER_NODE|CORES_PER_SOCKET|THREADS_PER_CORE|ARRAY_TASK_ID|TIME_LEFT|TIME|"
+                    + "NODELIST|CONTIGUOUS|PARTITION|PRIORITY|NODELIST(REASON)|START_TIME|STATE|UID|SUBMIT_TIME|"
+                    + "LICENSES|CORE_SPEC|SCHEDNODES|WORK_DIR\n");
+            for (final EmulatedJob job : emulatedJobs) {
+                final String id = String.valueOf(job.getId());
+                final String user = userName(job.getUser());
+                final String host = job.isRunning() ? job.getHost().getName() : "";
+                writer.write(String.join("|", "(null)", "N/A", "1", "0",
+                        job.isRunning() ? ISO_FORMAT.format(job.getStartTime().plusDays(5)) : "N/A",
+                        "(null)", user, "OK", id, job.getName(), "(null)", TIME_LIMIT, "500M", "",
+                        "/data/test.sh", String.format(Locale.ROOT, "%.14f", job.getPriority()), "normal",
+                        job.isRunning() ? "None" : "Resources", "", job.isRunning() ? "R" : "PD", user, "(null)",
+                        "(null)", "", "0", "*:*:*", id, job.isRunning() ? host : "n/a",
+                        String.valueOf(job.getSlots()), "1", "", id, "0", "*", "*", "*", "N/A",
+                        job.isRunning() ? "4-23:00:00" : TIME_LIMIT, job.isRunning() ? "1:00:00" : "0:00", host,
+                        "0", partitionName(job.getQueue()),
+                        String.valueOf((long) (job.getPriority() * MAX_SLURM_PRIORITY)),
+                        job.isRunning() ? host : "(Resources)",
+                        job.isRunning() ? ISO_FORMAT.format(job.getStartTime()) : "N/A",
+                        job.isRunning() ? "RUNNING" : "PENDING", String.valueOf(1000 + job.getUser()),
+                        ISO_FORMAT.format(job.getSubmissionTime()), "(null)", "N/A", "(null)", "/"));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void writeSinfo(final Path file, final List<EmulatedHost> emulatedHosts) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (final EmulatedHost host : emulatedHosts) {
+            lines.add(String.join("|", partitionName(0), host.getName(), String.valueOf(host.getProcessors()),
+                    "all"));
+            if (host.getQueue() != 0) {
+                lines.add(String.join("|", partitionName(host.getQueue()), host.getName(),
+                        String.valueOf(host.getProcessors()), "all"));
+            }
+        }
+        writeLines(file, lines);
+    }
+
+    private void writeNodes(final Path file, final List<EmulatedHost> emulatedHosts) throws IOException {
+        try (BufferedWriter writer = createWriter(file)) {
+            for (final EmulatedHost host : emulatedHosts) {
+                final int memory = host.getMemoryGigabytes() * 1000;
+                final String partitions = host.getQueue() == 0
+                        ? partitionName(0)
+                        : partitionName(0) + "," + partitionName(host.getQueue());
+                writer.write(String.format(Locale.ROOT, "NodeName=%1$s Arch=x86_64 CoresPerSocket=%2$d CPUAlloc=0 "
+                                + "CPUTot=%3$d CPULoad=%4$.2f AvailableFeatures=(null) ActiveFeatures=(null) "
+                                + "Gres=(null) NodeAddr=%1$s NodeHostName=%1$s Version=21.08.8 "
+                                + "OS=Linux 5.10.0-emulated #1 SMP Tue Apr 5 12:00:00 UTC 2022 RealMemory=%5$d "
+                                + "AllocMem=%6$d FreeMem=%7$d Sockets=%8$d Boards=1 State=IDLE ThreadsPerCore=2 "
+                                + "TmpDisk=0 Weight=1 Owner=N/A MCS_label=N/A Partitions=%9$s "
+                                + "BootTime=2022-04-16T01:15:56 SlurmdStartTime=2022-04-17T19:53:28 "
+                                + "CfgTRES=cpu=%3$d,mem=%5$dM,billing=%3$d AllocTRES= CapWatts=n/a CurrentWatts=0 "
+                                + "AveWatts=0 ExtSensorsJoules=n/s ExtSensorsWatts=0 ExtSensorsTemp=n/s\n",
+                        host.getName(), host.getCores(), host.getProcessors(), host.getLoad(), memory,
+                        (int) (memory * host.getMemoryUsage()), memory - (int) (memory * host.getMemoryUsage()),
+                        host.getSockets(), partitions));
+            }
+        }
+    }
+
+    private void writeConfig(final Path file) throws IOException {
+        writeLines(file, List.of(
+                "AccountingStorageBackupHost = (null)",
+                "AccountingStorageHost   = slurmdbd",
+                "AccountingStorageType   = accounting_storage/slurmdbd",
+                "BOOT_TIME               = " + ISO_FORMAT.format(START_TIME),
+                "ClusterName             = emulator",
+                "SchedulerType           = sched/backfill",
+                "SelectType              = select/cons_tres",
+                "SLURM_CONF              = /etc/slurm/slurm.conf",
+                "SLURM_VERSION           = 21.08.8",
+                "SlurmctldHost[0]        = slurmctld",
+                "SlurmctldPort           = 6817",
+                "SlurmdPort              = 6818",
+                "",
+                "Slurmctld(primary) at slurmctld is UP"));
+    }
+
+    private static void copyResource(final String resource, final Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (InputStream input = GridEngineEmulator.class.getResourceAsStream(RESOURCE_FOLDER + resource)) {
+            if (input == null) {
+                throw new IOException("The emulator resource is not found: " + resource);
+            }
+            Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (!file.toFile().setExecutable(true)) {
+            throw new IOException("The emulated command can't be made executable: " + file);
+        }
+    }
+
+    private static void writeDescription(final Path file, final int keyWidth,
+                                         final Map<String, String> description) throws IOException {
+        writeLines(file, description.entrySet().stream()
+                .map(field -> String.format(Locale.ROOT, "%-" + keyWidth + "s%s", field.getKey(), field.getValue()))
+                .collect(Collectors.toList()));
+    }
+
+    private static void writeLines(final Path file, final List<String> lines) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, lines);
+    }
+
+    private static BufferedWriter createWriter(final Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.newBufferedWriter(file);
+    }
+
+    private static String formatDecimal(final double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String formatSeconds(final Duration duration) {
+        return duration.isZero() || duration.isNegative()
+                ? "0"
+                : String.format(Locale.ROOT, "%.3f", duration.toMillis() / 1000.0);
+    }
+
+    @Getter
+    private static final class EmulatedHost {
+        private final String name;
+        private final int queue;
+        private final int sockets;
+        private final int cores;
+        private final int processors;
+        private final double load;
+        private final int memoryGigabytes;
+        private final double memoryUsage;
+
+        EmulatedHost(final String name, final int queue, final int sockets, final int cores, final int processors,
+                     final double load, final int memoryGigabytes, final double memoryUsage) {
+            this.name = name;
+            this.queue = queue;
+            this.sockets = sockets;
+            this.cores = cores;
+            this.processors = processors;
+            this.load = load;
+            this.memoryGigabytes = memoryGigabytes;
+            this.memoryUsage = memoryUsage;
+        }
+    }
+
+    @Getter
+    private static final class EmulatedJob {
+        private final long id;
+        private final String name;
+        private final int user;
+        private final EmulatedHost host;
+        private final int queue;
+        private final double priority;
+        private final int slots;
+        private final LocalDateTime submissionTime;
+        private final LocalDateTime startTime;
+
+        EmulatedJob(final long id, final String name, final int user, final EmulatedHost host, final int queue,
+                    final double priority, final int slots, final LocalDateTime submissionTime,
+                    final LocalDateTime startTime) {
+            this.id = id;
+            this.name = name;
+            this.user = user;
+            this.host = host;
+            this.queue = queue;
+            this.priority = priority;
+            this.slots = slots;
+            this.submissionTime = submissionTime;
+            this.startTime = startTime;
+        }
+
+        boolean isRunning() {
+            return host != null;
+        }
+    }
+}
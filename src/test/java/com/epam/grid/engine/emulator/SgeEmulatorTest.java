@@ -0,0 +1,141 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.emulator;
+
+import com.epam.grid.engine.TestPropertiesWithSgeEngine;
+import com.epam.grid.engine.entity.HostFilter;
+import com.epam.grid.engine.entity.HostGroupFilter;
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.ParallelEnvFilter;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.entity.usage.UsageReport;
+import com.epam.grid.engine.entity.usage.UsageReportFilter;
+import com.epam.grid.engine.provider.history.sge.SgeJobHistoryProvider;
+import com.epam.grid.engine.provider.host.sge.SgeHostProvider;
+import com.epam.grid.engine.provider.hostgroup.sge.SgeHostGroupProvider;
+import com.epam.grid.engine.provider.job.sge.SgeJobProvider;
+import com.epam.grid.engine.provider.parallelenv.sge.SgeParallelEnvProvider;
+import com.epam.grid.engine.provider.queue.sge.SgeQueueProvider;
+import com.epam.grid.engine.provider.usage.sge.SgeUsageProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+@SpringBootTest
+@TestPropertiesWithSgeEngine
+public class SgeEmulatorTest {
+
+    private static GridEngineEmulator emulator;
+
+    @Autowired
+    private SgeJobProvider sgeJobProvider;
+
+    @Autowired
+    private SgeHostProvider sgeHostProvider;
+
+    @Autowired
+    private SgeQueueProvider sgeQueueProvider;
+
+    @Autowired
+    private SgeHostGroupProvider sgeHostGroupProvider;
+
+    @Autowired
+    private SgeParallelEnvProvider sgeParallelEnvProvider;
+
+    @Autowired
+    private SgeUsageProvider sgeUsageProvider;
+
+    @Autowired
+    private SgeJobHistoryProvider sgeJobHistoryProvider;
+
+    @BeforeAll
+    public static void installEmulator() throws IOException {
+        Assumptions.assumeTrue(GridEngineEmulator.isEnabled());
+        emulator = GridEngineEmulator.installFromSystemProperties();
+    }
+
+    @Test
+    public void shouldListAllJobs() {
+        Assertions.assertEquals(emulator.getJobs(), GridEngineEmulator.measure("qstat",
+                () -> sgeJobProvider.filterJobs(new JobFilter())).getElements().size());
+    }
+
+    @Test
+    public void shouldListJobsOfOwner() {
+        final JobFilter filter = JobFilter.builder()
+                .owners(Collections.singletonList(emulator.userName(0)))
+                .build();
+        final int expectedJobs = (emulator.getJobs() + emulator.getUsers() - 1) / emulator.getUsers();
+        Assertions.assertEquals(expectedJobs, GridEngineEmulator.measure("qstat -u",
+                () -> sgeJobProvider.filterJobs(filter)).getElements().size());
+    }
+
+    @Test
+    public void shouldListAllHosts() {
+        Assertions.assertEquals(emulator.getHosts(), GridEngineEmulator.measure("qhost",
+                () -> sgeHostProvider.listHosts(new HostFilter())).getElements().size());
+    }
+
+    @Test
+    public void shouldListAllQueues() {
+        Assertions.assertEquals(emulator.getQueues(), GridEngineEmulator.measure("qconf -sql",
+                () -> sgeQueueProvider.listQueues()).size());
+    }
+
+    @Test
+    public void shouldListAllHostGroups() {
+        Assertions.assertEquals(emulator.getQueues(), GridEngineEmulator.measure("qconf -shgrp",
+                () -> sgeHostGroupProvider.listHostGroups(new HostGroupFilter())).size());
+    }
+
+    @Test
+    public void shouldListAllParallelEnvs() {
+        Assertions.assertEquals(emulator.parallelEnvNames().size(), GridEngineEmulator.measure("qconf -sp",
+                () -> sgeParallelEnvProvider.listParallelEnv(new ParallelEnvFilter())).size());
+    }
+
+    @Test
+    public void shouldSummarizeAccountingRecords() throws IOException {
+        final List<String> totals = Files.readAllLines(Paths.get(System.getProperty(GridEngineEmulator.FOLDER_PROPERTY),
+                "data", "sge", "qacct-totals"));
+        final UsageReport report = GridEngineEmulator.measure("qacct",
+                () -> sgeUsageProvider.getUsageReport(new UsageReportFilter()));
+        Assertions.assertEquals(Integer.parseInt(totals.get(0).split(" ")[0]), report.getWallClock());
+    }
+
+    @Test
+    public void shouldListFinishedJobsOfOwner() {
+        final JobHistoryFilter filter = JobHistoryFilter.builder()
+                .owners(Collections.singletonList(emulator.userName(0)))
+                .build();
+        final int expectedJobs = (emulator.getAccountingRecords() + emulator.getUsers() - 1) / emulator.getUsers();
+        Assertions.assertEquals(expectedJobs, GridEngineEmulator.measure("qacct -o -j",
+                () -> sgeJobHistoryProvider.getFinishedJobs(filter, job -> true)).size());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+
+package com.epam.grid.engine.emulator;
+
+import com.epam.grid.engine.TestPropertiesWithSlurmEngine;
+import com.epam.grid.engine.entity.HostFilter;
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.provider.host.slurm.SlurmHostProvider;
+import com.epam.grid.engine.provider.job.slurm.SlurmJobProvider;
+import com.epam.grid.engine.provider.queue.slurm.SlurmQueueProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.util.Collections;
+
+@SpringBootTest
+@TestPropertiesWithSlurmEngine
+public class SlurmEmulatorTest {
+
+    private static GridEngineEmulator emulator;
+
+    @Autowired
+    private SlurmJobProvider slurmJobProvider;
+
+    @Autowired
+    private SlurmHostProvider slurmHostProvider;
+
+    @Autowired
+    private SlurmQueueProvider slurmQueueProvider;
+
+    @BeforeAll
+    public static void installEmulator() throws IOException {
+        Assumptions.assumeTrue(GridEngineEmulator.isEnabled());
+        emulator = GridEngineEmulator.installFromSystemProperties();
+    }
+
+    @Test
+    public void shouldListAllJobs() {
+        Assertions.assertEquals(emulator.getJobs(), GridEngineEmulator.measure("squeue",
+                () -> slurmJobProvider.filterJobs(new JobFilter())).getElements().size());
+    }
+
+    @Test
+    public void shouldListJobsOfOwner() {
+        final JobFilter filter = JobFilter.builder()
+                .owners(Collections.singletonList(emulator.userName(0)))
+                .build();
+        final int expectedJobs = (emulator.getJobs() + emulator.getUsers() - 1) / emulator.getUsers();
+        Assertions.assertEquals(expectedJobs, GridEngineEmulator.measure("squeue -u",
+                () -> slurmJobProvider.filterJobs(filter)).getElements().size());
+    }
+
+    @Test
+    public void shouldListAllHosts() {
+        Assertions.assertEquals(emulator.getHosts(), GridEngineEmulator.measure("scontrol show node",
+                () -> slurmHostProvider.listHosts(new HostFilter())).getElements().size());
+    }
+
+    @Test
+    public void shouldListAllPartitions() {
+        final int expectedPartitions = emulator.getHosts() == 0
+                ? 0
+                : Math.min(emulator.getQueues(), emulator.getHosts() + 1);
+        Assertions.assertEquals(expectedPartitions, GridEngineEmulator.measure("sinfo",
+                () -> slurmQueueProvider.listQueues()).size());
+    }
+}
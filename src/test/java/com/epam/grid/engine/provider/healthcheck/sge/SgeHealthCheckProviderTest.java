@@ -20,7 +20,7 @@
 package com.epam.grid.engine.provider.healthcheck.sge;
 
 import com.epam.grid.engine.TestPropertiesWithSgeEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.healthcheck.GridEngineStatus;
 import com.epam.grid.engine.entity.healthcheck.HealthCheckInfo;
@@ -51,7 +51,7 @@ public class SgeHealthCheckProviderTest {
     private static final String SOME_INFO = "some info";
 
     @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    private CmdExecutor mockCmdExecutor;
 
     @Autowired
     private SgeHealthCheckProvider sgeHealthCheckProvider;
@@ -20,7 +20,7 @@
 package com.epam.grid.engine.provider.healthcheck.slurm;
 
 import com.epam.grid.engine.TestPropertiesWithSlurmEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.healthcheck.GridEngineStatus;
 import com.epam.grid.engine.entity.healthcheck.HealthCheckInfo;
@@ -57,7 +57,7 @@ public class SlurmHealthCheckProviderTest {
             + "Slurmctld(primary) at slurmctld is UP";
 
     @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    private CmdExecutor mockCmdExecutor;
     @Autowired
     private SlurmHealthCheckProvider slurmHealthCheckProvider;
 
@@ -0,0 +1,125 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.history.sge;
+
+import com.epam.grid.engine.TestPropertiesWithSgeEngine;
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.entity.job.JobState;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+@TestPropertiesWithSgeEngine
+public class SgeJobHistoryProviderTest {
+
+    private static final String OWNER = "sgeuser";
+
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
+    @Autowired
+    private SgeJobHistoryProvider sgeJobHistoryProvider;
+
+    @Test
+    public void shouldListFinishedJobs() {
+        final CommandResult result = new CommandResult();
+        result.setStdOut(List.of(
+                "==============================================================",
+                "qname        main",
+                "hostname     host1",
+                "owner        sgeuser",
+                "jobname      job5",
+                "jobnumber    5",
+                "taskid       undefined",
+                "qsub_time    Sun May  1 10:00:00 2022",
+                "start_time   Sun May  1 10:00:05 2022",
+                "end_time     Sun May  1 10:10:00 2022",
+                "failed       0",
+                "exit_status  0",
+                "==============================================================",
+                "qname        main",
+                "owner        sgeuser",
+                "jobname      job6",
+                "jobnumber    6",
+                "taskid       2",
+                "qsub_time    05/01/2022 10:00:00.000",
+                "start_time   -/-",
+                "end_time     05/01/2022 10:20:00.000",
+                "failed       26  : opening input/output file",
+                "exit_status  1"));
+        result.setStdErr(Collections.emptyList());
+        final ArgumentCaptor<String[]> command = ArgumentCaptor.forClass(String[].class);
+        doReturn(result).when(mockCmdExecutor).execute(command.capture());
+
+        final List<FinishedJob> jobs = sgeJobHistoryProvider.getFinishedJobs(JobHistoryFilter.builder()
+                .owners(List.of(OWNER))
+                .ids(List.of(5L, 6L))
+                .endTime(LocalDateTime.of(2022, 5, 2, 0, 0))
+                .build(), job -> true);
+
+        assertEquals(List.of("qacct", "-o", OWNER, "-e", "202205020000.00", "-j"), List.of(command.getValue()));
+        assertEquals(2, jobs.size());
+        assertEquals(FinishedJob.builder()
+                .id(5)
+                .name("job5")
+                .owner(OWNER)
+                .queueName("main")
+                .state(JobState.builder().category(JobState.Category.FINISHED).state("completed").build())
+                .exitCode(0)
+                .submissionTime(LocalDateTime.of(2022, 5, 1, 10, 0))
+                .startTime(LocalDateTime.of(2022, 5, 1, 10, 0, 5))
+                .endTime(LocalDateTime.of(2022, 5, 1, 10, 10))
+                .build(), jobs.get(0));
+        assertEquals("2", jobs.get(1).getTaskId());
+        assertEquals(JobState.Category.ERROR, jobs.get(1).getState().getCategory());
+        assertEquals("failed", jobs.get(1).getState().getState());
+        assertEquals(LocalDateTime.of(2022, 5, 1, 10, 20), jobs.get(1).getEndTime());
+    }
+
+    @Test
+    public void shouldReturnEmptyListIfJobIsNotFound() {
+        final CommandResult result = new CommandResult();
+        result.setExitCode(1);
+        result.setStdOut(Collections.emptyList());
+        result.setStdErr(List.of("error: job name job7 not found"));
+        final ArgumentCaptor<String[]> command = ArgumentCaptor.forClass(String[].class);
+        doReturn(result).when(mockCmdExecutor).execute(command.capture());
+
+        final List<FinishedJob> jobs = sgeJobHistoryProvider.getFinishedJobs(JobHistoryFilter.builder()
+                .names(List.of("job7"))
+                .build(), job -> true);
+
+        assertEquals(List.of("qacct", "-j", "job7"), List.of(command.getValue()));
+        assertTrue(jobs.isEmpty());
+    }
+}
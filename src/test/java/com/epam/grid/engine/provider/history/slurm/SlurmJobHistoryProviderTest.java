@@ -0,0 +1,128 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.history.slurm;
+
+import com.epam.grid.engine.TestPropertiesWithSlurmEngine;
+import com.epam.grid.engine.cmd.CmdExecutor;
+import com.epam.grid.engine.entity.CommandResult;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.entity.job.JobState;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest
+@TestPropertiesWithSlurmEngine
+public class SlurmJobHistoryProviderTest {
+
+    private static final String OWNER = "root";
+
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
+    @Autowired
+    private SlurmJobHistoryProvider slurmJobHistoryProvider;
+
+    @Test
+    public void shouldListFinishedJobs() {
+        final CommandResult result = new CommandResult();
+        result.setStdOut(List.of(
+                "5|job5|root|normal|COMPLETED|0:0|2022-05-01T10:00:00|2022-05-01T10:00:05|2022-05-01T10:10:00",
+                "6_2|job6|root|normal|FAILED|2:0|2022-05-01T10:00:00|2022-05-01T10:00:05|2022-05-01T10:20:00",
+                "7|job7|root|normal|CANCELLED by 0|0:15|2022-05-01T10:00:00|None|2022-05-01T10:30:00",
+                "8|job8|root|normal|RUNNING|0:0|2022-05-01T10:00:00|2022-05-01T10:00:05|Unknown"));
+        result.setStdErr(Collections.emptyList());
+        final ArgumentCaptor<String[]> command = ArgumentCaptor.forClass(String[].class);
+        doReturn(result).when(mockCmdExecutor).execute(command.capture());
+
+        final List<FinishedJob> jobs = slurmJobHistoryProvider.getFinishedJobs(JobHistoryFilter.builder()
+                .owners(List.of(OWNER))
+                .ids(List.of(5L, 6L, 7L))
+                .startTime(LocalDateTime.of(2022, 5, 1, 0, 0))
+                .build(), job -> true);
+
+        assertEquals(List.of("sacct", "--parsable2", "--noheader", "--allocations",
+                "--format=JobID,JobName,User,Partition,State,ExitCode,Submit,Start,End",
+                "-u", OWNER, "-j", "5,6,7", "-S", "2022-05-01T00:00:00"), List.of(command.getValue()));
+        assertEquals(3, jobs.size());
+        assertEquals(FinishedJob.builder()
+                .id(5)
+                .name("job5")
+                .owner(OWNER)
+                .queueName("normal")
+                .state(JobState.builder().category(JobState.Category.FINISHED).state("COMPLETED").build())
+                .exitCode(0)
+                .submissionTime(LocalDateTime.of(2022, 5, 1, 10, 0))
+                .startTime(LocalDateTime.of(2022, 5, 1, 10, 0, 5))
+                .endTime(LocalDateTime.of(2022, 5, 1, 10, 10))
+                .build(), jobs.get(0));
+        assertEquals("2", jobs.get(1).getTaskId());
+        assertEquals(JobState.Category.ERROR, jobs.get(1).getState().getCategory());
+        assertEquals(JobState.Category.DELETED, jobs.get(2).getState().getCategory());
+        assertEquals("CANCELLED", jobs.get(2).getState().getState());
+        Mockito.verify(mockCmdExecutor).execute(Mockito.any());
+    }
+
+    @Test
+    public void shouldListJobsOfAllUsersWithoutOwners() {
+        final CommandResult result = new CommandResult();
+        result.setStdOut(Collections.emptyList());
+        result.setStdErr(Collections.emptyList());
+        final ArgumentCaptor<String[]> command = ArgumentCaptor.forClass(String[].class);
+        doReturn(result).when(mockCmdExecutor).execute(command.capture());
+
+        slurmJobHistoryProvider.getFinishedJobs(JobHistoryFilter.builder()
+                .ids(List.of(5L))
+                .names(List.of("job6"))
+                .build(), job -> true);
+
+        assertEquals(List.of("sacct", "--parsable2", "--noheader", "--allocations",
+                "--format=JobID,JobName,User,Partition,State,ExitCode,Submit,Start,End", "--allusers"),
+                List.of(command.getValue()));
+    }
+
+    @Test
+    public void shouldKeepFirstMatchingJobsUpToLimit() {
+        final CommandResult result = new CommandResult();
+        result.setStdOut(List.of(
+                "7|job7|root|normal|COMPLETED|0:0|2022-05-01T10:00:00|2022-05-01T10:00:05|2022-05-01T10:30:00",
+                "5|job5|root|normal|COMPLETED|0:0|2022-05-01T10:00:00|2022-05-01T10:00:05|2022-05-01T10:10:00",
+                "6|job6|root|normal|COMPLETED|0:0|2022-05-01T10:00:00|2022-05-01T10:00:05|2022-05-01T10:20:00"));
+        result.setStdErr(Collections.emptyList());
+        doReturn(result).when(mockCmdExecutor).execute(Mockito.any());
+
+        final List<FinishedJob> jobs = slurmJobHistoryProvider.getFinishedJobs(JobHistoryFilter.builder()
+                .limit(1)
+                .build(), job -> job.getId() != 5);
+
+        assertEquals(1, jobs.size());
+        assertEquals(6, jobs.get(0).getId());
+    }
+}
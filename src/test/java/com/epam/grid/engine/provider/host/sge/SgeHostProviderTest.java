@@ -20,7 +20,7 @@
 package com.epam.grid.engine.provider.host.sge;
 
 import com.epam.grid.engine.TestPropertiesWithSgeEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.HostFilter;
 import com.epam.grid.engine.entity.Listing;
@@ -28,6 +28,7 @@ import com.epam.grid.engine.entity.host.Host;
 import com.epam.grid.engine.exception.GridEngineException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
+import org.mockito.Answers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -94,8 +95,8 @@ public class SgeHostProviderTest {
     private static final String QHOST_COMMAND = "qhost";
     private final CommandResult commandResult = new CommandResult();
 
-    @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
 
     @Autowired
     private SgeHostProvider sgeHostProvider;
@@ -20,7 +20,7 @@
 package com.epam.grid.engine.provider.host.slurm;
 
 import com.epam.grid.engine.TestPropertiesWithSlurmEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.HostFilter;
 import com.epam.grid.engine.entity.Listing;
@@ -63,7 +63,7 @@ public class SlurmHostProviderTest {
     private static final String[] SCONTROL_COMMAND = {"scontrol", "-o", "show", "node"};
 
     @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    private CmdExecutor mockCmdExecutor;
 
     @Autowired
     private SlurmHostProvider slurmHostProvider;
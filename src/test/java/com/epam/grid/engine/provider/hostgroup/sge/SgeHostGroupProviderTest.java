@@ -20,19 +20,21 @@
 package com.epam.grid.engine.provider.hostgroup.sge;
 
 import com.epam.grid.engine.TestPropertiesWithSgeEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.HostGroupFilter;
 import com.epam.grid.engine.entity.hostgroup.HostGroup;
 import com.epam.grid.engine.exception.GridEngineException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.epam.grid.engine.provider.utils.sge.TestSgeConstants.SINGLETON_LIST_WITH_STANDARD_WARN;
 import static org.mockito.Mockito.doReturn;
@@ -45,6 +47,11 @@ public class SgeHostGroupProviderTest {
     private static final String SHGRP_OPTION = "-shgrp";
     private static final String HOST_GROUP_NAME = "@allhosts";
     private static final String WRONG_HOST_GROUP_NAME = "allhosts";
+    private static final String SHGRPL_OPTION = "-shgrpl";
+    private static final String OTHER_HOST_GROUP_NAME = "@otherhosts";
+    private static final List<String> OTHER_HOST_GROUP_VALID_OUTPUT = List.of(
+            "group_name @otherhosts",
+            "hostlist 0447c6c3047d");
     private static final List<String> HOST_GROUP_VALID_OUTPUT = List.of(
             "group_name @allhosts",
             "hostlist 0447c6c3047c");
@@ -53,8 +60,8 @@ public class SgeHostGroupProviderTest {
             .hostGroupEntry(List.of("0447c6c3047c"))
             .build();
 
-    @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
 
     @Autowired
     private SgeHostGroupProvider sgeHostGroupProvider;
@@ -81,6 +88,32 @@ public class SgeHostGroupProviderTest {
         Assertions.assertEquals(HOST_GROUP_EXPECTED, result);
     }
 
+    @Test
+    public void shouldDescribeEveryListedHostGroup() {
+        doReturn(new CommandResult(List.of(HOST_GROUP_NAME, OTHER_HOST_GROUP_NAME), 0, List.of()))
+                .when(mockCmdExecutor).execute(QCONF_COMMAND, SHGRPL_OPTION);
+        doReturn(new CommandResult(HOST_GROUP_VALID_OUTPUT, 0, List.of()))
+                .when(mockCmdExecutor).execute(QCONF_COMMAND, SHGRP_OPTION, HOST_GROUP_NAME);
+        doReturn(new CommandResult(OTHER_HOST_GROUP_VALID_OUTPUT, 0, List.of()))
+                .when(mockCmdExecutor).execute(QCONF_COMMAND, SHGRP_OPTION, OTHER_HOST_GROUP_NAME);
+
+        final List<HostGroup> result = sgeHostGroupProvider.listHostGroupsAsync(new HostGroupFilter()).join();
+
+        Assertions.assertEquals(List.of(HOST_GROUP_NAME, OTHER_HOST_GROUP_NAME), result.stream()
+                .map(HostGroup::getHostGroupName)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenHostGroupDescriptionFails() {
+        doReturn(new CommandResult(List.of(), 1, List.of("Host group \"@allhosts\" does not exist")))
+                .when(mockCmdExecutor).execute(QCONF_COMMAND, SHGRP_OPTION, HOST_GROUP_NAME);
+        final HostGroupFilter hostGroupFilter = new HostGroupFilter(Collections.singletonList(HOST_GROUP_NAME));
+
+        Assertions.assertThrows(GridEngineException.class,
+                () -> sgeHostGroupProvider.listHostGroups(hostGroupFilter));
+    }
+
     @Test
     public void shouldThrowExceptionWhenHostGroupNameIsIncorrect() {
         Assertions.assertThrows(GridEngineException.class,
@@ -20,8 +20,8 @@
 package com.epam.grid.engine.provider.job.sge;
 
 import com.epam.grid.engine.TestPropertiesWithSgeEngine;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.JobFilter;
@@ -39,10 +39,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.thymeleaf.context.IContext;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -139,6 +142,19 @@ public class SgeJobProviderTest {
 
     private static final List<String> EMPTY_JOB_LIST_STDOUT = List.of(String.format(QSTAT_STDOUT_TEMPLATE,
             EMPTY_STRING, EMPTY_STRING));
+    private static final String JOB_OWNERS_STDOUT_TEMPLATE = "<?xml version='1.0'?>\n"
+            + "<detailed_job_info>\n"
+            + " <djob_info>\n"
+            + "  <element>\n"
+            + "   <JB_job_number>%d</JB_job_number>\n"
+            + "   <JB_owner>%s</JB_owner>\n"
+            + "  </element>\n"
+            + " </djob_info>\n"
+            + "</detailed_job_info>";
+    private static final String UNKNOWN_JOBS_STDOUT = "<?xml version='1.0'?>\n"
+            + "<unknown_jobs>\n"
+            + " <ST_name>" + SOME_JOB_ID_2 + "</ST_name>\n"
+            + "</unknown_jobs>";
     private static final List<String> TWO_JOBS_QSTAT_STDOUT = List.of(String.format(QSTAT_STDOUT_TEMPLATE,
             RUNNING_JOB_XML, PENDING_JOB_XLM));
 
@@ -148,8 +164,8 @@ public class SgeJobProviderTest {
     @Autowired
     private SgeJobProvider sgeJobProvider;
 
-    @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
 
     @MockBean
     private GridEngineCommandCompiler commandCompiler;
@@ -209,6 +225,44 @@ public class SgeJobProviderTest {
         Assertions.assertThrows(GridEngineException.class, () -> sgeJobProvider.filterJobs(new JobFilter()));
     }
 
+    @Test
+    public void shouldListOnlyOwnersOfRequestedJobs() {
+        final String[] lookupCommand = {QSTAT_COMMAND, "-j", SOME_JOB_ID_2_STRING, TYPE_XML};
+        final String[] listingCommand = {QSTAT_COMMAND, "-u", USER_NAME, TYPE_XML};
+        mockJobLookup(lookupCommand, listingCommand);
+        Mockito.doReturn(new CommandResult(List.of(String.format(JOB_OWNERS_STDOUT_TEMPLATE, SOME_JOB_ID_2,
+                USER_NAME)), 0, EMPTY_LIST)).when(mockCmdExecutor).execute(lookupCommand);
+        Mockito.doReturn(new CommandResult(TWO_JOBS_QSTAT_STDOUT, 0, EMPTY_LIST))
+                .when(mockCmdExecutor).execute(listingCommand);
+
+        final Listing<Job> result = sgeJobProvider.filterJobs(JobFilter.builder()
+                .ids(List.of(SOME_JOB_ID_2))
+                .build());
+
+        Assertions.assertEquals(List.of(pendingJobTemplate()), result.getElements());
+        final ArgumentCaptor<IContext> contexts = ArgumentCaptor.forClass(IContext.class);
+        Mockito.verify(commandCompiler, Mockito.times(2)).compileCommand(Mockito.eq(CommandType.SGE),
+                Mockito.matches(QSTAT_COMMAND), contexts.capture());
+        final JobFilter listingFilter = (JobFilter) contexts.getAllValues().get(1).getVariable("filter");
+        Assertions.assertEquals(List.of(USER_NAME), listingFilter.getOwners());
+    }
+
+    @Test
+    public void shouldNotListJobsWhenRequestedJobsAreUnknown() {
+        final String[] lookupCommand = {QSTAT_COMMAND, "-j", SOME_JOB_ID_2_STRING, TYPE_XML};
+        final String[] listingCommand = {QSTAT_COMMAND, TYPE_XML};
+        mockJobLookup(lookupCommand, listingCommand);
+        Mockito.doReturn(new CommandResult(List.of(UNKNOWN_JOBS_STDOUT), 1, EMPTY_LIST))
+                .when(mockCmdExecutor).execute(lookupCommand);
+
+        final Listing<Job> result = sgeJobProvider.filterJobs(JobFilter.builder()
+                .ids(List.of(SOME_JOB_ID_2))
+                .build());
+
+        Assertions.assertTrue(result.getElements().isEmpty());
+        Mockito.verify(mockCmdExecutor, Mockito.never()).execute(listingCommand);
+    }
+
     @Test
     public void shouldThrowWhenPassWrongStatusCodeDuringFiltration() {
         final JobFilter jobFilter = JobFilter.builder().state(SOME_WRONG_STATUS_CODE).build();
@@ -381,6 +435,13 @@ public class SgeJobProviderTest {
                 .build();
     }
 
+    private void mockJobLookup(final String[] lookupCommand, final String[] listingCommand) {
+        Mockito.doAnswer(invocation -> invocation.<IContext>getArgument(2).getVariable("jobs") != null
+                        ? lookupCommand : listingCommand)
+                .when(commandCompiler).compileCommand(Mockito.eq(CommandType.SGE), Mockito.matches(QSTAT_COMMAND),
+                        Mockito.any());
+    }
+
     private void mockCommandCompilation(final String command, final CommandResult commandResult,
                                         final String... compiledArray) {
         Mockito.doReturn(compiledArray).when(commandCompiler).compileCommand(Mockito.eq(CommandType.SGE),
@@ -20,8 +20,8 @@
 package com.epam.grid.engine.provider.job.slurm;
 
 import com.epam.grid.engine.TestPropertiesWithSlurmEngine;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.JobFilter;
@@ -29,6 +29,7 @@ import com.epam.grid.engine.entity.Listing;
 import com.epam.grid.engine.entity.job.DeleteJobFilter;
 import com.epam.grid.engine.entity.job.DeletedJobInfo;
 import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobField;
 import com.epam.grid.engine.entity.job.JobOptions;
 import com.epam.grid.engine.entity.job.JobState;
 import com.epam.grid.engine.entity.job.ParallelEnvOptions;
@@ -42,6 +43,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -155,8 +157,8 @@ public class SlurmJobProviderTest {
     @Autowired
     private SlurmJobProvider slurmJobProvider;
 
-    @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
 
     @MockBean
     private GridEngineCommandCompiler mockCommandCompiler;
@@ -205,6 +207,31 @@ public class SlurmJobProviderTest {
         Assertions.assertEquals(runningJob, result.getElements().get(1));
     }
 
+    @Test
+    public void shouldListOnlyRequestedFields() {
+        final CommandResult commandResult = CommandResult.builder()
+                .stdOut(List.of("JOBID|ST|USER|STATE", String.join("|", SOME_CORRECT_JOB_ID_STRING,
+                        RUNNING_STATUS_CODE, SLURM_USER, RUNNING_STRING)))
+                .stdErr(EMPTY_LIST)
+                .build();
+        mockCommandCompilation(SQUEUE_COMMAND, commandResult, SQUEUE_COMMAND);
+        final JobFilter jobFilter = JobFilter.builder()
+                .fields(List.of(JobField.STATE, JobField.OWNER))
+                .build();
+
+        final Job job = slurmJobProvider.filterJobs(jobFilter).getElements().get(0);
+
+        final ArgumentCaptor<IContext> contextCaptor = ArgumentCaptor.forClass(IContext.class);
+        Mockito.verify(mockCommandCompiler).compileCommand(Mockito.eq(CommandType.SLURM),
+                Mockito.matches(SQUEUE_COMMAND), contextCaptor.capture());
+        Assertions.assertEquals("%i|%t|%u|%T", contextCaptor.getValue().getVariable("format"));
+        Assertions.assertEquals(SOME_CORRECT_JOB_ID, job.getId());
+        Assertions.assertEquals(SLURM_USER, job.getOwner());
+        Assertions.assertEquals(JobState.Category.RUNNING, job.getState().getCategory());
+        Assertions.assertNull(job.getName());
+        Assertions.assertNull(job.getSubmissionTime());
+    }
+
     @Test
     public void shouldReturnCorrectOwnerFiltration() {
         final Job runningJob = runningJobTemplate();
@@ -357,7 +384,7 @@ public class SlurmJobProviderTest {
                 .arguments(List.of(SOME_ARGUMENT, SOME_ARGUMENT_WITH_SPACES))
                 .build();
 
-        final String binaryContextArgument = String.format("%s \\\"%s\\\" \\\"%s\\\"", SOME_BINARY_COMMAND,
+        final String binaryContextArgument = String.format("%s \"%s\" \"%s\"", SOME_BINARY_COMMAND,
                 SOME_ARGUMENT, SOME_ARGUMENT_WITH_SPACES);
 
         mockCommandCompilation(SBATCH_COMMAND, new CommandResult(List.of(SOME_JOB_IS_SUBMITTED), 0, EMPTY_LIST));
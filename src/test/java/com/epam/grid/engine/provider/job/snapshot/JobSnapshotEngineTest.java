@@ -0,0 +1,188 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.job.snapshot;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.entity.job.JobStateEvent;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.provider.job.JobProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+public class JobSnapshotEngineTest {
+
+    private static final String OWNER_1 = "sgeuser";
+    private static final String OWNER_2 = "root";
+    private static final JobFilter ALL_JOBS_FILTER = JobFilter.builder().owners(List.of("*")).build();
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2022-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private static final Predicate<Job> ANY_JOB = job -> true;
+
+    private final JobProvider jobProvider = Mockito.mock(JobProvider.class);
+    private final JobSnapshotProperties properties = new JobSnapshotProperties();
+    private final JobSnapshotEngine engine = new JobSnapshotEngine(jobProvider, properties, CLOCK);
+
+    @BeforeEach
+    public void setUp() {
+        Mockito.doReturn(ALL_JOBS_FILTER).when(jobProvider).getAllJobsFilter();
+        Mockito.doReturn(new Listing<>(List.of(job(1, OWNER_1, "first", JobState.Category.RUNNING),
+                        job(2, OWNER_2, "second", JobState.Category.PENDING),
+                        job(3, OWNER_1, "third", JobState.Category.PENDING))))
+                .when(jobProvider).filterJobs(ALL_JOBS_FILTER);
+    }
+
+    @Test
+    public void shouldSelectJobsFromSnapshot() {
+        Mockito.doReturn(Optional.of(ANY_JOB)).when(jobProvider).getJobPredicate(any());
+        engine.refresh();
+
+        final Listing<Job> byIdsAndNames = engine.filterJobs(JobFilter.builder()
+                .ids(List.of(3L, 1L))
+                .names(List.of("first"))
+                .build()).orElseThrow();
+        final Listing<Job> byOwners = engine.filterJobs(JobFilter.builder()
+                .owners(List.of(OWNER_1))
+                .build()).orElseThrow();
+
+        assertEquals(List.of(1L, 3L), getIds(byIdsAndNames));
+        assertEquals(List.of(1L, 3L), getIds(byOwners));
+        assertEquals(0L, byOwners.getSnapshotAge());
+        assertEquals(CLOCK.instant(), byOwners.getSnapshotTime().toInstant(ZoneOffset.UTC));
+        assertEquals(2, engine.getSnapshot().orElseThrow().getJobs(JobState.Category.PENDING).size());
+        Mockito.verify(jobProvider, Mockito.times(1)).filterJobs(any());
+    }
+
+    @Test
+    public void shouldApplyProviderPredicate() {
+        Mockito.doReturn(Optional.of((Predicate<Job>) job -> job.getState().getCategory()
+                        == JobState.Category.PENDING))
+                .when(jobProvider).getJobPredicate(any());
+        engine.refresh();
+
+        assertEquals(List.of(2L, 3L), getIds(engine.filterJobs(new JobFilter()).orElseThrow()));
+    }
+
+    @Test
+    public void shouldNotSelectJobsIfFilterRequiresGridEngine() {
+        Mockito.doReturn(Optional.empty()).when(jobProvider).getJobPredicate(any());
+        engine.refresh();
+
+        assertTrue(engine.filterJobs(new JobFilter()).isEmpty());
+    }
+
+    @Test
+    public void shouldNotSelectJobsFromStaleSnapshot() {
+        Mockito.doReturn(Optional.of(ANY_JOB)).when(jobProvider).getJobPredicate(any());
+        properties.setMaxAge(Duration.ofSeconds(-1));
+        engine.refresh();
+
+        assertTrue(engine.getSnapshot().isEmpty());
+        assertTrue(engine.filterJobs(new JobFilter()).isEmpty());
+    }
+
+    @Test
+    public void shouldTagSnapshotsOfEngineInstancesDifferently() {
+        final JobSnapshotEngine restartedEngine = new JobSnapshotEngine(jobProvider, properties, CLOCK);
+        engine.refresh();
+        restartedEngine.refresh();
+
+        final JobSnapshot snapshot = engine.getSnapshot().orElseThrow();
+        final JobSnapshot restartedSnapshot = restartedEngine.getSnapshot().orElseThrow();
+        assertEquals(snapshot.getVersion(), restartedSnapshot.getVersion());
+        assertNotEquals(snapshot.getTag(), restartedSnapshot.getTag());
+    }
+
+    @Test
+    public void shouldKeepVersionOfUnchangedJobsAndPreviousSnapshotOnFailure() {
+        engine.refresh();
+        engine.refresh();
+        assertEquals(1L, engine.getSnapshot().orElseThrow().getVersion());
+
+        Mockito.doReturn(new Listing<>(List.of(job(4, OWNER_2, "fourth", JobState.Category.PENDING))))
+                .when(jobProvider).filterJobs(ALL_JOBS_FILTER);
+        engine.refresh();
+        assertEquals(2L, engine.getSnapshot().orElseThrow().getVersion());
+
+        Mockito.doThrow(new GridEngineException(HttpStatus.INTERNAL_SERVER_ERROR, "qstat failed"))
+                .when(jobProvider).filterJobs(ALL_JOBS_FILTER);
+        engine.refresh();
+        assertEquals(List.of(4L), engine.getSnapshot().orElseThrow().getJobs().stream()
+                .map(Job::getId)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldNotifyListenersOfStateChanges() {
+        final List<JobStateEvent> events = new ArrayList<>();
+        engine.addListener((snapshot, changes) -> events.addAll(changes));
+        engine.refresh();
+        engine.refresh();
+        assertTrue(events.isEmpty());
+
+        Mockito.doReturn(new Listing<>(List.of(job(1, OWNER_1, "first", JobState.Category.RUNNING),
+                        job(2, OWNER_2, "second", JobState.Category.RUNNING),
+                        job(4, OWNER_2, "fourth", JobState.Category.PENDING))))
+                .when(jobProvider).filterJobs(ALL_JOBS_FILTER);
+        engine.refresh();
+
+        assertEquals(List.of(2L, 4L, 3L), events.stream()
+                .map(JobStateEvent::getId)
+                .collect(Collectors.toList()));
+        assertEquals(JobState.Category.PENDING, events.get(0).getPreviousState().getCategory());
+        assertEquals(JobState.Category.RUNNING, events.get(0).getState().getCategory());
+        assertNull(events.get(1).getPreviousState());
+        assertEquals(JobState.Category.FINISHED, events.get(2).getState().getCategory());
+        assertEquals(CLOCK.instant(), events.get(2).getTime().toInstant(ZoneOffset.UTC));
+    }
+
+    private static List<Long> getIds(final Listing<Job> listing) {
+        return listing.getElements().stream()
+                .map(Job::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static Job job(final long id, final String owner, final String name, final JobState.Category category) {
+        return Job.builder()
+                .id(id)
+                .owner(owner)
+                .name(name)
+                .state(JobState.builder().category(category).build())
+                .build();
+    }
+}
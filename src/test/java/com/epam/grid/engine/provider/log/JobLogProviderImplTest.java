@@ -1,7 +1,7 @@
 package com.epam.grid.engine.provider.log;
 
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.job.JobLogInfo;
@@ -41,7 +41,7 @@ public class JobLogProviderImplTest {
 
     private static final MockedStatic<DirectoryPathUtils> pathUtilsStaticMock
             = Mockito.mockStatic(DirectoryPathUtils.class);
-    private final SimpleCmdExecutor mockCmdExecutor = Mockito.mock(SimpleCmdExecutor.class);
+    private final CmdExecutor mockCmdExecutor = Mockito.mock(CmdExecutor.class);
     private final GridEngineCommandCompiler commandCompiler = Mockito.mock(GridEngineCommandCompiler.class);
     private final JobLogProvider jobLogProvider = new JobLogProviderImpl(mockCmdExecutor, commandCompiler,
             SOME_LOG_DIR, SOME_SHARED_FOLDER);
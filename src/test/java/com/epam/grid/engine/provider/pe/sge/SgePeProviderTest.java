@@ -20,7 +20,7 @@
 package com.epam.grid.engine.provider.pe.sge;
 
 import com.epam.grid.engine.TestPropertiesWithSgeEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.ParallelEnvFilter;
 import com.epam.grid.engine.entity.parallelenv.AllocationRuleType;
@@ -38,6 +38,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.mockito.Answers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -85,9 +86,10 @@ public class SgePeProviderTest {
             .singletonList("denied: parallel environment \"rmi\" does not exist");
     private static final String PE_EXPECTED = "cre";
     private static final String PE_EXPECTED_ERROR = "rmi";
+    private static final String STANDARD_INPUT = "/dev/stdin";
 
-    @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
 
     @Autowired
     private SgeParallelEnvProvider sgePeProvider;
@@ -238,7 +240,8 @@ public class SgePeProviderTest {
                 .build();
 
         doReturn(commandResult).when(mockCmdExecutor)
-                .execute(Mockito.matches(QCONF), Mockito.matches(AP), Mockito.anyString());
+                .executeWithInput(Mockito.anyString(), Mockito.matches(QCONF), Mockito.matches(AP),
+                        Mockito.eq(STANDARD_INPUT));
         final ParallelEnv actualPe = sgePeProvider.registerParallelEnv(registrationRequest);
 
         Assertions.assertEquals(expectedPe.getName(), actualPe.getName());
@@ -259,7 +262,8 @@ public class SgePeProviderTest {
                 .build();
 
         doReturn(commandResult).when(mockCmdExecutor)
-                .execute(Mockito.matches(QCONF), Mockito.matches(AP), Mockito.anyString());
+                .executeWithInput(Mockito.anyString(), Mockito.matches(QCONF), Mockito.matches(AP),
+                        Mockito.eq(STANDARD_INPUT));
 
         final Throwable emptyPeNameException = Assertions.assertThrows(GridEngineException.class,
                 () -> sgePeProvider.registerParallelEnv(registrationRequest));
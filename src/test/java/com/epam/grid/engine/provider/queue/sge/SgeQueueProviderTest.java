@@ -20,7 +20,7 @@
 package com.epam.grid.engine.provider.queue.sge;
 
 import com.epam.grid.engine.TestPropertiesWithSgeEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.QueueFilter;
 import com.epam.grid.engine.entity.queue.Queue;
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Answers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -126,12 +127,13 @@ public class SgeQueueProviderTest {
     private static final List<String> queues = Arrays.asList(QUEUE_NAME1, QUEUE_NAME2);
     private static final Integer INTEGER_ZERO = 0;
     private static final Integer INTEGER_ONE = 1;
+    private static final String STANDARD_INPUT = "/dev/stdin";
 
     @Autowired
     private SgeQueueProvider sgeQueueProvider;
 
-    @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    @MockBean(answer = Answers.CALLS_REAL_METHODS)
+    private CmdExecutor mockCmdExecutor;
 
     private final CommandResult commandResult = new CommandResult();
     private final SlotsDescription slotsDescription = new SlotsDescription(1,
@@ -259,7 +261,8 @@ public class SgeQueueProviderTest {
         commandResult.setStdOut(validRegisteredQueue);
         commandResult.setStdErr(SINGLETON_LIST_WITH_STANDARD_WARN);
         doReturn(commandResult).when(mockCmdExecutor)
-                .execute(Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_AQ), Mockito.anyString());
+                .executeWithInput(Mockito.anyString(), Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_AQ),
+                        Mockito.eq(STANDARD_INPUT));
         final Queue resultQueue = sgeQueueProvider.registerQueue(registrationRequest);
 
         Assertions.assertEquals(expectedQueue.getName(), resultQueue.getName());
@@ -282,7 +285,8 @@ public class SgeQueueProviderTest {
                 .build();
 
         doReturn(commandResult).when(mockCmdExecutor)
-                .execute(Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_AQ), Mockito.anyString());
+                .executeWithInput(Mockito.anyString(), Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_AQ),
+                        Mockito.eq(STANDARD_INPUT));
 
         final Throwable registrationUnsuccessfulException = Assertions.assertThrows(GridEngineException.class,
                 () -> sgeQueueProvider.registerQueue(registrationRequest));
@@ -334,7 +338,8 @@ public class SgeQueueProviderTest {
         commandResult.setStdOut(validModifiedQueue);
         commandResult.setStdErr(SINGLETON_LIST_WITH_STANDARD_WARN);
         doReturn(commandResult).when(mockCmdExecutor)
-                .execute(Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_MQ), Mockito.anyString());
+                .executeWithInput(Mockito.anyString(), Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_MQ),
+                        Mockito.eq(STANDARD_INPUT));
         final Queue resultQueue = sgeQueueProvider.updateQueue(updateRequest);
 
         Assertions.assertEquals(expectedQueue.getName(), resultQueue.getName());
@@ -385,7 +390,8 @@ public class SgeQueueProviderTest {
         doReturn(listQueueCommandResult).when(mockCmdExecutor)
                 .execute(Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_SQ), Mockito.anyString());
         doReturn(commandResult).when(mockCmdExecutor)
-                .execute(Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_MQ), Mockito.anyString());
+                .executeWithInput(Mockito.anyString(), Mockito.matches(COMMAND_QCONF), Mockito.matches(OPTION_MQ),
+                        Mockito.eq(STANDARD_INPUT));
 
         final Throwable updateUnsuccessfulException = Assertions.assertThrows(GridEngineException.class,
                 () -> sgeQueueProvider.updateQueue(updateRequest));
@@ -1,8 +1,8 @@
 package com.epam.grid.engine.provider.queue.slurm;
 
 import com.epam.grid.engine.TestPropertiesWithSlurmEngine;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.cmd.GridEngineCommandCompiler;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.CommandType;
 import com.epam.grid.engine.entity.QueueFilter;
@@ -58,7 +58,7 @@ public class SlurmQueueProviderTest {
     private SlurmQueueProvider slurmQueueProvider;
 
     @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    private CmdExecutor mockCmdExecutor;
 
     @MockBean
     private GridEngineCommandCompiler mockCommandCompiler;
@@ -20,7 +20,7 @@
 package com.epam.grid.engine.provider.usage.sge;
 
 import com.epam.grid.engine.TestPropertiesWithSgeEngine;
-import com.epam.grid.engine.cmd.SimpleCmdExecutor;
+import com.epam.grid.engine.cmd.CmdExecutor;
 import com.epam.grid.engine.entity.CommandResult;
 import com.epam.grid.engine.entity.usage.UsageReport;
 import com.epam.grid.engine.entity.usage.UsageReportFilter;
@@ -52,7 +52,7 @@ public class SgeUsageProviderTest {
     private SgeUsageProvider sgeUsageProvider;
 
     @MockBean
-    private SimpleCmdExecutor mockCmdExecutor;
+    private CmdExecutor mockCmdExecutor;
 
     @Test
     public void shouldWorkCorrectWithNotEmptyErrorMassage() {
@@ -0,0 +1,75 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils;
+
+import com.epam.grid.engine.entity.host.sge.SgeHost;
+import com.epam.grid.engine.entity.host.sge.SgeHostListing;
+import com.epam.grid.engine.exception.GridEngineException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JaxbUtilsTest {
+
+    private static final String QHOST_OUTPUT = "<?xml version='1.0'?>\n<qhost>\n"
+            + " <host name='global'>\n </host>\n <host name='node1'>\n </host>\n</qhost>\n";
+    private static final List<String> HOST_NAMES = List.of("global", "node1");
+    private static final int CONCURRENT_CALLS = 64;
+
+    @Test
+    public void shouldUnmarshallStringReaderAndInputStream() {
+        assertEquals(HOST_NAMES, getHostNames(JaxbUtils.unmarshall(QHOST_OUTPUT, SgeHostListing.class)));
+        assertEquals(HOST_NAMES, getHostNames(JaxbUtils.unmarshall(new StringReader(QHOST_OUTPUT),
+                SgeHostListing.class)));
+        assertEquals(HOST_NAMES, getHostNames(JaxbUtils.unmarshall(new ByteArrayInputStream(
+                QHOST_OUTPUT.getBytes(StandardCharsets.UTF_8)), SgeHostListing.class)));
+    }
+
+    @Test
+    public void shouldUnmarshallConcurrently() {
+        final List<CompletableFuture<SgeHostListing>> listings = IntStream.range(0, CONCURRENT_CALLS)
+                .mapToObj(i -> CompletableFuture.supplyAsync(
+                        () -> JaxbUtils.unmarshall(QHOST_OUTPUT, SgeHostListing.class)))
+                .collect(Collectors.toList());
+
+        listings.forEach(listing -> assertEquals(HOST_NAMES, getHostNames(listing.join())));
+    }
+
+    @Test
+    public void shouldUnmarshallAfterMalformedDocument() {
+        assertThrows(GridEngineException.class,
+                () -> JaxbUtils.unmarshall("<qhost><host name='node1'></qhost>", SgeHostListing.class));
+        assertEquals(HOST_NAMES, getHostNames(JaxbUtils.unmarshall(QHOST_OUTPUT, SgeHostListing.class)));
+    }
+
+    private static List<String> getHostNames(final SgeHostListing listing) {
+        return listing.getSgeHost().stream()
+                .map(SgeHost::getHostname)
+                .collect(Collectors.toList());
+    }
+}
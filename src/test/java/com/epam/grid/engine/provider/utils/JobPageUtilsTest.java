@@ -0,0 +1,138 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobSortField;
+import com.epam.grid.engine.exception.GridEngineException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JobPageUtilsTest {
+
+    private static final List<Job> JOBS = LongStream.of(5, 3, 9, 1, 7, 2, 8, 4, 6)
+            .mapToObj(id -> Job.builder()
+                    .id(id)
+                    .priority(id % 3)
+                    .build())
+            .collect(Collectors.toList());
+
+    @Test
+    public void shouldReturnListingWithoutPageParameters() {
+        final Listing<Job> listing = new Listing<>(JOBS);
+
+        assertSame(listing, JobPageUtils.selectPage(listing, new JobFilter()));
+    }
+
+    @Test
+    public void shouldListAllJobsPageByPageWhenJobsAreRemoved() {
+        final List<Job> jobs = new ArrayList<>(JOBS);
+        final JobFilter filter = JobFilter.builder().limit(4).build();
+
+        final Listing<Job> firstPage = JobPageUtils.selectPage(new Listing<>(jobs), filter);
+        assertEquals(List.of(1L, 2L, 3L, 4L), getIds(firstPage));
+        assertEquals(9, firstPage.getTotalCount());
+
+        jobs.removeIf(job -> job.getId() == 2L || job.getId() == 5L);
+        filter.setCursor(firstPage.getNextCursor());
+        final Listing<Job> secondPage = JobPageUtils.selectPage(new Listing<>(jobs), filter);
+        assertEquals(List.of(6L, 7L, 8L, 9L), getIds(secondPage));
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    public void shouldSortByPriorityInDescendingOrder() {
+        final JobFilter filter = JobFilter.builder()
+                .limit(3)
+                .sort(JobSortField.PRIORITY)
+                .descending(true)
+                .build();
+
+        final Listing<Job> firstPage = JobPageUtils.selectPage(new Listing<>(JOBS), filter);
+        assertEquals(List.of(2L, 5L, 8L), getIds(firstPage));
+
+        filter.setCursor(firstPage.getNextCursor());
+        assertEquals(List.of(1L, 4L, 7L), getIds(JobPageUtils.selectPage(new Listing<>(JOBS), filter)));
+    }
+
+    @Test
+    public void shouldListTasksOfArrayJobInSameQueuePageByPageWhenListingIsReordered() {
+        final List<Job> jobs = new ArrayList<>(List.of(task(2, null), task(1, "2"), task(1, "1"), task(1, "3"),
+                task(3, null)));
+        final JobFilter filter = JobFilter.builder().limit(2).build();
+
+        final Listing<Job> firstPage = JobPageUtils.selectPage(new Listing<>(jobs), filter);
+        assertEquals(List.of("task1-1", "task1-2"), getNames(firstPage));
+
+        Collections.reverse(jobs);
+        filter.setCursor(firstPage.getNextCursor());
+        final Listing<Job> secondPage = JobPageUtils.selectPage(new Listing<>(jobs), filter);
+        assertEquals(List.of("task1-3", "task2"), getNames(secondPage));
+
+        filter.setCursor(secondPage.getNextCursor());
+        assertEquals(List.of("task3"), getNames(JobPageUtils.selectPage(new Listing<>(jobs), filter)));
+    }
+
+    @Test
+    public void shouldFailOnInvalidCursorOrLimit() {
+        final String cursor = JobPageUtils.selectPage(new Listing<>(JOBS), JobFilter.builder()
+                .limit(1)
+                .build()).getNextCursor();
+
+        assertThrows(GridEngineException.class, () -> JobPageUtils.selectPage(new Listing<>(JOBS),
+                JobFilter.builder().cursor(cursor).sort(JobSortField.PRIORITY).build()));
+        assertThrows(GridEngineException.class, () -> JobPageUtils.selectPage(new Listing<>(JOBS),
+                JobFilter.builder().cursor("not a cursor").build()));
+        assertThrows(GridEngineException.class, () -> JobPageUtils.selectPage(new Listing<>(JOBS),
+                JobFilter.builder().limit(0).build()));
+    }
+
+    private static Job task(final long id, final String taskId) {
+        return Job.builder()
+                .id(id)
+                .taskId(taskId)
+                .name(taskId == null ? "task" + id : "task" + id + "-" + taskId)
+                .queueName("main.q@node1")
+                .build();
+    }
+
+    private static List<Long> getIds(final Listing<Job> listing) {
+        return listing.getElements().stream()
+                .map(Job::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getNames(final Listing<Job> listing) {
+        return listing.getElements().stream()
+                .map(Job::getName)
+                .collect(Collectors.toList());
+    }
+}
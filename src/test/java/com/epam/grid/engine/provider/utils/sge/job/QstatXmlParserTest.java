@@ -0,0 +1,103 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.sge.job;
+
+import com.epam.grid.engine.entity.job.sge.SgeJob;
+import com.epam.grid.engine.exception.GridEngineException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class QstatXmlParserTest {
+
+    private static final String QSTAT_OUTPUT_TEMPLATE = "<?xml version='1.0'?>\n"
+            + "<job_info>\n  <queue_info>\n%s</queue_info>\n  <job_info>\n%s</job_info>\n</job_info>";
+    private static final String JOB_TEMPLATE = "<job_list state=\"%s\">\n"
+            + "<JB_job_number>%d</JB_job_number>\n"
+            + "<JAT_prio>0.55500</JAT_prio>\n"
+            + "<JB_name>%s</JB_name>\n"
+            + "<JB_owner>root</JB_owner>\n"
+            + "<state>%s</state>\n"
+            + "<JAT_start_time>2021-07-02T10:46:47</JAT_start_time>\n"
+            + "<queue_name>main</queue_name>\n"
+            + "<requested_pe name=\"make\"><value>1</value></requested_pe>\n"
+            + "<slots>1</slots>\n"
+            + "</job_list>\n";
+    private static final String RUNNING_JOB = String.format(JOB_TEMPLATE, "running", 1, "first", "r");
+    private static final String PENDING_JOB = String.format(JOB_TEMPLATE, "pending", 2, "second", "qw");
+    private static final String QSTAT_OUTPUT = String.format(QSTAT_OUTPUT_TEMPLATE, RUNNING_JOB, PENDING_JOB);
+
+    @Test
+    public void shouldPlacePendingJobsBeforeQueuedJobs() {
+        final List<SgeJob> jobs = QstatXmlParser.parseJobs(new StringReader(QSTAT_OUTPUT), job -> true,
+                Function.identity());
+
+        assertEquals(List.of(2L, 1L), List.of(jobs.get(0).getId(), jobs.get(1).getId()));
+        assertEquals("qw", jobs.get(0).getStateCode());
+        assertEquals("second", jobs.get(0).getName());
+        assertEquals(LocalDateTime.of(2021, 7, 2, 10, 46, 47), jobs.get(1).getSubmissionTime());
+        assertEquals("main", jobs.get(1).getQueueName());
+        assertEquals(1, jobs.get(1).getSlots());
+    }
+
+    @Test
+    public void shouldFilterAndMapJobs() {
+        final List<String> names = QstatXmlParser.parseJobs(new StringReader(QSTAT_OUTPUT),
+                job -> job.getId() == 1, SgeJob::getName);
+
+        assertEquals(List.of("first"), names);
+    }
+
+    @Test
+    public void shouldParseTaskIdOfArrayJob() {
+        final String arrayJob = RUNNING_JOB.replace("<slots>1</slots>\n", "<slots>1</slots>\n<tasks>3</tasks>\n");
+        final List<SgeJob> jobs = QstatXmlParser.parseJobs(new StringReader(
+                String.format(QSTAT_OUTPUT_TEMPLATE, arrayJob, PENDING_JOB)), job -> true, Function.identity());
+
+        assertEquals("3", jobs.get(1).getTaskId());
+        assertNull(jobs.get(0).getTaskId());
+    }
+
+    @Test
+    public void shouldFailOnMalformedOutput() {
+        final String output = String.format(QSTAT_OUTPUT_TEMPLATE, RUNNING_JOB, PENDING_JOB)
+                .replace("</job_info>\n</job_info>", "");
+
+        assertThrows(GridEngineException.class,
+                () -> QstatXmlParser.parseJobs(new StringReader(output), job -> true, Function.identity()));
+    }
+
+    @Test
+    public void shouldParseJobOwners() {
+        final String output = "<?xml version='1.0'?>\n<detailed_job_info>\n <djob_info>\n"
+                + "  <element>\n   <JB_job_number>1</JB_job_number>\n   <JB_owner>first</JB_owner>\n  </element>\n"
+                + "  <element>\n   <JB_job_number>2</JB_job_number>\n   <JB_owner>second</JB_owner>\n  </element>\n"
+                + " </djob_info>\n</detailed_job_info>";
+
+        assertEquals(Set.of("first", "second"), QstatXmlParser.parseJobOwners(new StringReader(output)));
+    }
+}
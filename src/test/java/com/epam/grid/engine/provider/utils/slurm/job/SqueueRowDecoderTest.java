@@ -0,0 +1,96 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.provider.utils.slurm.job;
+
+import com.epam.grid.engine.entity.job.slurm.SlurmJob;
+import com.epam.grid.engine.exception.GridEngineException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqueueRowDecoderTest {
+
+    private static final String ALL_COLUMNS_LINE = "(null)|N/A|1|0|2022-05-18T10:29:10|(null)|root|OK|5|test1.sh|"
+            + "(null)|5-00:00:00|500M||/data/test.sh|0.99998474121093|normal|None||R|root|(null)|(null)||0|*:*:*|2|"
+            + "worker1|1|1||2|0|*|*|*|N/A|4-21:35:49|2:24:11|worker1|0|normal|4294901759|worker1|"
+            + "2022-05-13T10:29:10|RUNNING|0|2022-05-13T10:29:09|(null)|N/A|(null)|/";
+
+    @Test
+    public void shouldDecodeUsedColumnsOfAllColumns() {
+        final SlurmJob job = SqueueRowDecoder.ALL_COLUMNS.decode(ALL_COLUMNS_LINE);
+
+        assertEquals(SlurmJob.builder()
+                .jobId(5)
+                .name("test1.sh")
+                .priority(0.99998474121093)
+                .stateCompact("R")
+                .userName("root")
+                .partition("normal")
+                .state("RUNNING")
+                .submissionTime(LocalDateTime.of(2022, 5, 13, 10, 29, 9))
+                .build(), job);
+    }
+
+    @Test
+    public void shouldDecodeExplicitColumnsWithEmptyValues() {
+        final SqueueRowDecoder decoder = new SqueueRowDecoder(List.of(SqueueRowDecoder.Field.JOB_ID,
+                SqueueRowDecoder.Field.NAME, SqueueRowDecoder.Field.SUBMIT_TIME, SqueueRowDecoder.Field.STATE));
+
+        final SlurmJob job = decoder.decode("12||N/A|");
+
+        assertEquals(12, job.getJobId());
+        assertEquals("", job.getName());
+        assertNull(job.getSubmissionTime());
+        assertEquals("", job.getState());
+    }
+
+    @Test
+    public void shouldParseDoubleAsJdk() {
+        for (final String value : List.of("0.99998474121093", "0.00000000000000", "4294901759", "-1.5", "1.0E-5",
+                "123456789012345678", "0.1234567890123456789012345")) {
+            final String line = "|" + value + "|";
+            assertEquals(Double.parseDouble(value), SqueueRowDecoder.parseDouble(line, 1, line.length() - 1), value);
+        }
+    }
+
+    @Test
+    public void shouldFailIfColumnsMismatch() {
+        final GridEngineException exception = assertThrows(GridEngineException.class,
+                () -> SqueueRowDecoder.ALL_COLUMNS.decode("(null)|N/A|1|0|2022-05-18T10:29:10|(null)|root|OK|2"));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"x5|name", "5|2022-13-01T00:00:00"})
+    public void shouldFailIfValueIsInvalid(final String line) {
+        final SqueueRowDecoder decoder = new SqueueRowDecoder(List.of(SqueueRowDecoder.Field.JOB_ID,
+                line.startsWith("x") ? SqueueRowDecoder.Field.NAME : SqueueRowDecoder.Field.SUBMIT_TIME));
+
+        final GridEngineException exception = assertThrows(GridEngineException.class, () -> decoder.decode(line));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getHttpStatus());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.service;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.epam.grid.engine.entity.job.Job;
+import com.epam.grid.engine.entity.job.JobState;
+import com.epam.grid.engine.entity.job.JobStateEvent;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshot;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotEngine;
+import com.epam.grid.engine.provider.job.snapshot.JobSnapshotProperties;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobEventServiceTest {
+
+    private static final String ORIGIN = "engine";
+    private static final String OWNER = "sgeuser";
+    private static final String NAME = "someName";
+    private static final Duration TIMEOUT = Duration.ofMinutes(1);
+    private static final int QUEUE_SIZE = 10;
+
+    private final JobSnapshotEngine engine = Mockito.mock(JobSnapshotEngine.class);
+
+    @Test
+    public void shouldSelectEventsByOwnersAndIdsOrNames() {
+        final JobEventService.Subscription subscription = new JobEventService.Subscription(JobFilter.builder()
+                .owners(List.of(OWNER))
+                .ids(List.of(1L))
+                .names(List.of(NAME))
+                .build(), new SseEmitter(), QUEUE_SIZE);
+
+        assertTrue(subscription.matches(event(1, OWNER, "other")));
+        assertTrue(subscription.matches(event(2, OWNER, NAME)));
+        assertFalse(subscription.matches(event(3, OWNER, "other")));
+        assertFalse(subscription.matches(event(1, "root", NAME)));
+    }
+
+    @Test
+    public void shouldSelectAllEventsWithoutFilter() {
+        final JobEventService.Subscription subscription = new JobEventService.Subscription(JobFilter.builder()
+                .owners(List.of("*"))
+                .build(), new SseEmitter(), QUEUE_SIZE);
+
+        assertTrue(subscription.matches(event(1, OWNER, NAME)));
+        assertTrue(new JobEventService.Subscription(null, new SseEmitter(), QUEUE_SIZE)
+                .matches(event(2, "root", null)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldFailToSubscribeIfSnapshotIsDisabled() {
+        final ObjectProvider<JobSnapshotEngine> noEngine = Mockito.mock(ObjectProvider.class);
+        final JobEventService service = new JobEventService(noEngine, new JobSnapshotProperties(),
+                Runnable::run);
+
+        final GridEngineException exception = assertThrows(GridEngineException.class,
+                () -> service.subscribe(new JobFilter()));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+    @Test
+    public void shouldCompleteWaitWhenJobReachesState() {
+        final JobEventService service = createService(JobState.Category.PENDING);
+        final DeferredResult<JobStateEvent> running = service.waitForState(1, JobState.Category.RUNNING, TIMEOUT);
+        final DeferredResult<JobStateEvent> finished = service.waitForState(1, JobState.Category.FINISHED, TIMEOUT);
+        assertFalse(running.hasResult());
+
+        final JobStateEvent runningEvent = stateEvent(JobState.Category.RUNNING);
+        service.onSnapshot(snapshot(JobState.Category.RUNNING), List.of(runningEvent));
+        assertEquals(runningEvent, running.getResult());
+        assertFalse(finished.hasResult());
+
+        final JobStateEvent finishedEvent = stateEvent(JobState.Category.FINISHED);
+        service.onSnapshot(new JobSnapshot(ORIGIN, 3, Instant.now(), List.of()), List.of(finishedEvent));
+        assertEquals(finishedEvent, finished.getResult());
+    }
+
+    @Test
+    public void shouldCompleteWaitAtOnceIfJobIsInState() {
+        final JobEventService service = createService(JobState.Category.RUNNING);
+
+        final DeferredResult<JobStateEvent> result = service.waitForState(1, JobState.Category.RUNNING, TIMEOUT);
+
+        assertEquals(JobState.Category.RUNNING, ((JobStateEvent) result.getResult()).getState().getCategory());
+    }
+
+    @Test
+    public void shouldFailWaitIfJobIsNotListedAfterWaitStarts() {
+        final JobEventService service = createService(JobState.Category.PENDING);
+        final DeferredResult<JobStateEvent> result = service.waitForState(2, JobState.Category.RUNNING, TIMEOUT);
+
+        service.onRefresh(snapshot(JobState.Category.PENDING));
+        assertFalse(result.hasResult());
+
+        service.onRefresh(snapshot(JobState.Category.PENDING));
+        final GridEngineException exception = (GridEngineException) result.getResult();
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+    @Test
+    public void shouldReportListedJobAsFinishedWhenItLeavesListing() {
+        final JobEventService service = createService(JobState.Category.PENDING);
+        final DeferredResult<JobStateEvent> result = service.waitForState(1, JobState.Category.RUNNING, TIMEOUT);
+
+        service.onRefresh(new JobSnapshot(ORIGIN, 2, Instant.now(), List.of()));
+
+        assertEquals(JobState.Category.FINISHED, ((JobStateEvent) result.getResult()).getState().getCategory());
+    }
+
+    @Test
+    public void shouldFailToWaitWithoutPositiveTimeout() {
+        final JobEventService service = createService(JobState.Category.PENDING);
+
+        final GridEngineException exception = assertThrows(GridEngineException.class,
+                () -> service.waitForState(1, JobState.Category.RUNNING, Duration.ZERO));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    public void shouldQueueEventsForSenderAndCloseLaggingSubscriber() {
+        final JobSnapshotProperties properties = new JobSnapshotProperties();
+        properties.setEventsQueueSize(1);
+        final List<Runnable> sendings = new ArrayList<>();
+        final JobEventService service = createService(JobState.Category.PENDING, properties, sendings::add);
+        final SseEmitter emitter = service.subscribe(new JobFilter());
+
+        service.onSnapshot(snapshot(JobState.Category.RUNNING), List.of(stateEvent(JobState.Category.RUNNING),
+                event(2, OWNER, NAME)));
+        assertEquals(1, sendings.size());
+
+        sendings.get(0).run();
+        assertThrows(IllegalStateException.class, () -> emitter.send(NAME));
+        service.onSnapshot(snapshot(JobState.Category.FINISHED), List.of(stateEvent(JobState.Category.FINISHED)));
+        assertEquals(1, sendings.size());
+    }
+
+    private JobEventService createService(final JobState.Category category) {
+        return createService(category, new JobSnapshotProperties(), Runnable::run);
+    }
+
+    @SuppressWarnings("unchecked")
+    private JobEventService createService(final JobState.Category category, final JobSnapshotProperties properties,
+                                          final Executor eventSender) {
+        final ObjectProvider<JobSnapshotEngine> engineProvider = Mockito.mock(ObjectProvider.class);
+        Mockito.doReturn(engine).when(engineProvider).getIfAvailable();
+        Mockito.doReturn(Optional.of(snapshot(category))).when(engine).getSnapshot();
+        return new JobEventService(engineProvider, properties, eventSender);
+    }
+
+    private static JobSnapshot snapshot(final JobState.Category category) {
+        return new JobSnapshot(ORIGIN, 1, Instant.now(), List.of(Job.builder()
+                .id(1)
+                .owner(OWNER)
+                .state(JobState.builder().category(category).build())
+                .build()));
+    }
+
+    private static JobStateEvent stateEvent(final JobState.Category category) {
+        return JobStateEvent.builder()
+                .id(1)
+                .owner(OWNER)
+                .state(JobState.builder().category(category).build())
+                .build();
+    }
+
+    private static JobStateEvent event(final long id, final String owner, final String name) {
+        return JobStateEvent.builder()
+                .id(id)
+                .owner(owner)
+                .name(name)
+                .build();
+    }
+}
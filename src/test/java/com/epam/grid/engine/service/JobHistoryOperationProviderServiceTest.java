@@ -0,0 +1,147 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.service;
+
+import com.epam.grid.engine.entity.Listing;
+import com.epam.grid.engine.entity.job.FinishedJob;
+import com.epam.grid.engine.entity.job.JobHistoryFilter;
+import com.epam.grid.engine.exception.GridEngineException;
+import com.epam.grid.engine.provider.history.JobHistoryProvider;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JobHistoryOperationProviderServiceTest {
+
+    private static final String OWNER = "sgeuser";
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2022, 5, 1, 0, 0);
+    private static final Duration DEFAULT_LOOKBACK = Duration.ofDays(7);
+    private static final Clock CLOCK = Clock.fixed(START_TIME.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private final JobHistoryProvider provider = Mockito.mock(JobHistoryProvider.class);
+    private final JobHistoryOperationProviderService service =
+            new JobHistoryOperationProviderService(provider, DEFAULT_LOOKBACK, 10, CLOCK);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldPageFinishedJobsByEndTime() {
+        final JobHistoryFilter filter = JobHistoryFilter.builder()
+                .owners(List.of(OWNER))
+                .startTime(START_TIME)
+                .limit(2)
+                .build();
+        Mockito.doReturn(List.of(job(3, 30), job(1, 10), job(2, 20), job(4, -5)))
+                .when(provider).getFinishedJobs(Mockito.any(), Mockito.any());
+
+        final Listing<FinishedJob> firstPage = service.getFinishedJobs(filter);
+        assertEquals(List.of(1L, 2L), ids(firstPage));
+
+        Mockito.doReturn(List.of(job(2, 20), job(3, 30))).when(provider).getFinishedJobs(Mockito.any(), Mockito.any());
+        final Listing<FinishedJob> secondPage = service.getFinishedJobs(filter.toBuilder()
+                .cursor(firstPage.getNextCursor())
+                .build());
+        assertEquals(List.of(3L), ids(secondPage));
+        assertNull(secondPage.getNextCursor());
+
+        final ArgumentCaptor<JobHistoryFilter> requests = ArgumentCaptor.forClass(JobHistoryFilter.class);
+        final ArgumentCaptor<Predicate<FinishedJob>> matchers = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(provider, Mockito.times(2)).getFinishedJobs(requests.capture(), matchers.capture());
+        assertEquals(START_TIME, requests.getAllValues().get(0).getStartTime());
+        assertEquals(START_TIME.plusMinutes(20), requests.getAllValues().get(1).getStartTime());
+        assertEquals(3, requests.getAllValues().get(1).getLimit());
+        assertFalse(matchers.getAllValues().get(0).test(job(4, -5)));
+        assertFalse(matchers.getAllValues().get(1).test(job(2, 20)));
+        assertTrue(matchers.getAllValues().get(1).test(job(3, 30)));
+    }
+
+    @Test
+    public void shouldListDefaultLookbackUntilCurrentTime() {
+        Mockito.doReturn(List.of()).when(provider).getFinishedJobs(Mockito.any(), Mockito.any());
+
+        service.getFinishedJobs(null);
+
+        final ArgumentCaptor<JobHistoryFilter> request = ArgumentCaptor.forClass(JobHistoryFilter.class);
+        Mockito.verify(provider).getFinishedJobs(request.capture(), Mockito.any());
+        assertEquals(START_TIME.minus(DEFAULT_LOOKBACK), request.getValue().getStartTime());
+        assertNull(request.getValue().getLimit());
+    }
+
+    @Test
+    public void shouldReturnCachedJobsRequestedByIds() {
+        Mockito.doReturn(List.of(job(1, 10), job(2, 20))).when(provider).getFinishedJobs(Mockito.any(), Mockito.any());
+        service.getFinishedJobs(JobHistoryFilter.builder().startTime(START_TIME).build());
+
+        final Listing<FinishedJob> listing = service.getFinishedJobs(JobHistoryFilter.builder()
+                .ids(List.of(2L, 1L))
+                .build());
+
+        assertEquals(List.of(1L, 2L), ids(listing));
+        Mockito.verify(provider, Mockito.times(1)).getFinishedJobs(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedJobs() {
+        final JobHistoryOperationProviderService.JobCache cache = new JobHistoryOperationProviderService.JobCache(2);
+        cache.put(1L, job(1, 10));
+        cache.put(2L, job(2, 20));
+        cache.get(1L);
+        cache.put(3L, job(3, 30));
+
+        assertEquals(List.of(1L, 3L), List.copyOf(cache.keySet()));
+    }
+
+    @Test
+    public void shouldFailIfTimeWindowIsInvalid() {
+        final GridEngineException exception = assertThrows(GridEngineException.class,
+                () -> service.getFinishedJobs(JobHistoryFilter.builder()
+                        .startTime(START_TIME)
+                        .endTime(START_TIME.minusDays(1))
+                        .build()));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    private static FinishedJob job(final long id, final long endMinutes) {
+        return FinishedJob.builder()
+                .id(id)
+                .owner(OWNER)
+                .endTime(START_TIME.plusMinutes(endMinutes))
+                .build();
+    }
+
+    private static List<Long> ids(final Listing<FinishedJob> listing) {
+        return listing.getElements().stream()
+                .map(FinishedJob::getId)
+                .collect(Collectors.toList());
+    }
+}
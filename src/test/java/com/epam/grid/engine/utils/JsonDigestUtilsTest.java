@@ -0,0 +1,56 @@
+/*
+ *
+ *  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+ *  *
+ *  * Licensed under the Apache License, Version 2.0 (the "License");
+ *  * you may not use this file except in compliance with the License.
+ *  * You may obtain a copy of the License at
+ *  *
+ *  *     http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  * Unless required by applicable law or agreed to in writing, software
+ *  * distributed under the License is distributed on an "AS IS" BASIS,
+ *  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  * See the License for the specific language governing permissions and
+ *  * limitations under the License.
+ *
+ *
+ */
+package com.epam.grid.engine.utils;
+
+import com.epam.grid.engine.entity.JobFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class JsonDigestUtilsTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int DIGEST_LENGTH = 43;
+
+    @Test
+    public void shouldDigestEqualValuesEqually() {
+        final String digest = JsonDigestUtils.digest(OBJECT_MAPPER, ownedBy("sgeuser"));
+
+        assertEquals(DIGEST_LENGTH, digest.length());
+        assertEquals(digest, JsonDigestUtils.digest(OBJECT_MAPPER, ownedBy("sgeuser")));
+    }
+
+    @Test
+    public void shouldDigestDifferentValuesDifferently() {
+        assertNotEquals(JsonDigestUtils.digest(OBJECT_MAPPER, ownedBy("Aa")),
+                JsonDigestUtils.digest(OBJECT_MAPPER, ownedBy("BB")));
+        assertNotEquals(JsonDigestUtils.digest(OBJECT_MAPPER, null),
+                JsonDigestUtils.digest(OBJECT_MAPPER, new JobFilter()));
+    }
+
+    private static JobFilter ownedBy(final String owner) {
+        return JobFilter.builder()
+                .owners(List.of(owner))
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+#
+# /*
+#  * Copyright 2022 EPAM Systems, Inc. (https://www.epam.com/)
+#  *
+#  * Licensed under the Apache License, Version 2.0 (the "License");
+#  * you may not use this file except in compliance with the License.
+#  * You may obtain a copy of the License at
+#  *
+#  *     http://www.apache.org/licenses/LICENSE-2.0
+#  *
+#  * Unless required by applicable law or agreed to in writing, software
+#  * distributed under the License is distributed on an "AS IS" BASIS,
+#  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  * See the License for the specific language governing permissions and
+#  * limitations under the License.
+#  */
+#
+#
+
+# Common functions of the grid engine command emulator, every emulated command sources this file
+# from the emulator folder:
+#   bin/       the emulated commands
+#   lib/       this file
+#   settings   the latency and the failure rate of the commands
+#   data/      the generated output of the commands
+
+EMULATOR_HOME="${0%/*}/.."
+SGE_DATA="$EMULATOR_HOME/data/sge"
+SLURM_DATA="$EMULATOR_HOME/data/slurm"
+. "$EMULATOR_HOME/settings"
+
+# Waits for the configured latency, then fails the command with the configured probability.
+#   $1 - the error message of a failed command
+emulate() {
+    if [ "$LATENCY" != "0" ]; then
+        sleep "$LATENCY"
+    fi
+    if [ "$FAILURE_RATE" != "0" ] && awk -v seed="$$" -v rate="$FAILURE_RATE" \
+            'BEGIN { srand(); srand(srand() + seed); exit !(rand() < rate) }'; then
+        printf '%s\n' "$1" >&2
+        exit 1
+    fi
+}
+
+# Prints the lines of the file whose field is one of the selected values.
+#   $1 - the field separator
+#   $2 - the number of the field
+#   $3 - the selected values separated by commas or spaces
+#   $4 - the file
+select_lines() {
+    awk -F "$1" -v field="$2" -v values="$3" '
+        BEGIN {
+            count = split(values, list, /[, ]+/)
+            for (i = 1; i <= count; i++) {
+                selected[list[i]] = 1
+            }
+        }
+        ($field in selected)
+    ' "$4"
+}
+
+# Prints the blocks of the file whose element is one of the selected values, a block starts
+# with a line matching the start pattern and ends with a line matching the end pattern,
+# other lines are printed as is.
+#   $1 - the start pattern of a block
+#   $2 - the end pattern of a block
+#   $3 - the pattern that precedes the value of the element
+#   $4 - the pattern that follows the value of the element
+#   $5 - the selected values separated by spaces, all blocks are selected if it's empty
+#   $6 - the selected value of the attribute of the block start line, all blocks are selected if it's empty
+#   $7 - the file
+select_blocks() {
+    awk -v start="$1" -v end="$2" -v prefix="$3" -v suffix="$4" -v values="$5" -v attribute="$6" '
+        BEGIN {
+            count = split(values, list, " ")
+            for (i = 1; i <= count; i++) {
+                selected[list[i]] = 1
+            }
+        }
+        $0 ~ start {
+            block = $0
+            value = ""
+            block_attribute = $0
+            sub(/^[^"]*"/, "", block_attribute)
+            sub(/".*$/, "", block_attribute)
+            if ($0 ~ prefix) {
+                value = $0
+                sub(".*" prefix, "", value)
+                sub(suffix ".*", "", value)
+            }
+            next
+        }
+        block != "" {
+            block = block "\n" $0
+            if ($0 ~ prefix) {
+                value = $0
+                sub(".*" prefix, "", value)
+                sub(suffix ".*", "", value)
+            }
+            if ($0 ~ end) {
+                if ((count == 0 || (value in selected)) && (attribute == "" || block_attribute == attribute)) {
+                    print block
+                }
+                block = ""
+            }
+            next
+        }
+        { print }
+    ' "$7"
+}